@@ -0,0 +1,34 @@
+package com.sparkystudios.traklibrary.authentication.domain;
+
+import lombok.Data;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * The {@link RevokedToken} entity represents a record in the revoked_token table within the auth database. Each
+ * record is a token that was revoked before it expired, and is kept until that expiry, so that the in-memory
+ * denylist of every service can be rebuilt from it when an instance starts.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Data
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "revoked_token")
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", nullable = false, updatable = false)
+    private String tokenId;
+
+    @Column(name = "expiry_date", nullable = false, updatable = false)
+    private LocalDateTime expiryDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
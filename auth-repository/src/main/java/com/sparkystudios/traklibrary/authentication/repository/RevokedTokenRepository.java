@@ -0,0 +1,51 @@
+package com.sparkystudios.traklibrary.authentication.repository;
+
+import com.sparkystudios.traklibrary.authentication.domain.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends CrudRepository<RevokedToken, String> {
+
+    /**
+     * Retrieves every {@link RevokedToken} whose token hasn't yet expired, which are the revocations each service's
+     * denylist still needs to hold.
+     *
+     * @param expiryDate The current time, as a UTC {@link LocalDateTime}.
+     *
+     * @return The {@link RevokedToken}'s that expire after the given time.
+     */
+    List<RevokedToken> findByExpiryDateAfter(LocalDateTime expiryDate);
+
+    /**
+     * Retrieves the token ID's of a page of {@link RevokedToken}'s whose token expired before the given time.
+     *
+     * @param expiryDate The current time, as a UTC {@link LocalDateTime}.
+     * @param pageable The {@link Pageable} that limits the number of ID's returned.
+     *
+     * @return The token ID's of the expired {@link RevokedToken}'s.
+     */
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.expiryDate < :expiryDate")
+    List<String> findExpiredTokenIds(@Param("expiryDate") LocalDateTime expiryDate, Pageable pageable);
+
+    /**
+     * Deletes the given {@link RevokedToken}'s in a single statement, provided their token has still expired before
+     * the given time.
+     *
+     * @param tokenIds The token ID's of the {@link RevokedToken}'s to delete.
+     * @param expiryDate The current time, as a UTC {@link LocalDateTime}.
+     *
+     * @return The number of revocations that were deleted.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RevokedToken r WHERE r.tokenId IN :tokenIds AND r.expiryDate < :expiryDate")
+    int deleteExpired(@Param("tokenIds") Collection<String> tokenIds, @Param("expiryDate") LocalDateTime expiryDate);
+}
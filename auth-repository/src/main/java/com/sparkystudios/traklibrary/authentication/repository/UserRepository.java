@@ -1,11 +1,17 @@
 package com.sparkystudios.traklibrary.authentication.repository;
 
 import com.sparkystudios.traklibrary.authentication.domain.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,7 +21,94 @@ public interface UserRepository extends CrudRepository<User, Long> {
 
     Optional<User> findByEmailAddress(String emailAddress);
 
+    /**
+     * Retrieves any {@link User}'s whose username or email address matches the given ones, ignoring case. This allows
+     * registration to check both uniqueness conditions in a single statement. The comparisons are made on the lower
+     * case values, so that they're able to use the case-insensitive unique indexes.
+     *
+     * @param username The username to match against.
+     * @param emailAddress The email address to match against.
+     *
+     * @return The {@link User}'s with a matching username or email address, of which there will be at most two.
+     */
+    @Query("SELECT u FROM User u WHERE LOWER(u.username) = LOWER(:username) OR LOWER(u.emailAddress) = LOWER(:emailAddress)")
+    List<User> findByUsernameOrEmailAddressIgnoreCase(@Param("username") String username, @Param("emailAddress") String emailAddress);
+
+    /**
+     * Retrieves the {@link User} with the given username, along with its role and authorities in a single statement,
+     * so that it can be mapped to a principal without any further lazy loading.
+     *
+     * @param username The username of the {@link User} to retrieve.
+     *
+     * @return The {@link User} with its role and authorities fetched, or an empty {@link Optional}.
+     */
+    @EntityGraph(attributePaths = {"userRole", "userAuthorities"})
+    Optional<User> findPrincipalByUsername(String username);
+
+    /**
+     * Retrieves the {@link User} with the given ID, along with its role and authorities in a single statement, so
+     * that it can be mapped to a principal without any further lazy loading.
+     *
+     * @param id The ID of the {@link User} to retrieve.
+     *
+     * @return The {@link User} with its role and authorities fetched, or an empty {@link Optional}.
+     */
+    @EntityGraph(attributePaths = {"userRole", "userAuthorities"})
+    Optional<User> findPrincipalById(long id);
+
     Collection<User> findByVerifiedIsFalseAndVerificationExpiryDateBefore(LocalDateTime expiryDate);
 
     Collection<User> findByRecoveryTokenExpiryDateBefore(LocalDateTime expiryDate);
+
+    /**
+     * Retrieves the ID's of a page of unverified {@link User}'s whose verification code expired before the given time.
+     *
+     * @param expiryDate The time that the verification codes must have expired before.
+     * @param pageable The {@link Pageable} that limits the number of ID's returned.
+     *
+     * @return The ID's of the {@link User}'s with expired verification codes.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.verified = false AND u.verificationExpiryDate < :expiryDate")
+    List<Long> findIdsWithExpiredVerificationCode(@Param("expiryDate") LocalDateTime expiryDate, Pageable pageable);
+
+    /**
+     * Removes the verification code and expiry date of the given {@link User}'s in a single statement, provided they
+     * are still unverified and their verification code is still expired. The version and last modified date are
+     * updated manually, as bulk updates bypass the entity lifecycle.
+     *
+     * @param ids The ID's of the {@link User}'s to update.
+     * @param expiryDate The time that the verification codes must have expired before.
+     *
+     * @return The number of {@link User}'s that were updated.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.verificationCode = NULL, u.verificationExpiryDate = NULL, u.updatedAt = :expiryDate, u.version = u.version + 1 " +
+            "WHERE u.id IN :ids AND u.verified = false AND u.verificationExpiryDate < :expiryDate")
+    int clearExpiredVerificationCodes(@Param("ids") Collection<Long> ids, @Param("expiryDate") LocalDateTime expiryDate);
+
+    /**
+     * Retrieves the ID's of a page of {@link User}'s whose recovery token expired before the given time.
+     *
+     * @param expiryDate The time that the recovery tokens must have expired before.
+     * @param pageable The {@link Pageable} that limits the number of ID's returned.
+     *
+     * @return The ID's of the {@link User}'s with expired recovery tokens.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.recoveryTokenExpiryDate < :expiryDate")
+    List<Long> findIdsWithExpiredRecoveryToken(@Param("expiryDate") LocalDateTime expiryDate, Pageable pageable);
+
+    /**
+     * Removes the recovery token and expiry date of the given {@link User}'s in a single statement, provided their
+     * recovery token is still expired. The version and last modified date are updated manually, as bulk updates
+     * bypass the entity lifecycle.
+     *
+     * @param ids The ID's of the {@link User}'s to update.
+     * @param expiryDate The time that the recovery tokens must have expired before.
+     *
+     * @return The number of {@link User}'s that were updated.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.recoveryToken = NULL, u.recoveryTokenExpiryDate = NULL, u.updatedAt = :expiryDate, u.version = u.version + 1 " +
+            "WHERE u.id IN :ids AND u.recoveryTokenExpiryDate < :expiryDate")
+    int clearExpiredRecoveryTokens(@Param("ids") Collection<Long> ids, @Param("expiryDate") LocalDateTime expiryDate);
 }
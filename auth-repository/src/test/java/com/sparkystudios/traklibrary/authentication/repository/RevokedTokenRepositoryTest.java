@@ -0,0 +1,90 @@
+package com.sparkystudios.traklibrary.authentication.repository;
+
+import com.sparkystudios.traklibrary.authentication.domain.RevokedToken;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@DataJpaTest
+class RevokedTokenRepositoryTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    void findByExpiryDateAfter_withExpiredAndLiveTokens_returnsOnlyLiveTokens() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        revokedTokenRepository.save(createRevokedToken("expired", now.minusMinutes(1)));
+        revokedTokenRepository.save(createRevokedToken("live", now.plusMinutes(15)));
+
+        // Act
+        List<RevokedToken> result = revokedTokenRepository.findByExpiryDateAfter(now);
+
+        // Assert
+        Assertions.assertThat(result)
+                .extracting(RevokedToken::getTokenId)
+                .containsExactly("live");
+    }
+
+    @Test
+    void findExpiredTokenIds_withExpiredAndLiveTokens_returnsPageOfExpiredTokenIds() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        revokedTokenRepository.save(createRevokedToken("expired1", now.minusMinutes(1)));
+        revokedTokenRepository.save(createRevokedToken("expired2", now.minusMinutes(2)));
+        revokedTokenRepository.save(createRevokedToken("live", now.plusMinutes(15)));
+
+        // Act
+        List<String> all = revokedTokenRepository.findExpiredTokenIds(now, PageRequest.of(0, 10));
+        List<String> page = revokedTokenRepository.findExpiredTokenIds(now, PageRequest.of(0, 1));
+
+        // Assert
+        Assertions.assertThat(all)
+                .containsExactlyInAnyOrder("expired1", "expired2");
+        Assertions.assertThat(page)
+                .hasSize(1);
+    }
+
+    @Test
+    void deleteExpired_withExpiredAndLiveTokens_deletesOnlyGivenExpiredTokens() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        revokedTokenRepository.save(createRevokedToken("expired1", now.minusMinutes(1)));
+        revokedTokenRepository.save(createRevokedToken("expired2", now.minusMinutes(2)));
+        revokedTokenRepository.save(createRevokedToken("live", now.plusMinutes(15)));
+
+        // Act
+        int result = revokedTokenRepository.deleteExpired(List.of("expired1", "live"), now);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(1);
+        Assertions.assertThat(revokedTokenRepository.findById("expired1"))
+                .isNotPresent();
+        Assertions.assertThat(revokedTokenRepository.findById("expired2"))
+                .isPresent();
+        Assertions.assertThat(revokedTokenRepository.findById("live"))
+                .isPresent();
+    }
+
+    private RevokedToken createRevokedToken(String tokenId, LocalDateTime expiryDate) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenId(tokenId);
+        revokedToken.setExpiryDate(expiryDate);
+
+        return revokedToken;
+    }
+}
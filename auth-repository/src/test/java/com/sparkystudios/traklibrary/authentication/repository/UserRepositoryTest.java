@@ -1,15 +1,21 @@
 package com.sparkystudios.traklibrary.authentication.repository;
 
 import com.sparkystudios.traklibrary.authentication.domain.User;
+import com.sparkystudios.traklibrary.authentication.domain.UserRole;
+import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import org.hibernate.Hibernate;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -19,6 +25,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @BeforeAll
     public void beforeAll() {
         userRepository.deleteAll();
@@ -56,6 +65,84 @@ class UserRepositoryTest {
                 .isEqualTo(Optional.of(user));
     }
 
+    @Test
+    void findByUsernameOrEmailAddressIgnoreCase_withNoMatchingUsers_returnsEmptyList() {
+        // Arrange
+        createUser("other", true, null, null);
+
+        // Act
+        List<User> result = userRepository.findByUsernameOrEmailAddressIgnoreCase("username", "username@traklibrary.com");
+
+        // Assert
+        Assertions.assertThat(result).isEmpty();
+    }
+
+    @Test
+    void findByUsernameOrEmailAddressIgnoreCase_withDifferentlyCasedMatches_returnsMatchingUsers() {
+        // Arrange
+        User usernameMatch = createUser("username", true, null, null);
+        User emailAddressMatch = createUser("other", true, null, null);
+
+        // Act
+        List<User> result = userRepository.findByUsernameOrEmailAddressIgnoreCase("UserName", "OTHER@traklibrary.com");
+
+        // Assert
+        Assertions.assertThat(result)
+                .containsExactlyInAnyOrder(usernameMatch, emailAddressMatch);
+    }
+
+    @Test
+    void findPrincipalByUsername_withNonExistentUser_returnsEmptyOptional() {
+        // Act
+        Optional<User> result = userRepository.findPrincipalByUsername("username");
+
+        // Assert
+        Assertions.assertThat(result).isNotPresent();
+    }
+
+    @Test
+    void findPrincipalByUsername_withUser_returnsUserWithFetchedRoleAndAuthorities() {
+        // Arrange
+        User user = createPrincipal();
+
+        // Act
+        Optional<User> result = userRepository.findPrincipalByUsername(user.getUsername());
+
+        // Assert
+        Assertions.assertThat(result).isPresent();
+        Assertions.assertThat(Hibernate.isInitialized(result.get().getUserRole()))
+                .isTrue();
+        Assertions.assertThat(Hibernate.isInitialized(result.get().getUserAuthorities()))
+                .isTrue();
+        Assertions.assertThat(result.get().getUserRole().getRole())
+                .isEqualTo(UserSecurityRole.ROLE_USER);
+    }
+
+    @Test
+    void findPrincipalById_withNonExistentUser_returnsEmptyOptional() {
+        // Act
+        Optional<User> result = userRepository.findPrincipalById(0L);
+
+        // Assert
+        Assertions.assertThat(result).isNotPresent();
+    }
+
+    @Test
+    void findPrincipalById_withUser_returnsUserWithFetchedRoleAndAuthorities() {
+        // Arrange
+        User user = createPrincipal();
+
+        // Act
+        Optional<User> result = userRepository.findPrincipalById(user.getId());
+
+        // Assert
+        Assertions.assertThat(result).isPresent();
+        Assertions.assertThat(Hibernate.isInitialized(result.get().getUserRole()))
+                .isTrue();
+        Assertions.assertThat(Hibernate.isInitialized(result.get().getUserAuthorities()))
+                .isTrue();
+    }
+
     @Test
     void findByEmailAddress_withNonExistentUser_returnsEmptyOptional() {
         // Act
@@ -175,5 +262,120 @@ class UserRepositoryTest {
         Assertions.assertThat(result).hasSize(1)
                 .contains(user2);
     }
-}
 
+    @Test
+    void findIdsWithExpiredVerificationCode_withUsers_returnsPageOfUnverifiedExpiredIds() {
+        // Arrange
+        User verified = createUser("verified", true, LocalDateTime.now().minusDays(1), null);
+        User expired1 = createUser("expired1", false, LocalDateTime.now().minusDays(1), null);
+        User expired2 = createUser("expired2", false, LocalDateTime.now().minusDays(1), null);
+        User current = createUser("current", false, LocalDateTime.now().plusDays(1), null);
+
+        // Act
+        List<Long> all = userRepository.findIdsWithExpiredVerificationCode(LocalDateTime.now(), PageRequest.of(0, 10));
+        List<Long> page = userRepository.findIdsWithExpiredVerificationCode(LocalDateTime.now(), PageRequest.of(0, 1));
+
+        // Assert
+        Assertions.assertThat(all)
+                .containsExactlyInAnyOrder(expired1.getId(), expired2.getId())
+                .doesNotContain(verified.getId(), current.getId());
+        Assertions.assertThat(page)
+                .hasSize(1);
+    }
+
+    @Test
+    void clearExpiredVerificationCodes_withExpiredUser_clearsCodeAndIncrementsVersion() {
+        // Arrange
+        User expired = createUser("expired", false, LocalDateTime.now().minusDays(1), null);
+        User current = createUser("current", false, LocalDateTime.now().plusDays(1), null);
+        long version = expired.getVersion();
+
+        // Act
+        int result = userRepository.clearExpiredVerificationCodes(List.of(expired.getId(), current.getId()), LocalDateTime.now());
+        testEntityManager.clear();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(1);
+
+        User updated = testEntityManager.find(User.class, expired.getId());
+        Assertions.assertThat(updated.getVerificationCode())
+                .isNull();
+        Assertions.assertThat(updated.getVerificationExpiryDate())
+                .isNull();
+        Assertions.assertThat(updated.getVersion())
+                .isEqualTo(version + 1);
+        Assertions.assertThat(testEntityManager.find(User.class, current.getId()).getVerificationCode())
+                .isNotNull();
+    }
+
+    @Test
+    void findIdsWithExpiredRecoveryToken_withUsers_returnsExpiredIds() {
+        // Arrange
+        User expired = createUser("expired", true, null, LocalDateTime.now().minusDays(1));
+        User current = createUser("current", true, null, LocalDateTime.now().plusDays(1));
+
+        // Act
+        List<Long> result = userRepository.findIdsWithExpiredRecoveryToken(LocalDateTime.now(), PageRequest.of(0, 10));
+
+        // Assert
+        Assertions.assertThat(result)
+                .containsExactly(expired.getId())
+                .doesNotContain(current.getId());
+    }
+
+    @Test
+    void clearExpiredRecoveryTokens_withExpiredUser_clearsToken() {
+        // Arrange
+        User expired = createUser("expired", true, null, LocalDateTime.now().minusDays(1));
+        User current = createUser("current", true, null, LocalDateTime.now().plusDays(1));
+
+        // Act
+        int result = userRepository.clearExpiredRecoveryTokens(List.of(expired.getId(), current.getId()), LocalDateTime.now());
+        testEntityManager.clear();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(1);
+        Assertions.assertThat(testEntityManager.find(User.class, expired.getId()).getRecoveryToken())
+                .isNull();
+        Assertions.assertThat(testEntityManager.find(User.class, current.getId()).getRecoveryToken())
+                .isNotNull();
+    }
+
+    private User createUser(String username, boolean verified, LocalDateTime verificationExpiryDate, LocalDateTime recoveryTokenExpiryDate) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmailAddress(username + "@traklibrary.com");
+        user.setPassword("password");
+        user.setVerified(verified);
+        user.setVerificationCode("12345");
+        user.setVerificationExpiryDate(verificationExpiryDate);
+        user.setRecoveryToken("aaaaaaaaaabbbbbbbbbbcccccccccc");
+        user.setRecoveryTokenExpiryDate(recoveryTokenExpiryDate);
+
+        user = testEntityManager.persist(user);
+        testEntityManager.flush();
+
+        return user;
+    }
+
+    private User createPrincipal() {
+        UserRole userRole = new UserRole();
+        userRole.setRole(UserSecurityRole.ROLE_USER);
+        userRole = testEntityManager.persist(userRole);
+
+        User user = new User();
+        user.setUsername("principal");
+        user.setEmailAddress("principal@traklibrary.com");
+        user.setPassword("password");
+        user.setUserRole(userRole);
+        user = testEntityManager.persist(user);
+
+        // Clear the persistence context, so that the user has to be re-loaded from the database.
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        return user;
+    }
+}
@@ -5,15 +5,18 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {
         "com.sparkystudios.traklibrary.security",
         "com.sparkystudios.traklibrary.authentication.service",
-        "com.sparkystudios.traklibrary.authentication.server"
+        "com.sparkystudios.traklibrary.authentication.server",
+        "com.sparkystudios.traklibrary.outbox"
 })
 @EntityScan("com.sparkystudios.traklibrary.authentication.domain")
 @EnableJpaRepositories("com.sparkystudios.traklibrary.authentication.repository")
 @EnableJpaAuditing
+@EnableScheduling
 public class AuthServerApplication {
 
     public static void main(String... args) {
@@ -1,11 +1,15 @@
 package com.sparkystudios.traklibrary.authentication.server.configuration;
 
+import com.sparkystudios.traklibrary.authentication.service.encoder.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
@@ -13,7 +17,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${trak.security.password-hashing.strength:10}") int strength,
+                                                  @Value("${trak.security.password-hashing.threads:0}") int threads,
+                                                  @Value("${trak.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${trak.security.password-hashing.timeout:PT5S}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, timeout, meterRegistry);
     }
 }
@@ -0,0 +1,32 @@
+package com.sparkystudios.traklibrary.authentication.server.controller;
+
+import com.sparkystudios.traklibrary.authentication.service.TokenRevocationService;
+import com.sparkystudios.traklibrary.authentication.service.dto.TokenRevocationRequestDto;
+import com.sparkystudios.traklibrary.security.annotation.AllowedForUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/token", produces = "application/vnd.sparkystudios.traklibrary+json;version=1.0")
+public class TokenController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * End-point that is used to revoke an access or refresh token before it expires, such as when the user
+     * logs out. Once revoked, the token will be rejected by every service until it would have expired. A user
+     * can only revoke their own tokens, unless they have elevated privileges.
+     *
+     * @param tokenRevocationRequestDto The {@link TokenRevocationRequestDto} containing the token to revoke.
+     */
+    @AllowedForUser
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping(value = "/revoke", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void revoke(@Validated @RequestBody TokenRevocationRequestDto tokenRevocationRequestDto) {
+        tokenRevocationService.revoke(tokenRevocationRequestDto.getToken());
+    }
+}
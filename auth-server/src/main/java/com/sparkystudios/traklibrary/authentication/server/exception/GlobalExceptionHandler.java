@@ -2,6 +2,7 @@ package com.sparkystudios.traklibrary.authentication.server.exception;
 
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import com.sparkystudios.traklibrary.security.exception.ApiValidationError;
+import com.sparkystudios.traklibrary.security.exception.AuthenticationServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -58,6 +59,19 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(AuthenticationServiceUnavailableException.class)
+    protected ResponseEntity<Object> handleAuthenticationServiceUnavailable(AuthenticationServiceUnavailableException ex) {
+        log.warn("Authentication service unavailable", ex);
+
+        var apiError = new ApiError(HttpStatus.SERVICE_UNAVAILABLE);
+        apiError.setError(ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(apiError);
+    }
+
     @Override
     @NonNull
     protected ResponseEntity<Object> handleHttpMessageNotReadable(@NonNull HttpMessageNotReadableException ex, @NonNull HttpHeaders headers, @NonNull HttpStatus status, @NonNull WebRequest request) {
@@ -12,7 +12,6 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.web.WebAttributes;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
@@ -77,12 +76,5 @@ public class TwoFactorAuthenticationSuccessHandlerImpl implements Authentication
         httpServletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
 
         httpServletResponse.getWriter().write(objectMapper.writeValueAsString(tokenPayloadDto));
-
-        // Remove any temporary authentication related data which may have been stored within the session.
-        var httpSession = httpServletRequest.getSession();
-
-        if (httpSession != null) {
-            httpSession.removeAttribute(WebAttributes.AUTHENTICATION_EXCEPTION);
-        }
     }
 }
@@ -17,6 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.session.NullAuthenticatedSessionStrategy;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import javax.servlet.FilterChain;
@@ -60,6 +61,10 @@ public class UsernamePasswordAuthenticationProcessingFilter extends AbstractAuth
         this.authenticationFailureHandler = authenticationFailureHandler;
         this.messageSource = messageSource;
         this.objectMapper = objectMapper;
+
+        // The API is authenticated purely with JWT's, so a session should never be created during authentication.
+        setAllowSessionCreation(false);
+        setSessionAuthenticationStrategy(new NullAuthenticatedSessionStrategy());
     }
 
     /**
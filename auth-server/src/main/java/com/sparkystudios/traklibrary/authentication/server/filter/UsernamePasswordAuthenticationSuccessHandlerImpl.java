@@ -13,7 +13,6 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.web.WebAttributes;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
@@ -39,7 +38,8 @@ public class UsernamePasswordAuthenticationSuccessHandlerImpl implements Authent
     /**
      * Invoked by the {@link UsernamePasswordAuthenticationProcessingFilter} when an authentication request succeeds. When a
      * request is successful, a JWT access token and refresh token will be generated and written to the response
-     * body for use.
+     * body for use. If the user is using 2FA, only a short-lived 2FA token is returned, which carries all of the state
+     * needed to complete the login, so nothing is ever stored in a session.
      *
      * @param request The {@link HttpServletRequest} instance of the request.
      * @param response The {@link HttpServletResponse} instance of the request.
@@ -92,12 +92,5 @@ public class UsernamePasswordAuthenticationSuccessHandlerImpl implements Authent
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
 
         response.getWriter().write(objectMapper.writeValueAsString(tokenPayloadDto));
-
-        // Remove any temporary authentication related data which may have been stored within the session.
-        var httpSession = request.getSession();
-
-        if (httpSession != null) {
-            httpSession.removeAttribute(WebAttributes.AUTHENTICATION_EXCEPTION);
-        }
     }
 }
@@ -4,6 +4,7 @@ import com.sparkystudios.traklibrary.authentication.service.dto.UserDto;
 import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
 import com.sparkystudios.traklibrary.security.token.authentication.TwoFactorAuthenticationToken;
 import com.sparkystudios.traklibrary.security.token.data.UserData;
+import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
 import dev.samstevens.totp.code.CodeVerifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
@@ -41,8 +42,9 @@ public class TwoFactorAuthenticationProvider implements AuthenticationProvider {
      * instance is passed along the authentication process containing a {@link UserData} for user data and their
      * associated authorities.
      *
-     * If the JWT is invalid or the 2FA code is incorrect, a {@link BadCredentialsException} exception is thrown and
-     * bubbled up the stack.
+     * Nothing is stored server-side between the login and 2FA requests, the JWT issued on login is the only state
+     * and it must have the two-factor authentication role. If the JWT is invalid, was issued for another purpose or
+     * the 2FA code is incorrect, a {@link BadCredentialsException} exception is thrown and bubbled up the stack.
      *
      * @param authentication The {@link UsernamePasswordAuthenticationToken} to attempt authentication with.
      *
@@ -59,16 +61,21 @@ public class TwoFactorAuthenticationProvider implements AuthenticationProvider {
         // Try to parse the JWT, if it fails an exception will be bubbled up the stack.
         var securityToken = securityTokenService.getToken(jwt);
 
+        // The 2FA token is the only state carried between the login and 2FA requests, so ensure that it
+        // was issued for this purpose and not just any valid token.
+        if (securityToken.getRole() == null ||
+                !UserSecurityRole.ROLE_TWO_FACTOR_AUTHENTICATION_TOKEN.name().equals(securityToken.getRole().getAuthority())) {
+            throw createBadCredentialsException();
+        }
+
         // Check to see if the credentials are linked to an existing user, if not it'll throw
         // a username not found exception.
         var userDto = (UserDto) userDetailsService.loadUserByUsername(securityToken.getUsername());
 
-        // Ensure the secret provided by the 2FA is correct.
-        if (!codeVerifier.isValidCode(userDto.getTwoFactorAuthenticationSecret(), code)) {
-            String errorMessage = messageSource
-                    .getMessage("authentication.exception.bad-2fa-credentials", new Object[] {}, LocaleContextHolder.getLocale());
-
-            throw new BadCredentialsException(errorMessage);
+        // Ensure the username still belongs to the user the token was issued to, and the secret provided by the 2FA is correct.
+        if (userDto.getId() != securityToken.getUserId() ||
+                !codeVerifier.isValidCode(userDto.getTwoFactorAuthenticationSecret(), code)) {
+            throw createBadCredentialsException();
         }
 
         // Create the user data, which contains hand-picked user information to pass between services.
@@ -96,4 +103,11 @@ public class TwoFactorAuthenticationProvider implements AuthenticationProvider {
     public boolean supports(Class<?> aClass) {
         return TwoFactorAuthenticationToken.class.isAssignableFrom(aClass);
     }
+
+    private BadCredentialsException createBadCredentialsException() {
+        String errorMessage = messageSource
+                .getMessage("authentication.exception.bad-2fa-credentials", new Object[] {}, LocaleContextHolder.getLocale());
+
+        return new BadCredentialsException(errorMessage);
+    }
 }
@@ -3,6 +3,7 @@ package com.sparkystudios.traklibrary.authentication.server.provider;
 import com.sparkystudios.traklibrary.authentication.service.dto.UserDto;
 import com.sparkystudios.traklibrary.security.token.data.UserData;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -11,6 +12,7 @@ import org.springframework.security.authentication.InsufficientAuthenticationExc
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -22,14 +24,19 @@ import org.springframework.stereotype.Component;
  * credentials instead of focusing on additional behavior, such as remember me services and user
  * caching.
  *
+ * If the stored password was hashed with a weaker cost factor than the one currently configured, it's transparently
+ * re-hashed with the raw password once the user has successfully authenticated.
+ *
  * @author Sparky Studios
  * @since 0.1.0
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class UsernamePasswordAuthenticationProvider implements AuthenticationProvider {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final PasswordEncoder passwordEncoder;
     private final MessageSource messageSource;
 
@@ -68,6 +75,11 @@ public class UsernamePasswordAuthenticationProvider implements AuthenticationPro
             throw new BadCredentialsException(errorMessage);
         }
 
+        // The password is correct, so take the opportunity to re-hash it if the cost factor has been tuned.
+        if (passwordEncoder.upgradeEncoding(userDto.getPassword())) {
+            upgradePassword(userDto, password);
+        }
+
         // This should never happen, but highlights an issue where there are no defined roles in the
         // database.
         if (userDto.getAuthorities() == null || userDto.getAuthorities().isEmpty()) {
@@ -90,6 +102,15 @@ public class UsernamePasswordAuthenticationProvider implements AuthenticationPro
         return new UsernamePasswordAuthenticationToken(userData, null, userData.getAuthorities());
     }
 
+    private void upgradePassword(UserDto userDto, String password) {
+        // Failing to upgrade the password shouldn't fail the login, it'll just be attempted again next time.
+        try {
+            userDetailsPasswordService.updatePassword(userDto, passwordEncoder.encode(password));
+        } catch (RuntimeException e) {
+            log.warn("Failed to upgrade the password encoding for user: " + userDto.getId(), e);
+        }
+    }
+
     /**
      * Flags that the {@link UsernamePasswordAuthenticationProvider} will only be executed if the authentication
      * type provided is assignable to a {@link UsernamePasswordAuthenticationToken}.
@@ -0,0 +1,79 @@
+package com.sparkystudios.traklibrary.authentication.server.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparkystudios.traklibrary.authentication.server.exception.GlobalExceptionHandler;
+import com.sparkystudios.traklibrary.authentication.service.TokenRevocationService;
+import com.sparkystudios.traklibrary.authentication.service.dto.TokenRevocationRequestDto;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@Import({TokenController.class, GlobalExceptionHandler.class})
+@WebMvcTest(controllers = TokenController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class, useDefaultFilters = false)
+@AutoConfigureMockMvc(addFilters = false)
+class TokenControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void revoke_withInvalidTokenRevocationRequestDto_returns400() throws Exception {
+        // Arrange
+        TokenRevocationRequestDto tokenRevocationRequestDto = new TokenRevocationRequestDto();
+        tokenRevocationRequestDto.setToken("");
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/token/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary+json;version=1.0")
+                .content(objectMapper.writeValueAsString(tokenRevocationRequestDto)));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", Matchers.is(HttpStatus.BAD_REQUEST.name())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details").exists());
+
+        Mockito.verify(tokenRevocationService, Mockito.never())
+                .revoke(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void revoke_withValidTokenRevocationRequestDto_returns204() throws Exception {
+        // Arrange
+        TokenRevocationRequestDto tokenRevocationRequestDto = new TokenRevocationRequestDto();
+        tokenRevocationRequestDto.setToken("token");
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/token/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary+json;version=1.0")
+                .content(objectMapper.writeValueAsString(tokenRevocationRequestDto)));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        Mockito.verify(tokenRevocationService)
+                .revoke("token");
+    }
+}
@@ -0,0 +1,162 @@
+package com.sparkystudios.traklibrary.authentication.server.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparkystudios.traklibrary.authentication.service.dto.LoginRequestDto;
+import com.sparkystudios.traklibrary.authentication.service.dto.TwoFactorAuthenticationRequestDto;
+import com.sparkystudios.traklibrary.security.filter.AuthenticationFailureHandlerImpl;
+import com.sparkystudios.traklibrary.security.filter.JwtHeaderExtractor;
+import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
+import com.sparkystudios.traklibrary.security.token.authentication.TwoFactorAuthenticationToken;
+import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
+import com.sparkystudios.traklibrary.security.token.data.UserData;
+import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class StatelessAuthenticationFlowTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private SecurityTokenService securityTokenService;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private ObjectMapper objectMapper;
+
+    private UsernamePasswordAuthenticationProcessingFilter usernamePasswordAuthenticationProcessingFilter;
+
+    private TwoFactorAuthenticationProcessingFilter twoFactorAuthenticationProcessingFilter;
+
+    @BeforeEach
+    void beforeEach() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+
+        var authenticationFailureHandler = new AuthenticationFailureHandlerImpl(objectMapper);
+
+        usernamePasswordAuthenticationProcessingFilter = new UsernamePasswordAuthenticationProcessingFilter(authenticationManager,
+                new UsernamePasswordAuthenticationSuccessHandlerImpl(securityTokenService, objectMapper), authenticationFailureHandler, messageSource, objectMapper);
+
+        twoFactorAuthenticationProcessingFilter = new TwoFactorAuthenticationProcessingFilter(authenticationManager,
+                new TwoFactorAuthenticationSuccessHandlerImpl(securityTokenService, objectMapper), authenticationFailureHandler, messageSource, objectMapper, new JwtHeaderExtractor());
+    }
+
+    @Test
+    void doFilter_withLoginAndTwoFactorAuthentication_neverCreatesSession() throws IOException, ServletException {
+        // Arrange
+        Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority(UserSecurityRole.ROLE_USER.name()));
+
+        UserData userData = new UserData();
+        userData.setUserId(1L);
+        userData.setUsername("username");
+        userData.setUsing2fa(true);
+        userData.setAuthorities(authorities);
+
+        Mockito.when(authenticationManager.authenticate(ArgumentMatchers.any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(userData, null, authorities))
+                .thenReturn(new TwoFactorAuthenticationToken(userData, null, authorities));
+
+        SecurityToken twoFactorAuthenticationToken = Mockito.mock(SecurityToken.class);
+        Mockito.when(twoFactorAuthenticationToken.getToken())
+                .thenReturn("2fa-token");
+
+        Mockito.when(securityTokenService.createTwoFactorAuthenticationToken(userData))
+                .thenReturn(twoFactorAuthenticationToken);
+        Mockito.when(securityTokenService.createAccessToken(ArgumentMatchers.eq(userData), ArgumentMatchers.eq(UserSecurityRole.ROLE_USER), ArgumentMatchers.anyIterable()))
+                .thenReturn(Mockito.mock(SecurityToken.class));
+        Mockito.when(securityTokenService.createRefreshToken(userData))
+                .thenReturn(Mockito.mock(SecurityToken.class));
+
+        LoginRequestDto loginRequestDto = new LoginRequestDto();
+        loginRequestDto.setUsername("username");
+        loginRequestDto.setPassword("password");
+
+        MockHttpServletRequest loginRequest = createRequest("/token", objectMapper.writeValueAsBytes(loginRequestDto));
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+
+        TwoFactorAuthenticationRequestDto twoFactorAuthenticationRequestDto = new TwoFactorAuthenticationRequestDto();
+        twoFactorAuthenticationRequestDto.setCode("123456");
+
+        MockHttpServletRequest twoFactorRequest = createRequest("/token/2fa", objectMapper.writeValueAsBytes(twoFactorAuthenticationRequestDto));
+        twoFactorRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer 2fa-token");
+        MockHttpServletResponse twoFactorResponse = new MockHttpServletResponse();
+
+        // Act
+        usernamePasswordAuthenticationProcessingFilter.doFilter(loginRequest, loginResponse, new MockFilterChain());
+        twoFactorAuthenticationProcessingFilter.doFilter(twoFactorRequest, twoFactorResponse, new MockFilterChain());
+
+        // Assert
+        Assertions.assertThat(loginResponse.getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        Assertions.assertThat(loginResponse.getContentAsString())
+                .contains("2fa-token");
+        Assertions.assertThat(loginRequest.getSession(false))
+                .isNull();
+
+        Assertions.assertThat(twoFactorResponse.getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        Assertions.assertThat(twoFactorRequest.getSession(false))
+                .isNull();
+
+        Mockito.verify(authenticationManager)
+                .authenticate(new TwoFactorAuthenticationToken("2fa-token", "123456"));
+    }
+
+    @Test
+    void doFilter_withFailedLogin_neverCreatesSession() throws IOException, ServletException {
+        // Arrange
+        Mockito.when(authenticationManager.authenticate(ArgumentMatchers.any()))
+                .thenThrow(new BadCredentialsException(""));
+
+        LoginRequestDto loginRequestDto = new LoginRequestDto();
+        loginRequestDto.setUsername("username");
+        loginRequestDto.setPassword("password");
+
+        MockHttpServletRequest loginRequest = createRequest("/token", objectMapper.writeValueAsBytes(loginRequestDto));
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+
+        // Act
+        usernamePasswordAuthenticationProcessingFilter.doFilter(loginRequest, loginResponse, new MockFilterChain());
+
+        // Assert
+        Assertions.assertThat(loginResponse.getStatus())
+                .isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        Assertions.assertThat(loginRequest.getSession(false))
+                .isNull();
+    }
+
+    private MockHttpServletRequest createRequest(String path, byte[] content) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(content);
+
+        return request;
+    }
+}
@@ -44,12 +44,72 @@ class TwoFactorAuthenticationProviderTest {
     @InjectMocks
     private TwoFactorAuthenticationProvider twoFactorAuthenticationProvider;
 
+    @Test
+    void authenticate_withNonTwoFactorAuthenticationToken_throwsBadCredentialsException() {
+        // Arrange
+        SecurityToken securityToken = Mockito.mock(SecurityToken.class);
+        Mockito.when(securityToken.getRole())
+                .thenReturn(new SimpleGrantedAuthority(UserSecurityRole.ROLE_TOKEN_REFRESH.name()));
+
+        Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
+                .thenReturn(securityToken);
+
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.eq("authentication.exception.bad-2fa-credentials"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+                .thenReturn("");
+
+        TwoFactorAuthenticationToken twoFactorAuthenticationToken =
+                new TwoFactorAuthenticationToken("jwt", "code");
+
+        // Assert
+        Assertions.assertThatExceptionOfType(BadCredentialsException.class)
+                .isThrownBy(() -> twoFactorAuthenticationProvider.authenticate(twoFactorAuthenticationToken));
+
+        Mockito.verify(userDetailsService, Mockito.never())
+                .loadUserByUsername(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void authenticate_withTokenIssuedToDifferentUser_throwsBadCredentialsException() {
+        // Arrange
+        SecurityToken securityToken = Mockito.mock(SecurityToken.class);
+        Mockito.when(securityToken.getUsername())
+                .thenReturn("username");
+        Mockito.when(securityToken.getRole())
+                .thenReturn(new SimpleGrantedAuthority(UserSecurityRole.ROLE_TWO_FACTOR_AUTHENTICATION_TOKEN.name()));
+        Mockito.when(securityToken.getUserId())
+                .thenReturn(2L);
+
+        Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
+                .thenReturn(securityToken);
+
+        UserDto userDto = new UserDto();
+        userDto.setId(1L);
+
+        Mockito.when(userDetailsService.loadUserByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(userDto);
+
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.eq("authentication.exception.bad-2fa-credentials"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+                .thenReturn("");
+
+        TwoFactorAuthenticationToken twoFactorAuthenticationToken =
+                new TwoFactorAuthenticationToken("jwt", "code");
+
+        // Assert
+        Assertions.assertThatExceptionOfType(BadCredentialsException.class)
+                .isThrownBy(() -> twoFactorAuthenticationProvider.authenticate(twoFactorAuthenticationToken));
+
+        Mockito.verify(codeVerifier, Mockito.never())
+                .isValidCode(ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+    }
+
     @Test
     void authenticate_withInvalidTwoFactorAuthenticationCode_throwsBadCredentialsException() {
         // Arrange
         SecurityToken securityToken = Mockito.mock(SecurityToken.class);
         Mockito.when(securityToken.getUsername())
                 .thenReturn("username");
+        Mockito.when(securityToken.getRole())
+                .thenReturn(new SimpleGrantedAuthority(UserSecurityRole.ROLE_TWO_FACTOR_AUTHENTICATION_TOKEN.name()));
 
         Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
                 .thenReturn(securityToken);
@@ -80,6 +140,10 @@ class TwoFactorAuthenticationProviderTest {
         SecurityToken securityToken = Mockito.mock(SecurityToken.class);
         Mockito.when(securityToken.getUsername())
                 .thenReturn("username");
+        Mockito.when(securityToken.getRole())
+                .thenReturn(new SimpleGrantedAuthority(UserSecurityRole.ROLE_TWO_FACTOR_AUTHENTICATION_TOKEN.name()));
+        Mockito.when(securityToken.getUserId())
+                .thenReturn(1L);
 
         Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
                 .thenReturn(securityToken);
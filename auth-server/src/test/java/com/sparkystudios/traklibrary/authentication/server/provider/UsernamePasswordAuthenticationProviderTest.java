@@ -17,6 +17,7 @@ import org.springframework.security.authentication.InsufficientAuthenticationExc
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -30,6 +31,9 @@ class UsernamePasswordAuthenticationProviderTest {
     @Mock
     private UserDetailsService userDetailsService;
 
+    @Mock
+    private UserDetailsPasswordService userDetailsPasswordService;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -145,6 +149,97 @@ class UsernamePasswordAuthenticationProviderTest {
         Assertions.assertThat(result.getAuthorities().iterator().next()).isEqualTo(authorities.iterator().next());
     }
 
+    @Test
+    void authenticate_withOutdatedPasswordEncoding_upgradesPassword() {
+        // Arrange
+        UserDto userDto = new UserDto();
+        userDto.setId(1L);
+        userDto.setPassword("password");
+        userDto.setAuthorities(Set.of(new SimpleGrantedAuthority(UserSecurityRole.ROLE_USER.name())));
+
+        Mockito.when(userDetailsService.loadUserByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(userDto);
+
+        Mockito.when(passwordEncoder.matches(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(true);
+
+        Mockito.when(passwordEncoder.upgradeEncoding(ArgumentMatchers.anyString()))
+                .thenReturn(true);
+
+        Mockito.when(passwordEncoder.encode(ArgumentMatchers.anyString()))
+                .thenReturn("upgraded");
+
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                new UsernamePasswordAuthenticationToken("username", "password");
+
+        // Act
+        usernamePasswordAuthenticationProvider.authenticate(usernamePasswordAuthenticationToken);
+
+        // Assert
+        Mockito.verify(userDetailsPasswordService, Mockito.times(1))
+                .updatePassword(userDto, "upgraded");
+    }
+
+    @Test
+    void authenticate_withFailedPasswordUpgrade_stillAuthenticates() {
+        // Arrange
+        UserDto userDto = new UserDto();
+        userDto.setId(1L);
+        userDto.setPassword("password");
+        userDto.setAuthorities(Set.of(new SimpleGrantedAuthority(UserSecurityRole.ROLE_USER.name())));
+
+        Mockito.when(userDetailsService.loadUserByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(userDto);
+
+        Mockito.when(passwordEncoder.matches(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(true);
+
+        Mockito.when(passwordEncoder.upgradeEncoding(ArgumentMatchers.anyString()))
+                .thenReturn(true);
+
+        Mockito.when(passwordEncoder.encode(ArgumentMatchers.anyString()))
+                .thenReturn("upgraded");
+
+        Mockito.when(userDetailsPasswordService.updatePassword(ArgumentMatchers.any(), ArgumentMatchers.anyString()))
+                .thenThrow(new IllegalStateException());
+
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                new UsernamePasswordAuthenticationToken("username", "password");
+
+        // Act
+        UsernamePasswordAuthenticationToken result =
+                (UsernamePasswordAuthenticationToken) usernamePasswordAuthenticationProvider.authenticate(usernamePasswordAuthenticationToken);
+
+        // Assert
+        Assertions.assertThat(result.getPrincipal())
+                .isInstanceOf(UserData.class);
+    }
+
+    @Test
+    void authenticate_withCurrentPasswordEncoding_doesNotUpgradePassword() {
+        // Arrange
+        UserDto userDto = new UserDto();
+        userDto.setId(1L);
+        userDto.setPassword("password");
+        userDto.setAuthorities(Set.of(new SimpleGrantedAuthority(UserSecurityRole.ROLE_USER.name())));
+
+        Mockito.when(userDetailsService.loadUserByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(userDto);
+
+        Mockito.when(passwordEncoder.matches(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(true);
+
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                new UsernamePasswordAuthenticationToken("username", "password");
+
+        // Act
+        usernamePasswordAuthenticationProvider.authenticate(usernamePasswordAuthenticationToken);
+
+        // Assert
+        Mockito.verify(userDetailsPasswordService, Mockito.never())
+                .updatePassword(ArgumentMatchers.any(), ArgumentMatchers.anyString());
+    }
+
     @Test
     void supports_withNonUsernamePasswordAuthenticationToken_returnsFalse() {
         // Act
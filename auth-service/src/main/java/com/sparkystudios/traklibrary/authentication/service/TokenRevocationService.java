@@ -0,0 +1,24 @@
+package com.sparkystudios.traklibrary.authentication.service;
+
+public interface TokenRevocationService {
+
+    /**
+     * Revokes the given token, so that it's rejected by every service from now until it would have expired. The
+     * revocation is persisted and applied to this instance immediately, it's then published to every other instance
+     * and service, so there may be a brief delay before it's rejected everywhere.
+     *
+     * If the token is invalid or has already expired, a {@link org.springframework.security.authentication.BadCredentialsException}
+     * will be thrown. Similar to every other method that edits user data, the user can only revoke their own tokens,
+     * unless they have elevated privileges.
+     *
+     * @param token The access or refresh token to revoke.
+     */
+    void revoke(String token);
+
+    /**
+     * Re-publishes every persisted revocation whose token hasn't yet expired. This is invoked when another service
+     * instance starts, as each instance only holds revocations in memory and would otherwise accept revoked tokens
+     * until they expire.
+     */
+    void replay();
+}
@@ -1,9 +1,10 @@
 package com.sparkystudios.traklibrary.authentication.service;
 
 import com.sparkystudios.traklibrary.authentication.service.dto.*;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 
     UserDto findById(long id);
 
@@ -0,0 +1,146 @@
+package com.sparkystudios.traklibrary.authentication.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparkystudios.traklibrary.authentication.domain.User;
+import com.sparkystudios.traklibrary.authentication.service.event.UserPrincipalEvictionEvent;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The {@link UserPrincipalCache} is a short-lived, in-memory store of the {@link User}'s that have recently been
+ * loaded as principals by their username. Logging in, refreshing a token and each of the 2FA steps will all load the
+ * same user within a few seconds of each other, so caching them briefly saves repeatedly querying the same user, role
+ * and authorities. It's only used to authenticate users, anything that goes on to modify a user must load it from the
+ * database, so that it never writes back a stale copy.
+ *
+ * The cached {@link User}'s are detached and are only ever read in order to be mapped, they must never be modified or
+ * re-attached. Any change to a user's credentials or account state must call {@link #evict(long, String)}, which
+ * removes the user immediately and again once the surrounding transaction completes, so that a concurrent read can't
+ * re-cache the user as it was before the change was committed. The eviction is also published through the outbox to
+ * every other instance, so that an old password or a locked account stops authenticating everywhere once the change
+ * has committed, rather than once the entry expires.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final String METRIC_PREFIX = "trak.auth.principal-cache";
+    private static final String EVICTION_DESTINATION = "trak-auth-principal-eviction";
+
+    private final Cache<String, User> usersByUsername;
+    private final Cache<Long, User> usersById;
+    private final OutboxPublisher outboxPublisher;
+
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              OutboxPublisher outboxPublisher,
+                              @Value("${trak.auth.principal-cache.expire-after-write:PT30S}") Duration expireAfterWrite,
+                              @Value("${trak.auth.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.outboxPublisher = outboxPublisher;
+
+        usersByUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        // Users are only retrieved by username, the ID index is used to find the cached username when evicting.
+        usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByUsername, METRIC_PREFIX, "index", "username");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, METRIC_PREFIX, "index", "id");
+    }
+
+    /**
+     * Retrieves the {@link User} with the given username, using the loader to retrieve it if it's not cached. Users
+     * that don't exist aren't cached, so that they can be retrieved as soon as they've registered.
+     *
+     * @param username The username of the {@link User} to retrieve.
+     * @param loader The function used to load the {@link User} if it's not cached.
+     *
+     * @return The {@link User} with the given username, or an empty {@link Optional}.
+     */
+    public Optional<User> getByUsername(String username, Function<String, Optional<User>> loader) {
+        return Optional.ofNullable(usersByUsername.get(username, key -> loader.apply(key)
+                .map(user -> {
+                    usersById.put(user.getId(), user);
+                    return user;
+                })
+                .orElse(null)));
+    }
+
+    /**
+     * Removes the {@link User} with the given ID and username from the cache of every instance. If called within a
+     * transaction, the user is removed again once the transaction has completed, and the other instances are only
+     * told to remove it if the transaction commits.
+     *
+     * @param id The ID of the {@link User} that has changed.
+     * @param username The username of the {@link User} that has changed, which can be null if not known.
+     */
+    public void evict(long id, String username) {
+        evictLocally(id, username);
+        outboxPublisher.publish(EVICTION_DESTINATION, new UserPrincipalEvictionEvent(id, username));
+    }
+
+    /**
+     * Removes every {@link User} from the cache of every instance, used when users are changed in bulk.
+     */
+    public void evictAll() {
+        evictLocally(null, null);
+        outboxPublisher.publish(EVICTION_DESTINATION, new UserPrincipalEvictionEvent(null, null));
+    }
+
+    /**
+     * Removes the {@link User} with the given ID and username from this instance's cache only, used when another
+     * instance has published an eviction. If the ID is null, every user is removed.
+     *
+     * @param id The ID of the {@link User} that has changed, or null to remove every user.
+     * @param username The username of the {@link User} that has changed, which can be null if not known.
+     */
+    public void evictLocally(Long id, String username) {
+        invalidate(id, username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id, username);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long id, String username) {
+        if (id == null) {
+            usersByUsername.invalidateAll();
+            usersById.invalidateAll();
+            return;
+        }
+
+        // The username may have changed, so remove the entry for the username that was cached as well.
+        User cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            usersByUsername.invalidate(cached.getUsername());
+        }
+
+        usersById.invalidate(id);
+        if (username != null) {
+            usersByUsername.invalidate(username);
+        }
+    }
+}
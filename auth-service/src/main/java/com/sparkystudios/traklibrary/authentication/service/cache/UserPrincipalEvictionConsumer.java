@@ -0,0 +1,34 @@
+package com.sparkystudios.traklibrary.authentication.service.cache;
+
+import com.sparkystudios.traklibrary.authentication.service.event.UserPrincipalEvictionEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class UserPrincipalEvictionConsumer {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    /**
+     * {@link Consumer} registered with Spring Cloud Stream that responds to any published
+     * "trak-auth-principal-eviction" events. Its' purpose is to remove the changed user from the local
+     * {@link UserPrincipalCache}, so that no instance authenticates a user with stale credentials. The binding
+     * must not be given a consumer group, so that each instance receives every eviction.
+     *
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
+     */
+    @Bean
+    public Consumer<UserPrincipalEvictionEvent> evictUserPrincipal() {
+        return userPrincipalEvictionEvent -> {
+            log.debug("Evicting user principal: " + userPrincipalEvictionEvent.getId());
+
+            userPrincipalCache.evictLocally(userPrincipalEvictionEvent.getId(), userPrincipalEvictionEvent.getUsername());
+        };
+    }
+}
@@ -1,14 +1,55 @@
 package com.sparkystudios.traklibrary.authentication.service.configuration;
 
 import com.sparkystudios.traklibrary.authentication.service.scheduling.jobs.RemoveExpiredRecoveryTokensJob;
+import com.sparkystudios.traklibrary.authentication.service.scheduling.jobs.RemoveExpiredRevokedTokensJob;
 import com.sparkystudios.traklibrary.authentication.service.scheduling.jobs.RemoveExpiredVerificationCodesJob;
 import org.quartz.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Properties;
 
 @Configuration
 public class QuartzConfig {
 
+    /**
+     * Stores the scheduled jobs in the auth database using a clustered JDBC job store, so that when multiple auth-server
+     * instances are running, each trigger is only fired on a single instance. Any Quartz properties that have been
+     * explicitly configured under spring.quartz.properties take precedence over the ones set here.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer clusteredSchedulerFactoryBeanCustomizer(DataSource dataSource,
+                                                                                 PlatformTransactionManager transactionManager,
+                                                                                 QuartzProperties quartzProperties,
+                                                                                 @Value("${trak.auth.quartz.clustered:true}") boolean clustered,
+                                                                                 @Value("${trak.auth.quartz.driver-delegate-class:org.quartz.impl.jdbcjobstore.PostgreSQLDelegate}") String driverDelegateClass,
+                                                                                 @Value("${trak.auth.quartz.cluster-checkin-interval:PT20S}") Duration clusterCheckinInterval) {
+        return schedulerFactoryBean -> {
+            if (!clustered) {
+                return;
+            }
+
+            var properties = new Properties();
+            properties.setProperty("org.quartz.scheduler.instanceId", "AUTO");
+            properties.setProperty("org.quartz.jobStore.isClustered", "true");
+            properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", Long.toString(clusterCheckinInterval.toMillis()));
+            properties.setProperty("org.quartz.jobStore.driverDelegateClass", driverDelegateClass);
+            properties.putAll(quartzProperties.getProperties());
+
+            schedulerFactoryBean.setQuartzProperties(properties);
+            schedulerFactoryBean.setDataSource(dataSource);
+            schedulerFactoryBean.setTransactionManager(transactionManager);
+            // The jobs are defined in code, so any changes to their schedules should replace what has been stored.
+            schedulerFactoryBean.setOverwriteExistingJobs(true);
+        };
+    }
+
     @Bean
     public JobDetail removeExpiredRecoveryTokensJobDetails() {
         return JobBuilder.newJob()
@@ -48,4 +89,24 @@ public class QuartzConfig {
                 .withSchedule(CronScheduleBuilder.cronSchedule("0 30 * ? * *"))
                 .build();
     }
+
+    @Bean
+    public JobDetail removeExpiredRevokedTokensJobDetails() {
+        return JobBuilder.newJob()
+                .ofType(RemoveExpiredRevokedTokensJob.class)
+                .storeDurably()
+                .withIdentity("remove-expired-revoked-tokens-job")
+                .withDescription("Job to remove expired token revocations from revoked_token table.")
+                .build();
+    }
+
+    @Bean
+    public Trigger removeExpiredRevokedTokensTrigger(JobDetail removeExpiredRevokedTokensJobDetails) {
+        return TriggerBuilder.newTrigger()
+                .forJob(removeExpiredRevokedTokensJobDetails)
+                .withIdentity("remove-expired-revoked-tokens-trigger")
+                .withDescription("Trigger to remove expired token revocations from revoked_token table.")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 15 * ? * *"))
+                .build();
+    }
 }
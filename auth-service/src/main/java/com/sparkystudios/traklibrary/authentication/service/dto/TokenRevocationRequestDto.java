@@ -0,0 +1,19 @@
+package com.sparkystudios.traklibrary.authentication.service.dto;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotEmpty;
+
+/**
+ * A simple POJO that is used to represent the request body that is passed when a user wishes to revoke one of their
+ * tokens before it expires, such as when logging out. The token can be either an access or a refresh token.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Data
+public class TokenRevocationRequestDto {
+
+    @NotEmpty(message = "{token-revocation-request.validation.token.not-empty}")
+    private String token;
+}
@@ -0,0 +1,144 @@
+package com.sparkystudios.traklibrary.authentication.service.encoder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sparkystudios.traklibrary.security.exception.AuthenticationServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The {@link BoundedPasswordEncoder} is a {@link PasswordEncoder} that runs a delegate encoder, i.e. BCrypt, on a
+ * dedicated, bounded pool of threads. Password hashing is deliberately expensive, so without a bound a spike in logins
+ * or registrations can tie up every request thread hashing passwords and starve every other endpoint of CPU.
+ *
+ * The pool is sized to the number of available processors by default and has a bounded queue. Once the queue is full,
+ * further requests are rejected straight away with an {@link AuthenticationServiceUnavailableException} rather than
+ * waiting, so that the client can back off and retry.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "trak.auth.password-hashing";
+    private static final String UNAVAILABLE_MESSAGE = "Password hashing is currently unavailable, please try again later.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * Creates a new {@link BoundedPasswordEncoder}.
+     *
+     * @param delegate The {@link PasswordEncoder} that does the actual hashing.
+     * @param threads The number of threads to hash passwords on, or zero to use the number of available processors.
+     * @param queueCapacity The maximum number of hashing requests that can wait for a thread.
+     * @param timeout The longest a caller will wait for a hashing request to complete, including time spent queued.
+     * @param meterRegistry The {@link MeterRegistry} to record the hashing metrics to.
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        if (threads < 0 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Password hashing threads must not be negative and queue capacity must be positive.");
+        }
+
+        int poolSize = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("password-hashing-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, e -> e.getQueue().size())
+                .description("The number of password hashing requests waiting for a thread.")
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("The number of threads currently hashing passwords.")
+                .register(meterRegistry);
+
+        this.encodeTimer = createTimer(meterRegistry, "encode");
+        this.matchesTimer = createTimer(meterRegistry, "matches");
+
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("The number of password hashing requests rejected because the pool was saturated.")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matches = execute(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matches);
+    }
+
+    /**
+     * Upgrading doesn't require any hashing, so it's checked on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> callable) {
+        Future<T> future;
+        try {
+            future = executor.submit(callable);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new AuthenticationServiceUnavailableException(UNAVAILABLE_MESSAGE, e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new AuthenticationServiceUnavailableException(UNAVAILABLE_MESSAGE, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceUnavailableException(UNAVAILABLE_MESSAGE, e);
+        } catch (ExecutionException e) {
+            // Re-throw anything thrown by the delegate as-is, so that callers see the same exceptions as before.
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer createTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".time")
+                .description("The time taken to hash a password, excluding any time spent queued.")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
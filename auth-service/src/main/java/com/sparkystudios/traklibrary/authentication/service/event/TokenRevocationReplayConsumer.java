@@ -0,0 +1,35 @@
+package com.sparkystudios.traklibrary.authentication.service.event;
+
+import com.sparkystudios.traklibrary.authentication.service.TokenRevocationService;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenRevocationReplayRequestEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class TokenRevocationReplayConsumer {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * {@link Consumer} registered with Spring Cloud Stream that responds to any published
+     * "trak-token-revocation-replay" events. Its' purpose is to re-publish every persisted revocation that hasn't
+     * expired, so that a newly started instance can rebuild its denylist. The binding should be given a consumer
+     * group, so that each request is only answered by a single auth instance.
+     *
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
+     */
+    @Bean
+    public Consumer<TokenRevocationReplayRequestEvent> replayTokenRevocations() {
+        return tokenRevocationReplayRequestEvent -> {
+            log.debug("Running token revocation replay for: " + tokenRevocationReplayRequestEvent.getRequestedBy());
+
+            tokenRevocationService.replay();
+        };
+    }
+}
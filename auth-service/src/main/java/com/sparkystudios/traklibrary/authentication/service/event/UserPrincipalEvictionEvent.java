@@ -0,0 +1,22 @@
+package com.sparkystudios.traklibrary.authentication.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@link UserPrincipalEvictionEvent} is published whenever a user's credentials or account state change, so that
+ * every instance removes the user from its principal cache. If the ID is null, every user is removed.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPrincipalEvictionEvent {
+
+    private Long id;
+
+    private String username;
+}
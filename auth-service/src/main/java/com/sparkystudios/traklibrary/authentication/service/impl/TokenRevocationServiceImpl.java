@@ -0,0 +1,92 @@
+package com.sparkystudios.traklibrary.authentication.service.impl;
+
+import com.sparkystudios.traklibrary.authentication.domain.RevokedToken;
+import com.sparkystudios.traklibrary.authentication.repository.RevokedTokenRepository;
+import com.sparkystudios.traklibrary.authentication.service.TokenRevocationService;
+import com.sparkystudios.traklibrary.authentication.service.exception.InvalidUserException;
+import com.sparkystudios.traklibrary.security.AuthenticationService;
+import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
+import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenDenylist;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenRevocationEvent;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final String TOKEN_REVOCATION_DESTINATION = "trak-token-revocation";
+
+    private static final String INVALID_TOKEN_MESSAGE = "token.exception.invalid-token";
+    private static final String INVALID_USER_MESSAGE = "user.exception.invalid-user";
+
+    private final SecurityTokenService securityTokenService;
+    private final AuthenticationService authenticationService;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist tokenDenylist;
+    private final OutboxPublisher outboxPublisher;
+    private final StreamBridge streamBridge;
+    private final MessageSource messageSource;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void revoke(String token) {
+        SecurityToken securityToken;
+
+        // Parsing the token ensures it was issued by us and hasn't expired, there's no need to revoke it otherwise.
+        try {
+            securityToken = securityTokenService.getToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            String errorMessage = messageSource
+                    .getMessage(INVALID_TOKEN_MESSAGE, new Object[]{}, LocaleContextHolder.getLocale());
+
+            throw new BadCredentialsException(errorMessage, e);
+        }
+
+        // Users can only revoke their own tokens.
+        if (!authenticationService.isCurrentAuthenticatedUser(securityToken.getUserId())) {
+            String errorMessage = messageSource
+                    .getMessage(INVALID_USER_MESSAGE, new Object[]{}, LocaleContextHolder.getLocale());
+
+            throw new InvalidUserException(errorMessage);
+        }
+
+        // Persist the revocation, so that it can be replayed to instances that start after it was published.
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenId(securityToken.getId());
+        revokedToken.setExpiryDate(securityToken.getExpiry());
+
+        revokedTokenRepository.save(revokedToken);
+
+        // Reject the token on this instance straight away, every other instance will receive the published event.
+        tokenDenylist.revoke(securityToken.getId(), securityToken.getExpiry());
+
+        outboxPublisher.publish(TOKEN_REVOCATION_DESTINATION, new TokenRevocationEvent(securityToken.getId(), securityToken.getExpiry()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void replay() {
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByExpiryDateAfter(LocalDateTime.now(ZoneOffset.UTC));
+
+        log.debug("Replaying " + revokedTokens.size() + " token revocation(s).");
+
+        // Revocations are idempotent, so instances that already hold them are unaffected by the replay.
+        revokedTokens.forEach(revokedToken -> streamBridge.send(TOKEN_REVOCATION_DESTINATION,
+                new TokenRevocationEvent(revokedToken.getTokenId(), revokedToken.getExpiryDate())));
+    }
+}
@@ -5,6 +5,7 @@ import com.sparkystudios.traklibrary.authentication.domain.UserRole;
 import com.sparkystudios.traklibrary.authentication.repository.UserRepository;
 import com.sparkystudios.traklibrary.authentication.repository.UserRoleRepository;
 import com.sparkystudios.traklibrary.authentication.service.UserService;
+import com.sparkystudios.traklibrary.authentication.service.cache.UserPrincipalCache;
 import com.sparkystudios.traklibrary.authentication.service.dto.*;
 import com.sparkystudios.traklibrary.authentication.service.event.PasswordChangedEvent;
 import com.sparkystudios.traklibrary.authentication.service.event.RecoveryEvent;
@@ -12,6 +13,7 @@ import com.sparkystudios.traklibrary.authentication.service.event.VerificationEv
 import com.sparkystudios.traklibrary.authentication.service.exception.InvalidUserException;
 import com.sparkystudios.traklibrary.authentication.service.mapper.UserMapper;
 import com.sparkystudios.traklibrary.authentication.service.mapper.UserResponseMapper;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
 import com.sparkystudios.traklibrary.security.AuthenticationService;
 import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
 import dev.samstevens.totp.code.HashingAlgorithm;
@@ -23,7 +25,6 @@ import lombok.RequiredArgsConstructor;
 import org.passay.CharacterRule;
 import org.passay.EnglishCharacterData;
 import org.passay.PasswordGenerator;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -35,6 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityNotFoundException;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
@@ -66,14 +68,15 @@ public class UserServiceImpl implements UserService {
     private final UserResponseMapper userResponseMapper;
     private final MessageSource messageSource;
     private final PasswordEncoder passwordEncoder;
-    private final StreamBridge streamBridge;
+    private final OutboxPublisher outboxPublisher;
     private final AuthenticationService authenticationService;
     private final SecretGenerator secretGenerator;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) {
-        Optional<User> user = userRepository.findByUsername(username);
+        Optional<User> user = userPrincipalCache.getByUsername(username, userRepository::findPrincipalByUsername);
         if (user.isEmpty()) {
             String errorMessage = messageSource
                     .getMessage(NOT_FOUND_MESSAGE, new Object[]{username}, LocaleContextHolder.getLocale());
@@ -84,10 +87,30 @@ public class UserServiceImpl implements UserService {
         return userMapper.fromUser(user.get());
     }
 
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        Optional<User> optionalUser = userRepository.findByUsername(userDetails.getUsername());
+        if (optionalUser.isEmpty()) {
+            String errorMessage = messageSource
+                    .getMessage(NOT_FOUND_MESSAGE, new Object[]{userDetails.getUsername()}, LocaleContextHolder.getLocale());
+
+            throw new UsernameNotFoundException(errorMessage);
+        }
+
+        // The password has already been encoded, it's just being re-hashed with a different strength.
+        var user = optionalUser.get();
+        user.setPassword(newPassword);
+        userPrincipalCache.evict(user.getId(), user.getUsername());
+
+        return userMapper.fromUser(userRepository.save(user));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserDto findById(long id) {
-        Optional<User> optionalUser = userRepository.findById(id);
+        // Callers go on to modify the user, so it's always loaded from the database rather than the principal cache.
+        Optional<User> optionalUser = userRepository.findPrincipalById(id);
         // Can't verify a user if it doesn't exist.
         if (optionalUser.isEmpty()) {
             String errorMessage = messageSource
@@ -111,18 +134,20 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public CheckedResponse<RegistrationResponseDto> save(RegistrationRequestDto registrationRequestDto) {
-        Optional<User> existingUsername = userRepository.findByUsername(registrationRequestDto.getUsername());
+        // Check whether the username or email address are already in use, regardless of case, with a single query.
+        List<User> existingUsers = userRepository
+                .findByUsernameOrEmailAddressIgnoreCase(registrationRequestDto.getUsername(), registrationRequestDto.getEmailAddress());
+
         // If the user already exists with the given username, don't save an identical one, throw an exception that it's already used.
-        if (existingUsername.isPresent()) {
+        if (existingUsers.stream().anyMatch(u -> registrationRequestDto.getUsername().equalsIgnoreCase(u.getUsername()))) {
             String errorMessage = messageSource
                     .getMessage(EXISTING_USERNAME_MESSAGE, new Object[]{registrationRequestDto.getUsername()}, LocaleContextHolder.getLocale());
 
             return new CheckedResponse<>(null, errorMessage);
         }
 
-        Optional<User> existingEmailAddress = userRepository.findByEmailAddress(registrationRequestDto.getEmailAddress());
         // If the email address is already in user, don't save an identical one.
-        if (existingEmailAddress.isPresent()) {
+        if (!existingUsers.isEmpty()) {
             String errorMessage = messageSource
                     .getMessage(EXISTING_EMAIL_ADDRESS_MESSAGE, new Object[]{registrationRequestDto.getEmailAddress()}, LocaleContextHolder.getLocale());
 
@@ -180,7 +205,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Dispatch an event to generate the verification token and send the email.
-        streamBridge.send(EMAIL_VERIFICATION_DESTINATION,
+        outboxPublisher.publish(EMAIL_VERIFICATION_DESTINATION,
                 new VerificationEvent(user.getUsername(), user.getEmailAddress(), user.getVerificationCode()));
 
         return new CheckedResponse<>(registrationResponseDto);
@@ -212,6 +237,7 @@ public class UserServiceImpl implements UserService {
         user.setRecoveryToken(null);
         user.setRecoveryTokenExpiryDate(null);
         user.setPassword(passwordEncoder.encode(recoveryRequestDto.getPassword()));
+        userPrincipalCache.evict(user.getId(), user.getUsername());
 
         // No need to re-verify, just return the new information.
         return new CheckedResponse<>(userResponseMapper.fromUser(userRepository.save(user)));
@@ -228,6 +254,8 @@ public class UserServiceImpl implements UserService {
             throw new EntityNotFoundException(errorMessage);
         }
 
+        userPrincipalCache.evict(userDto.getId(), userDto.getUsername());
+
         return userMapper.fromUser(userRepository.save(userMapper.toUser(userDto)));
     }
 
@@ -235,7 +263,9 @@ public class UserServiceImpl implements UserService {
     @Transactional(rollbackFor = Exception.class)
     public void deleteById(long id) {
         // Delete the user. There's no recovery from here.
-        userRepository.deleteById(findById(id).getId());
+        var userDto = findById(id);
+        userRepository.deleteById(userDto.getId());
+        userPrincipalCache.evict(userDto.getId(), userDto.getUsername());
     }
 
     @Override
@@ -259,6 +289,7 @@ public class UserServiceImpl implements UserService {
             userDto.setVerificationExpiryDate(null);
 
             userRepository.save(userMapper.toUser(userDto));
+            userPrincipalCache.evict(userDto.getId(), userDto.getUsername());
         }
 
         return new CheckedResponse<>(true);
@@ -273,9 +304,10 @@ public class UserServiceImpl implements UserService {
         userDto.setVerificationExpiryDate(LocalDateTime.now().plusDays(1));
 
         var user = userRepository.save(userMapper.toUser(userDto));
+        userPrincipalCache.evict(user.getId(), user.getUsername());
 
         // Resend the verification request to generate a new email.
-        streamBridge.send(EMAIL_VERIFICATION_DESTINATION,
+        outboxPublisher.publish(EMAIL_VERIFICATION_DESTINATION,
                 new VerificationEvent(user.getUsername(), user.getEmailAddress(), user.getVerificationCode()));
     }
 
@@ -290,9 +322,10 @@ public class UserServiceImpl implements UserService {
             user.setRecoveryTokenExpiryDate(LocalDateTime.now().plusDays(1));
 
             user = userRepository.save(user);
+            userPrincipalCache.evict(user.getId(), user.getUsername());
 
             // Publish a reset password event to send an email.
-            streamBridge.send(EMAIL_RECOVERY_DESTINATION,
+            outboxPublisher.publish(EMAIL_RECOVERY_DESTINATION,
                     new RecoveryEvent(user.getUsername(), user.getEmailAddress(), user.getRecoveryToken()));
         }
     }
@@ -315,9 +348,10 @@ public class UserServiceImpl implements UserService {
         // Reset was successful, change their password.
         userDto.setPassword(passwordEncoder.encode(changePasswordRequestDto.getNewPassword()));
         var user = userRepository.save(userMapper.toUser(userDto));
+        userPrincipalCache.evict(user.getId(), user.getUsername());
 
         // Will need to generate the password changed email as the users information has changed.
-        streamBridge.send(EMAIL_PASSWORD_CHANGED_DESTINATION,
+        outboxPublisher.publish(EMAIL_PASSWORD_CHANGED_DESTINATION,
                 new PasswordChangedEvent(user.getUsername(), user.getEmailAddress()));
 
         // No need to re-verify, just return the new information.
@@ -345,9 +379,10 @@ public class UserServiceImpl implements UserService {
         userDto.setVerificationExpiryDate(LocalDateTime.now().plusDays(1));
 
         var user = userRepository.save(userMapper.toUser(userDto));
+        userPrincipalCache.evict(user.getId(), user.getUsername());
 
         // Will need to re-generate the verification email as the users information has changed.
-        streamBridge.send(EMAIL_VERIFICATION_DESTINATION,
+        outboxPublisher.publish(EMAIL_VERIFICATION_DESTINATION,
                 new VerificationEvent(user.getUsername(), user.getEmailAddress(), user.getVerificationCode()));
 
         return new CheckedResponse<>(true);
@@ -0,0 +1,101 @@
+package com.sparkystudios.traklibrary.authentication.service.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The {@link ChunkedUpdateRunner} is used by the scheduled jobs to apply a bulk update in fixed size chunks, each
+ * within its own transaction. Keeping each chunk small ensures that a large backlog of rows never holds locks on the
+ * table for long, while still updating many rows per statement rather than one at a time.
+ *
+ * Each run is limited to a maximum number of chunks, so that an update which keeps matching the same rows can't loop
+ * forever. Any rows left over are picked up by the job's next run.
+ *
+ * The duration of each run and the total number of rows it affected are recorded against the name of the job.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class ChunkedUpdateRunner {
+
+    private static final String METRIC_PREFIX = "trak.auth.jobs";
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public ChunkedUpdateRunner(TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${trak.auth.jobs.chunk-size:500}") int chunkSize,
+                               @Value("${trak.auth.jobs.max-chunks:1000}") int maxChunks) {
+        if (chunkSize < 1 || maxChunks < 1) {
+            throw new IllegalArgumentException("Job chunk size and maximum chunks must be positive.");
+        }
+
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * Repeatedly applies the given {@link ChunkedUpdate} until it updates fewer rows than the chunk size, which
+     * indicates there are no rows left to update, or the maximum number of chunks has been applied.
+     *
+     * @param job The name of the job running the update, used to tag the metrics.
+     * @param chunkedUpdate The {@link ChunkedUpdate} to apply.
+     *
+     * @return The total number of rows that were updated.
+     */
+    public long run(String job, ChunkedUpdate chunkedUpdate) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Pageable pageable = PageRequest.of(0, chunkSize);
+
+        long total = 0;
+        int chunks = 0;
+        int updated;
+        try {
+            do {
+                // Updated rows no longer match the criteria, so the first page always contains the next chunk.
+                Integer result = transactionTemplate.execute(status -> chunkedUpdate.update(pageable));
+                updated = result == null ? 0 : result;
+                total += updated;
+                chunks++;
+            } while (updated >= chunkSize && chunks < maxChunks);
+
+            if (updated >= chunkSize) {
+                log.warn("Job {} stopped after {} chunks, the remaining rows will be updated on its next run.", job, chunks);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_PREFIX + ".duration", "job", job));
+            meterRegistry.counter(METRIC_PREFIX + ".rows", "job", job).increment(total);
+        }
+
+        return total;
+    }
+
+    /**
+     * A single chunk of a bulk update, which is executed within a transaction.
+     */
+    @FunctionalInterface
+    public interface ChunkedUpdate {
+
+        /**
+         * Updates the rows within the given page of matching rows.
+         *
+         * @param pageable The {@link Pageable} that limits the number of rows to update.
+         *
+         * @return The number of rows that were updated.
+         */
+        int update(Pageable pageable);
+    }
+}
@@ -1,15 +1,17 @@
 package com.sparkystudios.traklibrary.authentication.service.scheduling.jobs;
 
-import com.sparkystudios.traklibrary.authentication.domain.User;
 import com.sparkystudios.traklibrary.authentication.repository.UserRepository;
+import com.sparkystudios.traklibrary.authentication.service.cache.UserPrincipalCache;
+import com.sparkystudios.traklibrary.authentication.service.scheduling.ChunkedUpdateRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
+import java.util.List;
 
 /**
  * Quartz job that is executed once an hour, at the half-past mark. Its purpose is to remove any recovery tokens
@@ -17,15 +19,23 @@ import java.util.Collection;
  * around 24 hours, depending on when the recovery token was requested. Once a token has expired, the user will have to
  * request a new one.
  *
+ * The tokens are removed with bulk updates in chunks, rather than loading and saving each user, and the job store is
+ * clustered so that only one instance runs the job at a time.
+ *
  * @since 0.1.0
  * @author Sparky Studios
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@DisallowConcurrentExecution
 public class RemoveExpiredRecoveryTokensJob implements Job {
 
+    private static final String JOB_NAME = "remove-expired-recovery-tokens";
+
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ChunkedUpdateRunner chunkedUpdateRunner;
 
     /**
      * Quartz job that is executed once an hour, at the half-past mark. Its purpose is to remove any recovery tokens
@@ -41,19 +51,20 @@ public class RemoveExpiredRecoveryTokensJob implements Job {
         String currentThread = Thread.currentThread().getName();
         log.info(String.format("---------- Running scheduled task: Remove expired recovery tokens on thread: %s ----------", currentThread));
 
-        // Retrieve all of the accounts that have recovery tokens whose expiry date have eclipsed 24 hours..
-        Collection<User> users = userRepository
-                .findByRecoveryTokenExpiryDateBefore(LocalDateTime.now());
+        // Remove both the expiry date and the recovery token from each user whose token has expired. A new recovery
+        // token won't be automatically generated, the user will have to request a new one.
+        long updated = chunkedUpdateRunner.run(JOB_NAME, pageable -> {
+            LocalDateTime now = LocalDateTime.now();
 
-        // Loop through each user that matches the criteria and remove both the expiry date and the recovery token.
-        // A new recovery token won't be automatically generated, the user will have to request a new one.
-        users.forEach(user -> {
-            user.setRecoveryTokenExpiryDate(null);
-            user.setRecoveryToken(null);
-
-            userRepository.save(user);
+            List<Long> ids = userRepository.findIdsWithExpiredRecoveryToken(now, pageable);
+            return ids.isEmpty() ? 0 : userRepository.clearExpiredRecoveryTokens(ids, now);
         });
 
-        log.info(String.format("---------- Finished scheduled task: Remove expired recovery tokens on thread: %s ----------", currentThread));
+        // The bulk updates bypass the principal cache, so it needs clearing if anything has changed.
+        if (updated > 0) {
+            userPrincipalCache.evictAll();
+        }
+
+        log.info(String.format("---------- Finished scheduled task: Remove expired recovery tokens on thread: %s, updated %d users ----------", currentThread, updated));
     }
 }
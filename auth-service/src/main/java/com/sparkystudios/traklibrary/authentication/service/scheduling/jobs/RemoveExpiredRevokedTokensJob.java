@@ -0,0 +1,58 @@
+package com.sparkystudios.traklibrary.authentication.service.scheduling.jobs;
+
+import com.sparkystudios.traklibrary.authentication.repository.RevokedTokenRepository;
+import com.sparkystudios.traklibrary.authentication.service.scheduling.ChunkedUpdateRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Quartz job that is executed once an hour, at the quarter-past mark. Its purpose is to remove any persisted token
+ * revocations whose token has since expired, as an expired token is rejected regardless and no longer needs to be
+ * replayed to new service instances.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class RemoveExpiredRevokedTokensJob implements Job {
+
+    private static final String JOB_NAME = "remove-expired-revoked-tokens";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final ChunkedUpdateRunner chunkedUpdateRunner;
+
+    /**
+     * Quartz job that is executed once an hour, at the quarter-past mark. Its purpose is to remove any persisted token
+     * revocations whose token has since expired.
+     *
+     * @param jobExecutionContext The {@link JobExecutionContext} that executed the job.
+     */
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) {
+        // Get the name of the current thread that this scheduled task is running on, for debug purposes.
+        String currentThread = Thread.currentThread().getName();
+        log.info(String.format("---------- Running scheduled task: Remove expired revoked tokens on thread: %s ----------", currentThread));
+
+        // Remove the expired revocations a page at a time, so a large backlog never holds locks on the table for long.
+        // The expiry of a token is stored in UTC, so the comparison needs to be made in UTC as well.
+        long deleted = chunkedUpdateRunner.run(JOB_NAME, pageable -> {
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+            List<String> tokenIds = revokedTokenRepository.findExpiredTokenIds(now, pageable);
+            return tokenIds.isEmpty() ? 0 : revokedTokenRepository.deleteExpired(tokenIds, now);
+        });
+
+        log.info(String.format("---------- Finished scheduled task: Remove expired revoked tokens on thread: %s, deleted %d revocations ----------", currentThread, deleted));
+    }
+}
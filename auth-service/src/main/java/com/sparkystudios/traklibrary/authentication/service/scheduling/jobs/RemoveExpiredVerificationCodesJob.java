@@ -1,15 +1,17 @@
 package com.sparkystudios.traklibrary.authentication.service.scheduling.jobs;
 
-import com.sparkystudios.traklibrary.authentication.domain.User;
 import com.sparkystudios.traklibrary.authentication.repository.UserRepository;
+import com.sparkystudios.traklibrary.authentication.service.cache.UserPrincipalCache;
+import com.sparkystudios.traklibrary.authentication.service.scheduling.ChunkedUpdateRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
+import java.util.List;
 
 /**
  * Quarts job that is executed once an hour, on the hour. Its purpose is to remove any verification codes
@@ -17,15 +19,23 @@ import java.util.Collection;
  * verification code is around 24 hours, depending on when the verification code requested. Once a code has expired,
  * the user will have to request a new one.
  *
+ * The codes are removed with bulk updates in chunks, rather than loading and saving each user, and the job store is
+ * clustered so that only one instance runs the job at a time.
+ *
  * @since 0.1.0
  * @author Sparky Studios
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@DisallowConcurrentExecution
 public class RemoveExpiredVerificationCodesJob implements Job {
 
+    private static final String JOB_NAME = "remove-expired-verification-codes";
+
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ChunkedUpdateRunner chunkedUpdateRunner;
 
     /**
      * Quarts job that is executed once an hour, on the hour. Its purpose is to remove any verification codes
@@ -39,22 +49,22 @@ public class RemoveExpiredVerificationCodesJob implements Job {
     public void execute(JobExecutionContext jobExecutionContext) {
         // Get the name of the current thread that this scheduled task is running on, for debug purposes.
         String currentThread = Thread.currentThread().getName();
-        log.info(String.format("---------- Running scheduled task: Remove expired verification codes on thread: %s  ----------", currentThread));
+        log.info(String.format("---------- Running scheduled task: Remove expired verification codes on thread: %s ----------", currentThread));
 
-        // Retrieve all of the accounts that aren't verified and verification code is older than 24 hours.
-        Collection<User> users = userRepository
-                .findByVerifiedIsFalseAndVerificationExpiryDateBefore(LocalDateTime.now());
+        // Remove both the expiry date and verification code from each unverified user whose code has expired, but leave
+        // them as not verified. A new verification code won't be automatically generated, the user will have to request a new one.
+        long updated = chunkedUpdateRunner.run(JOB_NAME, pageable -> {
+            LocalDateTime now = LocalDateTime.now();
 
-        // Loop through each user that matches the criteria and remove both the expiry date and verification code.
-        // A new verification code won't be automatically generated, the user will have to request a new one.
-        users.forEach(user -> {
-            user.setVerificationExpiryDate(null);
-            user.setVerificationCode(null);
-
-            // Save the updated entity, but leave them as not verified.
-            userRepository.save(user);
+            List<Long> ids = userRepository.findIdsWithExpiredVerificationCode(now, pageable);
+            return ids.isEmpty() ? 0 : userRepository.clearExpiredVerificationCodes(ids, now);
         });
 
-        log.info(String.format("---------- Finished scheduled task: Remove expired verification codes on thread: %s ----------", currentThread));
+        // The bulk updates bypass the principal cache, so it needs clearing if anything has changed.
+        if (updated > 0) {
+            userPrincipalCache.evictAll();
+        }
+
+        log.info(String.format("---------- Finished scheduled task: Remove expired verification codes on thread: %s, updated %d users ----------", currentThread, updated));
     }
 }
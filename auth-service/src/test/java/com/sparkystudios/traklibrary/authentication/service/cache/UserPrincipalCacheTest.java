@@ -0,0 +1,126 @@
+package com.sparkystudios.traklibrary.authentication.service.cache;
+
+import com.sparkystudios.traklibrary.authentication.domain.User;
+import com.sparkystudios.traklibrary.authentication.service.event.UserPrincipalEvictionEvent;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class UserPrincipalCacheTest {
+
+    private final OutboxPublisher outboxPublisher = Mockito.mock(OutboxPublisher.class);
+
+    private final UserPrincipalCache userPrincipalCache =
+            new UserPrincipalCache(new SimpleMeterRegistry(), outboxPublisher, Duration.ofMinutes(1), 100);
+
+    @Test
+    void getByUsername_withCachedUser_doesntReload() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        User user = createUser();
+
+        userPrincipalCache.getByUsername("username", username -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+
+        // Act
+        Optional<User> result = userPrincipalCache.getByUsername("username", username -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+
+        // Assert
+        Assertions.assertThat(result)
+                .contains(user);
+        Assertions.assertThat(loads.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void getByUsername_withNonExistentUser_doesntCacheResult() {
+        // Arrange
+        User user = createUser();
+        userPrincipalCache.getByUsername("username", username -> Optional.empty());
+
+        // Act
+        Optional<User> result = userPrincipalCache.getByUsername("username", username -> Optional.of(user));
+
+        // Assert
+        Assertions.assertThat(result)
+                .contains(user);
+    }
+
+    @Test
+    void evict_withCachedUser_removesUserCachedByUsername() {
+        // Arrange
+        User user = createUser();
+        User updatedUser = createUser();
+        userPrincipalCache.getByUsername("username", username -> Optional.of(user));
+
+        // Act
+        userPrincipalCache.evict(1L, null);
+
+        // Assert
+        Assertions.assertThat(userPrincipalCache.getByUsername("username", username -> Optional.of(updatedUser)))
+                .containsSame(updatedUser);
+    }
+
+    @Test
+    void evict_withUser_publishesEvictionToOtherInstances() {
+        // Act
+        userPrincipalCache.evict(1L, "username");
+
+        // Assert
+        Mockito.verify(outboxPublisher)
+                .publish(ArgumentMatchers.eq("trak-auth-principal-eviction"), ArgumentMatchers.eq(new UserPrincipalEvictionEvent(1L, "username")));
+    }
+
+    @Test
+    void evictAll_withCachedUsers_removesAllUsersAndPublishesEviction() {
+        // Arrange
+        User user = createUser();
+        User updatedUser = createUser();
+        userPrincipalCache.getByUsername("username", username -> Optional.of(user));
+
+        // Act
+        userPrincipalCache.evictAll();
+
+        // Assert
+        Assertions.assertThat(userPrincipalCache.getByUsername("username", username -> Optional.of(updatedUser)))
+                .containsSame(updatedUser);
+        Mockito.verify(outboxPublisher)
+                .publish(ArgumentMatchers.eq("trak-auth-principal-eviction"), ArgumentMatchers.eq(new UserPrincipalEvictionEvent(null, null)));
+    }
+
+    @Test
+    void evictLocally_withCachedUser_removesUserWithoutPublishing() {
+        // Arrange
+        User user = createUser();
+        User updatedUser = createUser();
+        userPrincipalCache.getByUsername("username", username -> Optional.of(user));
+
+        // Act
+        userPrincipalCache.evictLocally(1L, "username");
+
+        // Assert
+        Assertions.assertThat(userPrincipalCache.getByUsername("username", username -> Optional.of(updatedUser)))
+                .containsSame(updatedUser);
+        Mockito.verifyNoInteractions(outboxPublisher);
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+
+        return user;
+    }
+}
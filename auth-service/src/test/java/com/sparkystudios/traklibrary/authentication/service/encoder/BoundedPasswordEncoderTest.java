@@ -0,0 +1,166 @@
+package com.sparkystudios.traklibrary.authentication.service.encoder;
+
+import com.sparkystudios.traklibrary.security.exception.AuthenticationServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void constructor_withNegativeThreads_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new BoundedPasswordEncoder(new PlainPasswordEncoder(), -1, 1, Duration.ofSeconds(1), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_withZeroQueueCapacity_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new BoundedPasswordEncoder(new PlainPasswordEncoder(), 1, 0, Duration.ofSeconds(1), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void encode_withAvailableCapacity_delegatesEncoding() {
+        // Arrange
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(), 1, 1, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        // Act
+        String result = encoder.encode("password");
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo("{plain}password");
+
+        encoder.destroy();
+    }
+
+    @Test
+    void matches_withAvailableCapacity_delegatesMatching() {
+        // Arrange
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(), 1, 1, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        // Act
+        boolean matches = encoder.matches("password", "{plain}password");
+        boolean mismatches = encoder.matches("password", "{plain}other");
+
+        // Assert
+        Assertions.assertThat(matches)
+                .isTrue();
+        Assertions.assertThat(mismatches)
+                .isFalse();
+
+        encoder.destroy();
+    }
+
+    @Test
+    void matches_withSaturatedPool_throwsAuthenticationServiceUnavailableException() throws InterruptedException {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        PasswordEncoder blockingEncoder = new PlainPasswordEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // Occupy the only thread and the only queue slot.
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> encoder.matches("password", "{plain}password"));
+        started.await(5, TimeUnit.SECONDS);
+        callers.submit(() -> encoder.matches("password", "{plain}password"));
+
+        while (meterRegistry.get("trak.auth.password-hashing.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> encoder.matches("password", "{plain}password"))
+                .isInstanceOf(AuthenticationServiceUnavailableException.class);
+        Assertions.assertThat(meterRegistry.get("trak.auth.password-hashing.rejected").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        callers.shutdown();
+        encoder.destroy();
+    }
+
+    @Test
+    void matches_withTimeout_throwsAuthenticationServiceUnavailableException() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+
+        PasswordEncoder blockingEncoder = new PlainPasswordEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofMillis(50), new SimpleMeterRegistry());
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> encoder.matches("password", "{plain}password"))
+                .isInstanceOf(AuthenticationServiceUnavailableException.class);
+
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void encode_withDelegateException_rethrowsDelegateException() {
+        // Arrange
+        PasswordEncoder failingEncoder = new PlainPasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("failed");
+            }
+        };
+
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(failingEncoder, 1, 1, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("failed");
+
+        encoder.destroy();
+    }
+
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.sparkystudios.traklibrary.authentication.service.impl;
+
+import com.sparkystudios.traklibrary.authentication.domain.RevokedToken;
+import com.sparkystudios.traklibrary.authentication.repository.RevokedTokenRepository;
+import com.sparkystudios.traklibrary.authentication.service.exception.InvalidUserException;
+import com.sparkystudios.traklibrary.security.AuthenticationService;
+import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
+import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenDenylist;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenRevocationEvent;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
+import io.jsonwebtoken.MalformedJwtException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.MessageSource;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceImplTest {
+
+    @Mock
+    private SecurityTokenService securityTokenService;
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private TokenDenylist tokenDenylist;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @Test
+    void revoke_withInvalidToken_throwsBadCredentialsException() {
+        // Arrange
+        Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
+                .thenThrow(new MalformedJwtException(""));
+
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+                .thenReturn("");
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> tokenRevocationService.revoke("token"))
+                .isInstanceOf(BadCredentialsException.class);
+
+        Mockito.verifyNoInteractions(revokedTokenRepository, tokenDenylist, outboxPublisher);
+    }
+
+    @Test
+    void revoke_withDifferentUser_throwsInvalidUserException() {
+        // Arrange
+        SecurityToken securityToken = Mockito.mock(SecurityToken.class);
+        Mockito.when(securityToken.getUserId())
+                .thenReturn(2L);
+
+        Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
+                .thenReturn(securityToken);
+
+        Mockito.when(authenticationService.isCurrentAuthenticatedUser(2L))
+                .thenReturn(false);
+
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+                .thenReturn("");
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> tokenRevocationService.revoke("token"))
+                .isInstanceOf(InvalidUserException.class);
+
+        Mockito.verifyNoInteractions(revokedTokenRepository, tokenDenylist, outboxPublisher);
+    }
+
+    @Test
+    void revoke_withValidToken_persistsRevocationAndRevokesLocallyAndPublishesEvent() {
+        // Arrange
+        LocalDateTime expiry = LocalDateTime.now().plusMinutes(15);
+
+        SecurityToken securityToken = Mockito.mock(SecurityToken.class);
+        Mockito.when(securityToken.getId())
+                .thenReturn("token-id");
+        Mockito.when(securityToken.getUserId())
+                .thenReturn(1L);
+        Mockito.when(securityToken.getExpiry())
+                .thenReturn(expiry);
+
+        Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
+                .thenReturn(securityToken);
+
+        Mockito.when(authenticationService.isCurrentAuthenticatedUser(1L))
+                .thenReturn(true);
+
+        // Act
+        tokenRevocationService.revoke("token");
+
+        // Assert
+        Mockito.verify(revokedTokenRepository)
+                .save(ArgumentMatchers.argThat(revokedToken ->
+                        "token-id".equals(revokedToken.getTokenId()) && expiry.equals(revokedToken.getExpiryDate())));
+
+        Mockito.verify(tokenDenylist)
+                .revoke("token-id", expiry);
+
+        Mockito.verify(outboxPublisher)
+                .publish(ArgumentMatchers.anyString(), ArgumentMatchers.eq(new TokenRevocationEvent("token-id", expiry)));
+    }
+
+    @Test
+    void replay_withNoLiveRevocations_doesntPublishEvents() {
+        // Arrange
+        Mockito.when(revokedTokenRepository.findByExpiryDateAfter(ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        tokenRevocationService.replay();
+
+        // Assert
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void replay_withLiveRevocations_publishesEventForEachRevocation() {
+        // Arrange
+        LocalDateTime expiry = LocalDateTime.now().plusMinutes(15);
+
+        RevokedToken revokedToken1 = new RevokedToken();
+        revokedToken1.setTokenId("token-id-1");
+        revokedToken1.setExpiryDate(expiry);
+
+        RevokedToken revokedToken2 = new RevokedToken();
+        revokedToken2.setTokenId("token-id-2");
+        revokedToken2.setExpiryDate(expiry);
+
+        Mockito.when(revokedTokenRepository.findByExpiryDateAfter(ArgumentMatchers.any()))
+                .thenReturn(List.of(revokedToken1, revokedToken2));
+
+        // Act
+        tokenRevocationService.replay();
+
+        // Assert
+        Mockito.verify(streamBridge)
+                .send(ArgumentMatchers.anyString(), ArgumentMatchers.eq(new TokenRevocationEvent("token-id-1", expiry)));
+        Mockito.verify(streamBridge)
+                .send(ArgumentMatchers.anyString(), ArgumentMatchers.eq(new TokenRevocationEvent("token-id-2", expiry)));
+        Mockito.verifyNoInteractions(tokenDenylist);
+    }
+}
@@ -4,25 +4,30 @@ import com.sparkystudios.traklibrary.authentication.domain.User;
 import com.sparkystudios.traklibrary.authentication.domain.UserRole;
 import com.sparkystudios.traklibrary.authentication.repository.UserRepository;
 import com.sparkystudios.traklibrary.authentication.repository.UserRoleRepository;
+import com.sparkystudios.traklibrary.authentication.service.cache.UserPrincipalCache;
 import com.sparkystudios.traklibrary.authentication.service.dto.*;
 import com.sparkystudios.traklibrary.authentication.service.event.RecoveryEvent;
 import com.sparkystudios.traklibrary.authentication.service.event.VerificationEvent;
 import com.sparkystudios.traklibrary.authentication.service.exception.InvalidUserException;
 import com.sparkystudios.traklibrary.authentication.service.mapper.UserMapper;
 import com.sparkystudios.traklibrary.authentication.service.mapper.UserResponseMapper;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
 import com.sparkystudios.traklibrary.security.AuthenticationService;
 import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.MessageSource;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -48,18 +53,21 @@ class UserServiceImplTest {
     private MessageSource messageSource;
 
     @Mock
-    private StreamBridge streamBridge;
+    private OutboxPublisher outboxPublisher;
 
     @Mock
     private AuthenticationService authenticationService;
 
+    @Spy
+    private UserPrincipalCache userPrincipalCache = new UserPrincipalCache(new SimpleMeterRegistry(), Mockito.mock(OutboxPublisher.class), Duration.ofSeconds(30), 100);
+
     @InjectMocks
     private UserServiceImpl userService;
 
     @Test
     void loadUserByUsername_withNonExistentUser_throwsUsernameNotFoundException() {
         // Arrange
-        Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
+        Mockito.when(userRepository.findPrincipalByUsername(ArgumentMatchers.anyString()))
                 .thenReturn(Optional.empty());
 
         // Assert
@@ -70,7 +78,7 @@ class UserServiceImplTest {
     @Test
     void loadUserByUsername_withExistingUser_returnsMappedUserDto() {
         // Arrange
-        Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
+        Mockito.when(userRepository.findPrincipalByUsername(ArgumentMatchers.anyString()))
                 .thenReturn(Optional.of(new User()));
 
         // Act
@@ -82,10 +90,98 @@ class UserServiceImplTest {
     }
 
     @Test
-    void save_withExistingUsername_throwsEntityExistsException() {
+    void loadUserByUsername_withRecentlyLoadedUser_doesntQueryRepositoryAgain() {
+        // Arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+
+        Mockito.when(userRepository.findPrincipalByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(Optional.of(user));
+
+        // Act
+        userService.loadUserByUsername("username");
+        userService.loadUserByUsername("username");
+
+        // Assert
+        Mockito.verify(userRepository, Mockito.times(1))
+                .findPrincipalByUsername("username");
+    }
+
+    @Test
+    void findById_withRecentlyLoadedUser_queriesRepository() {
+        // Arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+
+        Mockito.when(userRepository.findPrincipalByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(Optional.of(user));
+
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
+                .thenReturn(Optional.of(user));
+
+        Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
+                .thenReturn(true);
+
+        userService.loadUserByUsername("username");
+
+        // Act
+        userService.findById(1L);
+
+        // Assert
+        Mockito.verify(userRepository)
+                .findPrincipalById(1L);
+    }
+
+    @Test
+    void updatePassword_withNonExistentUser_throwsUsernameNotFoundException() {
         // Arrange
         Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.of(new User()));
+                .thenReturn(Optional.empty());
+
+        UserDto userDto = new UserDto();
+        userDto.setUsername("username");
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> userService.updatePassword(userDto, "encoded"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void updatePassword_withExistingUser_savesNewPassword() {
+        // Arrange
+        User user = new User();
+        user.setPassword("old");
+
+        Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
+                .thenReturn(Optional.of(user));
+
+        Mockito.when(userRepository.save(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserDto userDto = new UserDto();
+        userDto.setUsername("username");
+
+        // Act
+        userService.updatePassword(userDto, "encoded");
+
+        // Assert
+        Assertions.assertThat(user.getPassword())
+                .isEqualTo("encoded");
+
+        Mockito.verify(userRepository)
+                .save(user);
+    }
+
+    @Test
+    void save_withExistingUsername_throwsEntityExistsException() {
+        // Arrange
+        User existingUser = new User();
+        existingUser.setUsername("UserName");
+
+        Mockito.when(userRepository.findByUsernameOrEmailAddressIgnoreCase(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(List.of(existingUser));
 
         Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("username-error");
@@ -113,11 +209,12 @@ class UserServiceImplTest {
     @Test
     void save_withExistingEmailAddress_throwsEntityExistsException() {
         // Arrange
-        Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.empty());
+        User existingUser = new User();
+        existingUser.setUsername("other");
+        existingUser.setEmailAddress("Email.Address@email.com");
 
-        Mockito.when(userRepository.findByEmailAddress(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.of(new User()));
+        Mockito.when(userRepository.findByUsernameOrEmailAddressIgnoreCase(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(List.of(existingUser));
 
         Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("email-error");
@@ -145,11 +242,8 @@ class UserServiceImplTest {
     @Test
     void save_withMissingUserRole_throwsEntityNotFoundException() {
         // Arrange
-        Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.empty());
-
-        Mockito.when(userRepository.findByEmailAddress(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.empty());
+        Mockito.when(userRepository.findByUsernameOrEmailAddressIgnoreCase(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Collections.emptyList());
 
         Mockito.when(userRoleRepository.findByRole((UserSecurityRole.ROLE_USER)))
                 .thenReturn(Optional.empty());
@@ -170,18 +264,12 @@ class UserServiceImplTest {
     @Test
     void save_withValidCredentialsAndUserRole_savesUserAndMakesUserRoleXrefAndPublishesEvent() {
         // Arrange
-        Mockito.when(userRepository.findByUsername(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.empty());
-
-        Mockito.when(userRepository.findByEmailAddress(ArgumentMatchers.anyString()))
-                .thenReturn(Optional.empty());
+        Mockito.when(userRepository.findByUsernameOrEmailAddressIgnoreCase(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Collections.emptyList());
 
         Mockito.when(userRoleRepository.findByRole(UserSecurityRole.ROLE_USER))
                 .thenReturn(Optional.of(new UserRole()));
 
-        Mockito.when(streamBridge.send(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
-                .thenReturn(true);
-
         User user = new User();
         user.setEmailAddress("random-address@trak.com");
 
@@ -207,8 +295,8 @@ class UserServiceImplTest {
         Mockito.verify(userRepository, Mockito.atMostOnce())
                 .save(ArgumentMatchers.any());
 
-        Mockito.verify(streamBridge, Mockito.atMostOnce())
-                .send(ArgumentMatchers.eq("trak-email-verification"), ArgumentMatchers.any(VerificationEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.atMostOnce())
+                .publish(ArgumentMatchers.eq("trak-email-verification"), ArgumentMatchers.any(VerificationEvent.class));
     }
 
     @Test
@@ -383,7 +471,7 @@ class UserServiceImplTest {
     @Test
     void deleteByIde_withNoMatchingUser_throwsEntityNotFoundException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.empty());
 
         // Assert
@@ -394,7 +482,7 @@ class UserServiceImplTest {
     @Test
     void deleteByUsername_withDifferentUser_throwsInvalidUserException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -411,7 +499,7 @@ class UserServiceImplTest {
     @Test
     void deleteByUsername_withValidUser_deletesUserRolesAndUser() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -434,7 +522,7 @@ class UserServiceImplTest {
     @Test
     void verify_withNoMatchingUser_throwsEntityNotFoundException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.empty());
 
         // Assert
@@ -445,7 +533,7 @@ class UserServiceImplTest {
     @Test
     void verify_withDifferentUser_throwsInvalidUserException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -462,7 +550,7 @@ class UserServiceImplTest {
     @Test
     void verify_withVerifiedUser_doesntUpdateVerificationStatus() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -495,7 +583,7 @@ class UserServiceImplTest {
         UserDto userDto = new UserDto();
         userDto.setVerificationCode("11112");
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -525,7 +613,7 @@ class UserServiceImplTest {
     @Test
     void verify_withNonVerifiedUserWithNullVerificationCode_returnsCheckedResponseWithError() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -555,7 +643,7 @@ class UserServiceImplTest {
     @Test
     void verify_withNonVerifiedUserWithCorrectVerificationCode_updatesUser() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -588,7 +676,7 @@ class UserServiceImplTest {
     @Test
     void reverify_withNoMatchingUser_throwsEntityNotFoundException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.empty());
 
         Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
@@ -602,7 +690,7 @@ class UserServiceImplTest {
     @Test
     void reverify_withDifferentUser_throwsInvalidUserException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -623,7 +711,7 @@ class UserServiceImplTest {
         userDto.setEmailAddress("email@address.com");
         userDto.setUsername("username");
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(userRepository.save(ArgumentMatchers.any()))
@@ -632,9 +720,6 @@ class UserServiceImplTest {
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
                 .thenReturn(true);
 
-        Mockito.when(streamBridge.send(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
-                .thenReturn(true);
-
         Mockito.when(userMapper.fromUser(ArgumentMatchers.any()))
                 .thenReturn(userDto);
 
@@ -642,8 +727,8 @@ class UserServiceImplTest {
         userService.reverify(1L);
 
         // Assert
-        Mockito.verify(streamBridge, Mockito.atMostOnce())
-                .send(ArgumentMatchers.eq("trak-email-verification"), ArgumentMatchers.any(VerificationEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.atMostOnce())
+                .publish(ArgumentMatchers.eq("trak-email-verification"), ArgumentMatchers.any(VerificationEvent.class));
     }
 
     @Test
@@ -656,8 +741,8 @@ class UserServiceImplTest {
         userService.requestRecovery("email");
 
         // Assert
-        Mockito.verify(streamBridge, Mockito.never())
-                .send(ArgumentMatchers.eq("trak-email-recovery"), ArgumentMatchers.any(RecoveryEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.never())
+                .publish(ArgumentMatchers.eq("trak-email-recovery"), ArgumentMatchers.any(RecoveryEvent.class));
     }
 
     @Test
@@ -673,8 +758,8 @@ class UserServiceImplTest {
         userService.requestRecovery("email");
 
         // Assert
-        Mockito.verify(streamBridge, Mockito.atMostOnce())
-                .send(ArgumentMatchers.eq("trak-email-recovery"), ArgumentMatchers.any(RecoveryEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.atMostOnce())
+                .publish(ArgumentMatchers.eq("trak-email-recovery"), ArgumentMatchers.any(RecoveryEvent.class));
     }
 
     @Test
@@ -682,7 +767,7 @@ class UserServiceImplTest {
         // Arrange
         ChangePasswordRequestDto changePasswordRequestDto = new ChangePasswordRequestDto();
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.empty());
 
         // Assert
@@ -695,7 +780,7 @@ class UserServiceImplTest {
         // Arrange
         ChangePasswordRequestDto changePasswordRequestDto = new ChangePasswordRequestDto();
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -715,7 +800,7 @@ class UserServiceImplTest {
         ChangePasswordRequestDto changePasswordRequestDto = new ChangePasswordRequestDto();
         changePasswordRequestDto.setCurrentPassword("Password321");
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -759,7 +844,7 @@ class UserServiceImplTest {
         userDto.setPassword("Password123");
         userDto.setEmailAddress("test@traklibrary.com");
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -771,9 +856,6 @@ class UserServiceImplTest {
         Mockito.when(userRepository.save(ArgumentMatchers.any()))
                 .thenReturn(new User());
 
-        Mockito.when(streamBridge.send(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
-                .thenReturn(true);
-
         Mockito.when(userMapper.fromUser(ArgumentMatchers.any()))
                 .thenReturn(userDto);
 
@@ -794,14 +876,14 @@ class UserServiceImplTest {
         Mockito.verify(userRepository, Mockito.atMostOnce())
                 .save(ArgumentMatchers.any());
 
-        Mockito.verify(streamBridge, Mockito.atMostOnce())
-                .send(ArgumentMatchers.eq("trak-email-password-changed"), ArgumentMatchers.any());
+        Mockito.verify(outboxPublisher, Mockito.atMostOnce())
+                .publish(ArgumentMatchers.eq("trak-email-password-changed"), ArgumentMatchers.any());
     }
 
     @Test
     void changeEmailAddress_withNoMatchingUser_throwsEntityNotFoundException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.empty());
 
         // Assert
@@ -812,7 +894,7 @@ class UserServiceImplTest {
     @Test
     void changeEmailAddress_withDifferentUser_throwsInvalidUserException() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -832,7 +914,7 @@ class UserServiceImplTest {
         UserDto userDto = new UserDto();
         userDto.setEmailAddress("test@traklibrary.com");
 
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -862,7 +944,7 @@ class UserServiceImplTest {
     @Test
     void changeEmailAddress_withNonMatchingEmailAddressAndValidUser_returnsTrueCheckedResponse() {
         // Arrange
-        Mockito.when(userRepository.findById(ArgumentMatchers.anyLong()))
+        Mockito.when(userRepository.findPrincipalById(ArgumentMatchers.anyLong()))
                 .thenReturn(Optional.of(new User()));
 
         Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
@@ -871,9 +953,6 @@ class UserServiceImplTest {
         Mockito.when(userRepository.save(ArgumentMatchers.any()))
                 .thenReturn(new User());
 
-        Mockito.when(streamBridge.send(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
-                .thenReturn(true);
-
         UserDto userDto = Mockito.mock(UserDto.class);
         Mockito.when(userDto.getEmailAddress())
                         .thenReturn("email.address");
@@ -892,8 +971,8 @@ class UserServiceImplTest {
         Assertions.assertThat(result.getErrorMessage())
                 .isEmpty();
 
-        Mockito.verify(streamBridge, Mockito.atMostOnce())
-                .send(ArgumentMatchers.eq("trak-email-verification"), ArgumentMatchers.any(VerificationEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.atMostOnce())
+                .publish(ArgumentMatchers.eq("trak-email-verification"), ArgumentMatchers.any(VerificationEvent.class));
 
         Mockito.verify(userRepository, Mockito.atMostOnce())
                 .save(ArgumentMatchers.any());
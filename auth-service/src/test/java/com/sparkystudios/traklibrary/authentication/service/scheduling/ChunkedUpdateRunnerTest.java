@@ -0,0 +1,118 @@
+package com.sparkystudios.traklibrary.authentication.service.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+class ChunkedUpdateRunnerTest {
+
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void constructor_withNonPositiveChunkSize_throwsIllegalArgumentException() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> new ChunkedUpdateRunner(transactionTemplate, meterRegistry, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_withNonPositiveMaxChunks_throwsIllegalArgumentException() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> new ChunkedUpdateRunner(transactionTemplate, meterRegistry, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void run_withBacklog_passesChunkSizedPageAndDrainsBacklog() {
+        // Arrange
+        ChunkedUpdateRunner runner = new ChunkedUpdateRunner(new TransactionTemplate(transactionManager), meterRegistry, 2, 10);
+        List<Integer> backlog = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+        List<Pageable> pageables = new ArrayList<>();
+
+        // Act
+        long result = runner.run("job", pageable -> {
+            pageables.add(pageable);
+
+            // Remove the rows within the page, as a real update would stop them matching the criteria.
+            List<Integer> page = backlog.subList(0, Math.min(pageable.getPageSize(), backlog.size()));
+            int updated = page.size();
+            page.clear();
+
+            return updated;
+        });
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(5L);
+        Assertions.assertThat(backlog)
+                .isEmpty();
+        Assertions.assertThat(pageables)
+                .hasSize(3)
+                .containsOnly(PageRequest.of(0, 2));
+    }
+
+    @Test
+    void run_withUpdateThatNeverFinishes_stopsAtMaxChunks() {
+        // Arrange
+        ChunkedUpdateRunner runner = new ChunkedUpdateRunner(new TransactionTemplate(transactionManager), meterRegistry, 2, 3);
+
+        // Act
+        long result = runner.run("job", pageable -> 2);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(6L);
+        Mockito.verify(transactionManager, Mockito.times(3))
+                .commit(Mockito.any());
+    }
+
+    @Test
+    void run_withFullChunks_repeatsUntilPartialChunk() {
+        // Arrange
+        ChunkedUpdateRunner runner = new ChunkedUpdateRunner(new TransactionTemplate(transactionManager), meterRegistry, 2, 10);
+        Queue<Integer> results = new ArrayDeque<>(List.of(2, 2, 1));
+
+        // Act
+        long result = runner.run("job", pageable -> results.remove());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(5L);
+        Assertions.assertThat(results)
+                .isEmpty();
+        Mockito.verify(transactionManager, Mockito.times(3))
+                .commit(Mockito.any());
+    }
+
+    @Test
+    void run_withUpdates_recordsRowsAndDuration() {
+        // Arrange
+        ChunkedUpdateRunner runner = new ChunkedUpdateRunner(new TransactionTemplate(transactionManager), meterRegistry, 10, 10);
+
+        // Act
+        runner.run("job", pageable -> 3);
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get("trak.auth.jobs.rows").tag("job", "job").counter().count())
+                .isEqualTo(3.0);
+        Assertions.assertThat(meterRegistry.get("trak.auth.jobs.duration").tag("job", "job").timer().count())
+                .isEqualTo(1L);
+    }
+}
@@ -1,7 +1,9 @@
 package com.sparkystudios.traklibrary.authentication.service.scheduling.jobs;
 
-import com.sparkystudios.traklibrary.authentication.domain.User;
 import com.sparkystudios.traklibrary.authentication.repository.UserRepository;
+import com.sparkystudios.traklibrary.authentication.service.cache.UserPrincipalCache;
+import com.sparkystudios.traklibrary.authentication.service.scheduling.ChunkedUpdateRunner;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
@@ -10,8 +12,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobExecutionContext;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.Collections;
+import java.util.List;
 
 @ExtendWith(MockitoExtension.class)
 class RemoveExpiredRecoveryTokensJobTest {
@@ -19,13 +23,26 @@ class RemoveExpiredRecoveryTokensJobTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private ChunkedUpdateRunner chunkedUpdateRunner;
+
     @InjectMocks
     private RemoveExpiredRecoveryTokensJob removeExpiredRecoveryTokensJob;
 
+    @BeforeEach
+    void beforeEach() {
+        // Run a single chunk of the update, as the runner itself is tested separately.
+        Mockito.when(chunkedUpdateRunner.run(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> (long) invocation.<ChunkedUpdateRunner.ChunkedUpdate>getArgument(1).update(PageRequest.of(0, 10)));
+    }
+
     @Test
     void execute_withNoUsers_doesntMakeChanges() {
         // Arrange
-        Mockito.when(userRepository.findByRecoveryTokenExpiryDateBefore(ArgumentMatchers.any()))
+        Mockito.when(userRepository.findIdsWithExpiredRecoveryToken(ArgumentMatchers.any(), ArgumentMatchers.any()))
                 .thenReturn(Collections.emptyList());
 
         // Act
@@ -33,28 +50,27 @@ class RemoveExpiredRecoveryTokensJobTest {
 
         // Assert
         Mockito.verify(userRepository, Mockito.never())
-                .save(ArgumentMatchers.any());
+                .clearExpiredRecoveryTokens(ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito.verify(userPrincipalCache, Mockito.never())
+                .evictAll();
     }
 
     @Test
-    void execute_withUsers_removesRecoveryTokenAndExpiryDateAndSaves() {
+    void execute_withUsers_bulkUpdatesUsersAndEvictsCache() {
         // Arrange
-        User user = Mockito.spy(User.class);
+        Mockito.when(userRepository.findIdsWithExpiredRecoveryToken(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(List.of(1L, 2L));
 
-        Mockito.when(userRepository.findByRecoveryTokenExpiryDateBefore(ArgumentMatchers.any()))
-                .thenReturn(Collections.singletonList(user));
+        Mockito.when(userRepository.clearExpiredRecoveryTokens(ArgumentMatchers.eq(List.of(1L, 2L)), ArgumentMatchers.any()))
+                .thenReturn(2);
 
         // Act
         removeExpiredRecoveryTokensJob.execute(Mockito.mock(JobExecutionContext.class));
 
         // Assert
-        Mockito.verify(user, Mockito.atMostOnce())
-                .setRecoveryTokenExpiryDate(null);
-
-        Mockito.verify(user, Mockito.atMostOnce())
-                .setRecoveryToken(null);
-
-        Mockito.verify(userRepository, Mockito.atMostOnce())
+        Mockito.verify(userRepository, Mockito.never())
                 .save(ArgumentMatchers.any());
+        Mockito.verify(userPrincipalCache)
+                .evictAll();
     }
 }
@@ -0,0 +1,70 @@
+package com.sparkystudios.traklibrary.authentication.service.scheduling.jobs;
+
+import com.sparkystudios.traklibrary.authentication.repository.RevokedTokenRepository;
+import com.sparkystudios.traklibrary.authentication.service.scheduling.ChunkedUpdateRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class RemoveExpiredRevokedTokensJobTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private ChunkedUpdateRunner chunkedUpdateRunner;
+
+    @InjectMocks
+    private RemoveExpiredRevokedTokensJob removeExpiredRevokedTokensJob;
+
+    @BeforeEach
+    void beforeEach() {
+        // Run a single chunk of the update, as the runner itself is tested separately.
+        Mockito.when(chunkedUpdateRunner.run(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> (long) invocation.<ChunkedUpdateRunner.ChunkedUpdate>getArgument(1).update(PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void execute_withNoExpiredRevocations_doesntDeleteRevocations() {
+        // Arrange
+        Mockito.when(revokedTokenRepository.findExpiredTokenIds(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        removeExpiredRevokedTokensJob.execute(Mockito.mock(JobExecutionContext.class));
+
+        // Assert
+        Mockito.verify(revokedTokenRepository, Mockito.never())
+                .deleteExpired(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void execute_withExpiredRevocations_deletesPageOfRevocations() {
+        // Arrange
+        Mockito.when(revokedTokenRepository.findExpiredTokenIds(ArgumentMatchers.any(), ArgumentMatchers.eq(PageRequest.of(0, 10))))
+                .thenReturn(List.of("token-1", "token-2"));
+
+        Mockito.when(revokedTokenRepository.deleteExpired(ArgumentMatchers.eq(List.of("token-1", "token-2")), ArgumentMatchers.any()))
+                .thenReturn(2);
+
+        // Act
+        removeExpiredRevokedTokensJob.execute(Mockito.mock(JobExecutionContext.class));
+
+        // Assert
+        Mockito.verify(revokedTokenRepository)
+                .deleteExpired(ArgumentMatchers.eq(List.of("token-1", "token-2")), ArgumentMatchers.any());
+        Mockito.verify(revokedTokenRepository, Mockito.never())
+                .findAll();
+    }
+}
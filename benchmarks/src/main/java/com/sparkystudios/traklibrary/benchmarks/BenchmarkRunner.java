@@ -0,0 +1,70 @@
+package com.sparkystudios.traklibrary.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The entry point of the benchmarks jar, which runs the benchmarks selected on the command line in the same way as
+ * JMH's own {@link Main}, but with allocation profiling always enabled and the results always written as JSON. Each
+ * run is written to its own timestamped file, so that runs before and after a change can be compared, for example
+ * with <code>https://jmh.morethan.io</code>.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar [benchmark regex] [JMH options]</code>. The result file
+ * can still be chosen with <code>-rff</code>, and any other JMH option works as normal.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public final class BenchmarkRunner {
+
+    private static final String GC_PROFILER = "gc";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        CommandLineOptions commandLineOptions;
+        try {
+            commandLineOptions = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error parsing command line: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        // Listing and help don't run anything, so leave them to JMH.
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListWithParams()
+                || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        var optionsBuilder = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(ResultFormatType.JSON);
+
+        boolean profilingAllocations = commandLineOptions.getProfilers().stream()
+                .anyMatch(profilerConfig -> GC_PROFILER.equals(profilerConfig.getKlass()) || GCProfiler.class.getName().equals(profilerConfig.getKlass()));
+
+        if (!profilingAllocations) {
+            optionsBuilder.addProfiler(GCProfiler.class);
+        }
+
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.result("jmh-result-" + LocalDateTime.now().format(TIMESTAMP_FORMATTER) + ".json");
+        }
+
+        new Runner(optionsBuilder.build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparkystudios.traklibrary.benchmarks.authentication;
+
+import com.sparkystudios.traklibrary.authentication.service.encoder.BoundedPasswordEncoder;
+import com.sparkystudios.traklibrary.security.exception.AuthenticationServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures login throughput, i.e. the number of password matches per second, with more concurrent logins than there
+ * are processors. The plain {@link BCryptPasswordEncoder} shows the cost of hashing on the request threads, while the
+ * {@link BoundedPasswordEncoder} shows the throughput of the dedicated pool and how many logins are shed once it's
+ * saturated. Running it across the strength parameter gives the cost of each increase in the BCrypt cost factor.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar PasswordHashingBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Password123!";
+
+    @Param({"10", "12"})
+    private int strength;
+
+    @Param({"64"})
+    private int queueCapacity;
+
+    private BCryptPasswordEncoder bcryptPasswordEncoder;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bcryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(bcryptPasswordEncoder, 0, queueCapacity, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        encodedPassword = bcryptPasswordEncoder.encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        boundedPasswordEncoder.destroy();
+    }
+
+    @Benchmark
+    public boolean bcrypt() {
+        return bcryptPasswordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean bounded() {
+        try {
+            return boundedPasswordEncoder.matches(PASSWORD, encodedPassword);
+        } catch (AuthenticationServiceUnavailableException e) {
+            // A rejected login is the expected outcome when saturated, it's counted as a (fast) completed operation.
+            return false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.sparkystudios.traklibrary.benchmarks.email;
+
+import com.sparkystudios.traklibrary.email.service.template.EmailTemplateCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the number of emails rendered per second, from resolving the subject through to a complete
+ * {@link MimeMessage}. The thymeleaf benchmark is how emails were rendered before templates were precompiled, with
+ * the subject resolved and the whole template processed for every email, and a multipart message built around it.
+ * The precompiled benchmark renders the same email through the {@link EmailTemplateCache}.
+ *
+ * The templates and messages are read from the email server's resources, so it must be run from the root of the
+ * repository, with <code>java -jar benchmarks/target/benchmarks.jar EmailRenderingBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private static final String RESOURCES = "email-server/src/main/resources/";
+
+    private static final Map<String, String> SUBJECTS = Map.of(
+            "verification-template", "email.verification.subject",
+            "recovery-template", "email.recovery.subject");
+
+    private static final Map<String, String> VARIABLES = Map.of(
+            "verification-template", "verificationCode",
+            "recovery-template", "recoveryToken");
+
+    @Param({"verification-template", "recovery-template"})
+    private String template;
+
+    private ReloadableResourceBundleMessageSource messageSource;
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateCache emailTemplateCache;
+    private Session session;
+    private Map<String, Object> data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        messageSource = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasenames("file:" + RESOURCES + "i18n/messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.displayName());
+
+        var templateResolver = new FileTemplateResolver();
+        templateResolver.setPrefix(RESOURCES + "templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setTemplateEngineMessageSource(messageSource);
+
+        emailTemplateCache = new EmailTemplateCache(templateEngine, messageSource, new String[] {"en"});
+        emailTemplateCache.register(template, SUBJECTS.get(template), VARIABLES.get(template));
+
+        session = Session.getInstance(new Properties());
+        data = Collections.singletonMap(VARIABLES.get(template), "1a2b3c4d5e");
+    }
+
+    @Benchmark
+    public MimeMessage thymeleaf() throws MessagingException, UnsupportedEncodingException {
+        String subject = messageSource.getMessage(SUBJECTS.get(template), new Object[] {}, Locale.ENGLISH);
+
+        var mimeMessage = new MimeMessage(session);
+        var mimeMessageHelper = new MimeMessageHelper(mimeMessage, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
+
+        String html = templateEngine.process(template, new Context(Locale.ENGLISH, data));
+
+        return populate(mimeMessage, mimeMessageHelper, subject, html);
+    }
+
+    @Benchmark
+    public MimeMessage precompiled() throws MessagingException, UnsupportedEncodingException {
+        String subject = emailTemplateCache.getSubject(template, Locale.ENGLISH);
+
+        var mimeMessage = new MimeMessage(session);
+        var mimeMessageHelper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
+
+        String html = emailTemplateCache.render(template, Locale.ENGLISH, data);
+
+        return populate(mimeMessage, mimeMessageHelper, subject, html);
+    }
+
+    private static MimeMessage populate(MimeMessage mimeMessage, MimeMessageHelper mimeMessageHelper, String subject, String html)
+            throws MessagingException, UnsupportedEncodingException {
+        mimeMessageHelper.setTo("test@traklibrary.com");
+        mimeMessageHelper.setText(html, true);
+        mimeMessageHelper.setSubject(subject);
+        mimeMessageHelper.setFrom(new InternetAddress("no-reply@traklibrary.com", "Trak Library"));
+
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sparkystudios.traklibrary.benchmarks.game;
+
+import com.sparkystudios.traklibrary.game.server.assembler.GameDetailsRepresentationModelAssembler;
+import com.sparkystudios.traklibrary.game.server.assembler.GameRepresentationModelAssembler;
+import com.sparkystudios.traklibrary.game.service.dto.GameDetailsDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameUserEntryDto;
+import com.sparkystudios.traklibrary.game.service.mapper.GameDetailsMapper;
+import com.sparkystudios.traklibrary.game.service.mapper.GameMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the cost of assembling the HAL representations returned by the game endpoints, i.e. wrapping the DTO's in
+ * models and building each of their links, which are built by proxying the controller methods they link to. The page
+ * benchmark assembles a page of game details in the same way as <code>GET /games/details</code>.
+ *
+ * Links are built from the current request, so each benchmark thread is bound to a mock request.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar GameAssemblerBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameAssemblerBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private GameRepresentationModelAssembler gameRepresentationModelAssembler;
+    private GameDetailsRepresentationModelAssembler gameDetailsRepresentationModelAssembler;
+    private PagedResourcesAssembler<GameDetailsDto> pagedResourcesAssembler;
+    private GameDto gameDto;
+    private Page<GameDetailsDto> page;
+    private Link link;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(createRequest()));
+
+        PagedResourcesAssembler<GameUserEntryDto> gameUserEntryDtoPagedResourcesAssembler =
+                new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+
+        gameRepresentationModelAssembler = new GameRepresentationModelAssembler(gameUserEntryDtoPagedResourcesAssembler);
+        gameDetailsRepresentationModelAssembler = new GameDetailsRepresentationModelAssembler(gameUserEntryDtoPagedResourcesAssembler);
+        pagedResourcesAssembler = new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+
+        try (var applicationContext = new AnnotationConfigApplicationContext("com.sparkystudios.traklibrary.game.service.mapper")) {
+            gameDto = applicationContext.getBean(GameMapper.class).fromGame(GameFixtures.createGame(1L, 5));
+
+            GameDetailsMapper gameDetailsMapper = applicationContext.getBean(GameDetailsMapper.class);
+            List<GameDetailsDto> gameDetailsDtos = LongStream.rangeClosed(1, pageSize)
+                    .mapToObj(id -> gameDetailsMapper.fromGame(GameFixtures.createGame(id, 5)))
+                    .collect(Collectors.toList());
+
+            page = new PageImpl<>(gameDetailsDtos, PageRequest.of(1, pageSize), pageSize * 10L);
+        }
+
+        link = Link.of("http://localhost/games/details?page=1&size=" + pageSize).withSelfRel();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public EntityModel<GameDto> game() {
+        return gameRepresentationModelAssembler.toModel(gameDto);
+    }
+
+    @Benchmark
+    public PagedModel<EntityModel<GameDetailsDto>> gameDetailsPage() {
+        return pagedResourcesAssembler.toModel(page, gameDetailsRepresentationModelAssembler, link);
+    }
+
+    static MockHttpServletRequest createRequest() {
+        var request = new MockHttpServletRequest("GET", "/games/details");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        request.setQueryString("page=1&size=20");
+
+        return request;
+    }
+}
@@ -0,0 +1,104 @@
+package com.sparkystudios.traklibrary.benchmarks.game;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparkystudios.traklibrary.game.server.assembler.GameDetailsRepresentationModelAssembler;
+import com.sparkystudios.traklibrary.game.server.configuration.TrakHalJsonMediaTypeConfiguration;
+import com.sparkystudios.traklibrary.game.service.dto.GameDetailsDto;
+import com.sparkystudios.traklibrary.game.service.mapper.GameDetailsMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the cost of serializing a page of game details to the API's HAL media type, which is the response body of
+ * <code>GET /games/details</code>. The page is assembled once up front, so only the serialization is measured, and
+ * the mapper is configured by the game server's own {@link TrakHalJsonMediaTypeConfiguration}.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar GameDetailsSerializationBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameDetailsSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<EntityModel<GameDetailsDto>> pagedModel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var beanFactory = new StaticListableBeanFactory();
+        var trakHalJsonMediaTypeConfiguration = new TrakHalJsonMediaTypeConfiguration(
+                new DelegatingLinkRelationProvider(new AnnotationLinkRelationProvider(), new EvoInflectorLinkRelationProvider()),
+                beanFactory.getBeanProvider(CurieProvider.class),
+                beanFactory.getBeanProvider(HalConfiguration.class),
+                MessageResolver.DEFAULTS_ONLY);
+
+        objectMapper = trakHalJsonMediaTypeConfiguration.configureObjectMapper(new ObjectMapper());
+
+        // The links are built from the current request, but only whilst assembling the page.
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(GameAssemblerBenchmark.createRequest()));
+
+        try (var applicationContext = new AnnotationConfigApplicationContext("com.sparkystudios.traklibrary.game.service.mapper")) {
+            GameDetailsMapper gameDetailsMapper = applicationContext.getBean(GameDetailsMapper.class);
+            List<GameDetailsDto> gameDetailsDtos = LongStream.rangeClosed(1, pageSize)
+                    .mapToObj(id -> gameDetailsMapper.fromGame(GameFixtures.createGame(id, 5)))
+                    .collect(Collectors.toList());
+
+            var pagedResourcesAssembler = new PagedResourcesAssembler<GameDetailsDto>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+            var gameDetailsRepresentationModelAssembler = new GameDetailsRepresentationModelAssembler(
+                    new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null));
+
+            pagedModel = pagedResourcesAssembler.toModel(new PageImpl<>(gameDetailsDtos, PageRequest.of(1, pageSize), pageSize * 10L),
+                    gameDetailsRepresentationModelAssembler,
+                    Link.of("http://localhost/games/details?page=1&size=" + pageSize).withSelfRel());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+}
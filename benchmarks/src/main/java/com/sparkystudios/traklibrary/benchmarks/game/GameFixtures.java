@@ -0,0 +1,142 @@
+package com.sparkystudios.traklibrary.benchmarks.game;
+
+import com.sparkystudios.traklibrary.game.domain.AgeRating;
+import com.sparkystudios.traklibrary.game.domain.AgeRatingClassification;
+import com.sparkystudios.traklibrary.game.domain.Franchise;
+import com.sparkystudios.traklibrary.game.domain.Game;
+import com.sparkystudios.traklibrary.game.domain.GameMode;
+import com.sparkystudios.traklibrary.game.domain.GameRegion;
+import com.sparkystudios.traklibrary.game.domain.GameReleaseDate;
+import com.sparkystudios.traklibrary.game.domain.GameUserEntry;
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryPlatform;
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import com.sparkystudios.traklibrary.game.domain.Genre;
+import com.sparkystudios.traklibrary.game.domain.Platform;
+import com.sparkystudios.traklibrary.game.domain.Publisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+/**
+ * Builds fully populated game entities for the game benchmarks, shaped like the games the API actually serves, i.e.
+ * with every age rating and release date filled in and a handful of platforms, genres and publishers each.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+final class GameFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2021, 1, 1, 12, 0);
+
+    private GameFixtures() {
+    }
+
+    static Game createGame(long id, int associations) {
+        var game = new Game();
+        game.setId(id);
+        game.setTitle("Game " + id);
+        game.setDescription("A description of game " + id + ", roughly the length of the descriptions stored for real games.");
+        game.setSlug("game-" + id);
+        game.setGameModes(EnumSet.of(GameMode.SINGLE_PLAYER, GameMode.MULTI_PLAYER));
+        game.setCreatedAt(CREATED_AT);
+        game.setUpdatedAt(CREATED_AT);
+        game.setVersion(1L);
+
+        for (AgeRatingClassification classification : AgeRatingClassification.values()) {
+            var ageRating = new AgeRating();
+            ageRating.setId(classification.getId());
+            ageRating.setGame(game);
+            ageRating.setClassification(classification);
+            ageRating.setRating((short) 12);
+            ageRating.setCreatedAt(CREATED_AT);
+            game.getAgeRatings().add(ageRating);
+        }
+
+        for (GameRegion region : GameRegion.values()) {
+            var gameReleaseDate = new GameReleaseDate();
+            gameReleaseDate.setId(region.getId());
+            gameReleaseDate.setGame(game);
+            gameReleaseDate.setRegion(region);
+            gameReleaseDate.setReleaseDate(LocalDate.of(2021, 1, 1));
+            gameReleaseDate.setCreatedAt(CREATED_AT);
+            game.getReleaseDates().add(gameReleaseDate);
+        }
+
+        for (long i = 1; i <= associations; i++) {
+            game.getPlatforms().add(createPlatform(i));
+            game.getGenres().add(createGenre(i));
+            game.getPublishers().add(createPublisher(i));
+        }
+
+        var franchise = new Franchise();
+        franchise.setId(1L);
+        franchise.setTitle("Franchise");
+        franchise.setDescription("A franchise.");
+        franchise.setSlug("franchise");
+        franchise.setCreatedAt(CREATED_AT);
+
+        game.setFranchise(franchise);
+        game.setFranchiseId(franchise.getId());
+
+        return game;
+    }
+
+    static GameUserEntry createGameUserEntry(Game game, int platforms) {
+        var gameUserEntry = new GameUserEntry();
+        gameUserEntry.setId(1L);
+        gameUserEntry.setGame(game);
+        gameUserEntry.setGameId(game.getId());
+        gameUserEntry.setUserId(1L);
+        gameUserEntry.setStatus(GameUserEntryStatus.IN_PROGRESS);
+        gameUserEntry.setRating((short) 4);
+        gameUserEntry.setCreatedAt(CREATED_AT);
+
+        for (long i = 1; i <= platforms; i++) {
+            var gameUserEntryPlatform = new GameUserEntryPlatform();
+            gameUserEntryPlatform.setId(i);
+            gameUserEntryPlatform.setGameUserEntry(gameUserEntry);
+            gameUserEntryPlatform.setGameUserEntryId(gameUserEntry.getId());
+            gameUserEntryPlatform.setPlatform(createPlatform(i));
+            gameUserEntryPlatform.setPlatformId(i);
+            gameUserEntryPlatform.setCreatedAt(CREATED_AT);
+            gameUserEntry.getGameUserEntryPlatforms().add(gameUserEntryPlatform);
+        }
+
+        return gameUserEntry;
+    }
+
+    static Platform createPlatform(long id) {
+        var platform = new Platform();
+        platform.setId(id);
+        platform.setName("Platform " + id);
+        platform.setDescription("A platform.");
+        platform.setSlug("platform-" + id);
+        platform.setCreatedAt(CREATED_AT);
+
+        return platform;
+    }
+
+    static Genre createGenre(long id) {
+        var genre = new Genre();
+        genre.setId(id);
+        genre.setName("Genre " + id);
+        genre.setDescription("A genre.");
+        genre.setSlug("genre-" + id);
+        genre.setCreatedAt(CREATED_AT);
+
+        return genre;
+    }
+
+    static Publisher createPublisher(long id) {
+        var publisher = new Publisher();
+        publisher.setId(id);
+        publisher.setName("Publisher " + id);
+        publisher.setDescription("A publisher.");
+        publisher.setSlug("publisher-" + id);
+        publisher.setFoundedDate(LocalDate.of(1990, 1, 1));
+        publisher.setCreatedAt(CREATED_AT);
+
+        return publisher;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparkystudios.traklibrary.benchmarks.game;
+
+import com.sparkystudios.traklibrary.game.domain.Game;
+import com.sparkystudios.traklibrary.game.domain.GameUserEntry;
+import com.sparkystudios.traklibrary.game.service.dto.GameDetailsDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameUserEntryDto;
+import com.sparkystudios.traklibrary.game.service.mapper.GameDetailsMapper;
+import com.sparkystudios.traklibrary.game.service.mapper.GameMapper;
+import com.sparkystudios.traklibrary.game.service.mapper.GameUserEntryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of mapping a single game entity to each of the DTO's returned by the game endpoints, through the
+ * generated MapStruct mappers. The number of platforms, genres and publishers on the game is varied, as the details
+ * and user entry mappings copy each of them and sort them into new sets.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar GameMappingBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameMappingBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int associations;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private GameMapper gameMapper;
+    private GameDetailsMapper gameDetailsMapper;
+    private GameUserEntryMapper gameUserEntryMapper;
+    private Game game;
+    private GameUserEntry gameUserEntry;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The mappers are wired together by Spring, so it's simplest to let it create them.
+        applicationContext = new AnnotationConfigApplicationContext("com.sparkystudios.traklibrary.game.service.mapper");
+
+        gameMapper = applicationContext.getBean(GameMapper.class);
+        gameDetailsMapper = applicationContext.getBean(GameDetailsMapper.class);
+        gameUserEntryMapper = applicationContext.getBean(GameUserEntryMapper.class);
+
+        game = GameFixtures.createGame(1L, associations);
+        gameUserEntry = GameFixtures.createGameUserEntry(game, associations);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public GameDto game() {
+        return gameMapper.fromGame(game);
+    }
+
+    @Benchmark
+    public GameDetailsDto gameDetails() {
+        return gameDetailsMapper.fromGame(game);
+    }
+
+    @Benchmark
+    public GameUserEntryDto gameUserEntry() {
+        return gameUserEntryMapper.fromGameUserEntry(gameUserEntry);
+    }
+}
@@ -0,0 +1,123 @@
+package com.sparkystudios.traklibrary.benchmarks.game;
+
+import com.sparkystudios.traklibrary.game.domain.Game;
+import com.sparkystudios.traklibrary.game.domain.GameMode;
+import com.sparkystudios.traklibrary.game.domain.Genre;
+import com.sparkystudios.traklibrary.game.domain.Platform;
+import com.sparkystudios.traklibrary.game.repository.specification.GameSearchSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the cost of turning a {@link GameSearchSpecification} into a query, with an increasing number of platforms,
+ * genres and game modes to filter by. The predicate benchmark only builds the criteria, whereas the query benchmark
+ * also has Hibernate compile the criteria into a query, which is what happens on every search before it reaches the
+ * database. No query is ever executed, so the in-memory database is only there for Hibernate to start against.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar GameSearchSpecificationBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSearchSpecificationBenchmark {
+
+    @Param({"1", "3"})
+    private int filters;
+
+    private EmbeddedDatabase embeddedDatabase;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+    private GameSearchSpecification gameSearchSpecification;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        embeddedDatabase = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(embeddedDatabase);
+        entityManagerFactoryBean.setPackagesToScan("com.sparkystudios.traklibrary.game.domain");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        entityManager = entityManagerFactoryBean.getObject().createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        Set<Platform> platforms = LongStream.rangeClosed(1, filters)
+                .mapToObj(GameFixtures::createPlatform)
+                .collect(Collectors.toSet());
+
+        Set<Genre> genres = LongStream.rangeClosed(1, filters)
+                .mapToObj(GameFixtures::createGenre)
+                .collect(Collectors.toSet());
+
+        Set<GameMode> gameModes = Arrays.stream(GameMode.values())
+                .limit(filters)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(GameMode.class)));
+
+        gameSearchSpecification = new GameSearchSpecification(platforms, genres, gameModes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactoryBean.destroy();
+        embeddedDatabase.shutdown();
+    }
+
+    @Benchmark
+    public Predicate predicate() {
+        CriteriaQuery<Game> criteriaQuery = criteriaBuilder.createQuery(Game.class);
+        Root<Game> root = criteriaQuery.from(Game.class);
+
+        return gameSearchSpecification.toPredicate(root, criteriaQuery, criteriaBuilder);
+    }
+
+    @Benchmark
+    public TypedQuery<Game> query() {
+        CriteriaQuery<Game> criteriaQuery = criteriaBuilder.createQuery(Game.class);
+        Root<Game> root = criteriaQuery.from(Game.class);
+
+        return entityManager.createQuery(criteriaQuery.where(gameSearchSpecification.toPredicate(root, criteriaQuery, criteriaBuilder)));
+    }
+}
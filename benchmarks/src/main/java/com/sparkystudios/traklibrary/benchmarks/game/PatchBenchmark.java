@@ -0,0 +1,116 @@
+package com.sparkystudios.traklibrary.benchmarks.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
+import com.sparkystudios.traklibrary.game.domain.Game;
+import com.sparkystudios.traklibrary.game.service.PatchService;
+import com.sparkystudios.traklibrary.game.service.dto.GameDto;
+import com.sparkystudios.traklibrary.game.service.impl.PatchServiceImpl;
+import com.sparkystudios.traklibrary.game.service.mapper.GameMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import javax.json.Json;
+import javax.json.JsonMergePatch;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of applying a JSON merge patch to a game through the {@link PatchServiceImpl}, which converts the
+ * game to a JSON tree, applies the patch, converts it back and validates the result. The patch only changes the title
+ * and description, which is typical of the patches sent by the clients, so most of the cost is the round trip of the
+ * fields that aren't changed.
+ *
+ * The full path the services used to take, mapping the game to a DTO, patching it and mapping it back to a new game,
+ * is compared against {@link PatchService#patchEntity(JsonMergePatch, Object, Class)}, which sets the patched fields
+ * directly on the game. The direct patch alternates between two patches, so every invocation changes the game.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar PatchBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatchBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private PatchService patchService;
+    private GameMapper gameMapper;
+    private JsonMergePatch jsonMergePatch;
+    private JsonMergePatch alternateJsonMergePatch;
+    private GameDto gameDto;
+    private Game game;
+    private boolean alternate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Configure the mapper the same way as the one the game server converts JSON with.
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new JSR353Module())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        patchService = new PatchServiceImpl(objectMapper, validatorFactory.getValidator());
+
+        jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("title", "Patched title")
+                .add("description", "A patched description.")
+                .build());
+
+        alternateJsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("title", "Alternate patched title")
+                .add("description", "An alternate patched description.")
+                .build());
+
+        // The mappers have no state, so can outlive the context they were created by.
+        try (var applicationContext = new AnnotationConfigApplicationContext("com.sparkystudios.traklibrary.game.service.mapper")) {
+            gameMapper = applicationContext.getBean(GameMapper.class);
+        }
+
+        game = GameFixtures.createGame(1L, 5);
+        gameDto = gameMapper.fromGame(game);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public GameDto patch() {
+        return patchService.patch(jsonMergePatch, gameDto, GameDto.class);
+    }
+
+    @Benchmark
+    public Game patchThroughMapping() {
+        return gameMapper.toGame(patchService.patch(jsonMergePatch, gameMapper.fromGame(game), GameDto.class));
+    }
+
+    @Benchmark
+    public Optional<Set<String>> patchEntity() {
+        alternate = !alternate;
+        return patchService.patchEntity(alternate ? alternateJsonMergePatch : jsonMergePatch, game, GameDto.class);
+    }
+}
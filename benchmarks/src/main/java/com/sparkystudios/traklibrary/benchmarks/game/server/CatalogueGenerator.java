@@ -0,0 +1,191 @@
+package com.sparkystudios.traklibrary.benchmarks.game.server;
+
+import com.sparkystudios.traklibrary.game.domain.GameMode;
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The {@link CatalogueGenerator} seeds the game database with a synthetic catalogue of the given size, straight
+ * through JDBC batch inserts, which is orders of magnitude quicker than saving the same number of entities through
+ * the services. The catalogue is generated from a seed, so the same options always generate the same catalogue.
+ *
+ * Each game is given a few genres, platforms and game modes, and each user a number of entries for different games,
+ * so that every search the {@link GameServerLoadTest} makes has results to page through.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@RequiredArgsConstructor
+class CatalogueGenerator {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final Timestamp CREATED_AT = Timestamp.valueOf(LocalDateTime.of(2021, 1, 1, 12, 0));
+    private static final Date RELEASE_DATE = Date.valueOf(LocalDate.of(2021, 1, 1));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestOptions options;
+
+    void generate() {
+        long start = System.nanoTime();
+
+        insert("genre", "INSERT INTO genre (id, name, description, slug, created_at, op_lock_version) VALUES (?, ?, ?, ?, ?, 0)",
+                options.getGenres(), (preparedStatement, id, random) -> {
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setString(2, "Genre " + id);
+                    preparedStatement.setString(3, "The description of genre " + id + ".");
+                    preparedStatement.setString(4, "genre-" + id);
+                    preparedStatement.setTimestamp(5, CREATED_AT);
+                });
+
+        insert("platform", "INSERT INTO platform (id, name, description, slug, created_at, op_lock_version) VALUES (?, ?, ?, ?, ?, 0)",
+                options.getPlatforms(), (preparedStatement, id, random) -> {
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setString(2, "Platform " + id);
+                    preparedStatement.setString(3, "The description of platform " + id + ".");
+                    preparedStatement.setString(4, "platform-" + id);
+                    preparedStatement.setTimestamp(5, CREATED_AT);
+                });
+
+        insert("game", "INSERT INTO game (id, title, description, slug, created_at, op_lock_version) VALUES (?, ?, ?, ?, ?, 0)",
+                options.getGames(), (preparedStatement, id, random) -> {
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setString(2, "Game " + id);
+                    preparedStatement.setString(3, "The description of game " + id + ", which is about as long as most real descriptions are.");
+                    preparedStatement.setString(4, "game-" + id);
+                    preparedStatement.setTimestamp(5, CREATED_AT);
+                });
+
+        // Each game is associated with a run of consecutive genres and platforms, from a random starting point, so
+        // that the associations are spread evenly but never duplicated.
+        insertAssociations("game_genre_xref", "INSERT INTO game_genre_xref (game_id, genre_id) VALUES (?, ?)", options.getGenres(), 3);
+        insertAssociations("game_platform_xref", "INSERT INTO game_platform_xref (game_id, platform_id) VALUES (?, ?)", options.getPlatforms(), 4);
+
+        GameMode[] gameModes = GameMode.values();
+        insert("game_mode", "INSERT INTO game_mode (game_id, mode) VALUES (?, ?)",
+                options.getGames(), (preparedStatement, id, random) -> {
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setString(2, gameModes[random.nextInt(gameModes.length)].name());
+                });
+
+        insert("dlc", "INSERT INTO dlc (id, name, description, release_date, game_id, slug, created_at, op_lock_version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+                options.getDownloadableContents(), (preparedStatement, id, random) -> {
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setString(2, "DLC " + id);
+                    preparedStatement.setString(3, "The description of DLC " + id + ".");
+                    preparedStatement.setDate(4, RELEASE_DATE);
+                    preparedStatement.setLong(5, randomId(random, options.getGames()));
+                    preparedStatement.setString(6, "dlc-" + id);
+                    preparedStatement.setTimestamp(7, CREATED_AT);
+                });
+
+        // Entries are dealt out to the users in turn, and each user's entries are for consecutive games from a
+        // starting point of their own, so no user ever has two entries for the same game.
+        GameUserEntryStatus[] statuses = GameUserEntryStatus.values();
+        insert("game_user_entry", "INSERT INTO game_user_entry (id, game_id, user_id, status, rating, created_at, op_lock_version) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                options.getEntries(), (preparedStatement, id, random) -> {
+                    long userId = ((id - 1) % options.getUsers()) + 1;
+                    long entry = (id - 1) / options.getUsers();
+
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setLong(2, ((userId * 7919L + entry) % options.getGames()) + 1);
+                    preparedStatement.setLong(3, userId);
+                    preparedStatement.setShort(4, statuses[random.nextInt(statuses.length)].getId());
+                    preparedStatement.setShort(5, (short) random.nextInt(6));
+                    preparedStatement.setTimestamp(6, CREATED_AT);
+                });
+
+        insert("game_user_entry_platform", "INSERT INTO game_user_entry_platform (game_user_entry_id, platform_id, created_at, op_lock_version) VALUES (?, ?, ?, 0)",
+                options.getEntries(), (preparedStatement, id, random) -> {
+                    preparedStatement.setLong(1, id);
+                    preparedStatement.setLong(2, randomId(random, options.getPlatforms()));
+                    preparedStatement.setTimestamp(3, CREATED_AT);
+                });
+
+        // The rows were given their ID's explicitly, so move the identities past them for any rows the API inserts.
+        restartIdentity("genre", options.getGenres());
+        restartIdentity("platform", options.getPlatforms());
+        restartIdentity("game", options.getGames());
+        restartIdentity("dlc", options.getDownloadableContents());
+        restartIdentity("game_user_entry", options.getEntries());
+
+        log.info("Generated the catalogue in {} second(s).", (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private void insertAssociations(String table, String sql, long associated, int maximum) {
+        var random = new SplittableRandom(options.getSeed() ^ table.hashCode());
+        List<Object[]> batchArgs = new ArrayList<>(BATCH_SIZE + maximum);
+        long rows = 0;
+
+        for (long gameId = 1; gameId <= options.getGames(); gameId++) {
+            long start = random.nextLong(associated);
+            long count = 1 + random.nextInt((int) Math.min(maximum, associated));
+
+            for (long i = 0; i < count; i++) {
+                batchArgs.add(new Object[] {gameId, ((start + i) % associated) + 1});
+            }
+
+            if (batchArgs.size() >= BATCH_SIZE || gameId == options.getGames()) {
+                jdbcTemplate.batchUpdate(sql, batchArgs);
+                rows += batchArgs.size();
+                batchArgs.clear();
+            }
+        }
+
+        log.info("Inserted {} row(s) into {}.", rows, table);
+    }
+
+    private void insert(String table, String sql, long rows, RowWriter rowWriter) {
+        // Each table has its own random, so changing the size of one table doesn't change the contents of another.
+        var random = new SplittableRandom(options.getSeed() ^ table.hashCode());
+
+        for (long offset = 0; offset < rows; offset += BATCH_SIZE) {
+            long first = offset + 1;
+            int size = (int) Math.min(BATCH_SIZE, rows - offset);
+
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                    rowWriter.write(preparedStatement, first + i, random);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+
+        log.info("Inserted {} row(s) into {}.", rows, table);
+    }
+
+    private void restartIdentity(String table, long rows) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (rows + 1));
+    }
+
+    private static long randomId(SplittableRandom random, long count) {
+        return random.nextLong(count) + 1;
+    }
+
+    /**
+     * Writes the values of a single generated row to the batch insert's {@link PreparedStatement}.
+     */
+    @FunctionalInterface
+    interface RowWriter {
+
+        void write(PreparedStatement preparedStatement, long id, SplittableRandom random) throws SQLException;
+    }
+}
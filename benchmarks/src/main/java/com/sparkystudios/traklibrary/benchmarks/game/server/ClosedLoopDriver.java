@@ -0,0 +1,232 @@
+package com.sparkystudios.traklibrary.benchmarks.game.server;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link ClosedLoopDriver} drives an endpoint of the server with a fixed number of clients, each of which only
+ * sends its next request once the response to its previous one has been read. The load therefore adapts to the speed
+ * of the server, rather than queueing up behind it as an open loop would, so the latencies it records are those of
+ * the server itself.
+ *
+ * Each client has its own {@link HttpClient} and connection, so no client ever waits for a connection held by another.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+class ClosedLoopDriver {
+
+    private static final String HAL_MEDIA_TYPE = "application/vnd.sparkystudios.traklibrary-hal+json;version=1.0";
+
+    private final URI baseUri;
+    private final String accessToken;
+    private final int clients;
+    private final ExecutorService executorService;
+
+    /**
+     * Creates a new {@link ClosedLoopDriver}.
+     *
+     * @param baseUri The {@link URI} of the server, which the endpoint paths are resolved against.
+     * @param accessToken The access token to authenticate every request with.
+     * @param clients The number of concurrent clients.
+     */
+    ClosedLoopDriver(URI baseUri, String accessToken, int clients) {
+        if (clients < 1) {
+            throw new IllegalArgumentException("Load test clients must be positive.");
+        }
+
+        this.baseUri = baseUri;
+        this.accessToken = accessToken;
+        this.clients = clients;
+
+        var threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(clients, runnable -> {
+            var thread = new Thread(runnable, "load-test-client-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Drives the endpoint with every client for the given duration.
+     *
+     * @param endpoint The {@link Endpoint} to drive.
+     * @param duration How long to drive the endpoint for.
+     * @param statementCounter Counts the SQL statements prepared by the server so far.
+     *
+     * @return The {@link EndpointResult} of the run.
+     */
+    EndpointResult run(Endpoint endpoint, Duration duration, LongSupplier statementCounter) throws InterruptedException {
+        var ready = new CountDownLatch(clients);
+        var start = new CountDownLatch(1);
+
+        List<Future<Client>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executorService.submit(new Client(endpoint, duration, ready, start)));
+        }
+
+        // Only start the clock once every client has connected, so the run isn't skewed by connection set up.
+        ready.await();
+        long statements = statementCounter.getAsLong();
+        long startTime = System.nanoTime();
+        start.countDown();
+
+        List<Client> completed = new ArrayList<>(clients);
+        for (Future<Client> future : futures) {
+            try {
+                completed.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load test client failed unexpectedly.", e.getCause());
+            }
+        }
+
+        var elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        statements = statementCounter.getAsLong() - statements;
+
+        // Merge the latencies of every client into a single array.
+        long[] latencies = new long[completed.stream().mapToInt(Client::getCount).sum()];
+        int offset = 0;
+        long errors = 0;
+        for (Client client : completed) {
+            System.arraycopy(client.getLatencies(), 0, latencies, offset, client.getCount());
+            offset += client.getCount();
+            errors += client.getErrors();
+        }
+
+        return new EndpointResult(endpoint.getName(), latencies, errors, elapsed, statements);
+    }
+
+    void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private HttpRequest createRequest(Endpoint endpoint, Random random) {
+        var builder = HttpRequest.newBuilder(baseUri.resolve(endpoint.getPath().apply(random)))
+                .header(HttpHeaders.ACCEPT, HAL_MEDIA_TYPE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+        if (endpoint.getBody() == null) {
+            return builder.GET().build();
+        }
+
+        return builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .PUT(HttpRequest.BodyPublishers.ofString(endpoint.getBody().apply(random)))
+                .build();
+    }
+
+    /**
+     * A single client of a run, which records the latency of each of its requests into its own array, so that no
+     * synchronization is needed between the clients while the run is in progress.
+     */
+    @Getter
+    private class Client implements Callable<Client> {
+
+        private final Endpoint endpoint;
+        private final Duration duration;
+        private final CountDownLatch ready;
+        private final CountDownLatch start;
+        private final HttpClient httpClient;
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private Client(Endpoint endpoint, Duration duration, CountDownLatch ready, CountDownLatch start) {
+            this.endpoint = endpoint;
+            this.duration = duration;
+            this.ready = ready;
+            this.start = start;
+            this.httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+        }
+
+        @Override
+        public Client call() throws InterruptedException {
+            Random random = ThreadLocalRandom.current();
+
+            // Make a single request before the run starts, to open the connection.
+            send(createRequest(endpoint, random));
+            ready.countDown();
+            start.await();
+
+            long deadline = System.nanoTime() + duration.toNanos();
+            while (System.nanoTime() < deadline) {
+                HttpRequest httpRequest = createRequest(endpoint, random);
+
+                long requestStart = System.nanoTime();
+                boolean successful = send(httpRequest);
+                long latency = System.nanoTime() - requestStart;
+
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, latencies.length * 2);
+                }
+
+                latencies[count++] = latency;
+                if (!successful) {
+                    errors++;
+                }
+            }
+
+            return this;
+        }
+
+        private boolean send(HttpRequest httpRequest) throws InterruptedException {
+            try {
+                int status = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                return status >= 200 && status < 300;
+            } catch (IOException e) {
+                log.debug("Load test request to {} failed.", httpRequest.uri(), e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * An endpoint to drive, which creates the path, and optionally the JSON body, of each request from a random, so
+     * that the requests are spread across the whole catalogue rather than served from a single cached row.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Endpoint {
+
+        private final String name;
+        private final Function<Random, String> path;
+        private final Function<Random, String> body;
+
+        static Endpoint get(String name, Function<Random, String> path) {
+            return new Endpoint(name, path, null);
+        }
+
+        static Endpoint put(String name, Function<Random, String> path, Function<Random, String> body) {
+            return new Endpoint(name, path, body);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.sparkystudios.traklibrary.benchmarks.game.server;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * The result of driving a single endpoint for a fixed duration, which holds every latency that was recorded, so that
+ * the percentiles are exact rather than estimated from buckets.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Getter
+class EndpointResult {
+
+    private final String name;
+    private final long[] latencies;
+    private final long errors;
+    private final Duration elapsed;
+    private final long statements;
+
+    /**
+     * Creates a new {@link EndpointResult}.
+     *
+     * @param name The name of the endpoint.
+     * @param latencies The latency of every request, in nanoseconds, which are sorted in place.
+     * @param errors The number of requests that failed or didn't respond with a 2xx status.
+     * @param elapsed How long the endpoint was driven for.
+     * @param statements The number of SQL statements the server prepared while it was driven.
+     */
+    EndpointResult(String name, long[] latencies, long errors, Duration elapsed, long statements) {
+        Arrays.sort(latencies);
+
+        this.name = name;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.statements = statements;
+    }
+
+    long getRequests() {
+        return latencies.length;
+    }
+
+    double getThroughput() {
+        return latencies.length / (elapsed.toNanos() / 1_000_000_000D);
+    }
+
+    double getStatementsPerRequest() {
+        return latencies.length == 0 ? 0D : (double) statements / latencies.length;
+    }
+
+    /**
+     * Gets the latency at the given percentile, using the nearest rank.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     *
+     * @return The latency at the percentile in milliseconds, or zero if no requests were made.
+     */
+    double getLatency(double percentile) {
+        if (latencies.length == 0) {
+            return 0D;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100D * latencies.length);
+        return latencies[Math.max(rank, 1) - 1] / 1_000_000D;
+    }
+}
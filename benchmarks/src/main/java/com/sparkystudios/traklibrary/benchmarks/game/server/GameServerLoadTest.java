@@ -0,0 +1,198 @@
+package com.sparkystudios.traklibrary.benchmarks.game.server;
+
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import com.sparkystudios.traklibrary.game.server.GameServerApplication;
+import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
+import com.sparkystudios.traklibrary.security.token.data.UserData;
+import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * An end-to-end load test of the game server, which boots the whole {@link GameServerApplication} against an
+ * in-memory H2 database, seeds it with a synthetic catalogue through the {@link CatalogueGenerator} and then drives
+ * each of its main endpoints in turn with a {@link ClosedLoopDriver}. Unlike the JMH benchmarks, which measure a single
+ * component in isolation, this measures everything a request goes through, from the security filters to the
+ * database, so it's what shows the effect of a change to the queries, the fetch plans or the connection pool.
+ *
+ * Each endpoint is reported with its throughput, its p50, p99 and p999 latencies and the number of SQL statements the
+ * server prepared per request, which is counted through the Hibernate statistics, so a change that introduces an N+1
+ * select shows up even when the in-memory database hides its cost.
+ *
+ * Run with <code>java -Xmx4g -cp benchmarks/target/benchmarks.jar
+ * com.sparkystudios.traklibrary.benchmarks.game.server.GameServerLoadTest [options]</code>. The size of the
+ * catalogue, the number of clients and the duration of each run are all options, see {@link LoadTestOptions}, and any
+ * other Spring property can be given the same way, e.g. <code>--spring.datasource.hikari.maximum-pool-size=8</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+public final class GameServerLoadTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    private GameServerLoadTest() {
+    }
+
+    public static void main(String... args) throws GeneralSecurityException, IOException, InterruptedException {
+        ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(GameServerApplication.class)
+                .properties(createDefaultProperties())
+                .run(args);
+
+        try {
+            var options = new LoadTestOptions(applicationContext.getEnvironment());
+            new CatalogueGenerator(applicationContext.getBean(JdbcTemplate.class), options).generate();
+
+            Statistics statistics = applicationContext.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+
+            var baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) applicationContext).getWebServer().getPort() + "/");
+            var driver = new ClosedLoopDriver(baseUri, createAccessToken(applicationContext.getBean(SecurityTokenService.class)), options.getClients());
+
+            List<EndpointResult> endpointResults = new ArrayList<>();
+            try {
+                for (ClosedLoopDriver.Endpoint endpoint : createEndpoints(options)) {
+                    log.info("Warming up {} for {}.", endpoint.getName(), options.getWarmup());
+                    driver.run(endpoint, options.getWarmup(), statistics::getPrepareStatementCount);
+
+                    log.info("Measuring {} for {}.", endpoint.getName(), options.getDuration());
+                    endpointResults.add(driver.run(endpoint, options.getDuration(), statistics::getPrepareStatementCount));
+                }
+            } finally {
+                driver.shutdown();
+            }
+
+            print(options, endpointResults);
+        } finally {
+            applicationContext.close();
+        }
+    }
+
+    private static Map<String, Object> createDefaultProperties() throws GeneralSecurityException, IOException {
+        var keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:trak-game-load-test;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "password");
+        properties.put("spring.datasource.hikari.maximum-pool-size", "${trak.load-test.clients:32}");
+        properties.put("spring.liquibase.change-log", "classpath:db/changelog/db.changelog-master.xml");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "validate");
+        properties.put("spring.jpa.properties.hibernate.generate_statistics", "true");
+        properties.put("spring.cloud.config.enabled", "false");
+        properties.put("spring.cloud.config.discovery.enabled", "false");
+        properties.put("spring.cloud.discovery.enabled", "false");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("server.port", "0");
+        properties.put("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener", "WARN");
+        properties.put("trak.security.jwt.expiry-time", "86400000");
+        properties.put("trak.security.jwt.two-factor-auth-expiry-time", "300000");
+        properties.put("trak.security.jwt.refresh-expiry-time", "86400000");
+        properties.put("trak.security.jwt.private-key", toPem(keyPair.getPrivate()));
+        properties.put("trak.security.jwt.public-key", toPem(keyPair.getPublic()));
+
+        return properties;
+    }
+
+    private static String createAccessToken(SecurityTokenService securityTokenService) {
+        List<String> scopes = List.of("games/game.read", "games/game.write");
+
+        var userData = new UserData();
+        userData.setUserId(1L);
+        userData.setUsername("load-test");
+        userData.setVerified(true);
+        userData.setAuthorities(List.of(new SimpleGrantedAuthority("games/game.read"), new SimpleGrantedAuthority("games/game.write")));
+
+        // A moderator with the game write authority can call every endpoint that's driven, including the writes.
+        return securityTokenService.createAccessToken(userData, UserSecurityRole.ROLE_MODERATOR, scopes).getToken();
+    }
+
+    private static List<ClosedLoopDriver.Endpoint> createEndpoints(LoadTestOptions options) {
+        long pages = Math.max(1L, Math.min(options.getGames() / PAGE_SIZE, 500L));
+        GameUserEntryStatus[] statuses = GameUserEntryStatus.values();
+
+        return List.of(
+                ClosedLoopDriver.Endpoint.get("GET /{id}",
+                        random -> "/" + randomId(random, options.getGames())),
+                ClosedLoopDriver.Endpoint.get("GET /{id}/details",
+                        random -> "/" + randomId(random, options.getGames()) + "/details"),
+                ClosedLoopDriver.Endpoint.get("GET /details",
+                        random -> "/details?page=" + random.nextInt((int) pages) + "&size=" + PAGE_SIZE),
+                ClosedLoopDriver.Endpoint.get("GET /search",
+                        random -> "/search?platform-ids=" + randomId(random, options.getPlatforms())
+                                + "&genre-ids=" + randomId(random, options.getGenres())
+                                + "&size=" + PAGE_SIZE),
+                ClosedLoopDriver.Endpoint.get("GET /entries/search",
+                        random -> "/entries/search?platform-ids=" + randomId(random, options.getPlatforms())
+                                + "&statuses=" + statuses[random.nextInt(statuses.length)].name()
+                                + "&size=" + PAGE_SIZE),
+                ClosedLoopDriver.Endpoint.put("PUT /{id}/platforms",
+                        random -> "/" + randomId(random, options.getGames()) + "/platforms",
+                        random -> "[" + randomId(random, options.getPlatforms()) + "," + randomId(random, options.getPlatforms()) + "]"),
+                ClosedLoopDriver.Endpoint.put("PUT /{id}/genres",
+                        random -> "/" + randomId(random, options.getGames()) + "/genres",
+                        random -> "[" + randomId(random, options.getGenres()) + "," + randomId(random, options.getGenres()) + "]"));
+    }
+
+    private static void print(LoadTestOptions options, List<EndpointResult> endpointResults) {
+        System.out.printf("%nGame server load test: %,d games, %,d genres, %,d platforms, %,d DLC, %,d entries, %d clients, %s per endpoint%n%n",
+                options.getGames(), options.getGenres(), options.getPlatforms(), options.getDownloadableContents(),
+                options.getEntries(), options.getClients(), options.getDuration());
+        System.out.printf("%-22s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p999 ms", "Max ms", "SQL/req");
+
+        for (EndpointResult endpointResult : endpointResults) {
+            System.out.printf("%-22s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpointResult.getName(),
+                    endpointResult.getRequests(),
+                    endpointResult.getErrors(),
+                    endpointResult.getThroughput(),
+                    endpointResult.getLatency(50D),
+                    endpointResult.getLatency(99D),
+                    endpointResult.getLatency(99.9D),
+                    endpointResult.getLatency(100D),
+                    endpointResult.getStatementsPerRequest());
+        }
+    }
+
+    private static long randomId(Random random, long count) {
+        return (long) (random.nextDouble() * count) + 1;
+    }
+
+    private static String toPem(Key key) throws IOException {
+        var stringWriter = new StringWriter();
+        try (var pemWriter = new JcaPEMWriter(stringWriter)) {
+            pemWriter.writeObject(key);
+        }
+
+        return stringWriter.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparkystudios.traklibrary.benchmarks.game.server;
+
+import lombok.Getter;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * The options of a single {@link GameServerLoadTest} run, which are read from the environment of the booted server,
+ * so any of them can be given on the command line, e.g. <code>--trak.load-test.games=10000</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Getter
+class LoadTestOptions {
+
+    private static final String PREFIX = "trak.load-test.";
+
+    private final long games;
+    private final long genres;
+    private final long platforms;
+    private final long downloadableContents;
+    private final long users;
+    private final long entries;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long seed;
+
+    LoadTestOptions(Environment environment) {
+        this.games = environment.getProperty(PREFIX + "games", Long.class, 100_000L);
+        this.genres = environment.getProperty(PREFIX + "genres", Long.class, 50L);
+        this.platforms = environment.getProperty(PREFIX + "platforms", Long.class, 40L);
+        this.downloadableContents = environment.getProperty(PREFIX + "dlc", Long.class, 50_000L);
+        this.users = environment.getProperty(PREFIX + "users", Long.class, 50_000L);
+        this.entries = environment.getProperty(PREFIX + "entries", Long.class, 1_000_000L);
+        this.clients = environment.getProperty(PREFIX + "clients", Integer.class, 32);
+        this.warmup = environment.getProperty(PREFIX + "warmup", Duration.class, Duration.ofSeconds(10));
+        this.duration = environment.getProperty(PREFIX + "duration", Duration.class, Duration.ofSeconds(30));
+        this.seed = environment.getProperty(PREFIX + "seed", Long.class, 42L);
+
+        if (games < 1 || genres < 1 || platforms < 1 || users < 1 || clients < 1) {
+            throw new IllegalArgumentException("Load test games, genres, platforms, users and clients must be positive.");
+        }
+
+        // Each user can only have a single entry for any given game.
+        if ((entries + users - 1) / users > games) {
+            throw new IllegalArgumentException("Load test entries can't exceed the number of games for each user.");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.sparkystudios.traklibrary.benchmarks.security;
+
+import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
+import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
+import com.sparkystudios.traklibrary.security.token.data.UserData;
+import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import com.sparkystudios.traklibrary.security.token.impl.KeyServicePemImpl;
+import com.sparkystudios.traklibrary.security.token.impl.SecurityTokenServiceJwtImpl;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of issuing and verifying access tokens through the {@link SecurityTokenServiceJwtImpl}
+ * itself, rather than through the JWT library directly as the {@link TokenSigningBenchmark} does, so that the cost
+ * of building the claims, resolving the verification key from the "kid" header and adapting the claims is included.
+ * The service is configured from PEM encoded keys, exactly as it is by the servers.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar SecurityTokenServiceBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityTokenServiceBenchmark {
+
+    private static final List<String> SCOPES = List.of("user:read", "user:write");
+
+    @Param({"RSA-2048", "EC-P256"})
+    private String key;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private SecurityTokenService securityTokenService;
+    private UserData userData;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneralSecurityException, IOException {
+        KeyPair keyPair = createKeyPair(key);
+
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "trak.security.jwt.expiry-time", "900000",
+                "trak.security.jwt.two-factor-auth-expiry-time", "300000",
+                "trak.security.jwt.refresh-expiry-time", "86400000",
+                "trak.security.jwt.private-key", toPem(keyPair.getPrivate()),
+                "trak.security.jwt.public-key", toPem(keyPair.getPublic()),
+                "trak.security.jwt.key-id", key)));
+        applicationContext.register(KeyServicePemImpl.class, SecurityTokenServiceJwtImpl.class);
+        applicationContext.refresh();
+
+        securityTokenService = applicationContext.getBean(SecurityTokenService.class);
+
+        userData = new UserData();
+        userData.setUserId(1L);
+        userData.setUsername("username");
+        userData.setVerified(true);
+        userData.setAuthorities(List.of(new SimpleGrantedAuthority("user:read"), new SimpleGrantedAuthority("user:write")));
+
+        token = sign().getToken();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public SecurityToken sign() {
+        return securityTokenService.createAccessToken(userData, UserSecurityRole.ROLE_USER, SCOPES);
+    }
+
+    @Benchmark
+    public SecurityToken verify() {
+        return securityTokenService.getToken(token);
+    }
+
+    private static KeyPair createKeyPair(String key) throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator;
+        switch (key) {
+            case "RSA-2048":
+                keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+                keyPairGenerator.initialize(2048);
+                break;
+            case "EC-P256":
+                keyPairGenerator = KeyPairGenerator.getInstance("EC");
+                keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key: " + key);
+        }
+
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    private static String toPem(Key key) throws IOException {
+        var stringWriter = new StringWriter();
+        try (var pemWriter = new JcaPEMWriter(stringWriter)) {
+            pemWriter.writeObject(key);
+        }
+
+        return stringWriter.toString();
+    }
+}
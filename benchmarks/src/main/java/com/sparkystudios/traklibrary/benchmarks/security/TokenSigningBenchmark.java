@@ -0,0 +1,118 @@
+package com.sparkystudios.traklibrary.benchmarks.security;
+
+import com.sparkystudios.traklibrary.security.token.impl.KeyServicePemImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of signing and verifying access tokens across the key types supported by the security
+ * token service. The claims match those of a real access token, so that the cost of serialising them is included.
+ *
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar TokenSigningBenchmark</code>.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenSigningBenchmark {
+
+    @Param({"RSA-2048", "RSA-4096", "EC-P256", "EC-P384"})
+    private String key;
+
+    private KeyPair keyPair;
+    private SignatureAlgorithm signatureAlgorithm;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneralSecurityException {
+        keyPair = createKeyPair(key);
+        signatureAlgorithm = new KeyServicePemImpl().getSignatureAlgorithm(keyPair.getPrivate());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(keyPair.getPublic())
+                .build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        long now = System.currentTimeMillis();
+
+        return Jwts.builder()
+                .setHeaderParam("kid", key)
+                .setId(UUID.randomUUID().toString())
+                .setIssuer("Trak Library")
+                .setSubject("username")
+                .claim("role", "ROLE_USER")
+                .claim("scope", List.of("user:read", "user:write"))
+                .claim("userId", 1L)
+                .claim("verified", true)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 900_000L))
+                .setAudience("https://api.traklibrary.com")
+                .signWith(keyPair.getPrivate(), signatureAlgorithm)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private static KeyPair createKeyPair(String key) throws GeneralSecurityException {
+        switch (key) {
+            case "RSA-2048":
+                return createRsaKeyPair(2048);
+            case "RSA-4096":
+                return createRsaKeyPair(4096);
+            case "EC-P256":
+                return createEcKeyPair("secp256r1");
+            case "EC-P384":
+                return createEcKeyPair("secp384r1");
+            default:
+                throw new IllegalArgumentException("Unknown key: " + key);
+        }
+    }
+
+    private static KeyPair createRsaKeyPair(int size) throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(size);
+
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    private static KeyPair createEcKeyPair(String curve) throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec(curve));
+
+        return keyPairGenerator.generateKeyPair();
+    }
+}
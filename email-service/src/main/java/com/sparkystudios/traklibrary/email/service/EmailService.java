@@ -6,6 +6,8 @@ import com.sparkystudios.traklibrary.email.service.dto.EmailVerificationRequestD
 import com.sparkystudios.traklibrary.email.service.exception.EmailFailedException;
 import com.sparkystudios.traklibrary.email.service.impl.EmailServiceThymeleafImpl;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The {@link EmailService} is an interface that is used to define all of the methods that
  * have to be implemented to ensure a contract between the Trak Library API and the underlying
@@ -23,38 +25,47 @@ public interface EmailService {
     /**
      * Given an email address and verification code, this method will dispatch a verification email
      * to the specified address using the email provider defined within the {@link EmailService}
-     * implementation. If any errors occur when dispatching an email, an {@link EmailFailedException}
-     * will be thrown and the information will be returned to the API callee.
+     * implementation. If the email can't be queued, an {@link EmailFailedException} will be thrown,
+     * otherwise the returned future completes once the email has been sent, or completes exceptionally
+     * with an {@link EmailFailedException} if it couldn't be.
      *
      * It should be noted, that no validation needs to occur with any {@link EmailService}
      * implementation, validation of the fields should occur at the controller level.
      *
      * @param emailVerificationRequestDto The email and verification code to dispatch.
+     *
+     * @return A {@link CompletableFuture} that completes once the email has been sent.
      */
-    void sendVerificationEmail(EmailVerificationRequestDto emailVerificationRequestDto);
+    CompletableFuture<Void> sendVerificationEmail(EmailVerificationRequestDto emailVerificationRequestDto);
 
     /**
      * Given an email address and a password, this method will dispatch an account recovery email
      * to the specified address using the email provider defined within the {@link EmailService}
-     * implementation. If any errors occur when dispatching an email, an {@link EmailFailedException}
-     * will be thrown and the information will be returned to the API callee.
+     * implementation. If the email can't be queued, an {@link EmailFailedException} will be thrown,
+     * otherwise the returned future completes once the email has been sent, or completes exceptionally
+     * with an {@link EmailFailedException} if it couldn't be.
      *
      * It should be noted, that no validation needs to occur with any {@link EmailService}
      * implementation, validation of the fields should occur at the controller level.
      *
      * @param emailRecoveryRequestDto The email and recovery code to dispatch.
+     *
+     * @return A {@link CompletableFuture} that completes once the email has been sent.
      */
-    void sendRecoveryEmail(EmailRecoveryRequestDto emailRecoveryRequestDto);
+    CompletableFuture<Void> sendRecoveryEmail(EmailRecoveryRequestDto emailRecoveryRequestDto);
 
     /**
      * Given an email address, this method will dispatch an email to the given email address informing
      * the user that their password has been updated successfully. It will also include information if
      * they have not requested an email change to reset their password and account.
      *
-     * If any errors occur when dispatching an email, an {@link EmailFailedException} will be thrown
-     * and the information will be returned to the API callee.
+     * If the email can't be queued, an {@link EmailFailedException} will be thrown, otherwise the
+     * returned future completes once the email has been sent, or completes exceptionally with an
+     * {@link EmailFailedException} if it couldn't be.
      *
      * @param emailPasswordChangedRequestDto The email address to dispatch the email to.
+     *
+     * @return A {@link CompletableFuture} that completes once the email has been sent.
      */
-    void sendPasswordChangedEmail(EmailPasswordChangedRequestDto emailPasswordChangedRequestDto);
+    CompletableFuture<Void> sendPasswordChangedEmail(EmailPasswordChangedRequestDto emailPasswordChangedRequestDto);
 }
\ No newline at end of file
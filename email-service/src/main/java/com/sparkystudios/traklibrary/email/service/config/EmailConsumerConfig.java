@@ -0,0 +1,24 @@
+package com.sparkystudios.traklibrary.email.service.config;
+
+import com.sparkystudios.traklibrary.stream.consumer.BatchEventProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EmailConsumerConfig {
+
+    @Bean
+    public BatchEventProcessor batchEventProcessor(StreamBridge streamBridge,
+                                                   MeterRegistry meterRegistry,
+                                                   AmqpAdmin amqpAdmin,
+                                                   BindingServiceProperties bindingServiceProperties,
+                                                   @Value("${trak.email.consumer.max-attempts:3}") int maxAttempts) {
+        return new BatchEventProcessor("trak.email.consumer", streamBridge, meterRegistry, amqpAdmin,
+                bindingServiceProperties, maxAttempts);
+    }
+}
@@ -7,11 +7,15 @@ import com.sparkystudios.traklibrary.email.service.dto.EmailVerificationRequestD
 import com.sparkystudios.traklibrary.email.service.event.PasswordChangedEvent;
 import com.sparkystudios.traklibrary.email.service.event.RecoveryEvent;
 import com.sparkystudios.traklibrary.email.service.event.VerificationEvent;
+import com.sparkystudios.traklibrary.stream.consumer.BatchEventProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 @Slf4j
@@ -19,67 +23,84 @@ import java.util.function.Consumer;
 @Component
 public class EmailConsumer {
 
+    private static final String VERIFICATION_BINDING = "sendVerificationEmails-in-0";
+    private static final String RECOVERY_BINDING = "sendRecoveryEmails-in-0";
+    private static final String PASSWORD_CHANGED_BINDING = "sendPasswordChangedEmails-in-0";
+
     private final EmailService emailService;
+    private final BatchEventProcessor batchEventProcessor;
 
     /**
-     * {@link Consumer} registered with Spring Cloud Stream that responds to any published
-     * "trak-email-verification" events. Its' purpose is to merely convert from the
-     * {@link VerificationEvent} sent from the publisher, to a {@link EmailVerificationRequestDto}
-     * so it can be send via the email provider in the {@link EmailService}.
+     * {@link Consumer} registered with Spring Cloud Stream that receives the published "trak-email-verification"
+     * events in batches, as configured on the "sendVerificationEmails-in-0" binding. Each {@link VerificationEvent} is
+     * converted to a {@link EmailVerificationRequestDto} so it can be sent via the email provider in the
+     * {@link EmailService}. Each event is processed individually by the {@link BatchEventProcessor}, so that one
+     * failing event doesn't cause the whole batch to be redelivered. Every email in the batch is queued before any are
+     * waited on, so they can be sent together, and each event is only complete once its email has been sent, so a
+     * failed send is retried or dead-lettered like any other failure.
      *
-     * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream events.
      */
     @Bean
-    public Consumer<VerificationEvent> sendVerificationEmail() {
-        return verificationEvent -> {
-            log.info("Running verification event for: " + verificationEvent.getUsername());
-
-            var emailVerificationRequestDto = new EmailVerificationRequestDto();
-            emailVerificationRequestDto.setEmailAddress(verificationEvent.getEmailAddress());
-            emailVerificationRequestDto.setVerificationCode(verificationEvent.getVerificationCode());
-
-            emailService.sendVerificationEmail(emailVerificationRequestDto);
-        };
+    public Consumer<Message<List<VerificationEvent>>> sendVerificationEmails() {
+        batchEventProcessor.registerLag(VERIFICATION_BINDING);
+        return verificationEvents -> batchEventProcessor.processAsync(VERIFICATION_BINDING, verificationEvents, this::handleVerificationEvent);
     }
 
     /**
-     * {@link Consumer} registered with Spring Cloud Stream that responds to any published
-     * "trak-email-recovery" events. Its' purpose is to merely convert from the
-     * {@link RecoveryEvent} sent from the publisher, to a {@link EmailRecoveryRequestDto}
-     * so it can be send via the email provider in the {@link EmailService}.
+     * {@link Consumer} registered with Spring Cloud Stream that receives the published "trak-email-recovery" events in
+     * batches, as configured on the "sendRecoveryEmails-in-0" binding. Each {@link RecoveryEvent} is converted to a
+     * {@link EmailRecoveryRequestDto} and processed individually by the {@link BatchEventProcessor}, in the same way as
+     * {@link #sendVerificationEmails()}.
      *
-     * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream events.
      */
     @Bean
-    public Consumer<RecoveryEvent> sendRecoveryEmail() {
-        return recoveryEvent -> {
-            log.info("Running recovery event for: " + recoveryEvent.getUsername());
-
-            var emailRecoveryRequestDto = new EmailRecoveryRequestDto();
-            emailRecoveryRequestDto.setEmailAddress(recoveryEvent.getEmailAddress());
-            emailRecoveryRequestDto.setRecoveryToken(recoveryEvent.getRecoveryToken());
-
-            emailService.sendRecoveryEmail(emailRecoveryRequestDto);
-        };
+    public Consumer<Message<List<RecoveryEvent>>> sendRecoveryEmails() {
+        batchEventProcessor.registerLag(RECOVERY_BINDING);
+        return recoveryEvents -> batchEventProcessor.processAsync(RECOVERY_BINDING, recoveryEvents, this::handleRecoveryEvent);
     }
 
     /**
-     * {@link Consumer} registered with Spring Cloud Stream that responds to any published
-     * "trak-email-password-changed" events. Its' purpose is to merely convert from the
-     * {@link PasswordChangedEvent} sent from the publisher, to a {@link EmailRecoveryRequestDto}
-     * so it can be send via the email provider in the {@link EmailService}.
+     * {@link Consumer} registered with Spring Cloud Stream that receives the published "trak-email-password-changed"
+     * events in batches, as configured on the "sendPasswordChangedEmails-in-0" binding. Each
+     * {@link PasswordChangedEvent} is converted to a {@link EmailPasswordChangedRequestDto} and processed individually
+     * by the {@link BatchEventProcessor}, in the same way as {@link #sendVerificationEmails()}.
      *
-     * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream events.
      */
     @Bean
-    public Consumer<PasswordChangedEvent> sendPasswordChangedEmail() {
-        return passwordChangedEvent -> {
-            log.info("Running password changed event for: " + passwordChangedEvent.getUsername());
+    public Consumer<Message<List<PasswordChangedEvent>>> sendPasswordChangedEmails() {
+        batchEventProcessor.registerLag(PASSWORD_CHANGED_BINDING);
+        return passwordChangedEvents -> batchEventProcessor.processAsync(PASSWORD_CHANGED_BINDING, passwordChangedEvents, this::handlePasswordChangedEvent);
+    }
+
+    private CompletableFuture<Void> handleVerificationEvent(VerificationEvent verificationEvent) {
+        log.info("Running verification event for: " + verificationEvent.getUsername());
+
+        var emailVerificationRequestDto = new EmailVerificationRequestDto();
+        emailVerificationRequestDto.setEmailAddress(verificationEvent.getEmailAddress());
+        emailVerificationRequestDto.setVerificationCode(verificationEvent.getVerificationCode());
+
+        return emailService.sendVerificationEmail(emailVerificationRequestDto);
+    }
+
+    private CompletableFuture<Void> handleRecoveryEvent(RecoveryEvent recoveryEvent) {
+        log.info("Running recovery event for: " + recoveryEvent.getUsername());
+
+        var emailRecoveryRequestDto = new EmailRecoveryRequestDto();
+        emailRecoveryRequestDto.setEmailAddress(recoveryEvent.getEmailAddress());
+        emailRecoveryRequestDto.setRecoveryToken(recoveryEvent.getRecoveryToken());
+
+        return emailService.sendRecoveryEmail(emailRecoveryRequestDto);
+    }
+
+    private CompletableFuture<Void> handlePasswordChangedEvent(PasswordChangedEvent passwordChangedEvent) {
+        log.info("Running password changed event for: " + passwordChangedEvent.getUsername());
 
-            var emailRecoveryRequestDto = new EmailPasswordChangedRequestDto();
-            emailRecoveryRequestDto.setEmailAddress(passwordChangedEvent.getEmailAddress());
+        var emailRecoveryRequestDto = new EmailPasswordChangedRequestDto();
+        emailRecoveryRequestDto.setEmailAddress(passwordChangedEvent.getEmailAddress());
 
-            emailService.sendPasswordChangedEmail(emailRecoveryRequestDto);
-        };
+        return emailService.sendPasswordChangedEmail(emailRecoveryRequestDto);
     }
 }
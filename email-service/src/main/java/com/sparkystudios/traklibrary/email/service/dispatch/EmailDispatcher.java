@@ -0,0 +1,323 @@
+package com.sparkystudios.traklibrary.email.service.dispatch;
+
+import com.amazonaws.AmazonServiceException;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sparkystudios.traklibrary.email.service.exception.EmailFailedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link EmailDispatcher} decouples rendering an email from sending it. Emails are submitted to a bounded queue
+ * and sent in batches by a single dispatch thread, which is throttled to the send rate allowed by the email provider,
+ * i.e. the AWS SES sending quota. This ensures a burst of registrations neither queues unboundedly nor exceeds the
+ * quota and gets rejected by the provider.
+ *
+ * When the queue is full, submitting an email waits briefly and then fails with an {@link EmailFailedException}, so
+ * that the back-pressure is pushed back to the message broker, which will redeliver the event later. Emails that are
+ * rejected by the provider because of throttling are retried with an exponential backoff. Each submission returns a
+ * {@link CompletableFuture} that completes once the email has been sent, or completes exceptionally if it couldn't be,
+ * so that the caller can hold off acknowledging the event until the outcome is known.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class EmailDispatcher implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "trak.email.dispatch";
+    private static final String THROTTLING_ERROR_CODE = "Throttling";
+    private static final String THROTTLING_MESSAGE = "Maximum sending rate exceeded";
+    private static final long POLL_INTERVAL_MILLIS = 500L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final JavaMailSender javaMailSender;
+    private final BlockingQueue<Dispatch> queue;
+    private final RateLimiter rateLimiter;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    private final ExecutorService dispatchExecutor;
+    private final ScheduledExecutorService retryExecutor;
+    private final Set<Dispatch> pendingRetries = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    /**
+     * Creates a new {@link EmailDispatcher} and starts its dispatch thread.
+     *
+     * @param javaMailSender The {@link JavaMailSender} used to send the emails.
+     * @param meterRegistry The {@link MeterRegistry} to record the dispatch metrics to.
+     * @param queueCapacity The maximum number of emails that can be waiting to be sent.
+     * @param sendRate The maximum number of emails to send per second.
+     * @param batchSize The maximum number of emails to send in a single request to the provider.
+     * @param offerTimeout The longest to wait for space in the queue before failing a submission.
+     * @param maxAttempts The maximum number of attempts to send an email that is being throttled.
+     * @param initialBackoff The delay before retrying a throttled email for the first time, which doubles each attempt.
+     */
+    public EmailDispatcher(JavaMailSender javaMailSender,
+                           MeterRegistry meterRegistry,
+                           @Value("${trak.email.dispatch.queue-capacity:1000}") int queueCapacity,
+                           @Value("${trak.email.dispatch.send-rate:14}") double sendRate,
+                           @Value("${trak.email.dispatch.batch-size:10}") int batchSize,
+                           @Value("${trak.email.dispatch.offer-timeout:PT5S}") Duration offerTimeout,
+                           @Value("${trak.email.dispatch.max-attempts:5}") int maxAttempts,
+                           @Value("${trak.email.dispatch.initial-backoff:PT1S}") Duration initialBackoff) {
+        if (queueCapacity < 1 || sendRate <= 0 || batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Email dispatch queue capacity, send rate, batch size and max attempts must be positive.");
+        }
+
+        this.javaMailSender = javaMailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.rateLimiter = RateLimiter.create(sendRate);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+
+        Gauge.builder(METRIC_PREFIX + ".queue", queue, BlockingQueue::size)
+                .description("The number of emails waiting to be sent.")
+                .register(meterRegistry);
+
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send.time")
+                .description("The time taken to send a batch of emails to the provider.")
+                .register(meterRegistry);
+
+        this.sentCounter = createCounter(meterRegistry, "sent", "The number of emails sent successfully.");
+        this.retriedCounter = createCounter(meterRegistry, "retried", "The number of emails retried after being throttled.");
+        this.failedCounter = createCounter(meterRegistry, "failed", "The number of emails that could not be sent.");
+        this.rejectedCounter = createCounter(meterRegistry, "rejected", "The number of emails rejected because the queue was full.");
+
+        this.dispatchExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("email-dispatch-%d").setDaemon(true).build());
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("email-dispatch-retry-%d").setDaemon(true).build());
+
+        dispatchExecutor.execute(this::dispatch);
+    }
+
+    /**
+     * Submits the given email to be sent. The email will be sent asynchronously, once it reaches the front of the
+     * queue and the send rate allows it.
+     *
+     * @param mimeMessage The {@link MimeMessage} to send.
+     *
+     * @return A {@link CompletableFuture} that completes once the email has been sent, or completes exceptionally with
+     * an {@link EmailFailedException} if the email couldn't be sent.
+     *
+     * @throws EmailFailedException Thrown if the queue remains full for longer than the offer timeout.
+     */
+    public CompletableFuture<Void> submit(MimeMessage mimeMessage) {
+        var dispatch = new Dispatch(mimeMessage, 1, new CompletableFuture<>());
+        boolean queued;
+
+        try {
+            queued = queue.offer(dispatch, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailFailedException("Interrupted whilst waiting to queue email.", e);
+        }
+
+        if (!queued) {
+            rejectedCounter.increment();
+            throw new EmailFailedException("The email dispatch queue is full, please try again later.");
+        }
+
+        return dispatch.getFuture();
+    }
+
+    /**
+     * Sends any retries that are still waiting on their backoff straight away, rather than dropping them, and gives
+     * the dispatch thread a short time to drain the queue. Anything that still hasn't been sent is failed, and as the
+     * caller only acknowledges an event once its email has been sent, the event will be redelivered by the broker.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        // Requeue the waiting retries before stopping, so the dispatch thread can't finish before they're queued. The
+        // tasks returned by shutdownNow() can't be used for this, as a stopped executor cancels them instead of running.
+        retryExecutor.shutdownNow();
+        pendingRetries.forEach(this::requeueRetry);
+        running = false;
+        dispatchExecutor.shutdown();
+
+        if (!dispatchExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            dispatchExecutor.shutdownNow();
+        }
+
+        List<Dispatch> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+
+        if (!remaining.isEmpty()) {
+            log.warn("Email dispatcher shut down with {} email(s) still queued.", remaining.size());
+            remaining.forEach(dispatch -> dispatch.getFuture()
+                    .completeExceptionally(new EmailFailedException("The email dispatcher shut down before the email was sent.")));
+        }
+    }
+
+    private void dispatch() {
+        List<Dispatch> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Dispatch first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // Take whatever else is waiting, up to the batch size, so they can be sent in a single request.
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                rateLimiter.acquire(batch.size());
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Never let an unexpected failure kill the dispatch thread.
+                log.error("Unexpected failure whilst dispatching emails.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Dispatch> batch) {
+        MimeMessage[] mimeMessages = batch.stream()
+                .map(Dispatch::getMimeMessage)
+                .toArray(MimeMessage[]::new);
+
+        try {
+            sendTimer.record(() -> javaMailSender.send(mimeMessages));
+            sentCounter.increment(batch.size());
+            batch.forEach(dispatch -> dispatch.getFuture().complete(null));
+        } catch (MailSendException e) {
+            // Only some of the batch may have failed, if the failures aren't known assume they all did.
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+
+            for (Dispatch dispatch : batch) {
+                Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(dispatch.getMimeMessage());
+
+                if (failure == null) {
+                    sentCounter.increment();
+                    dispatch.getFuture().complete(null);
+                } else {
+                    handleFailure(dispatch, failure);
+                }
+            }
+        } catch (MailException e) {
+            batch.forEach(dispatch -> handleFailure(dispatch, e));
+        }
+    }
+
+    private void handleFailure(Dispatch dispatch, Exception failure) {
+        if (!isThrottled(failure) || dispatch.getAttempt() >= maxAttempts) {
+            fail(dispatch, new EmailFailedException(String.format("Failed to send email after %d attempt(s).", dispatch.getAttempt()), failure));
+            return;
+        }
+
+        long backoff = initialBackoff.toMillis() << Math.min(dispatch.getAttempt() - 1, MAX_BACKOFF_SHIFT);
+        var retry = new Dispatch(dispatch.getMimeMessage(), dispatch.getAttempt() + 1, dispatch.getFuture());
+
+        pendingRetries.add(retry);
+
+        try {
+            retryExecutor.schedule(() -> requeueRetry(retry), backoff, TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+        } catch (RejectedExecutionException e) {
+            // The dispatcher is shutting down, so retry straight away while the queue is still being drained.
+            requeueRetry(retry);
+        }
+    }
+
+    private void requeueRetry(Dispatch retry) {
+        // Either the retry executor or the shutdown can requeue a retry, whichever removes it first.
+        if (pendingRetries.remove(retry)) {
+            requeue(retry);
+        }
+    }
+
+    private void requeue(Dispatch dispatch) {
+        if (!queue.offer(dispatch)) {
+            rejectedCounter.increment();
+            fail(dispatch, new EmailFailedException("Failed to retry throttled email, the dispatch queue is full."));
+        }
+    }
+
+    private void fail(Dispatch dispatch, EmailFailedException failure) {
+        failedCounter.increment();
+        log.warn(failure.getMessage(), failure.getCause());
+
+        // The caller decides whether the event should be retried or dead-lettered.
+        dispatch.getFuture().completeExceptionally(failure);
+    }
+
+    private static boolean isThrottled(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AmazonServiceException) {
+                var amazonServiceException = (AmazonServiceException) cause;
+
+                if (THROTTLING_ERROR_CODE.equals(amazonServiceException.getErrorCode()) || amazonServiceException.getStatusCode() == 429) {
+                    return true;
+                }
+            }
+
+            if (cause.getMessage() != null && cause.getMessage().contains(THROTTLING_MESSAGE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Counter createCounter(MeterRegistry meterRegistry, String name, String description) {
+        return Counter.builder(METRIC_PREFIX + "." + name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Dispatch {
+
+        private final MimeMessage mimeMessage;
+        private final int attempt;
+        private final CompletableFuture<Void> future;
+    }
+}
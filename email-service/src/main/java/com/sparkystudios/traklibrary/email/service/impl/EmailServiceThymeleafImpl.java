@@ -1,104 +1,112 @@
 package com.sparkystudios.traklibrary.email.service.impl;
 
 import com.sparkystudios.traklibrary.email.service.EmailService;
+import com.sparkystudios.traklibrary.email.service.dispatch.EmailDispatcher;
 import com.sparkystudios.traklibrary.email.service.dto.EmailDto;
 import com.sparkystudios.traklibrary.email.service.dto.EmailPasswordChangedRequestDto;
 import com.sparkystudios.traklibrary.email.service.dto.EmailRecoveryRequestDto;
 import com.sparkystudios.traklibrary.email.service.dto.EmailVerificationRequestDto;
 import com.sparkystudios.traklibrary.email.service.exception.EmailFailedException;
+import com.sparkystudios.traklibrary.email.service.template.EmailTemplateCache;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.ITemplateEngine;
-import org.thymeleaf.context.Context;
 
+import javax.annotation.PostConstruct;
 import javax.mail.MessagingException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @Service
 public class EmailServiceThymeleafImpl implements EmailService {
 
-    private static final String VERIFICATION_SUBJECT = "email.verification.subject";
-    private static final String RECOVERY_SUBJECT = "email.recovery.subject";
-    private static final String PASSWORD_CHANGED_SUBJECT = "email.password-changed.subject";
+    private static final String VERIFICATION_TEMPLATE = "verification-template";
+    private static final String RECOVERY_TEMPLATE = "recovery-template";
+    private static final String PASSWORD_CHANGED_TEMPLATE = "password-changed-template";
 
     @Setter
     @Value("${trak.aws.ses.from-address}")
     private String fromAddress;
 
     private final JavaMailSender javaMailSender;
-    private final ITemplateEngine templateEngine;
-    private final MessageSource messageSource;
+    private final EmailTemplateCache emailTemplateCache;
+    private final EmailDispatcher emailDispatcher;
+
+    @PostConstruct
+    public void postConstruct() {
+        // Compile the templates and resolve their subjects up front, so it isn't done for every email sent.
+        emailTemplateCache.register(VERIFICATION_TEMPLATE, "email.verification.subject", "verificationCode");
+        emailTemplateCache.register(RECOVERY_TEMPLATE, "email.recovery.subject", "recoveryToken");
+        emailTemplateCache.register(PASSWORD_CHANGED_TEMPLATE, "email.password-changed.subject");
+    }
 
-    @Async
     @Override
-    public void sendVerificationEmail(EmailVerificationRequestDto emailVerificationRequestDto) {
-        // Create the Email template and all the data it needs before sending.
+    public CompletableFuture<Void> sendVerificationEmail(EmailVerificationRequestDto emailVerificationRequestDto) {
+        // Create the Email template and all the data it needs before queueing it to be sent.
+        var locale = LocaleContextHolder.getLocale();
         var emailDto = new EmailDto();
         emailDto.setFrom(fromAddress);
         emailDto.setTo(emailVerificationRequestDto.getEmailAddress());
-        emailDto.setSubject(messageSource.getMessage(VERIFICATION_SUBJECT, new Object[] {}, LocaleContextHolder.getLocale()));
+        emailDto.setSubject(emailTemplateCache.getSubject(VERIFICATION_TEMPLATE, locale));
         emailDto.setData(Collections.singletonMap("verificationCode", emailVerificationRequestDto.getVerificationCode()));
 
         try {
-            javaMailSender.send(getMimeMessage(emailDto, "verification-template"));
+            return emailDispatcher.submit(getMimeMessage(emailDto, VERIFICATION_TEMPLATE, locale));
         } catch (Exception e) {
             throw new EmailFailedException("Failed to send verification email.", e);
         }
     }
 
-    @Async
     @Override
-    public void sendRecoveryEmail(EmailRecoveryRequestDto emailRecoveryRequestDto) {
-        // Create the Email template and all the data it needs before sending.
+    public CompletableFuture<Void> sendRecoveryEmail(EmailRecoveryRequestDto emailRecoveryRequestDto) {
+        // Create the Email template and all the data it needs before queueing it to be sent.
+        var locale = LocaleContextHolder.getLocale();
         var emailDto = new EmailDto();
         emailDto.setFrom(fromAddress);
         emailDto.setTo(emailRecoveryRequestDto.getEmailAddress());
-        emailDto.setSubject(messageSource.getMessage(RECOVERY_SUBJECT, new Object[] {}, LocaleContextHolder.getLocale()));
+        emailDto.setSubject(emailTemplateCache.getSubject(RECOVERY_TEMPLATE, locale));
         emailDto.setData(Collections.singletonMap("recoveryToken", emailRecoveryRequestDto.getRecoveryToken()));
 
         try {
-            javaMailSender.send(getMimeMessage(emailDto, "recovery-template"));
+            return emailDispatcher.submit(getMimeMessage(emailDto, RECOVERY_TEMPLATE, locale));
         } catch (Exception e) {
             throw new EmailFailedException("Failed to send recovery email.", e);
         }
     }
 
-    @Async
     @Override
-    public void sendPasswordChangedEmail(EmailPasswordChangedRequestDto emailPasswordChangedRequestDto) {
-        // Create the Email template and all the data it needs before sending.
+    public CompletableFuture<Void> sendPasswordChangedEmail(EmailPasswordChangedRequestDto emailPasswordChangedRequestDto) {
+        // Create the Email template and all the data it needs before queueing it to be sent.
+        var locale = LocaleContextHolder.getLocale();
         var emailDto = new EmailDto();
         emailDto.setFrom(fromAddress);
         emailDto.setTo(emailPasswordChangedRequestDto.getEmailAddress());
-        emailDto.setSubject(messageSource.getMessage(PASSWORD_CHANGED_SUBJECT, new Object[] {}, LocaleContextHolder.getLocale()));
+        emailDto.setSubject(emailTemplateCache.getSubject(PASSWORD_CHANGED_TEMPLATE, locale));
 
         try {
-            javaMailSender.send(getMimeMessage(emailDto, "password-changed-template"));
+            return emailDispatcher.submit(getMimeMessage(emailDto, PASSWORD_CHANGED_TEMPLATE, locale));
         } catch (Exception e) {
             throw new EmailFailedException("Failed to send password changed email.", e);
         }
     }
 
-    private MimeMessage getMimeMessage(EmailDto emailDto, String template) throws MessagingException, UnsupportedEncodingException {
+    private MimeMessage getMimeMessage(EmailDto emailDto, String template, Locale locale) throws MessagingException, UnsupportedEncodingException {
         var mimeMessage = javaMailSender.createMimeMessage();
-        var mimeMessageHelper = new MimeMessageHelper(mimeMessage, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
 
-        var context = new Context();
-        context.setVariables(emailDto.getData());
+        // The emails are a single HTML part with no attachments or inline resources, so don't need a multipart body.
+        var mimeMessageHelper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
 
-        String html = templateEngine.process(template, context);
+        String html = emailTemplateCache.render(template, locale, emailDto.getData());
 
         mimeMessageHelper.setTo(emailDto.getTo());
         mimeMessageHelper.setText(html, true);
@@ -0,0 +1,105 @@
+package com.sparkystudios.traklibrary.email.service.template;
+
+import org.unbescape.html.HtmlEscape;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link EmailTemplate} is a template that has already been rendered by Thymeleaf for a single locale, with the
+ * output split into the static fragments either side of each variable. Rendering it only has to join the fragments
+ * back together with the escaped variable values, rather than process the whole template again.
+ *
+ * Templates whose output can't be split this way aren't precompiled, in which case only the subject is cached and
+ * the template still needs to be processed by Thymeleaf each time.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public final class EmailTemplate {
+
+    private final String subject;
+    private final List<String> fragments;
+    private final List<String> variables;
+    private final int length;
+
+    /**
+     * Creates a new precompiled {@link EmailTemplate}. There must be exactly one more fragment than there are
+     * variables, as the fragments are interleaved with the variables, starting and ending with a fragment.
+     *
+     * @param subject The resolved subject of the email.
+     * @param fragments The static fragments of the rendered template.
+     * @param variables The names of the variables, in the order they appear between the fragments.
+     */
+    EmailTemplate(String subject, List<String> fragments, List<String> variables) {
+        if (fragments.size() != variables.size() + 1) {
+            throw new IllegalArgumentException("An email template must have exactly one more fragment than variables.");
+        }
+
+        this.subject = subject;
+        this.fragments = List.copyOf(fragments);
+        this.variables = List.copyOf(variables);
+        this.length = fragments.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Creates a new {@link EmailTemplate} that couldn't be precompiled, so only caches its subject.
+     *
+     * @param subject The resolved subject of the email.
+     */
+    EmailTemplate(String subject) {
+        this.subject = subject;
+        this.fragments = null;
+        this.variables = null;
+        this.length = 0;
+    }
+
+    /**
+     * Retrieves the subject of the email, which was resolved when the template was compiled.
+     *
+     * @return The subject of the email.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Determines whether the template was precompiled, and so can be rendered without the template engine.
+     *
+     * @return <code>true</code> if the template was precompiled, <code>false</code> otherwise.
+     */
+    public boolean isPrecompiled() {
+        return fragments != null;
+    }
+
+    /**
+     * Renders the template with the given data. Values are escaped in the same way as Thymeleaf escapes
+     * <code>th:text</code>, so the output matches what the template engine would have produced.
+     *
+     * @param data The values of the template's variables, keyed by variable name.
+     *
+     * @return The rendered HTML.
+     *
+     * @throws IllegalStateException Thrown if the template wasn't precompiled.
+     */
+    public String render(Map<String, Object> data) {
+        if (!isPrecompiled()) {
+            throw new IllegalStateException("The email template wasn't precompiled, so must be processed by the template engine.");
+        }
+
+        // Over-allocate slightly for the variables, so the builder doesn't usually need to grow.
+        var html = new StringBuilder(length + variables.size() * 32);
+        html.append(fragments.get(0));
+
+        for (int i = 0; i < variables.size(); i++) {
+            Object value = data.get(variables.get(i));
+            if (value != null) {
+                html.append(HtmlEscape.escapeHtml4Xml(value.toString()));
+            }
+
+            html.append(fragments.get(i + 1));
+        }
+
+        return html.toString();
+    }
+}
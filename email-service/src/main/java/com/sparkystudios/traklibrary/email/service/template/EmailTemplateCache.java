@@ -0,0 +1,199 @@
+package com.sparkystudios.traklibrary.email.service.template;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link EmailTemplateCache} precompiles email templates into {@link EmailTemplate}'s, so that sending an email
+ * doesn't have to process the whole Thymeleaf template or resolve its subject through the {@link MessageSource} each
+ * time. Templates are compiled for each of the configured locales when they're registered, and lazily for any other
+ * locale the first time it's used.
+ *
+ * A template is compiled by rendering it with a unique marker in place of each variable, and splitting the output
+ * around the markers. It's rendered twice with different markers, and if the static fragments differ between the two,
+ * i.e. the structure of the template depends on the value of a variable, it's left to be processed by Thymeleaf each
+ * time instead. Variables should therefore only be output with <code>th:text</code>, and be strings, as a precompiled
+ * template can't apply any other formatting to them.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class EmailTemplateCache {
+
+    private static final String MARKER_PREFIX = "trak-email-variable-";
+
+    private final ITemplateEngine templateEngine;
+    private final MessageSource messageSource;
+    private final List<Locale> locales;
+
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+    private final Map<String, EmailTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new, empty {@link EmailTemplateCache}.
+     *
+     * @param templateEngine The {@link ITemplateEngine} used to compile and, if needed, process the templates.
+     * @param messageSource The {@link MessageSource} used to resolve the subjects of the emails.
+     * @param locales The language tags of the locales to compile each template for as soon as it's registered.
+     */
+    public EmailTemplateCache(ITemplateEngine templateEngine,
+                              MessageSource messageSource,
+                              @Value("${trak.email.templates.locales:en}") String[] locales) {
+        this.templateEngine = templateEngine;
+        this.messageSource = messageSource;
+        this.locales = Arrays.stream(locales)
+                .map(String::trim)
+                .map(Locale::forLanguageTag)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Registers a template with the cache and compiles it for each of the configured locales.
+     *
+     * @param template The name of the Thymeleaf template.
+     * @param subjectKey The message key of the email's subject.
+     * @param variables The names of the variables the template uses.
+     */
+    public void register(String template, String subjectKey, String... variables) {
+        registrations.put(template, new Registration(subjectKey, List.of(variables)));
+        locales.forEach(locale -> templates.remove(getKey(template, locale)));
+        locales.forEach(locale -> getTemplate(template, locale));
+    }
+
+    /**
+     * Retrieves the resolved subject of the given template.
+     *
+     * @param template The name of the registered template.
+     * @param locale The {@link Locale} to resolve the subject for.
+     *
+     * @return The subject of the email.
+     */
+    public String getSubject(String template, Locale locale) {
+        return getTemplate(template, locale).getSubject();
+    }
+
+    /**
+     * Renders the given template with the given data, using the precompiled template if there is one.
+     *
+     * @param template The name of the registered template.
+     * @param locale The {@link Locale} to render the template for.
+     * @param data The values of the template's variables, keyed by variable name.
+     *
+     * @return The rendered HTML.
+     */
+    public String render(String template, Locale locale, Map<String, Object> data) {
+        EmailTemplate emailTemplate = getTemplate(template, locale);
+
+        if (emailTemplate.isPrecompiled()) {
+            return emailTemplate.render(data);
+        }
+
+        return templateEngine.process(template, new Context(locale, data));
+    }
+
+    private EmailTemplate getTemplate(String template, Locale locale) {
+        return templates.computeIfAbsent(getKey(template, locale), key -> compile(template, locale));
+    }
+
+    private EmailTemplate compile(String template, Locale locale) {
+        Registration registration = registrations.get(template);
+        if (registration == null) {
+            throw new IllegalArgumentException("The email template " + template + " hasn't been registered.");
+        }
+
+        String subject = messageSource.getMessage(registration.getSubjectKey(), new Object[] {}, locale);
+
+        Split first = split(template, locale, registration.getVariables(), "a");
+        Split second = split(template, locale, registration.getVariables(), "b");
+
+        if (!first.equals(second)) {
+            log.warn("The email template {} depends on the value of its variables, so can't be precompiled.", template);
+            return new EmailTemplate(subject);
+        }
+
+        log.debug("Precompiled email template {} for locale {}.", template, locale);
+        return new EmailTemplate(subject, first.getFragments(), first.getVariables());
+    }
+
+    private Split split(String template, Locale locale, List<String> variables, String set) {
+        Map<String, Object> markers = new HashMap<>();
+        for (int i = 0; i < variables.size(); i++) {
+            markers.put(variables.get(i), getMarker(set, i));
+        }
+
+        String html = templateEngine.process(template, new Context(locale, markers));
+
+        List<String> fragments = new ArrayList<>();
+        List<String> order = new ArrayList<>();
+        int position = 0;
+
+        while (true) {
+            // Find whichever variable's marker appears next, as a variable can be used more than once.
+            int next = -1;
+            int variable = -1;
+
+            for (int i = 0; i < variables.size(); i++) {
+                int index = html.indexOf(getMarker(set, i), position);
+                if (index != -1 && (next == -1 || index < next)) {
+                    next = index;
+                    variable = i;
+                }
+            }
+
+            if (next == -1) {
+                break;
+            }
+
+            fragments.add(html.substring(position, next));
+            order.add(variables.get(variable));
+            position = next + getMarker(set, variable).length();
+        }
+
+        fragments.add(html.substring(position));
+
+        return new Split(fragments, order);
+    }
+
+    private static String getMarker(String set, int index) {
+        return MARKER_PREFIX + set + "-" + index + "-";
+    }
+
+    private static String getKey(String template, Locale locale) {
+        return template + "|" + locale.toLanguageTag();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Registration {
+
+        private final String subjectKey;
+        private final List<String> variables;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Split {
+
+        private final List<String> fragments;
+        private final List<String> variables;
+    }
+}
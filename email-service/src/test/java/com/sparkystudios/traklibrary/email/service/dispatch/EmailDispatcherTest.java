@@ -0,0 +1,257 @@
+package com.sparkystudios.traklibrary.email.service.dispatch;
+
+import com.amazonaws.AmazonServiceException;
+import com.sparkystudios.traklibrary.email.service.exception.EmailFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class EmailDispatcherTest {
+
+    @Test
+    void constructor_withZeroBatchSize_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> createDispatcher(new RecordingMailSender(false), new SimpleMeterRegistry(), 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void submit_withMimeMessage_sendsEmail() throws InterruptedException {
+        // Arrange
+        RecordingMailSender mailSender = new RecordingMailSender(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmailDispatcher emailDispatcher = createDispatcher(mailSender, meterRegistry, 10, 10);
+
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+
+        // Act
+        CompletableFuture<Void> result = emailDispatcher.submit(mimeMessage);
+        mailSender.awaitBatches(1);
+        emailDispatcher.destroy();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isCompleted();
+        Assertions.assertThat(mailSender.getBatches())
+                .containsExactly(List.of(mimeMessage));
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.sent").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void submit_withQueuedMimeMessages_sendsInBatches() throws InterruptedException {
+        // Arrange
+        RecordingMailSender mailSender = new RecordingMailSender(true);
+        EmailDispatcher emailDispatcher = createDispatcher(mailSender, new SimpleMeterRegistry(), 10, 2);
+
+        MimeMessage mimeMessage1 = new MimeMessage((Session) null);
+        MimeMessage mimeMessage2 = new MimeMessage((Session) null);
+        MimeMessage mimeMessage3 = new MimeMessage((Session) null);
+        MimeMessage mimeMessage4 = new MimeMessage((Session) null);
+
+        // Hold the dispatch thread in the first send, so the rest of the emails are queued up behind it.
+        emailDispatcher.submit(mimeMessage1);
+        mailSender.awaitStarted();
+
+        emailDispatcher.submit(mimeMessage2);
+        emailDispatcher.submit(mimeMessage3);
+        emailDispatcher.submit(mimeMessage4);
+
+        // Act
+        mailSender.release();
+        mailSender.awaitBatches(3);
+        emailDispatcher.destroy();
+
+        // Assert
+        Assertions.assertThat(mailSender.getBatches())
+                .containsExactly(List.of(mimeMessage1), List.of(mimeMessage2, mimeMessage3), List.of(mimeMessage4));
+    }
+
+    @Test
+    void submit_withThrottledMimeMessage_retriesEmail() throws InterruptedException {
+        // Arrange
+        RecordingMailSender mailSender = new RecordingMailSender(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmailDispatcher emailDispatcher = createDispatcher(mailSender, meterRegistry, 10, 10);
+
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+
+        AmazonServiceException throttlingException = new AmazonServiceException("Maximum sending rate exceeded.");
+        throttlingException.setErrorCode("Throttling");
+
+        Map<Object, Exception> failedMessages = Map.of(mimeMessage, throttlingException);
+        mailSender.failNextSend(new MailSendException(failedMessages));
+
+        // Act
+        CompletableFuture<Void> result = emailDispatcher.submit(mimeMessage);
+        mailSender.awaitBatches(2);
+        emailDispatcher.destroy();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isCompleted();
+        Assertions.assertThat(mailSender.getBatches())
+                .containsExactly(List.of(mimeMessage), List.of(mimeMessage));
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.retried").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.sent").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.failed").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void submit_withFailingMimeMessage_doesntRetryEmailAndFailsFuture() throws InterruptedException {
+        // Arrange
+        RecordingMailSender mailSender = new RecordingMailSender(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmailDispatcher emailDispatcher = createDispatcher(mailSender, meterRegistry, 10, 10);
+
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+        mailSender.failNextSend(new MailSendException("Invalid address."));
+
+        // Act
+        CompletableFuture<Void> result = emailDispatcher.submit(mimeMessage);
+        mailSender.awaitBatches(1);
+        emailDispatcher.destroy();
+
+        // Assert
+        Assertions.assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(EmailFailedException.class);
+        Assertions.assertThat(mailSender.getBatches())
+                .hasSize(1);
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.failed").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.retried").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void submit_withFullQueue_throwsEmailFailedException() throws InterruptedException {
+        // Arrange
+        RecordingMailSender mailSender = new RecordingMailSender(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmailDispatcher emailDispatcher = createDispatcher(mailSender, meterRegistry, 1, 10);
+
+        // Occupy the dispatch thread and the only queue slot.
+        emailDispatcher.submit(new MimeMessage((Session) null));
+        mailSender.awaitStarted();
+        emailDispatcher.submit(new MimeMessage((Session) null));
+
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> emailDispatcher.submit(mimeMessage))
+                .isInstanceOf(EmailFailedException.class);
+        Assertions.assertThat(meterRegistry.get("trak.email.dispatch.rejected").counter().count())
+                .isEqualTo(1.0);
+
+        mailSender.release();
+        emailDispatcher.destroy();
+    }
+
+    @Test
+    void destroy_withRetryWaitingOnBackoff_sendsRetryBeforeStopping() throws InterruptedException {
+        // Arrange
+        RecordingMailSender mailSender = new RecordingMailSender(false);
+        EmailDispatcher emailDispatcher = new EmailDispatcher(mailSender, new SimpleMeterRegistry(), 10, 1000, 10,
+                Duration.ofMillis(50), 3, Duration.ofMinutes(1));
+
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+
+        AmazonServiceException throttlingException = new AmazonServiceException("Maximum sending rate exceeded.");
+        throttlingException.setErrorCode("Throttling");
+        mailSender.failNextSend(new MailSendException(Map.of(mimeMessage, throttlingException)));
+
+        CompletableFuture<Void> result = emailDispatcher.submit(mimeMessage);
+        mailSender.awaitBatches(1);
+
+        // Act
+        emailDispatcher.destroy();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isCompleted();
+        Assertions.assertThat(mailSender.getBatches())
+                .containsExactly(List.of(mimeMessage), List.of(mimeMessage));
+    }
+
+    private EmailDispatcher createDispatcher(RecordingMailSender mailSender, SimpleMeterRegistry meterRegistry, int queueCapacity, int batchSize) {
+        return new EmailDispatcher(mailSender, meterRegistry, queueCapacity, 1000, batchSize, Duration.ofMillis(50), 3, Duration.ofMillis(10));
+    }
+
+    /**
+     * A {@link JavaMailSenderImpl} that records each batch it's asked to send instead of sending it, and can be made to
+     * fail or block to simulate the email provider.
+     */
+    private static class RecordingMailSender extends JavaMailSenderImpl {
+
+        private final List<List<MimeMessage>> batches = new CopyOnWriteArrayList<>();
+        private final Queue<MailException> failures = new ConcurrentLinkedQueue<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released;
+
+        private RecordingMailSender(boolean blocking) {
+            this.released = new CountDownLatch(blocking ? 1 : 0);
+        }
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            started.countDown();
+
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            batches.add(List.of(mimeMessages));
+
+            MailException failure = failures.poll();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void failNextSend(MailException failure) {
+            failures.add(failure);
+        }
+
+        private void awaitStarted() throws InterruptedException {
+            started.await(5, TimeUnit.SECONDS);
+        }
+
+        private void release() {
+            released.countDown();
+        }
+
+        private void awaitBatches(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (batches.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        private List<List<MimeMessage>> getBatches() {
+            return batches;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.sparkystudios.traklibrary.email.service.impl;
 
+import com.sparkystudios.traklibrary.email.service.dispatch.EmailDispatcher;
 import com.sparkystudios.traklibrary.email.service.dto.EmailPasswordChangedRequestDto;
 import com.sparkystudios.traklibrary.email.service.dto.EmailRecoveryRequestDto;
 import com.sparkystudios.traklibrary.email.service.dto.EmailVerificationRequestDto;
 import com.sparkystudios.traklibrary.email.service.exception.EmailFailedException;
+import com.sparkystudios.traklibrary.email.service.template.EmailTemplateCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,10 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.MessageSource;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.thymeleaf.ITemplateEngine;
-import org.thymeleaf.context.IContext;
 
 import javax.mail.internet.MimeMessage;
 import java.util.Locale;
@@ -24,29 +23,43 @@ import java.util.Locale;
 class EmailServiceThymeleafImplTest {
 
     @Mock
-    private MessageSource messageSource;
+    private JavaMailSender javaMailSender;
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private EmailTemplateCache emailTemplateCache;
 
     @Mock
-    private ITemplateEngine templateEngine;
+    private EmailDispatcher emailDispatcher;
 
     @InjectMocks
     private EmailServiceThymeleafImpl emailService;
 
+    @Test
+    void postConstruct_withNoIssues_registersTemplates() {
+        // Act
+        emailService.postConstruct();
+
+        // Assert
+        Mockito.verify(emailTemplateCache)
+                .register("verification-template", "email.verification.subject", "verificationCode");
+        Mockito.verify(emailTemplateCache)
+                .register("recovery-template", "email.recovery.subject", "recoveryToken");
+        Mockito.verify(emailTemplateCache)
+                .register("password-changed-template", "email.password-changed.subject");
+    }
+
     @Test
     void sendVerificationEmail_withFailingToSend_throwsEmailFailedException() {
         // Arrange
         emailService.setFromAddress("from@traklibrary.com");
 
-        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+        Mockito.when(emailTemplateCache.getSubject(ArgumentMatchers.anyString(), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
         Mockito.when(javaMailSender.createMimeMessage())
                 .thenReturn(Mockito.mock(MimeMessage.class));
 
-        Mockito.when(templateEngine.process(ArgumentMatchers.eq("verification-template"), ArgumentMatchers.any(IContext.class)))
+        Mockito.when(emailTemplateCache.render(ArgumentMatchers.eq("verification-template"), ArgumentMatchers.any(Locale.class), ArgumentMatchers.anyMap()))
                 .thenReturn("");
 
         EmailVerificationRequestDto emailVerificationRequestDto = new EmailVerificationRequestDto();
@@ -60,18 +73,15 @@ class EmailServiceThymeleafImplTest {
         // Arrange
         emailService.setFromAddress("from@traklibrary.com");
 
-        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+        Mockito.when(emailTemplateCache.getSubject(ArgumentMatchers.anyString(), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
         Mockito.when(javaMailSender.createMimeMessage())
                 .thenReturn(Mockito.mock(MimeMessage.class));
 
-        Mockito.when(templateEngine.process(ArgumentMatchers.eq("verification-template"), ArgumentMatchers.any(IContext.class)))
+        Mockito.when(emailTemplateCache.render(ArgumentMatchers.eq("verification-template"), ArgumentMatchers.any(Locale.class), ArgumentMatchers.anyMap()))
                 .thenReturn("");
 
-        Mockito.doNothing()
-                .when(javaMailSender).send(ArgumentMatchers.any(MimeMessage.class));
-
         EmailVerificationRequestDto emailVerificationRequestDto = new EmailVerificationRequestDto();
         emailVerificationRequestDto.setEmailAddress("test@traklibrary.com");
         emailVerificationRequestDto.setVerificationCode("12345");
@@ -80,8 +90,8 @@ class EmailServiceThymeleafImplTest {
         emailService.sendVerificationEmail(emailVerificationRequestDto);
 
         // Assert
-        Mockito.verify(javaMailSender, Mockito.atMostOnce())
-                .send(ArgumentMatchers.any(MimeMessage.class));
+        Mockito.verify(emailDispatcher)
+                .submit(ArgumentMatchers.any(MimeMessage.class));
     }
 
     @Test
@@ -89,13 +99,13 @@ class EmailServiceThymeleafImplTest {
         // Arrange
         emailService.setFromAddress("from@traklibrary.com");
 
-        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+        Mockito.when(emailTemplateCache.getSubject(ArgumentMatchers.anyString(), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
         Mockito.when(javaMailSender.createMimeMessage())
                 .thenReturn(Mockito.mock(MimeMessage.class));
 
-        Mockito.when(templateEngine.process(ArgumentMatchers.eq("recovery-template"), ArgumentMatchers.any(IContext.class)))
+        Mockito.when(emailTemplateCache.render(ArgumentMatchers.eq("recovery-template"), ArgumentMatchers.any(Locale.class), ArgumentMatchers.anyMap()))
                 .thenReturn("");
 
         EmailRecoveryRequestDto emailRecoveryRequestDto = new EmailRecoveryRequestDto();
@@ -109,18 +119,15 @@ class EmailServiceThymeleafImplTest {
         // Arrange
         emailService.setFromAddress("from@traklibrary.com");
 
-        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+        Mockito.when(emailTemplateCache.getSubject(ArgumentMatchers.anyString(), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
         Mockito.when(javaMailSender.createMimeMessage())
                 .thenReturn(Mockito.mock(MimeMessage.class));
 
-        Mockito.when(templateEngine.process(ArgumentMatchers.eq("recovery-template"), ArgumentMatchers.any(IContext.class)))
+        Mockito.when(emailTemplateCache.render(ArgumentMatchers.eq("recovery-template"), ArgumentMatchers.any(Locale.class), ArgumentMatchers.anyMap()))
                 .thenReturn("");
 
-        Mockito.doNothing()
-                .when(javaMailSender).send(ArgumentMatchers.any(MimeMessage.class));
-
         EmailRecoveryRequestDto emailRecoveryRequestDto = new EmailRecoveryRequestDto();
         emailRecoveryRequestDto.setEmailAddress("test@traklibrary.com");
         emailRecoveryRequestDto.setRecoveryToken("12345");
@@ -129,8 +136,8 @@ class EmailServiceThymeleafImplTest {
         emailService.sendRecoveryEmail(emailRecoveryRequestDto);
 
         // Assert
-        Mockito.verify(javaMailSender, Mockito.atMostOnce())
-                .send(ArgumentMatchers.any(MimeMessage.class));
+        Mockito.verify(emailDispatcher)
+                .submit(ArgumentMatchers.any(MimeMessage.class));
     }
 
     @Test
@@ -138,13 +145,13 @@ class EmailServiceThymeleafImplTest {
         // Arrange
         emailService.setFromAddress("from@traklibrary.com");
 
-        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+        Mockito.when(emailTemplateCache.getSubject(ArgumentMatchers.anyString(), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
         Mockito.when(javaMailSender.createMimeMessage())
                 .thenReturn(Mockito.mock(MimeMessage.class));
 
-        Mockito.when(templateEngine.process(ArgumentMatchers.eq("password-changed-template"), ArgumentMatchers.any(IContext.class)))
+        Mockito.when(emailTemplateCache.render(ArgumentMatchers.eq("password-changed-template"), ArgumentMatchers.any(Locale.class), ArgumentMatchers.anyMap()))
                 .thenReturn("");
 
         EmailPasswordChangedRequestDto emailPasswordChangedRequestDto = new EmailPasswordChangedRequestDto();
@@ -158,18 +165,15 @@ class EmailServiceThymeleafImplTest {
         // Arrange
         emailService.setFromAddress("from@traklibrary.com");
 
-        Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+        Mockito.when(emailTemplateCache.getSubject(ArgumentMatchers.anyString(), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
         Mockito.when(javaMailSender.createMimeMessage())
                 .thenReturn(Mockito.mock(MimeMessage.class));
 
-        Mockito.when(templateEngine.process(ArgumentMatchers.eq("password-changed-template"), ArgumentMatchers.any(IContext.class)))
+        Mockito.when(emailTemplateCache.render(ArgumentMatchers.eq("password-changed-template"), ArgumentMatchers.any(Locale.class), ArgumentMatchers.anyMap()))
                 .thenReturn("");
 
-        Mockito.doNothing()
-                .when(javaMailSender).send(ArgumentMatchers.any(MimeMessage.class));
-
         EmailPasswordChangedRequestDto emailPasswordChangedRequestDto = new EmailPasswordChangedRequestDto();
         emailPasswordChangedRequestDto.setEmailAddress("test@traklibrary.com");
 
@@ -177,7 +181,7 @@ class EmailServiceThymeleafImplTest {
         emailService.sendPasswordChangedEmail(emailPasswordChangedRequestDto);
 
         // Assert
-        Mockito.verify(javaMailSender, Mockito.atMostOnce())
-                .send(ArgumentMatchers.any(MimeMessage.class));
+        Mockito.verify(emailDispatcher)
+                .submit(ArgumentMatchers.any(MimeMessage.class));
     }
 }
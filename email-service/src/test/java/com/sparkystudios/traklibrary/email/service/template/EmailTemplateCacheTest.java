@@ -0,0 +1,127 @@
+package com.sparkystudios.traklibrary.email.service.template;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.util.Locale;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class EmailTemplateCacheTest {
+
+    @Mock
+    private ITemplateEngine templateEngine;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private EmailTemplateCache emailTemplateCache;
+
+    @BeforeEach
+    void beforeEach() {
+        emailTemplateCache = new EmailTemplateCache(templateEngine, messageSource, new String[] {"en"});
+    }
+
+    @Test
+    void register_withTemplate_precompilesTemplateAndSubject() {
+        // Arrange
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.eq("subject"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.eq(Locale.ENGLISH)))
+                .thenReturn("Subject");
+
+        Mockito.when(templateEngine.process(ArgumentMatchers.eq("template"), ArgumentMatchers.any(IContext.class)))
+                .thenAnswer(invocation -> "<h1>" + ((IContext) invocation.getArgument(1)).getVariable("code") + "</h1>");
+
+        // Act
+        emailTemplateCache.register("template", "subject", "code");
+        String subject = emailTemplateCache.getSubject("template", Locale.ENGLISH);
+        String html = emailTemplateCache.render("template", Locale.ENGLISH, Map.of("code", "12345"));
+
+        // Assert
+        Assertions.assertThat(subject)
+                .isEqualTo("Subject");
+        Assertions.assertThat(html)
+                .isEqualTo("<h1>12345</h1>");
+
+        // The template is only processed to compile it, not to render it.
+        Mockito.verify(templateEngine, Mockito.times(2))
+                .process(ArgumentMatchers.eq("template"), ArgumentMatchers.any(IContext.class));
+        Mockito.verify(messageSource)
+                .getMessage(ArgumentMatchers.eq("subject"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.eq(Locale.ENGLISH));
+    }
+
+    @Test
+    void render_withPrecompiledTemplate_escapesVariables() {
+        // Arrange
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.eq("subject"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.eq(Locale.ENGLISH)))
+                .thenReturn("Subject");
+
+        Mockito.when(templateEngine.process(ArgumentMatchers.eq("template"), ArgumentMatchers.any(IContext.class)))
+                .thenAnswer(invocation -> "<h1>" + ((IContext) invocation.getArgument(1)).getVariable("code") + "</h1>");
+
+        emailTemplateCache.register("template", "subject", "code");
+
+        // Act
+        String html = emailTemplateCache.render("template", Locale.ENGLISH, Map.of("code", "<b>\"12345\"</b>"));
+
+        // Assert
+        Assertions.assertThat(html)
+                .isEqualTo("<h1>&lt;b&gt;&quot;12345&quot;&lt;/b&gt;</h1>");
+    }
+
+    @Test
+    void render_withValueDependentTemplate_processesTemplate() {
+        // Arrange
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.eq("subject"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.eq(Locale.ENGLISH)))
+                .thenReturn("Subject");
+
+        Mockito.when(templateEngine.process(ArgumentMatchers.eq("template"), ArgumentMatchers.any(IContext.class)))
+                .thenAnswer(invocation -> "<h1>" + ((String) ((IContext) invocation.getArgument(1)).getVariable("code")).toUpperCase() + "</h1>");
+
+        emailTemplateCache.register("template", "subject", "code");
+
+        // Act
+        String html = emailTemplateCache.render("template", Locale.ENGLISH, Map.of("code", "abc"));
+
+        // Assert
+        Assertions.assertThat(html)
+                .isEqualTo("<h1>ABC</h1>");
+
+        Mockito.verify(templateEngine, Mockito.times(3))
+                .process(ArgumentMatchers.eq("template"), ArgumentMatchers.any(IContext.class));
+    }
+
+    @Test
+    void getSubject_withUnconfiguredLocale_compilesTemplateForLocale() {
+        // Arrange
+        Mockito.when(messageSource.getMessage(ArgumentMatchers.eq("subject"), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
+                .thenAnswer(invocation -> "Subject " + ((Locale) invocation.getArgument(2)).toLanguageTag());
+
+        Mockito.when(templateEngine.process(ArgumentMatchers.eq("template"), ArgumentMatchers.any(IContext.class)))
+                .thenReturn("<h1>Static</h1>");
+
+        emailTemplateCache.register("template", "subject");
+
+        // Act
+        String subject = emailTemplateCache.getSubject("template", Locale.FRENCH);
+
+        // Assert
+        Assertions.assertThat(subject)
+                .isEqualTo("Subject fr");
+    }
+
+    @Test
+    void getSubject_withUnregisteredTemplate_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> emailTemplateCache.getSubject("template", Locale.ENGLISH))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparkystudios.traklibrary.game.domain;
+
+/**
+ * The names of the second-level cache regions that the reference entities, i.e. the genres, platforms, companies and
+ * franchises, and the collections that refer to them are cached in. The reference data is read by almost every
+ * request but rarely changes, so is cached rather than read from the database each time. Each region has to be
+ * created, and sized, by the server before the persistence unit is started.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public final class CacheRegions {
+
+    public static final String GENRE = "trak.game.genre";
+    public static final String PLATFORM = "trak.game.platform";
+    public static final String PLATFORM_RELEASE_DATE = "trak.game.platform-release-date";
+    public static final String COMPANY = "trak.game.company";
+    public static final String FRANCHISE = "trak.game.franchise";
+
+    public static final String PLATFORM_RELEASE_DATES = "trak.game.platform.release-dates";
+    public static final String GAME_GENRES = "trak.game.game.genres";
+    public static final String GAME_PLATFORMS = "trak.game.game.platforms";
+    public static final String GAME_DEVELOPERS = "trak.game.game.developers";
+    public static final String GAME_PUBLISHERS = "trak.game.game.publishers";
+
+    /**
+     * The query cache region that the look ups of reference entities by slug are cached in.
+     */
+    public static final String SLUG_QUERIES = "trak.game.slug-queries";
+
+    private CacheRegions() {
+    }
+}
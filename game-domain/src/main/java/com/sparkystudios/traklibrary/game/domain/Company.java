@@ -2,6 +2,8 @@ package com.sparkystudios.traklibrary.game.domain;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,6 +16,8 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "company")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COMPANY)
 @Inheritance(strategy = InheritanceType.JOINED)
 @JsonSubTypes({
         @JsonSubTypes.Type(value = Developer.class, name = "developer"),
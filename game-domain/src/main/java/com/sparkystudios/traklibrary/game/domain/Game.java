@@ -1,6 +1,9 @@
 package com.sparkystudios.traklibrary.game.domain;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,6 +21,7 @@ import java.util.TreeSet;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "game")
+@DynamicUpdate
 public class Game {
 
     @Id
@@ -38,6 +42,7 @@ public class Game {
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GAME_GENRES)
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST,CascadeType.MERGE,CascadeType.DETACH})
     @JoinTable(
             name = "game_genre_xref",
@@ -48,6 +53,7 @@ public class Game {
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GAME_PLATFORMS)
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST,CascadeType.MERGE,CascadeType.DETACH})
     @JoinTable(
             name = "game_platform_xref",
@@ -58,6 +64,7 @@ public class Game {
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GAME_PUBLISHERS)
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST,CascadeType.MERGE,CascadeType.DETACH})
     @JoinTable(
             name = "game_publisher_xref",
@@ -68,6 +75,7 @@ public class Game {
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GAME_DEVELOPERS)
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST,CascadeType.MERGE,CascadeType.DETACH})
     @JoinTable(
             name = "game_developer_xref",
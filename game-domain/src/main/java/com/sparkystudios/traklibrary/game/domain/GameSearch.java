@@ -0,0 +1,30 @@
+package com.sparkystudios.traklibrary.game.domain;
+
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * A read-only view of the search vector of each {@link Game}, which the database generates from its title and
+ * description. It's mapped separately from the {@link Game} so that the vector is only ever read when searching.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "game")
+public class GameSearch {
+
+    @Id
+    @Column(name = "id", insertable = false, updatable = false)
+    private long id;
+
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    private String searchVector;
+}
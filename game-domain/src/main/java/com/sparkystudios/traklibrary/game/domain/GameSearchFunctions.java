@@ -0,0 +1,125 @@
+package com.sparkystudios.traklibrary.game.domain;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link GameSearchFunctions} are the H2 implementations of the <code>game_search_matches</code> and
+ * <code>game_search_rank</code> database functions, which are used by the game search. On PostgreSQL the functions
+ * match the query against the indexed text search vector of each game, and the trigram similarity of its title. H2
+ * supports neither, so the functions are approximated here, which allows the search to be tested against the same
+ * schema. The approximation has no stemming or stop words, so it shouldn't be relied upon to rank the same way.
+ *
+ * The functions are registered as aliases by the Liquibase change log, so must remain public and static.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public final class GameSearchFunctions {
+
+    // The default similarity threshold of the pg_trgm % operator.
+    private static final double SIMILARITY_THRESHOLD = 0.3D;
+
+    private GameSearchFunctions() {
+        // Only has static functions.
+    }
+
+    /**
+     * Determines whether the game with the given search vector and title matches the query, either because every word of
+     * the query is contained within the search vector or because the title is similar enough to the query.
+     *
+     * @param searchVector The lower-cased title and description of the game.
+     * @param title The title of the game.
+     * @param query The query to match the game against.
+     *
+     * @return <code>true</code> if the game matches the query.
+     */
+    public static boolean matches(String searchVector, String title, String query) {
+        Set<String> queryWords = words(query);
+        if (queryWords.isEmpty()) {
+            return false;
+        }
+
+        return words(searchVector).containsAll(queryWords) || similarity(title, query) >= SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * Ranks the game with the given search vector and title against the query. Like the PostgreSQL rank, words matched
+     * in the title are weighted above those matched in the description, and the similarity of the title is added on top.
+     *
+     * @param searchVector The lower-cased title and description of the game.
+     * @param title The title of the game.
+     * @param query The query to rank the game against.
+     *
+     * @return The rank of the game, where a higher rank is a more relevant game.
+     */
+    public static double rank(String searchVector, String title, String query) {
+        Set<String> queryWords = words(query);
+        if (queryWords.isEmpty()) {
+            return 0D;
+        }
+
+        Set<String> titleWords = words(title);
+        Set<String> searchVectorWords = words(searchVector);
+
+        double rank = 0D;
+        for (String queryWord : queryWords) {
+            if (titleWords.contains(queryWord)) {
+                rank += 1D;
+            } else if (searchVectorWords.contains(queryWord)) {
+                rank += 0.4D;
+            }
+        }
+
+        return (rank / queryWords.size()) * 0.1D + similarity(title, query);
+    }
+
+    /**
+     * Calculates the similarity of the two values in the same way as the pg_trgm <code>similarity</code> function, which
+     * is the number of trigrams the words of both values share, divided by the number of distinct trigrams of both.
+     *
+     * @param value The first value to compare.
+     * @param other The second value to compare.
+     *
+     * @return The similarity of the two values, between <code>0</code> and <code>1</code>.
+     */
+    static double similarity(String value, String other) {
+        Set<String> trigrams = trigrams(value);
+        Set<String> otherTrigrams = trigrams(other);
+        if (trigrams.isEmpty() || otherTrigrams.isEmpty()) {
+            return 0D;
+        }
+
+        Set<String> shared = new HashSet<>(trigrams);
+        shared.retainAll(otherTrigrams);
+
+        return (double) shared.size() / (trigrams.size() + otherTrigrams.size() - shared.size());
+    }
+
+    private static Set<String> words(String value) {
+        if (value == null) {
+            return Set.of();
+        }
+
+        return Arrays.stream(value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+
+        // pg_trgm pads each word with two spaces before it and one after it.
+        for (String word : words(value)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i < padded.length() - 2; i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+
+        return trigrams;
+    }
+}
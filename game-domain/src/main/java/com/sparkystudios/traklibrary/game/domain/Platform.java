@@ -3,6 +3,9 @@ package com.sparkystudios.traklibrary.game.domain;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +20,9 @@ import java.util.TreeSet;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "platform")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLATFORM)
 public class Platform {
 
     @Id
@@ -37,6 +43,7 @@ public class Platform {
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLATFORM_RELEASE_DATES)
     @OneToMany(mappedBy = "platform", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
     private Set<PlatformReleaseDate> releaseDates = new TreeSet<>();
 
@@ -0,0 +1,72 @@
+package com.sparkystudios.traklibrary.game.domain;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class GameSearchFunctionsTest {
+
+    @Test
+    void matches_withBlankQuery_returnsFalse() {
+        // Act
+        boolean result = GameSearchFunctions.matches("halo game-description", "Halo", " ");
+
+        // Assert
+        Assertions.assertThat(result).isFalse();
+    }
+
+    @Test
+    void matches_withEveryWordInSearchVector_returnsTrue() {
+        // Act
+        boolean result = GameSearchFunctions.matches("the legend of zelda an adventure across hyrule.", "The Legend of Zelda", "Zelda Hyrule");
+
+        // Assert
+        Assertions.assertThat(result).isTrue();
+    }
+
+    @Test
+    void matches_withSimilarTitle_returnsTrue() {
+        // Act
+        boolean result = GameSearchFunctions.matches("halo game-description", "Halo", "Hallo");
+
+        // Assert
+        Assertions.assertThat(result).isTrue();
+    }
+
+    @Test
+    void matches_withDissimilarTitleAndMissingWords_returnsFalse() {
+        // Act
+        boolean result = GameSearchFunctions.matches("halo game-description", "Halo", "Metroid");
+
+        // Assert
+        Assertions.assertThat(result).isFalse();
+    }
+
+    @Test
+    void rank_withTitleMatch_ranksAboveDescriptionMatch() {
+        // Act
+        double titleRank = GameSearchFunctions.rank("super mario kart mario races.", "Super Mario Kart", "kart");
+        double descriptionRank = GameSearchFunctions.rank("crash team racing a kart racer.", "Crash Team Racing", "kart");
+
+        // Assert
+        Assertions.assertThat(titleRank).isGreaterThan(descriptionRank);
+    }
+
+    @Test
+    void similarity_withSameWords_returnsOne() {
+        // Act
+        double result = GameSearchFunctions.similarity("Halo", "HALO");
+
+        // Assert
+        Assertions.assertThat(result).isEqualTo(1D, Offset.offset(0.0001D));
+    }
+
+    @Test
+    void similarity_withSimilarWords_matchesPgTrgm() {
+        // Act
+        double result = GameSearchFunctions.similarity("Halo", "Hallo");
+
+        // Assert
+        Assertions.assertThat(result).isEqualTo(4D / 7D, Offset.offset(0.0001D));
+    }
+}
@@ -1,14 +1,24 @@
 package com.sparkystudios.traklibrary.game.repository;
 
+import com.sparkystudios.traklibrary.game.domain.CacheRegions;
 import com.sparkystudios.traklibrary.game.domain.Franchise;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 @Repository
 public interface FranchiseRepository extends PagingAndSortingRepository<Franchise, Long>, JpaSpecificationExecutor<Franchise> {
 
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheRegions.SLUG_QUERIES)
+    })
     Optional<Franchise> findBySlug(String slug);
 }
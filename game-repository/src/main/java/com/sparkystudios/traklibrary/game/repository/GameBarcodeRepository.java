@@ -1,13 +1,46 @@
 package com.sparkystudios.traklibrary.game.repository;
 
 import com.sparkystudios.traklibrary.game.domain.GameBarcode;
+import com.sparkystudios.traklibrary.game.repository.projection.GameBarcodeEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GameBarcodeRepository extends PagingAndSortingRepository<GameBarcode, Long> {
 
     Optional<GameBarcode> findByBarcode(String barcode);
+
+    /**
+     * Retrieves the next chunk of barcodes as {@link GameBarcodeEntry} projections, in ascending ID order. The barcodes
+     * are keyed rather than offset, so reading each chunk costs the same however far through the table it is.
+     *
+     * @param afterId Only barcodes with an ID greater than this are retrieved.
+     * @param pageable The {@link Pageable} that limits the size of the chunk, only the page size is used.
+     *
+     * @return The barcodes in ascending ID order.
+     */
+    @Query("SELECT gb.id AS id, gb.barcode AS barcode, gb.gameId AS gameId, gb.platformId AS platformId, gb.barcodeType AS barcodeType " +
+            "FROM GameBarcode gb " +
+            "WHERE gb.id > :afterId " +
+            "ORDER BY gb.id")
+    List<GameBarcodeEntry> findEntries(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the {@link GameBarcodeEntry} projections of each of the given barcodes that exist, in a single query.
+     *
+     * @param barcodes The barcodes to retrieve.
+     *
+     * @return The barcodes that exist, in no particular order.
+     */
+    @Query("SELECT gb.id AS id, gb.barcode AS barcode, gb.gameId AS gameId, gb.platformId AS platformId, gb.barcodeType AS barcodeType " +
+            "FROM GameBarcode gb " +
+            "WHERE gb.barcode IN :barcodes")
+    List<GameBarcodeEntry> findEntriesByBarcodes(@Param("barcodes") Collection<String> barcodes);
 }
@@ -1,10 +1,43 @@
 package com.sparkystudios.traklibrary.game.repository;
 
 import com.sparkystudios.traklibrary.game.domain.GameUserEntry;
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface GameUserEntryRepository extends PagingAndSortingRepository<GameUserEntry, Long>, JpaSpecificationExecutor<GameUserEntry> {
+
+    /**
+     * Retrieves the next chunk of distinct user ID's that have the given game in their library, with one of the given
+     * statuses and, unless the platform ID is 0, on the given platform. The user ID's are keyed rather than offset, so
+     * each chunk is retrieved by passing the last user ID of the previous chunk, which stays cheap however far through
+     * the users it is.
+     *
+     * @param gameId The ID of the game the users have in their library.
+     * @param platformId The ID of the platform the users have the game on, or 0 for any platform.
+     * @param statuses The statuses the users' entries must have one of.
+     * @param afterUserId The last user ID of the previous chunk, or 0 for the first chunk.
+     * @param pageable The {@link Pageable} limiting the size of the chunk, which should always be the first page.
+     *
+     * @return The user ID's in ascending order.
+     */
+    @Query("SELECT DISTINCT gue.userId FROM GameUserEntry gue " +
+            "WHERE gue.gameId = :gameId " +
+            "AND gue.status IN :statuses " +
+            "AND gue.userId > :afterUserId " +
+            "AND (:platformId = 0L OR EXISTS (SELECT guep.id FROM GameUserEntryPlatform guep WHERE guep.gameUserEntryId = gue.id AND guep.platformId = :platformId)) " +
+            "ORDER BY gue.userId")
+    List<Long> findUserIdsBySegment(@Param("gameId") long gameId,
+                                    @Param("platformId") long platformId,
+                                    @Param("statuses") Collection<GameUserEntryStatus> statuses,
+                                    @Param("afterUserId") long afterUserId,
+                                    Pageable pageable);
 }
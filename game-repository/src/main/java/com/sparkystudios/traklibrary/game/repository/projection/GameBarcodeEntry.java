@@ -0,0 +1,24 @@
+package com.sparkystudios.traklibrary.game.repository.projection;
+
+import com.sparkystudios.traklibrary.game.domain.BarcodeType;
+import com.sparkystudios.traklibrary.game.domain.GameBarcode;
+
+/**
+ * A projection of the columns of a {@link GameBarcode} that are needed to identify the game and platform it belongs
+ * to, which can be read in bulk without loading, or managing, the entities themselves.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public interface GameBarcodeEntry {
+
+    long getId();
+
+    String getBarcode();
+
+    long getGameId();
+
+    long getPlatformId();
+
+    BarcodeType getBarcodeType();
+}
@@ -0,0 +1,53 @@
+package com.sparkystudios.traklibrary.game.repository.specification;
+
+import com.sparkystudios.traklibrary.game.domain.Game;
+import com.sparkystudios.traklibrary.game.domain.GameSearch;
+import com.sparkystudios.traklibrary.game.domain.GameSearch_;
+import com.sparkystudios.traklibrary.game.domain.Game_;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+/**
+ * Matches the {@link Game}'s whose title or description contain the words of the query, or whose title is similar to
+ * it, through the <code>game_search_matches</code> and <code>game_search_rank</code> database functions. When games
+ * are selected, rather than counted, they're ordered by their relevance to the query, unless the page requested is
+ * sorted itself. It can be combined with the {@link GameSearchSpecification} to search within the filtered games.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@RequiredArgsConstructor
+public class GameTextSearchSpecification implements Specification<Game> {
+
+    private static final String MATCHES_FUNCTION = "game_search_matches";
+    private static final String RANK_FUNCTION = "game_search_rank";
+
+    private final String query;
+
+    @Override
+    public Predicate toPredicate(@NonNull Root<Game> root, @NonNull CriteriaQuery<?> criteriaQuery, @NonNull CriteriaBuilder criteriaBuilder) {
+        // The search vector is mapped separately, so that it isn't loaded with every game.
+        Root<GameSearch> gameSearch = criteriaQuery.from(GameSearch.class);
+
+        Expression<String> searchVector = gameSearch.get(GameSearch_.searchVector);
+        Expression<String> title = root.get(Game_.title);
+        Expression<String> searchQuery = criteriaBuilder.literal(query);
+
+        if (Game.class.equals(criteriaQuery.getResultType())) {
+            criteriaQuery.orderBy(
+                    criteriaBuilder.desc(criteriaBuilder.function(RANK_FUNCTION, Double.class, searchVector, title, searchQuery)),
+                    criteriaBuilder.asc(root.get(Game_.id)));
+        }
+
+        return criteriaBuilder.and(
+                criteriaBuilder.equal(gameSearch.get(GameSearch_.id), root.get(Game_.id)),
+                criteriaBuilder.isTrue(criteriaBuilder.function(MATCHES_FUNCTION, Boolean.class, searchVector, title, searchQuery)));
+    }
+}
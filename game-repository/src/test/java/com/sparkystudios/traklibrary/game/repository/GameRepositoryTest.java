@@ -2,6 +2,7 @@ package com.sparkystudios.traklibrary.game.repository;
 
 import com.sparkystudios.traklibrary.game.domain.*;
 import com.sparkystudios.traklibrary.game.repository.specification.GameSearchSpecification;
+import com.sparkystudios.traklibrary.game.repository.specification.GameTextSearchSpecification;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDate;
@@ -648,4 +650,119 @@ class GameRepositoryTest {
         Assertions.assertThat(result).isPresent()
                 .isEqualTo(Optional.of(game));
     }
+
+    @Test
+    void findAllWithGameTextSearchSpecification_withMatchingDescription_returnsGame() {
+        // Arrange
+        Game game1 = new Game();
+        game1.setTitle("The Legend of Zelda");
+        game1.setDescription("An adventure across the kingdom of Hyrule.");
+        game1.setSlug("test-slug-1");
+        gameRepository.save(game1);
+
+        Game game2 = new Game();
+        game2.setTitle("Metroid");
+        game2.setDescription("A bounty hunter explores the planet Zebes.");
+        game2.setSlug("test-slug-2");
+        gameRepository.save(game2);
+
+        // Act
+        Page<Game> result = gameRepository
+                .findAll(new GameTextSearchSpecification("Hyrule"), Pageable.unpaged());
+
+        // Assert
+        Assertions.assertThat(result).extracting(Game::getTitle)
+                .containsExactly("The Legend of Zelda");
+    }
+
+    @Test
+    void findAllWithGameTextSearchSpecification_withMisspeltTitle_returnsGame() {
+        // Arrange
+        Game game = new Game();
+        game.setTitle("Halo");
+        game.setDescription("game-description");
+        game.setSlug("test-slug");
+        gameRepository.save(game);
+
+        // Act
+        Page<Game> result = gameRepository
+                .findAll(new GameTextSearchSpecification("Hallo"), Pageable.unpaged());
+
+        // Assert
+        Assertions.assertThat(result).extracting(Game::getTitle)
+                .containsExactly("Halo");
+    }
+
+    @Test
+    void findAllWithGameTextSearchSpecification_withNonMatchingQuery_returnsEmpty() {
+        // Arrange
+        Game game = new Game();
+        game.setTitle("Halo");
+        game.setDescription("game-description");
+        game.setSlug("test-slug");
+        gameRepository.save(game);
+
+        // Act
+        Page<Game> result = gameRepository
+                .findAll(new GameTextSearchSpecification("Metroid"), Pageable.unpaged());
+
+        // Assert
+        Assertions.assertThat(result).isEmpty();
+    }
+
+    @Test
+    void findAllWithGameTextSearchSpecification_withTitleAndDescriptionMatches_returnsTitleMatchFirst() {
+        // Arrange
+        Game game1 = new Game();
+        game1.setTitle("Super Mario Kart");
+        game1.setDescription("Mario races against his friends.");
+        game1.setSlug("test-slug-1");
+        gameRepository.save(game1);
+
+        Game game2 = new Game();
+        game2.setTitle("Crash Team Racing");
+        game2.setDescription("A kart racer in the style of Mario Kart.");
+        game2.setSlug("test-slug-2");
+        gameRepository.save(game2);
+
+        // Act
+        Page<Game> result = gameRepository
+                .findAll(new GameTextSearchSpecification("kart"), Pageable.unpaged());
+
+        // Assert
+        Assertions.assertThat(result).extracting(Game::getTitle)
+                .containsExactly("Super Mario Kart", "Crash Team Racing");
+    }
+
+    @Test
+    void countWithGameTextSearchAndGameSearchSpecification_withFilteredGames_returnsFilteredCount() {
+        // Arrange
+        Platform platform = new Platform();
+        platform.setName("test-platform");
+        platform.setDescription("test-description");
+        platform.setSlug("test-slug");
+        platform = platformRepository.save(platform);
+
+        Game game1 = new Game();
+        game1.setTitle("Halo");
+        game1.setDescription("game-description-1");
+        game1.setSlug("test-slug-1");
+        game1.addPlatform(platform);
+        gameRepository.save(game1);
+
+        Game game2 = new Game();
+        game2.setTitle("Halo 2");
+        game2.setDescription("game-description-2");
+        game2.setSlug("test-slug-2");
+        gameRepository.save(game2);
+
+        Specification<Game> specification = Specification.where(new GameTextSearchSpecification("halo"))
+                .and(new GameSearchSpecification(Collections.singleton(platform), Collections.emptySet(), Collections.emptySet()));
+
+        // Act
+        long result = gameRepository.count(specification);
+
+        // Assert
+        Assertions.assertThat(result).isEqualTo(1L);
+    }
 }
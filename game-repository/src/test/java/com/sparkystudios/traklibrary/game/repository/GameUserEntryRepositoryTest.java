@@ -6,9 +6,12 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 
 @DataJpaTest
 class GameUserEntryRepositoryTest {
@@ -246,4 +249,66 @@ class GameUserEntryRepositoryTest {
         // Assert
         Assertions.assertThat(result).isNotEmpty();
     }
+
+    @Test
+    void findUserIdsBySegment_withMatchingEntries_returnsUserIdsInKeyedChunks() {
+        // Arrange
+        Game game = new Game();
+        game.setTitle("title");
+        game.setDescription("description");
+        game.setGameModes(Collections.singleton(GameMode.SINGLE_PLAYER));
+        game.setSlug("test-slug");
+        game = gameRepository.save(game);
+
+        Platform platform1 = new Platform();
+        platform1.setName("platform-1");
+        platform1.setDescription("description-1");
+        platform1.setSlug("test-slug-1");
+        platform1 = platformRepository.save(platform1);
+
+        Platform platform2 = new Platform();
+        platform2.setName("platform-2");
+        platform2.setDescription("description-2");
+        platform2.setSlug("test-slug-2");
+        platform2 = platformRepository.save(platform2);
+
+        saveGameUserEntry(game, 3L, GameUserEntryStatus.IN_PROGRESS, platform1);
+        saveGameUserEntry(game, 1L, GameUserEntryStatus.BACKLOG, platform1, platform2);
+        saveGameUserEntry(game, 4L, GameUserEntryStatus.DROPPED, platform1);
+        saveGameUserEntry(game, 2L, GameUserEntryStatus.COMPLETED, platform2);
+
+        EnumSet<GameUserEntryStatus> statuses = EnumSet.of(GameUserEntryStatus.BACKLOG, GameUserEntryStatus.IN_PROGRESS, GameUserEntryStatus.COMPLETED);
+
+        // Act
+        List<Long> result1 = gameUserEntryRepository
+                .findUserIdsBySegment(game.getId(), 0L, statuses, 0L, PageRequest.of(0, 2));
+        List<Long> result2 = gameUserEntryRepository
+                .findUserIdsBySegment(game.getId(), 0L, statuses, 2L, PageRequest.of(0, 2));
+        List<Long> result3 = gameUserEntryRepository
+                .findUserIdsBySegment(game.getId(), platform1.getId(), statuses, 0L, PageRequest.of(0, 2));
+
+        // Assert
+        Assertions.assertThat(result1)
+                .containsExactly(1L, 2L);
+        Assertions.assertThat(result2)
+                .containsExactly(3L);
+        Assertions.assertThat(result3)
+                .containsExactly(1L, 3L);
+    }
+
+    private void saveGameUserEntry(Game game, long userId, GameUserEntryStatus status, Platform... platforms) {
+        GameUserEntry gameUserEntry = new GameUserEntry();
+        gameUserEntry.setUserId(userId);
+        gameUserEntry.setRating((short)3);
+        gameUserEntry.setStatus(status);
+        gameUserEntry.setGameId(game.getId());
+
+        for (Platform platform : platforms) {
+            GameUserEntryPlatform gameUserEntryPlatform = new GameUserEntryPlatform();
+            gameUserEntryPlatform.setPlatform(platform);
+            gameUserEntry.addGameUserEntryPlatform(gameUserEntryPlatform);
+        }
+
+        gameUserEntryRepository.save(gameUserEntry);
+    }
 }
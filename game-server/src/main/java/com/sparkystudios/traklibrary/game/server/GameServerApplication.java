@@ -4,14 +4,18 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableHypermediaSupport(type = EnableHypermediaSupport.HypermediaType.HAL)
 @SpringBootApplication(scanBasePackages = {
         "com.sparkystudios.traklibrary.game.service",
         "com.sparkystudios.traklibrary.game.server",
+        "com.sparkystudios.traklibrary.loadbalancer",
+        "com.sparkystudios.traklibrary.outbox",
         "com.sparkystudios.traklibrary.security"
 })
 @EntityScan("com.sparkystudios.traklibrary.game.domain")
+@EnableScheduling
 public class GameServerApplication {
 
     public static void main(String... args) {
@@ -0,0 +1,44 @@
+package com.sparkystudios.traklibrary.game.server.assembler;
+
+import com.sparkystudios.traklibrary.game.server.controller.GameBarcodeController;
+import com.sparkystudios.traklibrary.game.server.controller.GameController;
+import com.sparkystudios.traklibrary.game.server.controller.PlatformController;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.server.SimpleRepresentationModelAssembler;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@RequiredArgsConstructor
+@Component
+public class GameBarcodeMatchRepresentationModelAssembler implements SimpleRepresentationModelAssembler<GameBarcodeMatchDto> {
+
+    @Override
+    public void addLinks(EntityModel<GameBarcodeMatchDto> resource) {
+        GameBarcodeMatchDto content = resource.getContent();
+
+        if (content != null) {
+            resource.add(linkTo(methodOn(GameBarcodeController.class).findByBarcode(content.getBarcode()))
+                    .withRel("game_barcode"));
+
+            resource.add(linkTo(methodOn(GameController.class).findById(content.getGameId()))
+                    .withRel("game"));
+
+            resource.add(linkTo(methodOn(GameController.class).findGameDetailsByGameId(content.getGameId()))
+                    .withRel("game_details"));
+
+            resource.add(linkTo(methodOn(PlatformController.class).findById(content.getPlatformId()))
+                    .withRel("platform"));
+        }
+    }
+
+    @Override
+    public void addLinks(@NonNull CollectionModel<EntityModel<GameBarcodeMatchDto>> resources) {
+        // Unused. Additional resource links aren't added to collections.
+    }
+}
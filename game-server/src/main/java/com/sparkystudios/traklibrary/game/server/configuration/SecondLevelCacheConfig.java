@@ -0,0 +1,123 @@
+package com.sparkystudios.traklibrary.game.server.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.sparkystudios.traklibrary.game.domain.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Configures the Hibernate second-level cache, which holds the genres, platforms, companies and franchises, and the
+ * collections of them that each game has, in local Caffeine caches. The reference data is read by almost every request
+ * but rarely changes, so caching it saves the database a query, or a join, for each of them that a request touches.
+ *
+ * Every region is created, and bounded, here before the persistence unit starts, so a region that's missing fails the
+ * start up rather than being created unbounded. The caches are local to each instance, so an update made through
+ * another instance is only seen once the cached copy expires, which is what the expire after write bounds.
+ *
+ * The hits, misses and puts of each region are exported through the Hibernate statistics, which the actuator binds as
+ * the <code>hibernate.second.level.cache.*</code> metrics.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Configuration
+@ConditionalOnProperty(name = "trak.game.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    // The regions Hibernate creates the query cache with, when it isn't given a region of its own.
+    private static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String DEFAULT_UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            CacheRegions.GENRE,
+            CacheRegions.PLATFORM,
+            CacheRegions.PLATFORM_RELEASE_DATE,
+            CacheRegions.COMPANY,
+            CacheRegions.FRANCHISE);
+
+    private static final List<String> COLLECTION_REGIONS = List.of(
+            CacheRegions.PLATFORM_RELEASE_DATES,
+            CacheRegions.GAME_GENRES,
+            CacheRegions.GAME_PLATFORMS,
+            CacheRegions.GAME_DEVELOPERS,
+            CacheRegions.GAME_PUBLISHERS);
+
+    private static final List<String> QUERY_REGIONS = List.of(
+            CacheRegions.SLUG_QUERIES,
+            DEFAULT_QUERY_RESULTS_REGION);
+
+    @Value("${trak.game.second-level-cache.entity-maximum-size:10000}")
+    private long entityMaximumSize;
+
+    @Value("${trak.game.second-level-cache.collection-maximum-size:100000}")
+    private long collectionMaximumSize;
+
+    @Value("${trak.game.second-level-cache.query-maximum-size:10000}")
+    private long queryMaximumSize;
+
+    @Value("${trak.game.second-level-cache.expire-after-write:PT10M}")
+    private Duration expireAfterWrite;
+
+    @Value("${trak.game.second-level-cache.statistics-enabled:true}")
+    private boolean statisticsEnabled;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        if (entityMaximumSize < 1 || collectionMaximumSize < 1 || queryMaximumSize < 1 ||
+                expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("Second-level cache sizes and expiry must be positive.");
+        }
+
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+
+        ENTITY_REGIONS.forEach(region -> cacheManager.createCache(region, createConfiguration(OptionalLong.of(entityMaximumSize), true)));
+        COLLECTION_REGIONS.forEach(region -> cacheManager.createCache(region, createConfiguration(OptionalLong.of(collectionMaximumSize), true)));
+        QUERY_REGIONS.forEach(region -> cacheManager.createCache(region, createConfiguration(OptionalLong.of(queryMaximumSize), true)));
+
+        // The update timestamps are what invalidate the cached queries, so they're never evicted or expired, there's
+        // only ever one per table anyway.
+        cacheManager.createCache(DEFAULT_UPDATE_TIMESTAMPS_REGION, createConfiguration(OptionalLong.empty(), false));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE.toString());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, Boolean.TRUE.toString());
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+
+            if (statisticsEnabled) {
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE.toString());
+            }
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> createConfiguration(OptionalLong maximumSize, boolean expires) {
+        var configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expires ? OptionalLong.of(expireAfterWrite.toNanos()) : OptionalLong.empty());
+        // Hibernate already stores disassembled copies of the entities, so they don't need to be copied again.
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(statisticsEnabled);
+
+        return configuration;
+    }
+}
@@ -23,9 +23,11 @@ import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,6 +35,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.json.JsonMergePatch;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -127,6 +130,8 @@ public class DeveloperController {
         return ResponseEntity
                 .ok()
                 .contentLength(imageDataDto.getContent().length)
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic().mustRevalidate())
+                .eTag(DigestUtils.md5DigestAsHex(imageDataDto.getContent()))
                 .header("Content-Disposition", "attachment; filename=\"" + imageDataDto.getFilename()+ "\"")
                 .body(new ByteArrayResource(imageDataDto.getContent()));
     }
@@ -8,12 +8,16 @@ import com.sparkystudios.traklibrary.security.annotation.AllowedForModeratorWith
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The {@link DownloadableContentImageController} is a simple controller class that exposes an API that is used to upload and download images for
  * different DLC's at different sizes/dimensions. It provides API end-points for uploading and downloading images (with each size given
@@ -72,6 +76,8 @@ public class DownloadableContentImageController {
         return ResponseEntity
                 .ok()
                 .contentLength(imageDataDto.getContent().length)
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic().mustRevalidate())
+                .eTag(DigestUtils.md5DigestAsHex(imageDataDto.getContent()))
                 .header("Content-Disposition", "attachment; filename=\"" + imageDataDto.getFilename()+ "\"")
                 .body(new ByteArrayResource(imageDataDto.getContent()));
     }
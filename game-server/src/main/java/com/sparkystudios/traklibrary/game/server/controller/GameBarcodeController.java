@@ -1,17 +1,25 @@
 package com.sparkystudios.traklibrary.game.server.controller;
 
 import com.sparkystudios.traklibrary.game.domain.GameBarcode;
+import com.sparkystudios.traklibrary.game.server.assembler.GameBarcodeMatchRepresentationModelAssembler;
 import com.sparkystudios.traklibrary.game.server.assembler.GameBarcodeRepresentationModelAssembler;
 import com.sparkystudios.traklibrary.game.service.GameBarcodeService;
 import com.sparkystudios.traklibrary.game.service.GameService;
 import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
+import com.sparkystudios.traklibrary.game.service.dto.request.GameBarcodeLookupRequest;
 import com.sparkystudios.traklibrary.security.annotation.AllowedForUser;
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,6 +41,7 @@ public class GameBarcodeController {
 
     private final GameBarcodeService gameBarcodeService;
     private final GameBarcodeRepresentationModelAssembler gameBarcodeRepresentationModelAssembler;
+    private final GameBarcodeMatchRepresentationModelAssembler gameBarcodeMatchRepresentationModelAssembler;
 
     /**
      * Given a barcode as a {@link String}, this endpoint will call the {@link GameBarcodeService#findByBarcode(String)}
@@ -52,4 +61,24 @@ public class GameBarcodeController {
     public EntityModel<GameBarcodeDto> findByBarcode(@PathVariable String barcode) {
         return gameBarcodeRepresentationModelAssembler.toModel(gameBarcodeService.findByBarcode(barcode));
     }
+
+    /**
+     * End-point that will look up each of the barcodes within the given {@link GameBarcodeLookupRequest} in a single
+     * request, by calling the {@link GameBarcodeService#findAllByBarcodes(java.util.Collection)} method. It's intended
+     * for scanning many barcodes at once, so barcodes that aren't known are simply left out of the response, rather than
+     * an {@link ApiError} being returned. If none of the barcodes are known, an empty {@link CollectionModel} will be
+     * returned.
+     *
+     * If the {@link GameBarcodeLookupRequest} has no barcodes, or more than can be looked up at once, an {@link ApiError}
+     * will be returned with the validation error details.
+     *
+     * @param gameBarcodeLookupRequest The {@link GameBarcodeLookupRequest} containing the barcodes to look up.
+     *
+     * @return A {@link CollectionModel} of the {@link GameBarcodeMatchDto}'s of each known barcode.
+     */
+    @AllowedForUser
+    @PostMapping(value = "/lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CollectionModel<EntityModel<GameBarcodeMatchDto>> findAllByBarcodes(@Validated @RequestBody GameBarcodeLookupRequest gameBarcodeLookupRequest) {
+        return gameBarcodeMatchRepresentationModelAssembler.toCollectionModel(gameBarcodeService.findAllByBarcodes(gameBarcodeLookupRequest.getBarcodes()));
+    }
 }
@@ -130,6 +130,52 @@ public class GameFilterController {
         return pagedResourcesAssembler.toModel(new PageImpl<>(gameDetailsDtos, pageable, count), gameDetailsRepresentationModelAssembler, link);
     }
 
+    /**
+     * End-point that is used to retrieve an {@link Iterable} of all {@link GameDetailsDto} whose title or description
+     * contain the words of the given query, or whose title is similar enough to the query to match a misspelling, and that
+     * also match the given filters. It's the same end-point as the filter search, but is only used when a query is given.
+     * The results returned will be a single page of results, ordered by their relevance to the query unless a sort is
+     * requested. The page and each {@link GameDetailsDto} will be wrapped in a HATEOAS response. If no {@link GameDetailsDto}
+     * match the given criteria, an empty HATEOAS page response will be returned.
+     *
+     * If any exceptions are thrown internally, and {@link ApiError} response will be returned with additional
+     * error details.
+     *
+     * @param query The text to search the titles and descriptions of the games for.
+     * @param platformIds The ID's of the {@link com.sparkystudios.traklibrary.game.domain.Platform} to search against.
+     * @param genreIds The ID's of the {@link com.sparkystudios.traklibrary.game.domain.Genre} to search against.
+     * @param gameModes The {@link GameMode}'s to search against.
+     * @param pageable Which page of {@link GameDetailsDto} results to retrieve.
+     * @param pagedResourcesAssembler Injected, used to convert the {@link GameDetailsDto}s into a {@link PagedModel}.
+     *
+     * @return A {@link PagedModel} containing a {@link Iterable} of searched {@link GameDetailsDto} that match the given criteria.
+     */
+    @AllowedForUser
+    @GetMapping(value = "/search", params = "query")
+    public PagedModel<EntityModel<GameDetailsDto>> findGamesBySearch(@RequestParam String query,
+                                                                     @RequestParam(name = "platform-ids", required = false) Set<Long> platformIds,
+                                                                     @RequestParam(name = "genre-ids", required = false) Set<Long> genreIds,
+                                                                     @RequestParam(name = "game-modes", required = false) Set<GameMode> gameModes,
+                                                                     @PageableDefault Pageable pageable,
+                                                                     PagedResourcesAssembler<GameDetailsDto> pagedResourcesAssembler) {
+
+        // The self, next and prev links won't include query parameters if not built manually.
+        var link = Link.of(ServletUriComponentsBuilder.fromCurrentRequest().build()
+                .toUriString())
+                .withSelfRel();
+
+        // Get the paged data from the service and convert into a list so it can be added to a page object.
+        List<GameDetailsDto> gameDetailsDtos = StreamSupport.stream(gameFilterService
+                .findGamesBySearch(query, platformIds, genreIds, gameModes, pageable).spliterator(), false)
+                .collect(Collectors.toList());
+
+        // Get the total number of entities that match the given criteria, dis-regarding page sizing.
+        long count = gameFilterService.countGamesBySearch(query, platformIds, genreIds, gameModes);
+
+        // Wrap the page in a HATEOAS response.
+        return pagedResourcesAssembler.toModel(new PageImpl<>(gameDetailsDtos, pageable, count), gameDetailsRepresentationModelAssembler, link);
+    }
+
     /**
      * End-point that is used to retrieve an {@link Iterable} of all {@link GameUserEntryDto} that matches the given criteria
      * within the provided arguments. The results returned will be a single page of results. The page and each
@@ -2,9 +2,12 @@ package com.sparkystudios.traklibrary.game.server.controller;
 
 import com.sparkystudios.traklibrary.game.repository.specification.GameUserEntrySpecification;
 import com.sparkystudios.traklibrary.game.server.assembler.GameUserEntryRepresentationModelAssembler;
+import com.sparkystudios.traklibrary.game.service.BroadcastNotificationService;
 import com.sparkystudios.traklibrary.game.service.GameUserEntryService;
 import com.sparkystudios.traklibrary.game.service.dto.GameUserEntryDto;
+import com.sparkystudios.traklibrary.game.service.dto.request.BroadcastNotificationRequest;
 import com.sparkystudios.traklibrary.game.service.dto.request.GameUserEntryRequest;
+import com.sparkystudios.traklibrary.security.annotation.AllowedForAdmin;
 import com.sparkystudios.traklibrary.security.annotation.AllowedForUser;
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +34,7 @@ import java.util.stream.StreamSupport;
 public class GameUserEntryController {
 
     private final GameUserEntryService gameUserEntryService;
+    private final BroadcastNotificationService broadcastNotificationService;
     private final GameUserEntryRepresentationModelAssembler gameUserEntryRepresentationModelAssembler;
 
     /**
@@ -140,4 +144,22 @@ public class GameUserEntryController {
     public void deleteById(@PathVariable long id) {
         gameUserEntryService.deleteById(id);
     }
-} 
\ No newline at end of file
+
+    /**
+     * End-point that will send a push notification to every user within the segment described by the given
+     * {@link BroadcastNotificationRequest}, i.e. every user with the game in their library, optionally narrowed down
+     * to a platform and a set of statuses. The notifications are delivered asynchronously, so the end-point only
+     * waits for the segment to be resolved and returns a response code of 202 (ACCEPTED).
+     *
+     * As broadcasts send push notifications to a large number of users, it is only available to users who have elevated
+     * admin privileges.
+     *
+     * @param broadcastNotificationRequest The {@link BroadcastNotificationRequest} describing the segment and notification.
+     */
+    @AllowedForAdmin
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping(value = "/broadcast", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void broadcast(@Validated @RequestBody BroadcastNotificationRequest broadcastNotificationRequest) {
+        broadcastNotificationService.broadcast(broadcastNotificationRequest);
+    }
+}
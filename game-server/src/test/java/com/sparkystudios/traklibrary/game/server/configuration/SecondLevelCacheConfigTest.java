@@ -0,0 +1,134 @@
+package com.sparkystudios.traklibrary.game.server.configuration;
+
+import com.sparkystudios.traklibrary.game.domain.CacheRegions;
+import com.sparkystudios.traklibrary.game.domain.Genre;
+import com.sparkystudios.traklibrary.game.repository.GenreRepository;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Optional;
+
+@DataJpaTest(properties = "spring.liquibase.change-log=classpath:db/changelog/db.changelog-master.xml")
+// Each repository call commits in its own transaction, as the cache is only updated once a transaction completes.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void afterEach() {
+        genreRepository.deleteAll();
+    }
+
+    @Test
+    void findBySlug_calledTwice_servesSecondFromSecondLevelCache() {
+        // Arrange
+        Genre genre = genreRepository.save(createGenre());
+        genreRepository.findBySlug(genre.getSlug());
+
+        statistics.clear();
+
+        // Act
+        Optional<Genre> result = genreRepository.findBySlug(genre.getSlug());
+
+        // Assert
+        Assertions.assertThat(result.map(Genre::getName))
+                .hasValue("test-name");
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+                .isZero();
+        Assertions.assertThat(statistics.getQueryRegionStatistics(CacheRegions.SLUG_QUERIES).getHitCount())
+                .isEqualTo(1L);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.GENRE).getHitCount())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void findBySlug_afterUpdate_returnsUpdatedGenreAndRefreshesCache() {
+        // Arrange
+        Genre genre = genreRepository.save(createGenre());
+        genreRepository.findBySlug(genre.getSlug());
+
+        genre.setName("updated-name");
+        genre = genreRepository.save(genre);
+
+        statistics.clear();
+
+        // Act
+        Optional<Genre> result = genreRepository.findBySlug(genre.getSlug());
+
+        // Assert
+        Assertions.assertThat(result.map(Genre::getName))
+                .hasValue("updated-name");
+        Assertions.assertThat(statistics.getQueryRegionStatistics(CacheRegions.SLUG_QUERIES).getHitCount())
+                .isZero();
+        Assertions.assertThat(statistics.getQueryRegionStatistics(CacheRegions.SLUG_QUERIES).getMissCount())
+                .isEqualTo(1L);
+        Assertions.assertThat(entityManagerFactory.getCache().contains(Genre.class, genre.getId()))
+                .isTrue();
+    }
+
+    @Test
+    void findById_afterUpdate_servesUpdatedGenreFromSecondLevelCache() {
+        // Arrange
+        Genre genre = genreRepository.save(createGenre());
+        genreRepository.findById(genre.getId());
+
+        genre.setName("updated-name");
+        genre = genreRepository.save(genre);
+
+        statistics.clear();
+
+        // Act
+        Optional<Genre> result = genreRepository.findById(genre.getId());
+
+        // Assert
+        Assertions.assertThat(result.map(Genre::getName))
+                .hasValue("updated-name");
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+                .isZero();
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.GENRE).getHitCount())
+                .isEqualTo(1L);
+    }
+
+    private static Genre createGenre() {
+        Genre genre = new Genre();
+        genre.setName("test-name");
+        genre.setDescription("test-description");
+        genre.setSlug("test-slug");
+
+        return genre;
+    }
+
+    @SpringBootConfiguration
+    @EntityScan("com.sparkystudios.traklibrary.game.domain")
+    @EnableJpaRepositories(basePackages = "com.sparkystudios.traklibrary.game.repository")
+    @EnableJpaAuditing
+    @Import(SecondLevelCacheConfig.class)
+    static class SecondLevelCacheTestConfiguration {
+    }
+}
@@ -1,12 +1,16 @@
 package com.sparkystudios.traklibrary.game.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparkystudios.traklibrary.game.domain.BarcodeType;
+import com.sparkystudios.traklibrary.game.server.assembler.GameBarcodeMatchRepresentationModelAssembler;
 import com.sparkystudios.traklibrary.game.server.assembler.GameBarcodeRepresentationModelAssembler;
 import com.sparkystudios.traklibrary.game.server.configuration.TrakHalJsonMediaTypeConfiguration;
 import com.sparkystudios.traklibrary.game.server.converter.JsonMergePatchHttpMessageConverter;
 import com.sparkystudios.traklibrary.game.server.exception.GlobalExceptionHandler;
 import com.sparkystudios.traklibrary.game.service.GameBarcodeService;
 import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
+import com.sparkystudios.traklibrary.game.service.dto.request.GameBarcodeLookupRequest;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -19,12 +23,16 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 @Import({GameBarcodeController.class, TrakHalJsonMediaTypeConfiguration.class, GlobalExceptionHandler.class, JsonMergePatchHttpMessageConverter.class})
 @WebMvcTest(controllers = GameBarcodeController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class, useDefaultFilters = false)
@@ -34,6 +42,9 @@ class GameBarcodeControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private GameBarcodeService gameBarcodeService;
 
@@ -44,6 +55,11 @@ class GameBarcodeControllerTest {
         public GameBarcodeRepresentationModelAssembler gameBarcodeRepresentationModelAssembler() {
             return new GameBarcodeRepresentationModelAssembler();
         }
+
+        @Bean
+        public GameBarcodeMatchRepresentationModelAssembler gameBarcodeMatchRepresentationModelAssembler() {
+            return new GameBarcodeMatchRepresentationModelAssembler();
+        }
     }
 
     @Test
@@ -79,4 +95,77 @@ class GameBarcodeControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$._links.game_details").exists())
                 .andExpect(MockMvcResultMatchers.jsonPath("$._links.platform").exists());
     }
+
+    @Test
+    void findAllByBarcodes_withNoBarcodes_returns400() throws Exception {
+        // Arrange
+        var gameBarcodeLookupRequest = new GameBarcodeLookupRequest();
+        gameBarcodeLookupRequest.setBarcodes(Collections.emptyList());
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/barcodes/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0")
+                .content(objectMapper.writeValueAsString(gameBarcodeLookupRequest)));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", Matchers.is(HttpStatus.BAD_REQUEST.name())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details").exists());
+
+        Mockito.verify(gameBarcodeService, Mockito.never())
+                .findAllByBarcodes(ArgumentMatchers.any());
+    }
+
+    @Test
+    void findAllByBarcodes_withNoKnownBarcodes_returns200AndEmptyResponse() throws Exception {
+        // Arrange
+        var gameBarcodeLookupRequest = new GameBarcodeLookupRequest();
+        gameBarcodeLookupRequest.setBarcodes(List.of("barcode-1", "barcode-2"));
+
+        Mockito.when(gameBarcodeService.findAllByBarcodes(ArgumentMatchers.anyCollection()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/barcodes/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0")
+                .content(objectMapper.writeValueAsString(gameBarcodeLookupRequest)));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded").doesNotExist());
+    }
+
+    @Test
+    void findAllByBarcodes_withKnownBarcodes_returns200AndValidResponse() throws Exception {
+        // Arrange
+        var gameBarcodeLookupRequest = new GameBarcodeLookupRequest();
+        gameBarcodeLookupRequest.setBarcodes(List.of("barcode-1", "barcode-2"));
+
+        var gameBarcodeMatchDto = new GameBarcodeMatchDto("barcode-2", 2L, 3L, BarcodeType.EAN_13);
+
+        Mockito.when(gameBarcodeService.findAllByBarcodes(ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(gameBarcodeMatchDto));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/barcodes/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0")
+                .content(objectMapper.writeValueAsString(gameBarcodeLookupRequest)));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0].barcode", Matchers.is(gameBarcodeMatchDto.getBarcode())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0].game_id", Matchers.is((int)gameBarcodeMatchDto.getGameId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0].platform_id", Matchers.is((int)gameBarcodeMatchDto.getPlatformId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0].barcode_type", Matchers.is(gameBarcodeMatchDto.getBarcodeType().name())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0]._links.game_barcode").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0]._links.game").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$._embedded.data[0]._links.platform").exists());
+    }
 }
@@ -262,6 +262,72 @@ class GameFilterControllerTest {
         ResponseVerifier.verifyGameDetailsDto("._embedded.data[1]", resultActions, gameDetailsDto2);
     }
 
+    @Test
+    void findGamesBySearch_withQuery_returns200AndCollection() throws Exception {
+        // Arrange
+        GameDetailsDto gameDetailsDto1 = new GameDetailsDto();
+        gameDetailsDto1.setId(1L);
+        gameDetailsDto1.setTitle("test-title-1");
+        gameDetailsDto1.setDescription("test-description-1");
+        gameDetailsDto1.setCreatedAt(LocalDateTime.now());
+        gameDetailsDto1.setUpdatedAt(LocalDateTime.now());
+        gameDetailsDto1.setVersion(1L);
+
+        GameDetailsDto gameDetailsDto2 = new GameDetailsDto();
+        gameDetailsDto2.setId(2L);
+        gameDetailsDto2.setTitle("test-title-2");
+        gameDetailsDto2.setDescription("test-description-2");
+        gameDetailsDto2.setCreatedAt(LocalDateTime.now());
+        gameDetailsDto2.setUpdatedAt(LocalDateTime.now());
+        gameDetailsDto2.setVersion(2L);
+
+        Mockito.when(gameFilterService.findGamesBySearch(ArgumentMatchers.eq("test-title"), ArgumentMatchers.isNull(), ArgumentMatchers.isNull(), ArgumentMatchers.isNull(), ArgumentMatchers.any()))
+                .thenReturn(List.of(gameDetailsDto1, gameDetailsDto2));
+
+        Mockito.when(gameFilterService.countGamesBySearch(ArgumentMatchers.eq("test-title"), ArgumentMatchers.isNull(), ArgumentMatchers.isNull(), ArgumentMatchers.isNull()))
+                .thenReturn(2L);
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/search?query=test-title")
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0"));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        ResponseVerifier.verifyGameDetailsDto("._embedded.data[0]", resultActions, gameDetailsDto1);
+        ResponseVerifier.verifyGameDetailsDto("._embedded.data[1]", resultActions, gameDetailsDto2);
+
+        Mockito.verify(gameFilterService, Mockito.never())
+                .findGamesByFilters(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void findGamesBySearch_withQueryAndFilters_returns200AndCollection() throws Exception {
+        // Arrange
+        GameDetailsDto gameDetailsDto = new GameDetailsDto();
+        gameDetailsDto.setId(1L);
+        gameDetailsDto.setTitle("test-title-1");
+        gameDetailsDto.setDescription("test-description-1");
+        gameDetailsDto.setCreatedAt(LocalDateTime.now());
+        gameDetailsDto.setUpdatedAt(LocalDateTime.now());
+        gameDetailsDto.setVersion(1L);
+
+        Mockito.when(gameFilterService.findGamesBySearch(ArgumentMatchers.eq("test title"), ArgumentMatchers.anySet(), ArgumentMatchers.anySet(), ArgumentMatchers.anySet(), ArgumentMatchers.any()))
+                .thenReturn(List.of(gameDetailsDto));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/search?platform-ids=1,2&genre-ids=1,2&game-modes=SINGLE_PLAYER")
+                .param("query", "test title")
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0"));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        ResponseVerifier.verifyGameDetailsDto("._embedded.data[0]", resultActions, gameDetailsDto);
+    }
+
     @Test
     void findGameUserEntriesByFilters_withPlatformIds_returns200AndCollection() throws Exception {
         // Arrange
@@ -7,8 +7,10 @@ import com.sparkystudios.traklibrary.game.server.configuration.TrakHalJsonMediaT
 import com.sparkystudios.traklibrary.game.server.converter.JsonMergePatchHttpMessageConverter;
 import com.sparkystudios.traklibrary.game.server.exception.GlobalExceptionHandler;
 import com.sparkystudios.traklibrary.game.server.utils.ResponseVerifier;
+import com.sparkystudios.traklibrary.game.service.BroadcastNotificationService;
 import com.sparkystudios.traklibrary.game.service.GameUserEntryService;
 import com.sparkystudios.traklibrary.game.service.dto.GameUserEntryDto;
+import com.sparkystudios.traklibrary.game.service.dto.request.BroadcastNotificationRequest;
 import com.sparkystudios.traklibrary.game.service.dto.request.GameUserEntryRequest;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -47,6 +49,9 @@ class GameUserEntryControllerTest {
     @MockBean
     private GameUserEntryService gameUserEntryService;
 
+    @MockBean
+    private BroadcastNotificationService broadcastNotificationService;
+
     @TestConfiguration
     static class TestConfig {
 
@@ -317,4 +322,47 @@ class GameUserEntryControllerTest {
         resultActions
                 .andExpect(MockMvcResultMatchers.status().isNoContent());
     }
+
+    @Test
+    void broadcast_withInvalidBroadcastNotificationRequest_returns400() throws Exception {
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/entries/broadcast")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0")
+                .content(objectMapper.writeValueAsString(new BroadcastNotificationRequest())));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", Matchers.is(HttpStatus.BAD_REQUEST.name())));
+
+        Mockito.verify(broadcastNotificationService, Mockito.never())
+                .broadcast(ArgumentMatchers.any());
+    }
+
+    @Test
+    void broadcast_withValidBroadcastNotificationRequest_returns202() throws Exception {
+        // Arrange
+        BroadcastNotificationRequest broadcastNotificationRequest = new BroadcastNotificationRequest();
+        broadcastNotificationRequest.setGameId(1L);
+        broadcastNotificationRequest.setStatuses(Collections.singleton(GameUserEntryStatus.IN_PROGRESS));
+        broadcastNotificationRequest.setTitle("title");
+        broadcastNotificationRequest.setContent("content");
+
+        Mockito.when(broadcastNotificationService.broadcast(ArgumentMatchers.any()))
+                .thenReturn("broadcast-id");
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/entries/broadcast")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/vnd.sparkystudios.traklibrary-hal+json;version=1.0")
+                .content(objectMapper.writeValueAsString(broadcastNotificationRequest)));
+
+        // Assert
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isAccepted());
+
+        Mockito.verify(broadcastNotificationService)
+                .broadcast(broadcastNotificationRequest);
+    }
 }
@@ -0,0 +1,32 @@
+package com.sparkystudios.traklibrary.game.service;
+
+import com.sparkystudios.traklibrary.game.service.dto.request.BroadcastNotificationRequest;
+
+/**
+ * The {@link BroadcastNotificationService} sends a single push notification to every user within a segment, i.e. every
+ * user that has a given game in their library, optionally on a given platform or with a given status. Rather than
+ * publishing a notification event per user, the users within the segment are streamed from the persistence layer in
+ * keyed chunks, and a single broadcast event is published for each chunk.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public interface BroadcastNotificationService {
+
+    /**
+     * Resolves the users within the segment described by the given {@link BroadcastNotificationRequest} and publishes
+     * a broadcast event for each chunk of them, which are then published to each of the users' devices by the
+     * notification service. If no statuses are specified, users with any status are included. Each event carries the
+     * same broadcast ID, so the progress of the whole broadcast can be tracked across chunks.
+     *
+     * The method does not allow <code>null</code> requests, if null is provided, a {@link NullPointerException}
+     * will be thrown.
+     *
+     * @param broadcastNotificationRequest The {@link BroadcastNotificationRequest} describing the segment and notification.
+     *
+     * @return The ID of the broadcast.
+     *
+     * @throws NullPointerException Thrown if the argument provided is null.
+     */
+    String broadcast(BroadcastNotificationRequest broadcastNotificationRequest);
+}
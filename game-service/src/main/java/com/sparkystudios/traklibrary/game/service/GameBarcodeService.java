@@ -2,6 +2,10 @@ package com.sparkystudios.traklibrary.game.service;
 
 import com.sparkystudios.traklibrary.game.domain.GameBarcode;
 import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * The {@link GameBarcodeService} follows the basic CRUD principle for interaction with {@link GameBarcode} entities on the persistence layer.
@@ -28,4 +32,19 @@ public interface GameBarcodeService {
      * @return The {@link GameBarcode} entity matching the barcode mapped to a {@link GameBarcodeDto}.
      */
     GameBarcodeDto findByBarcode(String barcode);
+
+    /**
+     * Given a {@link Collection} of barcodes, this service method will look up the game and platform that each of the
+     * barcodes belongs to and return them as {@link GameBarcodeMatchDto}'s. Barcodes that don't map to any known
+     * {@link GameBarcode} entity are left out of the result, rather than an exception being thrown, as most of the
+     * barcodes from a shelf scan usually aren't known.
+     *
+     * The barcodes are looked up in memory, only going to the persistence layer in a single query if the in-memory
+     * index isn't available yet.
+     *
+     * @param barcodes The barcodes of the {@link GameBarcode} entities to look up.
+     *
+     * @return A {@link GameBarcodeMatchDto} for each known barcode, in the order they were given, without duplicates.
+     */
+    List<GameBarcodeMatchDto> findAllByBarcodes(Collection<String> barcodes);
 }
@@ -78,6 +78,44 @@ public interface GameFilterService {
                              Set<Long> genreIds,
                              Set<GameMode> gameModes);
 
+    /**
+     * Retrieves an {@link Iterable} of all {@link GameDetailsDto} whose title or description contain the words of the given
+     * query, or whose title is similar enough to it to match a misspelling, that also match the filters within the other
+     * provided arguments. The results returned will be a single page of results, ordered by their relevance to the query
+     * unless the page is sorted itself. If no {@link GameDetailsDto} match the given criteria, the method will return an
+     * empty {@link Iterable}.
+     *
+     * @param query The text to search the titles and descriptions of the games for.
+     * @param platformIds The ID's of the {@link com.sparkystudios.traklibrary.game.domain.Platform} to search against.
+     * @param genreIds The ID's of the {@link com.sparkystudios.traklibrary.game.domain.Genre} to search against.
+     * @param gameModes The {@link GameMode}'s to search against.
+     * @param pageable Which page of {@link GameDetailsDto} results to retrieve.
+     *
+     * @return An {@link Iterable} of searched {@link GameDetailsDto} that match the given criteria.
+     */
+    Iterable<GameDetailsDto> findGamesBySearch(String query,
+                                               Set<Long> platformIds,
+                                               Set<Long> genreIds,
+                                               Set<GameMode> gameModes,
+                                               Pageable pageable);
+
+    /**
+     * Retrieves the total count of all games that will match the given search query and the filtered criteria given by the
+     * other arguments. This method is used when paging to retrieve the total of all {@link GameDetailsDto} that will match
+     * the given criteria, rather than a single page of results.
+     *
+     * @param query The text to search the titles and descriptions of the games for.
+     * @param platformIds The ID's of the {@link com.sparkystudios.traklibrary.game.domain.Platform} to search against.
+     * @param genreIds The ID's of the {@link com.sparkystudios.traklibrary.game.domain.Genre} to search against.
+     * @param gameModes The {@link GameMode}'s to search against.
+     *
+     * @return A {@link Long} that contains the count of all {@link GameDetailsDto} that match the given criteria.
+     */
+    long countGamesBySearch(String query,
+                            Set<Long> platformIds,
+                            Set<Long> genreIds,
+                            Set<GameMode> gameModes);
+
     /**
      * Retrieves an {@link Iterable} of all {@link GameUserEntryDto} that matches the given criteria within the different provided
      * arguments. The results returned will be a single page of results. If no {@link GameUserEntryDto} match the given criteria,
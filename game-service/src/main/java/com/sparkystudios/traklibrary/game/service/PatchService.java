@@ -1,6 +1,8 @@
 package com.sparkystudios.traklibrary.game.service;
 
 import javax.json.JsonMergePatch;
+import java.util.Optional;
+import java.util.Set;
 
 public interface PatchService {
 
@@ -20,4 +22,32 @@ public interface PatchService {
      * @return The patched target as a new instance.
      */
     <T> T patch(JsonMergePatch jsonMergePatch, T target, Class<T> clazz);
+
+    /**
+     * Given a {@link JsonMergePatch}, this method will attempt to apply the JSON data within the patch directly to the
+     * given managed entity, one property at a time, rather than converting the whole entity to and from JSON. The
+     * members of the patch are matched against the properties of the DTO the entity is exposed as, by the JSON names
+     * the {@link com.fasterxml.jackson.databind.ObjectMapper} gives them, i.e. "game_modes", and each value is
+     * validated against the constraints of that DTO property only, before any property of the entity is changed. If
+     * any value breaks a constraint, a {@link javax.validation.ConstraintViolationException} will be thrown.
+     *
+     * Only properties that have changed are set on the entity and, as the patchable entities are mapped with
+     * {@link org.hibernate.annotations.DynamicUpdate}, the persistence context only updates the columns that the patch
+     * actually changed. Identifiers, audit dates and properties that can't be updated are
+     * ignored, as they are by the mappers, and a version that doesn't match the entity's own will cause an
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException} to be thrown.
+     *
+     * If the patch contains a property that can't be set directly, such as a collection of nested DTO's, the entity
+     * is left untouched and an empty {@link Optional} is returned, in which case the caller should fall back to
+     * {@link #patch(JsonMergePatch, Object, Class)}.
+     *
+     * @param jsonMergePatch The {@link JsonMergePatch} containing JSON data to apply to the entity.
+     * @param entity The managed entity to patch.
+     * @param dtoClass The class of the DTO the entity is exposed as, which defines the patchable properties.
+     * @param <T> The generic DTO type.
+     *
+     * @return The bean names of the properties that were changed, i.e. "gameModes", or an empty {@link Optional} if
+     *         the patch can't be applied to the entity directly.
+     */
+    <T> Optional<Set<String>> patchEntity(JsonMergePatch jsonMergePatch, Object entity, Class<T> dtoClass);
 }
@@ -0,0 +1,473 @@
+package com.sparkystudios.traklibrary.game.service.barcode;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sparkystudios.traklibrary.game.domain.BarcodeType;
+import com.sparkystudios.traklibrary.game.domain.GameBarcode;
+import com.sparkystudios.traklibrary.game.repository.GameBarcodeRepository;
+import com.sparkystudios.traklibrary.game.repository.projection.GameBarcodeEntry;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link GameBarcodeIndex} is an in-memory index of every {@link GameBarcode}, which maps each barcode to the game
+ * and platform it belongs to. It exists for the shelf scans of the mobile app, which look up dozens of barcodes at a
+ * time, most of which aren't known, so that each scan doesn't cost a round trip to the database.
+ *
+ * The barcodes are held in a compact, sorted snapshot, i.e. their encoded bytes back to back with the game, platform
+ * and type of each in parallel arrays, which is searched by bisection. The snapshot is fronted by a {@link BloomFilter},
+ * so the common case of an unknown barcode is answered with a handful of hash probes.
+ *
+ * The snapshot is loaded once the application is ready and then reloaded periodically, which picks up any barcodes
+ * that were changed through other instances. The barcodes changed through this instance are applied as they're
+ * committed, see {@link GameBarcodeIndexUpdater}, and held in an overlay on top of the snapshot until the next reload
+ * includes them. Changes are rare, so they're synchronized with the reload, whereas look ups are lock-free.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class GameBarcodeIndex implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "trak.game.barcode.index";
+    private static final String OUTCOME_TAG = "outcome";
+
+    // A rough estimate of what each change in the overlay costs, i.e. its map entry, change and barcode.
+    private static final long CHANGE_BYTES = 160L;
+
+    private static final BarcodeType[] BARCODE_TYPES = BarcodeType.values();
+
+    private final GameBarcodeRepository gameBarcodeRepository;
+    private final int loadBatchSize;
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+    private final ScheduledExecutorService executor;
+
+    private final Counter filteredLookups;
+    private final Counter matchedLookups;
+    private final Counter unmatchedLookups;
+
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    private volatile State state;
+
+    /**
+     * Creates a new, unloaded {@link GameBarcodeIndex} and schedules its periodic reload.
+     *
+     * @param gameBarcodeRepository The {@link GameBarcodeRepository} the barcodes are loaded from.
+     * @param meterRegistry The {@link MeterRegistry} to record the index metrics to.
+     * @param reloadInterval How often the whole index is reloaded from the database.
+     * @param loadBatchSize The number of barcodes read from the database in each query while loading.
+     * @param expectedInsertions The minimum number of barcodes the {@link BloomFilter} is sized for.
+     * @param falsePositiveProbability The desired false positive probability of the {@link BloomFilter}.
+     */
+    public GameBarcodeIndex(GameBarcodeRepository gameBarcodeRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${trak.game.barcode-index.reload-interval:PT15M}") Duration reloadInterval,
+                            @Value("${trak.game.barcode-index.load-batch-size:10000}") int loadBatchSize,
+                            @Value("${trak.game.barcode-index.expected-insertions:100000}") int expectedInsertions,
+                            @Value("${trak.game.barcode-index.false-positive-probability:0.01}") double falsePositiveProbability) {
+        if (reloadInterval.isNegative() || reloadInterval.isZero() || loadBatchSize < 1 || expectedInsertions < 1) {
+            throw new IllegalArgumentException("Barcode index reload interval, load batch size and expected insertions must be positive.");
+        }
+
+        this.gameBarcodeRepository = gameBarcodeRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.state = new State(false, Snapshot.EMPTY, createBloomFilter(expectedInsertions), expectedInsertions, new ConcurrentHashMap<>());
+
+        this.filteredLookups = createLookupCounter(meterRegistry, "filtered");
+        this.matchedLookups = createLookupCounter(meterRegistry, "matched");
+        this.unmatchedLookups = createLookupCounter(meterRegistry, "unmatched");
+
+        Gauge.builder(METRIC_PREFIX + ".size", this, GameBarcodeIndex::size)
+                .description("The number of barcodes in the index.")
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".memory", this, GameBarcodeIndex::estimateMemory)
+                .description("An estimate of the memory used by the barcode index and its filter.")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("game-barcode-index-%d")
+                .setDaemon(true)
+                .build());
+
+        executor.scheduleWithFixedDelay(this::reloadQuietly, reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Loads the index in the background once the application is ready, so that the start up isn't held up by it.
+     * Until it's loaded, look ups need to go to the database instead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        executor.execute(this::reloadQuietly);
+    }
+
+    /**
+     * Determines whether the index has been loaded, and can therefore be used for look ups. Once loaded, it stays
+     * loaded, even if a later reload fails.
+     *
+     * @return <code>true</code> if the index has been loaded, <code>false</code> otherwise.
+     */
+    public boolean isLoaded() {
+        return state.loaded;
+    }
+
+    /**
+     * Looks up the game and platform that the given barcode belongs to.
+     *
+     * @param barcode The barcode to look up.
+     *
+     * @return The {@link GameBarcodeMatchDto} of the barcode, or an empty {@link Optional} if it isn't known.
+     *
+     * @throws IllegalStateException If the index hasn't been loaded yet.
+     */
+    public Optional<GameBarcodeMatchDto> find(String barcode) {
+        State current = state;
+        if (!current.loaded) {
+            throw new IllegalStateException("The barcode index hasn't been loaded yet.");
+        }
+
+        if (barcode == null) {
+            filteredLookups.increment();
+            return Optional.empty();
+        }
+
+        byte[] key = barcode.getBytes(StandardCharsets.UTF_8);
+        if (!current.bloomFilter.mightContain(key)) {
+            filteredLookups.increment();
+            return Optional.empty();
+        }
+
+        Change change = current.changes.get(barcode);
+        Optional<GameBarcodeMatchDto> match = change != null ?
+                Optional.ofNullable(change.match).map(GameBarcodeIndex::copy) : current.snapshot.find(barcode, key);
+
+        (match.isPresent() ? matchedLookups : unmatchedLookups).increment();
+        return match;
+    }
+
+    /**
+     * Adds, or replaces, the given {@link GameBarcode} in the index, as it's been committed to the database.
+     *
+     * @param gameBarcode The {@link GameBarcode} that was committed.
+     */
+    public synchronized void put(GameBarcode gameBarcode) {
+        var match = new GameBarcodeMatchDto(gameBarcode.getBarcode(), gameBarcode.getGameId(), gameBarcode.getPlatformId(), gameBarcode.getBarcodeType());
+
+        // Add to the overlay first, so a look up that passes the filter will always find the change.
+        state.changes.put(gameBarcode.getBarcode(), new Change(changeSequence.incrementAndGet(), match));
+        state.bloomFilter.put(gameBarcode.getBarcode().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Removes the given barcode from the index, as its removal has been committed to the database. A {@link BloomFilter}
+     * can't have entries removed, so the barcode will still pass the filter until the next reload, but won't be found.
+     *
+     * @param barcode The barcode that was removed.
+     */
+    public synchronized void remove(String barcode) {
+        state.changes.put(barcode, new Change(changeSequence.incrementAndGet(), null));
+    }
+
+    /**
+     * Retrieves the number of barcodes in the index, including those changed since it was last loaded.
+     *
+     * @return The number of barcodes.
+     */
+    public long size() {
+        State current = state;
+
+        long size = current.snapshot.size();
+        for (Map.Entry<String, Change> change : current.changes.entrySet()) {
+            boolean indexed = current.snapshot.contains(change.getKey().getBytes(StandardCharsets.UTF_8));
+            if (change.getValue().match != null && !indexed) {
+                size++;
+            } else if (change.getValue().match == null && indexed) {
+                size--;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the memory used by the index, from the size of its snapshot arrays, its {@link BloomFilter} and its
+     * overlay of changes. The object headers of the arrays are included, but the estimate is only approximate.
+     *
+     * @return The estimated memory used, in bytes.
+     */
+    public long estimateMemory() {
+        State current = state;
+
+        return current.snapshot.estimateMemory() +
+                bloomFilterBits(current.bloomFilterInsertions, falsePositiveProbability) / Byte.SIZE +
+                current.changes.size() * CHANGE_BYTES;
+    }
+
+    /**
+     * Reloads the whole index from the database, and replaces the filter with one sized for the barcodes that were
+     * loaded. Only the changes that were committed after the reload started are kept in the overlay, as the earlier
+     * ones have been read from the database.
+     */
+    void reload() {
+        long sequence = changeSequence.get();
+        long start = System.nanoTime();
+
+        List<IndexedBarcode> indexedBarcodes = loadIndexedBarcodes();
+        indexedBarcodes.sort(Comparator.comparing((IndexedBarcode indexedBarcode) -> indexedBarcode.key, Arrays::compareUnsigned));
+
+        synchronized (this) {
+            ConcurrentMap<String, Change> changes = new ConcurrentHashMap<>();
+            state.changes.forEach((barcode, change) -> {
+                if (change.sequence > sequence) {
+                    changes.put(barcode, change);
+                }
+            });
+
+            // Leave headroom for the barcodes that will be added before the next reload rebuilds the filter.
+            long insertions = Math.max(expectedInsertions, (indexedBarcodes.size() + changes.size()) * 2L);
+            BloomFilter<byte[]> bloomFilter = createBloomFilter(insertions);
+
+            indexedBarcodes.forEach(indexedBarcode -> bloomFilter.put(indexedBarcode.key));
+            changes.forEach((barcode, change) -> {
+                if (change.match != null) {
+                    bloomFilter.put(barcode.getBytes(StandardCharsets.UTF_8));
+                }
+            });
+
+            state = new State(true, Snapshot.of(indexedBarcodes), bloomFilter, insertions, changes);
+        }
+
+        log.info("Loaded {} barcode(s) into the barcode index in {} ms.", indexedBarcodes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // The previous snapshot, or the database if there isn't one, is used until the next reload succeeds.
+            log.warn("Failed to reload the barcode index.", e);
+        }
+    }
+
+    private List<IndexedBarcode> loadIndexedBarcodes() {
+        List<IndexedBarcode> indexedBarcodes = new ArrayList<>();
+        var pageRequest = PageRequest.of(0, loadBatchSize);
+
+        List<GameBarcodeEntry> entries = gameBarcodeRepository.findEntries(0L, pageRequest);
+        while (!entries.isEmpty()) {
+            entries.forEach(entry -> indexedBarcodes.add(new IndexedBarcode(entry)));
+
+            entries = entries.size() < loadBatchSize ?
+                    List.of() : gameBarcodeRepository.findEntries(entries.get(entries.size() - 1).getId(), pageRequest);
+        }
+
+        return indexedBarcodes;
+    }
+
+    private BloomFilter<byte[]> createBloomFilter(long insertions) {
+        return BloomFilter.create(Funnels.byteArrayFunnel(), insertions, falsePositiveProbability);
+    }
+
+    private Counter createLookupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("The number of barcodes looked up in the index.")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Calculates the number of bits a {@link BloomFilter} uses for the given insertions and false positive probability,
+     * the same way that it sizes itself.
+     */
+    static long bloomFilterBits(long insertions, double falsePositiveProbability) {
+        return (long) (-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static GameBarcodeMatchDto copy(GameBarcodeMatchDto match) {
+        return new GameBarcodeMatchDto(match.getBarcode(), match.getGameId(), match.getPlatformId(), match.getBarcodeType());
+    }
+
+    /**
+     * The index as of a single reload, which is replaced as a whole, so that a look up always sees a snapshot, filter
+     * and overlay that belong together.
+     */
+    private static class State {
+
+        private final boolean loaded;
+        private final Snapshot snapshot;
+        private final BloomFilter<byte[]> bloomFilter;
+        private final long bloomFilterInsertions;
+        private final ConcurrentMap<String, Change> changes;
+
+        private State(boolean loaded, Snapshot snapshot, BloomFilter<byte[]> bloomFilter, long bloomFilterInsertions, ConcurrentMap<String, Change> changes) {
+            this.loaded = loaded;
+            this.snapshot = snapshot;
+            this.bloomFilter = bloomFilter;
+            this.bloomFilterInsertions = bloomFilterInsertions;
+            this.changes = changes;
+        }
+    }
+
+    /**
+     * A change to a barcode that was committed through this instance, where a <code>null</code> match means the
+     * barcode was removed.
+     */
+    private static class Change {
+
+        private final long sequence;
+        private final GameBarcodeMatchDto match;
+
+        private Change(long sequence, GameBarcodeMatchDto match) {
+            this.sequence = sequence;
+            this.match = match;
+        }
+    }
+
+    private static class IndexedBarcode {
+
+        private final byte[] key;
+        private final long gameId;
+        private final long platformId;
+        private final BarcodeType barcodeType;
+
+        private IndexedBarcode(GameBarcodeEntry entry) {
+            this.key = entry.getBarcode().getBytes(StandardCharsets.UTF_8);
+            this.gameId = entry.getGameId();
+            this.platformId = entry.getPlatformId();
+            this.barcodeType = entry.getBarcodeType();
+        }
+    }
+
+    /**
+     * The barcodes as of the last reload, sorted by their encoded bytes, which are stored back to back in a single
+     * array, with the offset of each barcode and its game, platform and type in arrays of their own. There's no object
+     * per barcode, so a snapshot of a million barcodes takes tens of megabytes rather than hundreds.
+     */
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new byte[0], new int[] { 0 }, new long[0], new long[0], new byte[0]);
+
+        // The header of each of the five arrays, and the snapshot itself.
+        private static final long HEADER_BYTES = 16L * 6;
+
+        private final byte[] barcodes;
+        private final int[] offsets;
+        private final long[] gameIds;
+        private final long[] platformIds;
+        private final byte[] barcodeTypes;
+
+        private Snapshot(byte[] barcodes, int[] offsets, long[] gameIds, long[] platformIds, byte[] barcodeTypes) {
+            this.barcodes = barcodes;
+            this.offsets = offsets;
+            this.gameIds = gameIds;
+            this.platformIds = platformIds;
+            this.barcodeTypes = barcodeTypes;
+        }
+
+        private static Snapshot of(List<IndexedBarcode> indexedBarcodes) {
+            int size = indexedBarcodes.size();
+
+            int[] offsets = new int[size + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[i + 1] = offsets[i] + indexedBarcodes.get(i).key.length;
+            }
+
+            byte[] barcodes = new byte[offsets[size]];
+            long[] gameIds = new long[size];
+            long[] platformIds = new long[size];
+            byte[] barcodeTypes = new byte[size];
+
+            for (int i = 0; i < size; i++) {
+                IndexedBarcode indexedBarcode = indexedBarcodes.get(i);
+
+                System.arraycopy(indexedBarcode.key, 0, barcodes, offsets[i], indexedBarcode.key.length);
+                gameIds[i] = indexedBarcode.gameId;
+                platformIds[i] = indexedBarcode.platformId;
+                barcodeTypes[i] = (byte) indexedBarcode.barcodeType.ordinal();
+            }
+
+            return new Snapshot(barcodes, offsets, gameIds, platformIds, barcodeTypes);
+        }
+
+        private int size() {
+            return gameIds.length;
+        }
+
+        private boolean contains(byte[] key) {
+            return indexOf(key) >= 0;
+        }
+
+        private Optional<GameBarcodeMatchDto> find(String barcode, byte[] key) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new GameBarcodeMatchDto(barcode, gameIds[index], platformIds[index], BARCODE_TYPES[barcodeTypes[index]]));
+        }
+
+        private int indexOf(byte[] key) {
+            int low = 0;
+            int high = size() - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = Arrays.compareUnsigned(barcodes, offsets[middle], offsets[middle + 1], key, 0, key.length);
+
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+
+            return -1;
+        }
+
+        private long estimateMemory() {
+            return HEADER_BYTES + barcodes.length + Integer.BYTES * (long) offsets.length +
+                    Long.BYTES * 2L * gameIds.length + barcodeTypes.length;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sparkystudios.traklibrary.game.service.barcode;
+
+import com.sparkystudios.traklibrary.game.domain.GameBarcode;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.Objects;
+
+/**
+ * The {@link GameBarcodeIndexUpdater} applies each change to a {@link GameBarcode} that's made through this instance to
+ * the {@link GameBarcodeIndex}. It listens for the changes as Hibernate post-commit events, so a change is only
+ * applied once it's been committed, and never if it's rolled back.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@RequiredArgsConstructor
+@Component
+class GameBarcodeIndexUpdater implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String BARCODE_PROPERTY = "barcode";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final GameBarcodeIndex gameBarcodeIndex;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry eventListenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof GameBarcode) {
+            gameBarcodeIndex.put((GameBarcode) event.getEntity());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof GameBarcode) {
+            var gameBarcode = (GameBarcode) event.getEntity();
+
+            // The barcode itself can be changed, in which case the old one is no longer indexed.
+            if (event.getOldState() != null) {
+                Object oldBarcode = event.getOldState()[event.getPersister().getEntityMetamodel().getPropertyIndex(BARCODE_PROPERTY)];
+                if (oldBarcode != null && !Objects.equals(oldBarcode, gameBarcode.getBarcode())) {
+                    gameBarcodeIndex.remove((String) oldBarcode);
+                }
+            }
+
+            gameBarcodeIndex.put(gameBarcode);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof GameBarcode) {
+            gameBarcodeIndex.remove(((GameBarcode) event.getEntity()).getBarcode());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, so there's nothing to index.
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed, so there's nothing to index.
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed, so there's nothing to index.
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return GameBarcode.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparkystudios.traklibrary.game.service.dto;
+
+import com.sparkystudios.traklibrary.game.domain.BarcodeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.server.core.Relation;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Relation(collectionRelation = "data", itemRelation = "game-barcode-match")
+public class GameBarcodeMatchDto {
+
+    private String barcode;
+
+    private long gameId;
+
+    private long platformId;
+
+    private BarcodeType barcodeType;
+}
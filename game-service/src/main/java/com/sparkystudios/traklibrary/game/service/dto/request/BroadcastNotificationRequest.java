@@ -0,0 +1,24 @@
+package com.sparkystudios.traklibrary.game.service.dto.request;
+
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import lombok.Data;
+
+import javax.validation.constraints.NotEmpty;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Data
+public class BroadcastNotificationRequest {
+
+    private long gameId;
+
+    private long platformId;
+
+    private Set<GameUserEntryStatus> statuses = EnumSet.noneOf(GameUserEntryStatus.class);
+
+    @NotEmpty(message = "{broadcast-notification-request.validation.title.not-empty}")
+    private String title;
+
+    @NotEmpty(message = "{broadcast-notification-request.validation.content.not-empty}")
+    private String content;
+}
@@ -0,0 +1,15 @@
+package com.sparkystudios.traklibrary.game.service.dto.request;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+public class GameBarcodeLookupRequest {
+
+    @NotNull(message = "{game-barcode-lookup-request.validation.barcodes.not-null}")
+    @Size(min = 1, max = 100, message = "{game-barcode-lookup-request.validation.barcodes.size}")
+    private List<String> barcodes;
+}
@@ -0,0 +1,33 @@
+package com.sparkystudios.traklibrary.game.service.event;
+
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastNotificationEvent {
+
+    private String broadcastId;
+
+    private long gameId;
+
+    private long platformId;
+
+    private Set<GameUserEntryStatus> statuses;
+
+    private int chunk;
+
+    private boolean last;
+
+    private List<Long> userIds;
+
+    private String title;
+
+    private String content;
+}
@@ -0,0 +1,77 @@
+package com.sparkystudios.traklibrary.game.service.impl;
+
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import com.sparkystudios.traklibrary.game.repository.GameUserEntryRepository;
+import com.sparkystudios.traklibrary.game.service.BroadcastNotificationService;
+import com.sparkystudios.traklibrary.game.service.dto.request.BroadcastNotificationRequest;
+import com.sparkystudios.traklibrary.game.service.event.BroadcastNotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class BroadcastNotificationServiceImpl implements BroadcastNotificationService {
+
+    private static final String BROADCAST_DESTINATION = "trak-notification-broadcast";
+
+    private final GameUserEntryRepository gameUserEntryRepository;
+    private final StreamBridge streamBridge;
+    private final int chunkSize;
+
+    public BroadcastNotificationServiceImpl(GameUserEntryRepository gameUserEntryRepository,
+                                            StreamBridge streamBridge,
+                                            @Value("${trak.game.broadcast.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Broadcast chunk size must be positive.");
+        }
+
+        this.gameUserEntryRepository = gameUserEntryRepository;
+        this.streamBridge = streamBridge;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String broadcast(BroadcastNotificationRequest broadcastNotificationRequest) {
+        Objects.requireNonNull(broadcastNotificationRequest);
+
+        String broadcastId = UUID.randomUUID().toString();
+        Set<GameUserEntryStatus> statuses = broadcastNotificationRequest.getStatuses().isEmpty() ?
+                EnumSet.allOf(GameUserEntryStatus.class) : broadcastNotificationRequest.getStatuses();
+
+        // Read one chunk ahead, so that the last chunk can be flagged as such when it's published.
+        List<Long> userIds = findUserIds(broadcastNotificationRequest, statuses, 0L);
+        int chunk = 0;
+
+        while (!userIds.isEmpty()) {
+            List<Long> nextUserIds = userIds.size() < chunkSize ?
+                    List.of() : findUserIds(broadcastNotificationRequest, statuses, userIds.get(userIds.size() - 1));
+
+            streamBridge.send(BROADCAST_DESTINATION, new BroadcastNotificationEvent(broadcastId,
+                    broadcastNotificationRequest.getGameId(), broadcastNotificationRequest.getPlatformId(), statuses,
+                    chunk++, nextUserIds.isEmpty(), userIds,
+                    broadcastNotificationRequest.getTitle(), broadcastNotificationRequest.getContent()));
+
+            userIds = nextUserIds;
+        }
+
+        log.info("Published broadcast {} for game {} in {} chunk(s).", broadcastId, broadcastNotificationRequest.getGameId(), chunk);
+
+        return broadcastId;
+    }
+
+    private List<Long> findUserIds(BroadcastNotificationRequest broadcastNotificationRequest, Set<GameUserEntryStatus> statuses, long afterUserId) {
+        return gameUserEntryRepository.findUserIdsBySegment(broadcastNotificationRequest.getGameId(),
+                broadcastNotificationRequest.getPlatformId(), statuses, afterUserId, PageRequest.of(0, chunkSize));
+    }
+}
@@ -1,8 +1,11 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
 import com.sparkystudios.traklibrary.game.repository.GameBarcodeRepository;
+import com.sparkystudios.traklibrary.game.repository.projection.GameBarcodeEntry;
 import com.sparkystudios.traklibrary.game.service.GameBarcodeService;
+import com.sparkystudios.traklibrary.game.service.barcode.GameBarcodeIndex;
 import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
 import com.sparkystudios.traklibrary.game.service.mapper.GameBarcodeMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
@@ -11,6 +14,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -21,6 +33,7 @@ public class GameBarcodeServiceImpl implements GameBarcodeService {
     private final GameBarcodeRepository gameBarcodeRepository;
     private final MessageSource messageSource;
     private final GameBarcodeMapper gameBarcodeMapper;
+    private final GameBarcodeIndex gameBarcodeIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -31,4 +44,35 @@ public class GameBarcodeServiceImpl implements GameBarcodeService {
         return gameBarcodeMapper.fromGameBarcode(gameBarcodeRepository.findByBarcode(barcode)
                 .orElseThrow(() -> new EntityNotFoundException(errorMessage)));
     }
+
+    @Override
+    public List<GameBarcodeMatchDto> findAllByBarcodes(Collection<String> barcodes) {
+        Objects.requireNonNull(barcodes);
+
+        Set<String> uniqueBarcodes = barcodes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (gameBarcodeIndex.isLoaded()) {
+            return uniqueBarcodes.stream()
+                    .map(gameBarcodeIndex::find)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+        }
+
+        // The index is still loading, so look up every barcode in a single query instead.
+        if (uniqueBarcodes.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, GameBarcodeEntry> entries = gameBarcodeRepository.findEntriesByBarcodes(uniqueBarcodes)
+                .stream()
+                .collect(Collectors.toMap(GameBarcodeEntry::getBarcode, Function.identity()));
+
+        return uniqueBarcodes.stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .map(entry -> new GameBarcodeMatchDto(entry.getBarcode(), entry.getGameId(), entry.getPlatformId(), entry.getBarcodeType()))
+                .collect(Collectors.toList());
+    }
 }
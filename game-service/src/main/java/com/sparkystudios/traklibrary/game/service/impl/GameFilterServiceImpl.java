@@ -6,6 +6,7 @@ import com.sparkystudios.traklibrary.game.repository.GameUserEntryRepository;
 import com.sparkystudios.traklibrary.game.repository.GenreRepository;
 import com.sparkystudios.traklibrary.game.repository.PlatformRepository;
 import com.sparkystudios.traklibrary.game.repository.specification.GameSearchSpecification;
+import com.sparkystudios.traklibrary.game.repository.specification.GameTextSearchSpecification;
 import com.sparkystudios.traklibrary.game.repository.specification.GameUserEntrySearchSpecification;
 import com.sparkystudios.traklibrary.game.service.GameFilterService;
 import com.sparkystudios.traklibrary.game.service.dto.*;
@@ -13,6 +14,7 @@ import com.sparkystudios.traklibrary.game.service.mapper.GameDetailsMapper;
 import com.sparkystudios.traklibrary.game.service.mapper.GameUserEntryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -140,6 +142,35 @@ public class GameFilterServiceImpl implements GameFilterService {
         return gameRepository.count(new GameSearchSpecification(platforms, genres, gameModes));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Iterable<GameDetailsDto> findGamesBySearch(String query,
+                                                      Set<Long> platformIds,
+                                                      Set<Long> genreIds,
+                                                      Set<GameMode> gameModes,
+                                                      Pageable pageable) {
+        // Nothing can match a query that has no words to match against.
+        if (query == null || query.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        return gameRepository.findAll(createGameSearchSpecification(query, platformIds, genreIds, gameModes), pageable)
+                .map(gameDetailsMapper::fromGame);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countGamesBySearch(String query,
+                                   Set<Long> platformIds,
+                                   Set<Long> genreIds,
+                                   Set<GameMode> gameModes) {
+        if (query == null || query.isBlank()) {
+            return 0L;
+        }
+
+        return gameRepository.count(createGameSearchSpecification(query, platformIds, genreIds, gameModes));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Iterable<GameUserEntryDto> findGameUserEntriesByFilters(Set<Long> platformIds, Set<Long> genreIds, Set<GameMode> gameModes, Set<GameUserEntryStatus> statuses, Pageable pageable) {
@@ -169,4 +200,18 @@ public class GameFilterServiceImpl implements GameFilterService {
 
         return gameUserEntryRepository.count(new GameUserEntrySearchSpecification(platforms, genres, gameModes, statuses));
     }
+
+    private Specification<Game> createGameSearchSpecification(String query, Set<Long> platformIds, Set<Long> genreIds, Set<GameMode> gameModes) {
+        // Get the platforms from the filter query.
+        Set<Platform> platforms = platformIds != null && !platformIds.isEmpty() ?
+                StreamSupport.stream(platformRepository.findAllById(platformIds).spliterator(), false).collect(Collectors.toSet()) : Collections.emptySet();
+
+        // Get the genres from the filter query.
+        Set<Genre> genres = genreIds != null && !genreIds.isEmpty() ?
+                StreamSupport.stream(genreRepository.findAllById(genreIds).spliterator(), false).collect(Collectors.toSet()) : Collections.emptySet();
+
+        // Search within the games that match the filters, the text search orders them by their relevance.
+        return Specification.where(new GameTextSearchSpecification(query.strip()))
+                .and(new GameSearchSpecification(platforms, genres, gameModes));
+    }
 }
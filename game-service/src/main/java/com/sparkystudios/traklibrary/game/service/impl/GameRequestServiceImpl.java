@@ -8,10 +8,10 @@ import com.sparkystudios.traklibrary.game.service.PatchService;
 import com.sparkystudios.traklibrary.game.service.dto.GameRequestDto;
 import com.sparkystudios.traklibrary.game.service.event.NotificationEvent;
 import com.sparkystudios.traklibrary.game.service.mapper.GameRequestMapper;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
 import com.sparkystudios.traklibrary.security.AuthenticationService;
 import com.sparkystudios.traklibrary.security.exception.InvalidUserException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +25,7 @@ import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
@@ -39,7 +40,7 @@ public class GameRequestServiceImpl implements GameRequestService {
     private final AuthenticationService authenticationService;
     private final MessageSource messageSource;
     private final PatchService patchService;
-    private final StreamBridge streamBridge;
+    private final OutboxPublisher outboxPublisher;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -113,6 +114,7 @@ public class GameRequestServiceImpl implements GameRequestService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public void complete(@NonNull GameRequestDto gameRequestDto) {
         // Only complete the request if it's not already flagged as completed.
         if (!gameRequestDto.isCompleted()) {
@@ -129,8 +131,8 @@ public class GameRequestServiceImpl implements GameRequestService {
             String content = messageSource
                     .getMessage("game-request.notification.complete.content", new Object[] {gameRequestDto.getTitle()}, LocaleContextHolder.getLocale());
 
-            // Dispatch the notification.
-            streamBridge.send("trak-notification-send",
+            // Dispatch the notification once the request has been saved.
+            outboxPublisher.publish("trak-notification-send",
                     new NotificationEvent(gameRequestDto.getUserId(), title, content));
         }
     }
@@ -138,18 +140,29 @@ public class GameRequestServiceImpl implements GameRequestService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public GameRequestDto patch(long id, JsonMergePatch jsonMergePatch) {
-        // Set the new Java object with the patch information.
-        GameRequestDto patched = patchService.patch(jsonMergePatch, findById(id), GameRequestDto.class);
+        String notFoundMessage = messageSource
+                .getMessage(NOT_FOUND_MESSAGE, new Object[] { id }, LocaleContextHolder.getLocale());
+
+        var gameRequest = gameRequestRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(notFoundMessage));
 
-        if (!authenticationService.isCurrentAuthenticatedUser(patched.getUserId())) {
+        // The user can't be patched, so check the request belongs to the current user before anything is changed.
+        if (!authenticationService.isCurrentAuthenticatedUser(gameRequest.getUserId())) {
             String errorMessage = messageSource
                     .getMessage(INVALID_USER_MESSAGE, new Object[] {}, LocaleContextHolder.getLocale());
 
             throw new InvalidUserException(errorMessage);
         }
 
-        // Save to the repository and convert it back to a GameDto.
-        return gameRequestMapper.fromGameRequest(gameRequestRepository.save(gameRequestMapper.toGameRequest(patched)));
+        // Apply the patch directly to the managed request, only the changed columns are updated when it's flushed.
+        Optional<Set<String>> patchedProperties = patchService.patchEntity(jsonMergePatch, gameRequest, GameRequestDto.class);
+
+        if (patchedProperties.isEmpty()) {
+            GameRequestDto patched = patchService.patch(jsonMergePatch, gameRequestMapper.fromGameRequest(gameRequest), GameRequestDto.class);
+            return gameRequestMapper.fromGameRequest(gameRequestRepository.save(gameRequestMapper.toGameRequest(patched)));
+        }
+
+        return gameRequestMapper.fromGameRequest(gameRequest);
     }
 
     @Override
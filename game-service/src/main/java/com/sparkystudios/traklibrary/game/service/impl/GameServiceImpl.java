@@ -1,5 +1,6 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
+import com.github.slugify.Slugify;
 import com.sparkystudios.traklibrary.game.domain.Developer;
 import com.sparkystudios.traklibrary.game.domain.Genre;
 import com.sparkystudios.traklibrary.game.domain.Platform;
@@ -26,6 +27,8 @@ import javax.json.JsonMergePatch;
 import javax.persistence.EntityNotFoundException;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -442,10 +445,27 @@ public class GameServiceImpl implements GameService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public GameDto patch(long id, JsonMergePatch jsonMergePatch) {
-        // Set the new Java object with the patch information.
-        GameDto patched = patchService.patch(jsonMergePatch, findById(id), GameDto.class);
-        // Save to the repository and convert it back to a GameDto.
-        return gameMapper.fromGame(gameRepository.save(gameMapper.toGame(patched)));
+        String errorMessage = messageSource
+                .getMessage(NOT_FOUND_MESSAGE, new Object[] { "id", id }, LocaleContextHolder.getLocale());
+
+        var game = gameRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(errorMessage));
+
+        // Apply the patch directly to the managed game, only the changed columns are updated when it's flushed.
+        Optional<Set<String>> patchedProperties = patchService.patchEntity(jsonMergePatch, game, GameDto.class);
+
+        if (patchedProperties.isEmpty()) {
+            // The age ratings or release dates are being patched, which need to be mapped from the patched DTO.
+            GameDto patched = patchService.patch(jsonMergePatch, gameMapper.fromGame(game), GameDto.class);
+            return gameMapper.fromGame(gameRepository.save(gameMapper.toGame(patched)));
+        }
+
+        // The slug is always derived from the title, so only needs updating if either has been patched.
+        if (patchedProperties.get().contains("title") || patchedProperties.get().contains("slug")) {
+            game.setSlug(new Slugify().slugify(game.getTitle()));
+        }
+
+        return gameMapper.fromGame(game);
     }
 
     @Override
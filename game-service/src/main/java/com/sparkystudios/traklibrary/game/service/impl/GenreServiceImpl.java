@@ -1,5 +1,6 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
+import com.github.slugify.Slugify;
 import com.sparkystudios.traklibrary.game.domain.Game;
 import com.sparkystudios.traklibrary.game.repository.GameRepository;
 import com.sparkystudios.traklibrary.game.repository.GenreRepository;
@@ -21,6 +22,7 @@ import javax.persistence.EntityNotFoundException;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -127,10 +129,26 @@ public class GenreServiceImpl implements GenreService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public GenreDto patch(long id, JsonMergePatch jsonMergePatch) {
-        // Set the new Java object with the patch information.
-        GenreDto patched = patchService.patch(jsonMergePatch, findById(id), GenreDto.class);
-        // Save to the repository and convert it back to a GameDto.
-        return genreMapper.fromGenre(genreRepository.save(genreMapper.toGenre(patched)));
+        String errorMessage = messageSource
+                .getMessage(NOT_FOUND_MESSAGE, new Object[] { "id", id }, LocaleContextHolder.getLocale());
+
+        var genre = genreRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(errorMessage));
+
+        // Apply the patch directly to the managed genre, only the changed columns are updated when it's flushed.
+        Optional<Set<String>> patchedProperties = patchService.patchEntity(jsonMergePatch, genre, GenreDto.class);
+
+        if (patchedProperties.isEmpty()) {
+            GenreDto patched = patchService.patch(jsonMergePatch, genreMapper.fromGenre(genre), GenreDto.class);
+            return genreMapper.fromGenre(genreRepository.save(genreMapper.toGenre(patched)));
+        }
+
+        // The slug is always derived from the name, so only needs updating if either has been patched.
+        if (patchedProperties.get().contains("name") || patchedProperties.get().contains("slug")) {
+            genre.setSlug(new Slugify().slugify(genre.getName()));
+        }
+
+        return genreMapper.fromGenre(genre);
     }
 
     @Override
@@ -1,16 +1,45 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.sparkystudios.traklibrary.game.service.PatchService;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
 
 import javax.json.JsonMergePatch;
 import javax.json.JsonValue;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.Version;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Service
@@ -19,6 +48,9 @@ public class PatchServiceImpl implements PatchService {
     private final ObjectMapper objectMapper;
     private final Validator validator;
 
+    // The patchable properties of each entity and DTO pair, by their JSON name, which only need to be resolved once.
+    private final Map<List<Class<?>>, Map<String, PatchableProperty>> patchableProperties = new ConcurrentHashMap<>();
+
     @Override
     public <T> T patch(JsonMergePatch jsonMergePatch, T target, Class<T> clazz) {
         // Convert the target and apply the json patch to it.
@@ -37,4 +69,145 @@ public class PatchServiceImpl implements PatchService {
         // Return the patched object after validation.
         return patched;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<Set<String>> patchEntity(JsonMergePatch jsonMergePatch, Object entity, Class<T> dtoClass) {
+        JsonValue patchJson = jsonMergePatch.toJsonValue();
+        if (patchJson.getValueType() != JsonValue.ValueType.OBJECT) {
+            throw new IllegalArgumentException("Only a JSON object merge patch can be applied to an entity.");
+        }
+
+        Map<String, PatchableProperty> properties = patchableProperties
+                .computeIfAbsent(List.of(entity.getClass(), dtoClass), key -> resolvePatchableProperties(entity.getClass(), dtoClass));
+
+        var beanWrapper = new BeanWrapperImpl(entity);
+
+        // Convert and validate every member of the patch before the entity is touched, so that a patch that is
+        // invalid, or can't be applied directly, leaves the entity exactly as it was.
+        Map<String, Object> values = new LinkedHashMap<>();
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+
+        for (Map.Entry<String, JsonValue> member : patchJson.asJsonObject().entrySet()) {
+            PatchableProperty property = properties.get(member.getKey());
+            if (property == null || property.getAccess() == PropertyAccess.IGNORED) {
+                continue;
+            }
+
+            if (property.getAccess() == PropertyAccess.UNSUPPORTED) {
+                return Optional.empty();
+            }
+
+            Object value = objectMapper.convertValue(member.getValue(), property.getJavaType());
+
+            if (property.getAccess() == PropertyAccess.VERSION) {
+                // A patch without a version is applied to whatever the current version is.
+                Object version = beanWrapper.getPropertyValue(property.getName());
+                if (value != null && !Objects.equals(value, version)) {
+                    throw new ObjectOptimisticLockingFailureException("Patched version " + value + " of " +
+                            entity.getClass().getSimpleName() + " doesn't match the current version " + version + ".", null);
+                }
+
+                continue;
+            }
+
+            violations.addAll(validator.validateValue(dtoClass, property.getName(), value));
+            values.put(property.getName(), value);
+        }
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        // Only set the properties that have actually changed, so the persistence context only updates those.
+        Set<String> changedProperties = new HashSet<>();
+        values.forEach((name, value) -> {
+            Object current = beanWrapper.getPropertyValue(name);
+            if (Objects.equals(current, value)) {
+                return;
+            }
+
+            // Managed collections are replaced in place, so they're updated rather than deleted and re-created.
+            if (current instanceof Collection && value != null) {
+                ((Collection<Object>) current).clear();
+                ((Collection<Object>) current).addAll((Collection<Object>) value);
+            } else {
+                beanWrapper.setPropertyValue(name, value);
+            }
+
+            changedProperties.add(name);
+        });
+
+        return Optional.of(changedProperties);
+    }
+
+    private Map<String, PatchableProperty> resolvePatchableProperties(Class<?> entityClass, Class<?> dtoClass) {
+        Map<String, PatchableProperty> properties = new HashMap<>();
+
+        // The members of a patch are named by the mapper's naming strategy, i.e. "game_modes", so the DTO's properties
+        // are introspected through the mapper to match each JSON name to the bean property it's bound to.
+        List<BeanPropertyDefinition> definitions = objectMapper.getDeserializationConfig()
+                .introspect(objectMapper.constructType(dtoClass))
+                .findProperties();
+
+        for (BeanPropertyDefinition definition : definitions) {
+            String name = definition.getInternalName();
+
+            PropertyDescriptor dtoProperty = BeanUtils.getPropertyDescriptor(dtoClass, name);
+            if (dtoProperty == null || dtoProperty.getReadMethod() == null || dtoProperty.getWriteMethod() == null) {
+                continue;
+            }
+
+            PropertyDescriptor entityProperty = BeanUtils.getPropertyDescriptor(entityClass, name);
+            Field field = ReflectionUtils.findField(entityClass, name);
+
+            JavaType javaType = objectMapper.getTypeFactory().constructType(dtoProperty.getReadMethod().getGenericReturnType());
+            properties.put(definition.getName(), new PatchableProperty(name, resolveAccess(dtoProperty, entityProperty, field), javaType));
+        }
+
+        return properties;
+    }
+
+    private static PropertyAccess resolveAccess(PropertyDescriptor dtoProperty, PropertyDescriptor entityProperty, Field field) {
+        // Properties that only exist on the DTO are ignored by the mappers, so are ignored here too.
+        if (entityProperty == null || entityProperty.getReadMethod() == null || entityProperty.getWriteMethod() == null || field == null) {
+            return PropertyAccess.IGNORED;
+        }
+
+        Column column = field.getAnnotation(Column.class);
+        if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(CreatedDate.class) ||
+                field.isAnnotationPresent(LastModifiedDate.class) || (column != null && !column.updatable())) {
+            return PropertyAccess.IGNORED;
+        }
+
+        if (field.isAnnotationPresent(Version.class)) {
+            return PropertyAccess.VERSION;
+        }
+
+        // Associations are exposed as DTO's of their own, which can't be set on the entity as they are.
+        if (field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class) ||
+                field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class) ||
+                field.isAnnotationPresent(Embedded.class) || field.isAnnotationPresent(EmbeddedId.class) ||
+                !dtoProperty.getReadMethod().getGenericReturnType().equals(entityProperty.getReadMethod().getGenericReturnType())) {
+            return PropertyAccess.UNSUPPORTED;
+        }
+
+        return PropertyAccess.PATCHABLE;
+    }
+
+    private enum PropertyAccess {
+        PATCHABLE,
+        VERSION,
+        IGNORED,
+        UNSUPPORTED
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PatchableProperty {
+
+        private final String name;
+        private final PropertyAccess access;
+        private final JavaType javaType;
+    }
 }
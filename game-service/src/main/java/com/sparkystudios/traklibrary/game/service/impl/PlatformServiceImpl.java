@@ -1,5 +1,6 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
+import com.github.slugify.Slugify;
 import com.sparkystudios.traklibrary.game.domain.Game;
 import com.sparkystudios.traklibrary.game.repository.GameRepository;
 import com.sparkystudios.traklibrary.game.repository.PlatformRepository;
@@ -20,6 +21,7 @@ import javax.persistence.EntityExistsException;
 import javax.persistence.EntityNotFoundException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -131,10 +133,27 @@ public class PlatformServiceImpl implements PlatformService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public PlatformDto patch(long id, JsonMergePatch jsonMergePatch) {
-        // Set the new Java object with the patch information.
-        PlatformDto patched = patchService.patch(jsonMergePatch, findById(id), PlatformDto.class);
-        // Save to the repository and convert it back to a GameDto.
-        return platformMapper.fromPlatform(platformRepository.save(platformMapper.toPlatform(patched)));
+        String errorMessage = messageSource
+                .getMessage(NOT_FOUND_MESSAGE, new Object[] { "id", id }, LocaleContextHolder.getLocale());
+
+        var platform = platformRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(errorMessage));
+
+        // Apply the patch directly to the managed platform, only the changed columns are updated when it's flushed.
+        Optional<Set<String>> patchedProperties = patchService.patchEntity(jsonMergePatch, platform, PlatformDto.class);
+
+        if (patchedProperties.isEmpty()) {
+            // The release dates are being patched, which need to be mapped from the patched DTO.
+            PlatformDto patched = patchService.patch(jsonMergePatch, platformMapper.fromPlatform(platform), PlatformDto.class);
+            return platformMapper.fromPlatform(platformRepository.save(platformMapper.toPlatform(patched)));
+        }
+
+        // The slug is always derived from the name, so only needs updating if either has been patched.
+        if (patchedProperties.get().contains("name") || patchedProperties.get().contains("slug")) {
+            platform.setSlug(new Slugify().slugify(platform.getName()));
+        }
+
+        return platformMapper.fromPlatform(platform);
     }
 
     @Override
@@ -0,0 +1,172 @@
+package com.sparkystudios.traklibrary.game.service.barcode;
+
+import com.sparkystudios.traklibrary.game.domain.BarcodeType;
+import com.sparkystudios.traklibrary.game.domain.GameBarcode;
+import com.sparkystudios.traklibrary.game.repository.GameBarcodeRepository;
+import com.sparkystudios.traklibrary.game.repository.projection.GameBarcodeEntry;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class GameBarcodeIndexTest {
+
+    @Mock
+    private GameBarcodeRepository gameBarcodeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GameBarcodeIndex gameBarcodeIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameBarcodeIndex = new GameBarcodeIndex(gameBarcodeRepository, meterRegistry, Duration.ofHours(1), 2, 100, 0.01D);
+    }
+
+    @AfterEach
+    void afterEach() {
+        gameBarcodeIndex.destroy();
+    }
+
+    @Test
+    void constructor_withZeroLoadBatchSize_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GameBarcodeIndex(gameBarcodeRepository, meterRegistry, Duration.ofHours(1), 0, 100, 0.01D));
+    }
+
+    @Test
+    void find_withUnloadedIndex_throwsIllegalStateException() {
+        // Assert
+        Assertions.assertFalse(gameBarcodeIndex.isLoaded(), "The index shouldn't be loaded until it's been reloaded.");
+        Assertions.assertThrows(IllegalStateException.class, () -> gameBarcodeIndex.find("barcode"));
+    }
+
+    @Test
+    void reload_withBarcodesOverSeveralBatches_loadsEveryBarcode() {
+        // Arrange
+        GameBarcodeEntry gameBarcodeEntry1 = createGameBarcodeEntry(1L, "5030917285134", 10L, 20L);
+        GameBarcodeEntry gameBarcodeEntry2 = createGameBarcodeEntry(2L, "0045496590420", 11L, 21L);
+        GameBarcodeEntry gameBarcodeEntry3 = createGameBarcodeEntry(3L, "711719541028", 12L, 22L);
+
+        Mockito.when(gameBarcodeRepository.findEntries(ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+                .thenReturn(List.of(gameBarcodeEntry1, gameBarcodeEntry2));
+
+        Mockito.when(gameBarcodeRepository.findEntries(ArgumentMatchers.eq(2L), ArgumentMatchers.any()))
+                .thenReturn(List.of(gameBarcodeEntry3));
+
+        // Act
+        gameBarcodeIndex.reload();
+
+        // Assert
+        Assertions.assertTrue(gameBarcodeIndex.isLoaded(), "The index should be loaded once it's been reloaded.");
+        Assertions.assertEquals(3L, gameBarcodeIndex.size(), "Every barcode should be loaded into the index.");
+
+        Optional<GameBarcodeMatchDto> result = gameBarcodeIndex.find("0045496590420");
+        Assertions.assertTrue(result.isPresent(), "A loaded barcode should be found.");
+        Assertions.assertEquals(11L, result.get().getGameId(), "The game ID of the barcode should be indexed.");
+        Assertions.assertEquals(21L, result.get().getPlatformId(), "The platform ID of the barcode should be indexed.");
+        Assertions.assertEquals(BarcodeType.EAN_13, result.get().getBarcodeType(), "The type of the barcode should be indexed.");
+
+        Assertions.assertTrue(gameBarcodeIndex.find("5030917285134").isPresent(), "Every loaded barcode should be found.");
+        Assertions.assertTrue(gameBarcodeIndex.find("711719541028").isPresent(), "Every loaded barcode should be found.");
+        Assertions.assertTrue(gameBarcodeIndex.estimateMemory() > 0L, "The memory used by the index should be estimated.");
+    }
+
+    @Test
+    void find_withUnknownBarcodes_returnsEmptyAndRecordsOutcomes() {
+        // Arrange
+        Mockito.when(gameBarcodeRepository.findEntries(ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+                .thenReturn(List.of(createGameBarcodeEntry(1L, "5030917285134", 10L, 20L)));
+
+        gameBarcodeIndex.reload();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(gameBarcodeIndex.find("unknown-" + i).isEmpty(), "An unknown barcode should never be found.");
+        }
+        gameBarcodeIndex.find("5030917285134");
+
+        // Assert
+        double filtered = meterRegistry.get("trak.game.barcode.index.lookups").tag("outcome", "filtered").counter().count();
+        double unmatched = meterRegistry.get("trak.game.barcode.index.lookups").tag("outcome", "unmatched").counter().count();
+        double matched = meterRegistry.get("trak.game.barcode.index.lookups").tag("outcome", "matched").counter().count();
+
+        Assertions.assertEquals(100D, filtered + unmatched, "Every unknown barcode should be recorded as filtered or unmatched.");
+        Assertions.assertTrue(filtered >= 90D, "Most unknown barcodes should be filtered without being searched for.");
+        Assertions.assertEquals(1D, matched, "The known barcode should be recorded as matched.");
+    }
+
+    @Test
+    void put_withNewBarcode_isFoundBeforeAndAfterReload() {
+        // Arrange
+        Mockito.when(gameBarcodeRepository.findEntries(ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of(createGameBarcodeEntry(1L, "5030917285134", 10L, 20L)));
+
+        gameBarcodeIndex.reload();
+
+        // Act
+        gameBarcodeIndex.put(createGameBarcode("5030917285134", 10L, 20L));
+
+        // Assert
+        Assertions.assertTrue(gameBarcodeIndex.find("5030917285134").isPresent(), "A committed barcode should be found straight away.");
+        Assertions.assertEquals(1L, gameBarcodeIndex.size(), "A committed barcode should be counted.");
+
+        gameBarcodeIndex.reload();
+
+        Assertions.assertTrue(gameBarcodeIndex.find("5030917285134").isPresent(), "A committed barcode should be found once reloaded.");
+        Assertions.assertEquals(1L, gameBarcodeIndex.size(), "A reloaded barcode shouldn't be counted twice.");
+    }
+
+    @Test
+    void remove_withIndexedBarcode_isNoLongerFound() {
+        // Arrange
+        Mockito.when(gameBarcodeRepository.findEntries(ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+                .thenReturn(List.of(createGameBarcodeEntry(1L, "5030917285134", 10L, 20L)));
+
+        gameBarcodeIndex.reload();
+
+        // Act
+        gameBarcodeIndex.remove("5030917285134");
+
+        // Assert
+        Assertions.assertTrue(gameBarcodeIndex.find("5030917285134").isEmpty(), "A removed barcode shouldn't be found.");
+        Assertions.assertEquals(0L, gameBarcodeIndex.size(), "A removed barcode shouldn't be counted.");
+    }
+
+    private GameBarcodeEntry createGameBarcodeEntry(long id, String barcode, long gameId, long platformId) {
+        GameBarcodeEntry gameBarcodeEntry = Mockito.mock(GameBarcodeEntry.class);
+
+        Mockito.lenient().when(gameBarcodeEntry.getId()).thenReturn(id);
+        Mockito.when(gameBarcodeEntry.getBarcode()).thenReturn(barcode);
+        Mockito.when(gameBarcodeEntry.getGameId()).thenReturn(gameId);
+        Mockito.when(gameBarcodeEntry.getPlatformId()).thenReturn(platformId);
+        Mockito.when(gameBarcodeEntry.getBarcodeType()).thenReturn(BarcodeType.EAN_13);
+
+        return gameBarcodeEntry;
+    }
+
+    private GameBarcode createGameBarcode(String barcode, long gameId, long platformId) {
+        var gameBarcode = new GameBarcode();
+        gameBarcode.setBarcode(barcode);
+        gameBarcode.setGameId(gameId);
+        gameBarcode.setPlatformId(platformId);
+        gameBarcode.setBarcodeType(BarcodeType.EAN_13);
+
+        return gameBarcode;
+    }
+}
@@ -0,0 +1,129 @@
+package com.sparkystudios.traklibrary.game.service.impl;
+
+import com.sparkystudios.traklibrary.game.domain.GameUserEntryStatus;
+import com.sparkystudios.traklibrary.game.repository.GameUserEntryRepository;
+import com.sparkystudios.traklibrary.game.service.dto.request.BroadcastNotificationRequest;
+import com.sparkystudios.traklibrary.game.service.event.BroadcastNotificationEvent;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastNotificationServiceImplTest {
+
+    @Mock
+    private GameUserEntryRepository gameUserEntryRepository;
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    private BroadcastNotificationServiceImpl broadcastNotificationService;
+
+    @BeforeEach
+    void beforeEach() {
+        broadcastNotificationService = new BroadcastNotificationServiceImpl(gameUserEntryRepository, streamBridge, 2);
+    }
+
+    @Test
+    void constructor_withZeroChunkSize_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new BroadcastNotificationServiceImpl(gameUserEntryRepository, streamBridge, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void broadcast_withNullBroadcastNotificationRequest_throwsNullPointerException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> broadcastNotificationService.broadcast(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void broadcast_withEmptySegment_doesntPublishEvents() {
+        // Arrange
+        Mockito.when(gameUserEntryRepository.findUserIdsBySegment(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.anyCollection(), ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        broadcastNotificationService.broadcast(createBroadcastNotificationRequest());
+
+        // Assert
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void broadcast_withSegment_publishesEventPerKeyedChunk() {
+        // Arrange
+        EnumSet<GameUserEntryStatus> statuses = EnumSet.allOf(GameUserEntryStatus.class);
+
+        Mockito.when(gameUserEntryRepository.findUserIdsBySegment(1L, 0L, statuses, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L));
+        Mockito.when(gameUserEntryRepository.findUserIdsBySegment(1L, 0L, statuses, 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(3L, 4L));
+        Mockito.when(gameUserEntryRepository.findUserIdsBySegment(1L, 0L, statuses, 4L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(5L));
+
+        // Act
+        String result = broadcastNotificationService.broadcast(createBroadcastNotificationRequest());
+
+        // Assert
+        ArgumentCaptor<BroadcastNotificationEvent> captor = ArgumentCaptor.forClass(BroadcastNotificationEvent.class);
+        Mockito.verify(streamBridge, Mockito.times(3))
+                .send(ArgumentMatchers.eq("trak-notification-broadcast"), captor.capture());
+
+        List<BroadcastNotificationEvent> events = captor.getAllValues();
+        Assertions.assertThat(events)
+                .extracting(BroadcastNotificationEvent::getUserIds)
+                .containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        Assertions.assertThat(events)
+                .extracting(BroadcastNotificationEvent::getChunk)
+                .containsExactly(0, 1, 2);
+        Assertions.assertThat(events)
+                .extracting(BroadcastNotificationEvent::isLast)
+                .containsExactly(false, false, true);
+        Assertions.assertThat(events)
+                .extracting(BroadcastNotificationEvent::getBroadcastId)
+                .containsOnly(result);
+    }
+
+    @Test
+    void broadcast_withFullLastChunk_flagsLastChunk() {
+        // Arrange
+        Mockito.when(gameUserEntryRepository.findUserIdsBySegment(ArgumentMatchers.eq(1L), ArgumentMatchers.eq(0L), ArgumentMatchers.anyCollection(), ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+                .thenReturn(List.of(1L, 2L));
+        Mockito.when(gameUserEntryRepository.findUserIdsBySegment(ArgumentMatchers.eq(1L), ArgumentMatchers.eq(0L), ArgumentMatchers.anyCollection(), ArgumentMatchers.eq(2L), ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        broadcastNotificationService.broadcast(createBroadcastNotificationRequest());
+
+        // Assert
+        ArgumentCaptor<BroadcastNotificationEvent> captor = ArgumentCaptor.forClass(BroadcastNotificationEvent.class);
+        Mockito.verify(streamBridge)
+                .send(ArgumentMatchers.eq("trak-notification-broadcast"), captor.capture());
+
+        Assertions.assertThat(captor.getValue().isLast())
+                .isTrue();
+    }
+
+    private BroadcastNotificationRequest createBroadcastNotificationRequest() {
+        BroadcastNotificationRequest broadcastNotificationRequest = new BroadcastNotificationRequest();
+        broadcastNotificationRequest.setGameId(1L);
+        broadcastNotificationRequest.setTitle("title");
+        broadcastNotificationRequest.setContent("content");
+
+        return broadcastNotificationRequest;
+    }
+}
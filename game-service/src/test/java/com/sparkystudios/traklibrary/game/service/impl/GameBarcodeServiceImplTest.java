@@ -1,8 +1,12 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
+import com.sparkystudios.traklibrary.game.domain.BarcodeType;
 import com.sparkystudios.traklibrary.game.domain.GameBarcode;
 import com.sparkystudios.traklibrary.game.repository.GameBarcodeRepository;
+import com.sparkystudios.traklibrary.game.repository.projection.GameBarcodeEntry;
+import com.sparkystudios.traklibrary.game.service.barcode.GameBarcodeIndex;
 import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeDto;
+import com.sparkystudios.traklibrary.game.service.dto.GameBarcodeMatchDto;
 import com.sparkystudios.traklibrary.game.service.mapper.GameBarcodeMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -30,6 +36,9 @@ class GameBarcodeServiceImplTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private GameBarcodeIndex gameBarcodeIndex;
+
     @InjectMocks
     private GameBarcodeServiceImpl gameBarcodeService;
 
@@ -67,4 +76,70 @@ class GameBarcodeServiceImplTest {
         Mockito.verify(gameBarcodeMapper, Mockito.atMostOnce())
                 .fromGameBarcode(ArgumentMatchers.any());
     }
+
+    @Test
+    void findAllByBarcodes_withLoadedIndex_returnsKnownBarcodesWithoutQuerying() {
+        // Arrange
+        var gameBarcodeMatchDto = new GameBarcodeMatchDto("barcode-2", 2L, 3L, BarcodeType.EAN_13);
+
+        Mockito.when(gameBarcodeIndex.isLoaded())
+                .thenReturn(true);
+
+        Mockito.when(gameBarcodeIndex.find("barcode-1"))
+                .thenReturn(Optional.empty());
+
+        Mockito.when(gameBarcodeIndex.find("barcode-2"))
+                .thenReturn(Optional.of(gameBarcodeMatchDto));
+
+        // Act
+        List<GameBarcodeMatchDto> result = gameBarcodeService.findAllByBarcodes(Arrays.asList("barcode-1", "barcode-2", "barcode-2", null));
+
+        // Assert
+        Assertions.assertEquals(List.of(gameBarcodeMatchDto), result, "Only the known barcode should be returned, and only once.");
+
+        Mockito.verify(gameBarcodeIndex, Mockito.times(2))
+                .find(ArgumentMatchers.anyString());
+
+        Mockito.verifyNoInteractions(gameBarcodeRepository);
+    }
+
+    @Test
+    void findAllByBarcodes_withUnloadedIndex_queriesBarcodesOnceInGivenOrder() {
+        // Arrange
+        GameBarcodeEntry gameBarcodeEntry1 = createGameBarcodeEntry("barcode-1", 1L);
+        GameBarcodeEntry gameBarcodeEntry3 = createGameBarcodeEntry("barcode-3", 3L);
+
+        Mockito.when(gameBarcodeIndex.isLoaded())
+                .thenReturn(false);
+
+        Mockito.when(gameBarcodeRepository.findEntriesByBarcodes(ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(gameBarcodeEntry3, gameBarcodeEntry1));
+
+        // Act
+        List<GameBarcodeMatchDto> result = gameBarcodeService.findAllByBarcodes(List.of("barcode-1", "barcode-2", "barcode-3"));
+
+        // Assert
+        Assertions.assertEquals(2, result.size(), "Only the barcodes that exist should be returned.");
+        Assertions.assertEquals("barcode-1", result.get(0).getBarcode(), "The barcodes should be returned in the order given.");
+        Assertions.assertEquals(1L, result.get(0).getGameId(), "The game ID should be mapped from the entry.");
+        Assertions.assertEquals("barcode-3", result.get(1).getBarcode(), "The barcodes should be returned in the order given.");
+
+        Mockito.verify(gameBarcodeRepository, Mockito.times(1))
+                .findEntriesByBarcodes(ArgumentMatchers.anyCollection());
+
+        Mockito.verify(gameBarcodeIndex, Mockito.never())
+                .find(ArgumentMatchers.anyString());
+    }
+
+    private GameBarcodeEntry createGameBarcodeEntry(String barcode, long gameId) {
+        GameBarcodeEntry gameBarcodeEntry = Mockito.mock(GameBarcodeEntry.class);
+
+        Mockito.when(gameBarcodeEntry.getBarcode())
+                .thenReturn(barcode);
+
+        Mockito.when(gameBarcodeEntry.getGameId())
+                .thenReturn(gameId);
+
+        return gameBarcodeEntry;
+    }
 }
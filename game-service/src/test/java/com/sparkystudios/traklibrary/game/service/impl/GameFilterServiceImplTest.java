@@ -20,6 +20,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collections;
 import java.util.List;
@@ -358,6 +359,79 @@ class GameFilterServiceImplTest {
                 .findAllById(ArgumentMatchers.anyIterable());
     }
 
+    @Test
+    void findGamesBySearch_withBlankQuery_returnsEmptyIterable() {
+        // Act
+        Iterable<GameDetailsDto> result = gameFilterService.findGamesBySearch(" ", Collections.singleton(1L), null, null, Pageable.unpaged());
+
+        // Assert
+        Assertions.assertThat(result).isEmpty();
+
+        Mockito.verifyNoInteractions(platformRepository, genreRepository, gameRepository);
+    }
+
+    @Test
+    void findGamesBySearch_withQueryAndFilters_invokesRepositories() {
+        // Arrange
+        Set<Long> platformIds = Collections.singleton(1L);
+        Set<Long> genreIds = Collections.singleton(2L);
+        Set<GameMode> gameModes = Collections.emptySet();
+
+        Mockito.when(platformRepository.findAllById(ArgumentMatchers.anyIterable()))
+                .thenReturn(Collections.singletonList(new Platform()));
+
+        Mockito.when(genreRepository.findAllById(ArgumentMatchers.anyIterable()))
+                .thenReturn(Collections.singletonList(new Genre()));
+
+        Mockito.when(gameRepository.findAll(ArgumentMatchers.<Specification<Game>>any(), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(new Game(), new Game())));
+
+        Mockito.when(gameDetailsMapper.fromGame(ArgumentMatchers.any()))
+                .thenReturn(new GameDetailsDto());
+
+        // Act
+        Iterable<GameDetailsDto> result = gameFilterService.findGamesBySearch("test-query", platformIds, genreIds, gameModes, Pageable.unpaged());
+
+        // Assert
+        Assertions.assertThat(result).hasSize(2);
+
+        Mockito.verify(platformRepository, Mockito.atMostOnce())
+                .findAllById(platformIds);
+
+        Mockito.verify(genreRepository, Mockito.atMostOnce())
+                .findAllById(genreIds);
+    }
+
+    @Test
+    void countGamesBySearch_withNullQuery_returnsZero() {
+        // Act
+        long result = gameFilterService.countGamesBySearch(null, null, null, null);
+
+        // Assert
+        Assertions.assertThat(result).isZero();
+
+        Mockito.verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void countGamesBySearch_withQuery_returnsCount() {
+        // Arrange
+        Mockito.when(gameRepository.count(ArgumentMatchers.<Specification<Game>>any()))
+                .thenReturn(2L);
+
+        // Act
+        long result = gameFilterService.countGamesBySearch("test-query", null, null, null);
+
+        // Assert
+        Assertions.assertThat(result).isEqualTo(2L);
+
+        Mockito.verify(platformRepository, Mockito.never())
+                .findAllById(ArgumentMatchers.anyIterable());
+
+        Mockito.verify(genreRepository, Mockito.never())
+                .findAllById(ArgumentMatchers.anyIterable());
+    }
+
     @Test
     void findGameUserEntriesByFilters_withNullPlatformIds_doesntInvokePlatformRepository() {
         // Arrange
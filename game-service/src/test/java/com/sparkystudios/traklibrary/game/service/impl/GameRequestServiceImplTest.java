@@ -7,6 +7,7 @@ import com.sparkystudios.traklibrary.game.service.PatchService;
 import com.sparkystudios.traklibrary.game.service.dto.GameRequestDto;
 import com.sparkystudios.traklibrary.game.service.event.NotificationEvent;
 import com.sparkystudios.traklibrary.game.service.mapper.GameRequestMapper;
+import com.sparkystudios.traklibrary.outbox.OutboxPublisher;
 import com.sparkystudios.traklibrary.security.AuthenticationService;
 import com.sparkystudios.traklibrary.security.exception.InvalidUserException;
 import org.junit.jupiter.api.Assertions;
@@ -17,7 +18,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -31,6 +31,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -53,7 +54,7 @@ class GameRequestServiceImplTest {
     private PatchService patchService;
 
     @Mock
-    private StreamBridge streamBridge;
+    private OutboxPublisher outboxPublisher;
 
     @InjectMocks
     private GameRequestServiceImpl gameRequestService;
@@ -323,8 +324,8 @@ class GameRequestServiceImplTest {
         Mockito.verify(gameRequestRepository, Mockito.never())
                 .save(ArgumentMatchers.any());
 
-        Mockito.verify(streamBridge, Mockito.never())
-                .send(ArgumentMatchers.eq("trak-notification-send"), ArgumentMatchers.any(NotificationEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.never())
+                .publish(ArgumentMatchers.eq("trak-notification-send"), ArgumentMatchers.any(NotificationEvent.class));
     }
 
     @Test
@@ -336,9 +337,6 @@ class GameRequestServiceImplTest {
         Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
-        Mockito.when(streamBridge.send(ArgumentMatchers.anyString(), ArgumentMatchers.any(NotificationEvent.class)))
-                .thenReturn(true);
-
         // Act
         gameRequestService.complete(new GameRequestDto());
 
@@ -346,8 +344,8 @@ class GameRequestServiceImplTest {
         Mockito.verify(gameRequestRepository, Mockito.atMostOnce())
                 .save(ArgumentMatchers.any());
 
-        Mockito.verify(streamBridge, Mockito.atMostOnce())
-                .send(ArgumentMatchers.eq("trak-notification-send"), ArgumentMatchers.any(NotificationEvent.class));
+        Mockito.verify(outboxPublisher, Mockito.atMostOnce())
+                .publish(ArgumentMatchers.eq("trak-notification-send"), ArgumentMatchers.any(NotificationEvent.class));
 
         Mockito.verify(gameRequestMapper, Mockito.atMostOnce())
                 .fromGameRequest(ArgumentMatchers.any());
@@ -382,15 +380,14 @@ class GameRequestServiceImplTest {
         Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
 
-        Mockito.when(patchService.patch(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
-                .thenReturn(new GameRequestDto());
-
         JsonMergePatch jsonMergePatch = Mockito.mock(JsonMergePatch.class);
 
         // Assert
         Assertions.assertThrows(InvalidUserException.class, () -> gameRequestService.patch(0L, jsonMergePatch));
         Mockito.verify(gameRequestRepository, Mockito.never())
                 .save(ArgumentMatchers.any());
+        Mockito.verify(patchService, Mockito.never())
+                .patchEntity(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
     }
 
     @Test
@@ -416,6 +413,31 @@ class GameRequestServiceImplTest {
                 .fromGameRequest(ArgumentMatchers.any());
     }
 
+    @Test
+    void patch_withDirectlyPatchableProperties_updatesManagedGameRequestWithoutSaving() {
+        // Arrange
+        GameRequest gameRequest = new GameRequest();
+
+        Mockito.when(gameRequestRepository.findById(ArgumentMatchers.anyLong()))
+                .thenReturn(Optional.of(gameRequest));
+
+        Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
+                .thenReturn(true);
+
+        Mockito.when(patchService.patchEntity(ArgumentMatchers.any(), ArgumentMatchers.eq(gameRequest), ArgumentMatchers.eq(GameRequestDto.class)))
+                .thenReturn(Optional.of(Set.of("title")));
+
+        // Act
+        gameRequestService.patch(0L, Mockito.mock(JsonMergePatch.class));
+
+        // Assert
+        Mockito.verify(gameRequestRepository, Mockito.never())
+                .save(ArgumentMatchers.any());
+
+        Mockito.verify(gameRequestMapper)
+                .fromGameRequest(gameRequest);
+    }
+
     @Test
     void delete_withNonExistentGameRequest_throwsEntityNotFoundException() {
         // Arrange
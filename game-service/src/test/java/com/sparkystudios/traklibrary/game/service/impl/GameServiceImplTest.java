@@ -1189,6 +1189,32 @@ class GameServiceImplTest {
                 .fromGame(ArgumentMatchers.any());
     }
 
+    @Test
+    void patch_withDirectlyPatchedTitle_updatesManagedGameAndSlug() {
+        // Arrange
+        Game game = new Game();
+        game.setTitle("Patched Title");
+        game.setSlug("title");
+
+        Mockito.when(gameRepository.findById(ArgumentMatchers.anyLong()))
+                .thenReturn(Optional.of(game));
+
+        Mockito.when(patchService.patchEntity(ArgumentMatchers.any(), ArgumentMatchers.eq(game), ArgumentMatchers.eq(GameDto.class)))
+                .thenReturn(Optional.of(Set.of("title")));
+
+        // Act
+        gameService.patch(0L, Mockito.mock(JsonMergePatch.class));
+
+        // Assert
+        Assertions.assertEquals("patched-title", game.getSlug(), "The slug should be derived from the patched title.");
+
+        Mockito.verify(patchService, Mockito.never())
+                .patch(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        Mockito.verify(gameRepository, Mockito.never())
+                .save(ArgumentMatchers.any());
+    }
+
     @Test
     void delete_withExistingId_invokesDeletion() {
         // Arrange
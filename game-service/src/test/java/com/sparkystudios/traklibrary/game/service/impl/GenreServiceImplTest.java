@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -395,6 +396,29 @@ class GenreServiceImplTest {
                 .fromGenre(ArgumentMatchers.any());
     }
 
+    @Test
+    void patch_withDirectlyPatchedName_updatesManagedGenreAndSlug() {
+        // Arrange
+        Genre genre = new Genre();
+        genre.setName("Patched Name");
+        genre.setSlug("name");
+
+        Mockito.when(genreRepository.findById(ArgumentMatchers.anyLong()))
+                .thenReturn(Optional.of(genre));
+
+        Mockito.when(patchService.patchEntity(ArgumentMatchers.any(), ArgumentMatchers.eq(genre), ArgumentMatchers.eq(GenreDto.class)))
+                .thenReturn(Optional.of(Set.of("name")));
+
+        // Act
+        genreService.patch(0L, Mockito.mock(JsonMergePatch.class));
+
+        // Assert
+        Assertions.assertEquals("patched-name", genre.getSlug(), "The slug should be derived from the patched name.");
+
+        Mockito.verify(genreRepository, Mockito.never())
+                .save(ArgumentMatchers.any());
+    }
+
     @Test
     void delete_withNonExistentId_throwsEntityNotFoundException() {
         // Arrange
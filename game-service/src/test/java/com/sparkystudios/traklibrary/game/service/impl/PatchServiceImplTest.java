@@ -1,6 +1,13 @@
 package com.sparkystudios.traklibrary.game.service.impl;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
+import com.sparkystudios.traklibrary.game.domain.Game;
+import com.sparkystudios.traklibrary.game.domain.GameMode;
 import com.sparkystudios.traklibrary.game.service.dto.GameDto;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -10,13 +17,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import javax.json.Json;
 import javax.json.JsonMergePatch;
 import javax.json.JsonValue;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
 import javax.validation.Validator;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 class PatchServiceImplTest {
@@ -68,4 +82,186 @@ class PatchServiceImplTest {
         // Assert
         Assertions.assertNotNull(result, "The result should not be null when patched.");
     }
+
+    @Test
+    void patchEntity_withChangedAndUnchangedValues_onlySetsChangedProperties() {
+        // Arrange
+        Game game = createGame();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("title", "New Title")
+                .add("description", "Description")
+                .build());
+
+        // Act
+        Optional<Set<String>> result = createPatchService().patchEntity(jsonMergePatch, game, GameDto.class);
+
+        // Assert
+        Assertions.assertEquals(Optional.of(Set.of("title")), result, "Only the title should have been changed.");
+        Assertions.assertEquals("New Title", game.getTitle(), "The title should have been patched.");
+        Assertions.assertEquals("Description", game.getDescription(), "The description should not have changed.");
+    }
+
+    @Test
+    void patchEntity_withValueBreakingConstraints_throwsConstraintViolationExceptionAndLeavesEntityUnchanged() {
+        // Arrange
+        Game game = createGame();
+        PatchServiceImpl entityPatchService = createPatchService();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("description", "New Description")
+                .add("title", "")
+                .build());
+
+        // Assert
+        Assertions.assertThrows(ConstraintViolationException.class, () ->
+                entityPatchService.patchEntity(jsonMergePatch, game, GameDto.class));
+        Assertions.assertEquals("Description", game.getDescription(), "The description should not be patched if another value is invalid.");
+    }
+
+    @Test
+    void patchEntity_withReadOnlyProperties_ignoresThem() {
+        // Arrange
+        Game game = createGame();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("id", 10L)
+                .add("created_at", "2000-01-01T00:00:00")
+                .add("unknown", "value")
+                .build());
+
+        // Act
+        Optional<Set<String>> result = createPatchService().patchEntity(jsonMergePatch, game, GameDto.class);
+
+        // Assert
+        Assertions.assertEquals(Optional.of(Collections.emptySet()), result, "No properties should have been changed.");
+        Assertions.assertEquals(1L, game.getId(), "The id should not be patched.");
+        Assertions.assertEquals(LocalDateTime.of(2021, 1, 1, 12, 0), game.getCreatedAt(), "The created date should not be patched.");
+    }
+
+    @Test
+    void patchEntity_withGameModes_replacesContentsOfExistingCollection() {
+        // Arrange
+        Game game = createGame();
+        Set<GameMode> gameModes = game.getGameModes();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("game_modes", Json.createArrayBuilder().add("MULTI_PLAYER").add("COOPERATIVE"))
+                .build());
+
+        // Act
+        createPatchService().patchEntity(jsonMergePatch, game, GameDto.class);
+
+        // Assert
+        Assertions.assertSame(gameModes, game.getGameModes(), "The existing collection should be updated in place.");
+        Assertions.assertEquals(EnumSet.of(GameMode.MULTI_PLAYER, GameMode.COOPERATIVE), game.getGameModes(), "The game modes should have been patched.");
+    }
+
+    @Test
+    void patchEntity_withSnakeCaseProperty_setsBeanProperty() {
+        // Arrange
+        Game game = createGame();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("franchise_id", 5L)
+                .build());
+
+        // Act
+        Optional<Set<String>> result = createPatchService().patchEntity(jsonMergePatch, game, GameDto.class);
+
+        // Assert
+        Assertions.assertEquals(Optional.of(Set.of("franchiseId")), result, "The franchise id should have been changed.");
+        Assertions.assertEquals(5L, game.getFranchiseId(), "The franchise id should have been patched.");
+    }
+
+    @Test
+    void patchEntity_withCamelCaseProperty_ignoresIt() {
+        // Arrange
+        Game game = createGame();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("franchiseId", 5L)
+                .build());
+
+        // Act
+        Optional<Set<String>> result = createPatchService().patchEntity(jsonMergePatch, game, GameDto.class);
+
+        // Assert
+        Assertions.assertEquals(Optional.of(Collections.emptySet()), result, "Only the JSON names of the properties should be patched.");
+        Assertions.assertNull(game.getFranchiseId(), "The franchise id should not have been patched.");
+    }
+
+    @Test
+    void patchEntity_withReleaseDates_returnsEmptyOptional() {
+        // Arrange
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("release_dates", Json.createArrayBuilder())
+                .build());
+
+        // Act
+        Optional<Set<String>> result = createPatchService().patchEntity(jsonMergePatch, createGame(), GameDto.class);
+
+        // Assert
+        Assertions.assertTrue(result.isEmpty(), "A patch of the release dates can't be applied directly.");
+    }
+
+    @Test
+    void patchEntity_withStaleVersion_throwsObjectOptimisticLockingFailureException() {
+        // Arrange
+        Game game = createGame();
+        PatchServiceImpl entityPatchService = createPatchService();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("title", "New Title")
+                .add("version", 1L)
+                .build());
+
+        // Assert
+        Assertions.assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                entityPatchService.patchEntity(jsonMergePatch, game, GameDto.class));
+        Assertions.assertEquals("Title", game.getTitle(), "The title should not be patched if the version is stale.");
+    }
+
+    @Test
+    void patchEntity_withNestedDtoCollection_returnsEmptyOptionalAndLeavesEntityUnchanged() {
+        // Arrange
+        Game game = createGame();
+
+        JsonMergePatch jsonMergePatch = Json.createMergePatch(Json.createObjectBuilder()
+                .add("title", "New Title")
+                .add("age_ratings", Json.createArrayBuilder())
+                .build());
+
+        // Act
+        Optional<Set<String>> result = createPatchService().patchEntity(jsonMergePatch, game, GameDto.class);
+
+        // Assert
+        Assertions.assertTrue(result.isEmpty(), "A patch of the age ratings can't be applied directly.");
+        Assertions.assertEquals("Title", game.getTitle(), "The title should not be patched if the patch can't be applied directly.");
+    }
+
+    private static PatchServiceImpl createPatchService() {
+        // Configured the same as the server's primary mapper, so the patches use the same JSON names as real requests.
+        ObjectMapper entityObjectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+                .configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new JSR353Module());
+
+        return new PatchServiceImpl(entityObjectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    private static Game createGame() {
+        Game game = new Game();
+        game.setId(1L);
+        game.setTitle("Title");
+        game.setDescription("Description");
+        game.setGameModes(EnumSet.of(GameMode.SINGLE_PLAYER));
+        game.setCreatedAt(LocalDateTime.of(2021, 1, 1, 12, 0));
+        game.setVersion(2L);
+
+        return game;
+    }
 }
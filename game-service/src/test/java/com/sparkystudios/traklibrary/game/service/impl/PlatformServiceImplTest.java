@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -410,6 +411,29 @@ class PlatformServiceImplTest {
                 .fromPlatform(ArgumentMatchers.any());
     }
 
+    @Test
+    void patch_withDirectlyPatchedDescription_updatesManagedPlatformWithoutChangingSlug() {
+        // Arrange
+        Platform platform = new Platform();
+        platform.setName("Name");
+        platform.setSlug("slug");
+
+        Mockito.when(platformRepository.findById(ArgumentMatchers.anyLong()))
+                .thenReturn(Optional.of(platform));
+
+        Mockito.when(patchService.patchEntity(ArgumentMatchers.any(), ArgumentMatchers.eq(platform), ArgumentMatchers.eq(PlatformDto.class)))
+                .thenReturn(Optional.of(Set.of("description")));
+
+        // Act
+        platformService.patch(0L, Mockito.mock(JsonMergePatch.class));
+
+        // Assert
+        Assertions.assertEquals("slug", platform.getSlug(), "The slug should only change when the name is patched.");
+
+        Mockito.verify(platformRepository, Mockito.never())
+                .save(ArgumentMatchers.any());
+    }
+
     @Test
     void delete_withNonExistentId_throwsEntityNotFoundException() {
         // Arrange
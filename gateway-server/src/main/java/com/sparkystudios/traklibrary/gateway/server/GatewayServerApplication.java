@@ -3,12 +3,15 @@ package com.sparkystudios.traklibrary.gateway.server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableDiscoveryClient
 @SpringBootApplication(scanBasePackages = {
         "com.sparkystudios.traklibrary.gateway.server",
+        "com.sparkystudios.traklibrary.loadbalancer",
         "com.sparkystudios.traklibrary.security.token"
 })
+@EnableScheduling
 public class GatewayServerApplication {
 
     public static void main(String... args) {
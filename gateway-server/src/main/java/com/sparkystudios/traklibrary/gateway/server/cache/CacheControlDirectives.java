@@ -0,0 +1,110 @@
+package com.sparkystudios.traklibrary.gateway.server.cache;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * The {@link CacheControlDirectives} is a small parsed representation of a Cache-Control header value, for either a
+ * request or a response. It only exposes the directives that the gateway response cache needs to make a decision on
+ * whether a response can be stored, served or must be revalidated with the backing service. Any directives that
+ * aren't understood are simply ignored.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Getter
+public class CacheControlDirectives {
+
+    private boolean noStore;
+    private boolean noCache;
+    private boolean privateResponse;
+    private boolean publicResponse;
+    private boolean mustRevalidate;
+    private Duration maxAge;
+    private Duration sharedMaxAge;
+
+    private CacheControlDirectives() {
+    }
+
+    /**
+     * Parses the given Cache-Control header value into a {@link CacheControlDirectives} instance. If the header
+     * value is null or empty, an instance with no directives set will be returned.
+     *
+     * @param headerValue The raw Cache-Control header value to parse.
+     *
+     * @return The parsed {@link CacheControlDirectives}.
+     */
+    public static CacheControlDirectives parse(String headerValue) {
+        var directives = new CacheControlDirectives();
+        if (Strings.isNullOrEmpty(headerValue)) {
+            return directives;
+        }
+
+        for (String token : headerValue.split(",")) {
+            String directive = token.trim().toLowerCase(Locale.ROOT);
+            String name = directive;
+            String value = null;
+
+            int separator = directive.indexOf('=');
+            if (separator > 0) {
+                name = directive.substring(0, separator).trim();
+                value = directive.substring(separator + 1).trim().replace("\"", "");
+            }
+
+            switch (name) {
+                case "no-store":
+                    directives.noStore = true;
+                    break;
+                case "no-cache":
+                    directives.noCache = true;
+                    break;
+                case "private":
+                    directives.privateResponse = true;
+                    break;
+                case "public":
+                    directives.publicResponse = true;
+                    break;
+                case "must-revalidate":
+                case "proxy-revalidate":
+                    directives.mustRevalidate = true;
+                    break;
+                case "max-age":
+                    directives.maxAge = parseSeconds(value);
+                    break;
+                case "s-maxage":
+                    directives.sharedMaxAge = parseSeconds(value);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return directives;
+    }
+
+    /**
+     * Determines whether the response these directives were parsed from can be served to users other than the one whose
+     * request it was a response to. Responses to authorized requests can only be shared if explicitly allowed to be.
+     *
+     * @return <code>true</code> if the response can be shared between users, <code>false</code> otherwise.
+     */
+    public boolean isShared() {
+        return !privateResponse && (publicResponse || sharedMaxAge != null || mustRevalidate);
+    }
+
+    private static Duration parseSeconds(String value) {
+        if (Strings.isNullOrEmpty(value)) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // An invalid delta-seconds value should be treated as if the response is already stale.
+            return Duration.ZERO;
+        }
+    }
+}
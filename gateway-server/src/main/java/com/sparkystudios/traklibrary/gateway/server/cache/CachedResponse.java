@@ -0,0 +1,152 @@
+package com.sparkystudios.traklibrary.gateway.server.cache;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link CachedResponse} is an immutable snapshot of a successful response that has been stored by the gateway
+ * {@link ResponseCache}. Along with the headers and body of the response, it records when the response was stored
+ * and how long it can be considered fresh for, which is used to determine whether it can be served directly to the
+ * client or whether it must first be revalidated with the backing service.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachedResponse {
+
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.AGE, HttpHeaders.CONNECTION, HttpHeaders.CONTENT_LENGTH, HttpHeaders.SET_COOKIE,
+            HttpHeaders.TRANSFER_ENCODING, "Keep-Alive");
+
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final Instant storedAt;
+    private final Duration freshnessLifetime;
+    private final boolean shared;
+
+    /**
+     * Attempts to create a {@link CachedResponse} from the headers and body of a successful response. If the response
+     * headers forbid the response from being stored by a shared cache, i.e. it contains no-store, private, a Vary of *,
+     * or it would be immediately stale with no way of revalidating it, an empty {@link Optional} is returned.
+     *
+     * @param headers The headers of the response that is to be cached.
+     * @param body The body of the response that is to be cached.
+     * @param defaultTtl The freshness lifetime to apply when the response doesn't specify one.
+     * @param now The current time, which is used as the stored time of the response.
+     *
+     * @return An {@link Optional} containing the {@link CachedResponse}, if it can be stored.
+     */
+    public static Optional<CachedResponse> of(HttpHeaders headers, byte[] body, Duration defaultTtl, Instant now) {
+        var directives = CacheControlDirectives.parse(headers.getCacheControl());
+        if (directives.isNoStore() || directives.isPrivateResponse() || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || headers.getVary().contains("*")) {
+            return Optional.empty();
+        }
+
+        Duration freshnessLifetime = getFreshnessLifetime(headers, directives, defaultTtl, now);
+        boolean hasValidators = !Strings.isNullOrEmpty(headers.getETag()) || headers.getLastModified() >= 0;
+
+        // There's no point in storing a response that can neither be served nor revalidated.
+        if (freshnessLifetime.isZero() && !hasValidators) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CachedResponse(copyHeaders(headers), body, now, freshnessLifetime, directives.isShared()));
+    }
+
+    /**
+     * Creates a new {@link CachedResponse} once the backing service has confirmed, via a 304 (Not Modified) response,
+     * that the stored response is still valid. Any headers that were provided in the 304 response replace those that
+     * have been stored and the freshness lifetime is re-calculated from them.
+     *
+     * @param notModifiedHeaders The headers that were returned with the 304 (Not Modified) response.
+     * @param defaultTtl The freshness lifetime to apply when the response doesn't specify one.
+     * @param now The current time, which is used as the new stored time of the response.
+     *
+     * @return The refreshed {@link CachedResponse}.
+     */
+    public CachedResponse refresh(HttpHeaders notModifiedHeaders, Duration defaultTtl, Instant now) {
+        var refreshedHeaders = copyHeaders(headers);
+        copyHeaders(notModifiedHeaders).forEach(refreshedHeaders::put);
+
+        var directives = CacheControlDirectives.parse(refreshedHeaders.getCacheControl());
+        return new CachedResponse(refreshedHeaders, body, now,
+                getFreshnessLifetime(refreshedHeaders, directives, defaultTtl, now), directives.isShared());
+    }
+
+    /**
+     * Determines whether the {@link CachedResponse} can still be served without being revalidated.
+     *
+     * @param now The current time.
+     *
+     * @return <code>true</code> if the response is still fresh, <code>false</code> otherwise.
+     */
+    public boolean isFresh(Instant now) {
+        return now.isBefore(storedAt.plus(freshnessLifetime));
+    }
+
+    /**
+     * Determines whether the {@link CachedResponse} contains either an ETag or a Last-Modified header, which can be
+     * used to conditionally revalidate it with the backing service.
+     *
+     * @return <code>true</code> if the response can be revalidated, <code>false</code> otherwise.
+     */
+    public boolean hasValidators() {
+        return !Strings.isNullOrEmpty(headers.getETag()) || headers.getLastModified() >= 0;
+    }
+
+    /**
+     * Retrieves how long ago, in seconds, the {@link CachedResponse} was stored. Used to populate the Age header.
+     *
+     * @param now The current time.
+     *
+     * @return The age of the {@link CachedResponse} in seconds.
+     */
+    public long getAge(Instant now) {
+        return Math.max(0L, Duration.between(storedAt, now).getSeconds());
+    }
+
+    private static Duration getFreshnessLifetime(HttpHeaders headers, CacheControlDirectives directives, Duration defaultTtl, Instant now) {
+        if (directives.isNoCache()) {
+            return Duration.ZERO;
+        }
+
+        // s-maxage takes priority over max-age for shared caches, such as the gateway.
+        if (directives.getSharedMaxAge() != null) {
+            return directives.getSharedMaxAge();
+        }
+
+        if (directives.getMaxAge() != null) {
+            return directives.getMaxAge();
+        }
+
+        long expires = headers.getExpires();
+        if (expires >= 0) {
+            var lifetime = Duration.between(now, Instant.ofEpochMilli(expires));
+            return lifetime.isNegative() ? Duration.ZERO : lifetime;
+        }
+
+        return defaultTtl;
+    }
+
+    private static HttpHeaders copyHeaders(HttpHeaders headers) {
+        var copy = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+
+        return copy;
+    }
+}
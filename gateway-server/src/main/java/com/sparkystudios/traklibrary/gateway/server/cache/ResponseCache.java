@@ -0,0 +1,186 @@
+package com.sparkystudios.traklibrary.gateway.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link ResponseCache} is a bounded, in-memory store of {@link CachedResponse}'s that is shared by every route
+ * that has the response cache filter applied. The store is bounded by the total size of the cached bodies, with the
+ * least valuable entries being evicted first once the limit has been reached.
+ *
+ * Responses are keyed by the request path and query. If the response specified a Vary header, the values of the varied
+ * request headers are also included in the key, so that different representations of the same resource can be stored
+ * alongside each other.
+ *
+ * Lookups are recorded on a per-route basis, which are exposed as both counters and a hit ratio gauge.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class ResponseCache {
+
+    private static final String METRIC_PREFIX = "trak.gateway.cache";
+
+    private final Cache<String, CachedResponse> responses;
+    private final Cache<String, List<String>> variations;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteStatistics> routeStatistics = new ConcurrentHashMap<>();
+
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${trak.gateway.cache.maximum-weight:67108864}") long maximumWeight,
+                         @Value("${trak.gateway.cache.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.meterRegistry = meterRegistry;
+
+        responses = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String key, CachedResponse response) -> key.length() + response.getBody().length)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+
+        variations = Caffeine.newBuilder()
+                .maximumSize(10_000L)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, METRIC_PREFIX);
+    }
+
+    /**
+     * Retrieves the {@link CachedResponse} that has been stored for the given request, taking any headers that the
+     * stored response varies on into account. If no response has been stored, null is returned.
+     *
+     * @param request The {@link ServerHttpRequest} to find a stored response for.
+     *
+     * @return The stored {@link CachedResponse}, or null if there is none.
+     */
+    public CachedResponse get(ServerHttpRequest request) {
+        String primaryKey = getPrimaryKey(request);
+
+        List<String> varyHeaders = variations.getIfPresent(primaryKey);
+        if (varyHeaders == null) {
+            return null;
+        }
+
+        return responses.getIfPresent(getSecondaryKey(primaryKey, varyHeaders, request.getHeaders()));
+    }
+
+    /**
+     * Stores the given {@link CachedResponse} against the request that it was retrieved for, replacing any existing
+     * response stored for the same request.
+     *
+     * @param request The {@link ServerHttpRequest} that the response was retrieved for.
+     * @param cachedResponse The {@link CachedResponse} to store.
+     */
+    public void put(ServerHttpRequest request, CachedResponse cachedResponse) {
+        String primaryKey = getPrimaryKey(request);
+        List<String> varyHeaders = cachedResponse.getHeaders().getVary();
+
+        variations.put(primaryKey, varyHeaders);
+        responses.put(getSecondaryKey(primaryKey, varyHeaders, request.getHeaders()), cachedResponse);
+    }
+
+    /**
+     * Records the result of a lookup against the given route.
+     *
+     * @param routeId The ID of the route the lookup was for.
+     * @param result The {@link LookupResult} of the lookup.
+     */
+    public void record(String routeId, LookupResult result) {
+        var statistics = routeStatistics.computeIfAbsent(routeId, this::createRouteStatistics);
+        statistics.getCounter(result).increment();
+
+        if (result != LookupResult.BYPASS) {
+            statistics.lookups.increment();
+            if (result != LookupResult.MISS) {
+                statistics.hits.increment();
+            }
+        }
+    }
+
+    private RouteStatistics createRouteStatistics(String routeId) {
+        var statistics = new RouteStatistics();
+        for (LookupResult result : LookupResult.values()) {
+            statistics.counters.put(result, Counter.builder(METRIC_PREFIX + ".requests")
+                    .description("The number of requests that were handled by the gateway response cache.")
+                    .tag("route", routeId)
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", statistics, RouteStatistics::getHitRatio)
+                .description("The ratio of cacheable requests that were served without a full backend response.")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        return statistics;
+    }
+
+    private static String getPrimaryKey(ServerHttpRequest request) {
+        return request.getURI().getRawPath() + "?" + (request.getURI().getRawQuery() == null ? "" : request.getURI().getRawQuery());
+    }
+
+    private static String getSecondaryKey(String primaryKey, List<String> varyHeaders, HttpHeaders requestHeaders) {
+        if (varyHeaders.isEmpty()) {
+            return primaryKey;
+        }
+
+        return primaryKey + varyHeaders.stream()
+                .map(header -> header.toLowerCase() + "=" + String.join(",", requestHeaders.getOrEmpty(header)))
+                .collect(Collectors.joining("&", "#", ""));
+    }
+
+    /**
+     * The possible results of a lookup in the {@link ResponseCache}.
+     */
+    public enum LookupResult {
+        /**
+         * A fresh response was served directly from the cache.
+         */
+        HIT,
+        /**
+         * A stale response was confirmed as valid by the backing service and served from the cache.
+         */
+        REVALIDATED,
+        /**
+         * No usable response was stored, so a full response was retrieved from the backing service.
+         */
+        MISS,
+        /**
+         * The request was not eligible to be served from the cache.
+         */
+        BYPASS
+    }
+
+    private static class RouteStatistics {
+
+        private final Map<LookupResult, Counter> counters = new ConcurrentHashMap<>();
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder hits = new LongAdder();
+
+        private Counter getCounter(LookupResult result) {
+            return counters.get(result);
+        }
+
+        private double getHitRatio() {
+            long total = lookups.sum();
+            return total == 0L ? 0.0 : (double) hits.sum() / total;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.sparkystudios.traklibrary.gateway.server.config;
 
+import com.sparkystudios.traklibrary.gateway.server.filter.HedgingGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.filter.RateLimiterGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.filter.RequestCoalescingGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.filter.ResponseCacheGatewayFilterFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 public class RouteConfig {
@@ -13,6 +21,24 @@ public class RouteConfig {
     private static final String COOKIE = "Cookie";
     private static final String SET_COOKIE = "Set-Cookie";
     private static final String SEGMENT_REPLACE = "/${segment}";
+    private static final int MAX_CACHED_BODY_SIZE = 4 * 1024 * 1024;
+
+    // Game server paths whose responses are identical for every user, so can be shared between them.
+    private static final List<String> SHARED_GAME_PATHS = List.of(
+            "/games/*/details", "/games/slug/*", "/games/slug/*/details", "/games/*/image", "/games/dlc/*/image",
+            "/games/developers/*/image", "/games/platforms/*/image", "/games/publishers/*/image");
+
+    // Image server paths, which serve the same image files to every user.
+    private static final List<String> SHARED_IMAGE_PATHS = List.of(
+            "/images/games/*", "/images/games/companies/*", "/images/games/dlc/*", "/images/games/platforms/*");
+
+    private final HedgingGatewayFilterFactory hedgingGatewayFilterFactory;
+    private final RateLimiterGatewayFilterFactory rateLimiterGatewayFilterFactory;
+    private final RequestCoalescingGatewayFilterFactory requestCoalescingGatewayFilterFactory;
+    private final ResponseCacheGatewayFilterFactory responseCacheGatewayFilterFactory;
+
+    @Value("${trak.gateway.hedging.game-server.enabled:false}")
+    private boolean gameHedgingEnabled;
 
     @Bean
     public RouteLocator routes(RouteLocatorBuilder routeLocatorBuilder) {
@@ -21,6 +47,10 @@ public class RouteConfig {
                         .path("/auth/**")
                         .filters(f -> f
                                 .tokenRelay()
+                                .filter(rateLimiterGatewayFilterFactory.apply(c -> {
+                                    c.setIpCapacity(20.0);
+                                    c.setIpRefillPerSecond(2.0);
+                                }))
                                 .removeRequestHeader(COOKIE)
                                 .removeRequestHeader(SET_COOKIE)
                                 .rewritePath("/auth(?<segment>/?.*)", SEGMENT_REPLACE))
@@ -29,6 +59,7 @@ public class RouteConfig {
                         .path("/emails/**")
                         .filters(f -> f
                                 .tokenRelay()
+                                .filter(rateLimiterGatewayFilterFactory.apply(new RateLimiterGatewayFilterFactory.Config()))
                                 .removeRequestHeader(COOKIE)
                                 .removeRequestHeader(SET_COOKIE)
                                 .rewritePath("/emails(?<segment>/?.*)", SEGMENT_REPLACE))
@@ -37,22 +68,48 @@ public class RouteConfig {
                         .path("/games/**")
                         .filters(f -> f
                                 .tokenRelay()
+                                .filter(rateLimiterGatewayFilterFactory.apply(new RateLimiterGatewayFilterFactory.Config()))
                                 .removeRequestHeader(COOKIE)
                                 .removeRequestHeader(SET_COOKIE)
+                                .filter(responseCacheGatewayFilterFactory.apply(c -> c.setMaxBodySize(MAX_CACHED_BODY_SIZE)))
+                                .filter(requestCoalescingGatewayFilterFactory.apply(c -> {
+                                    c.setSharedPaths(SHARED_GAME_PATHS);
+                                    c.setMaxBodySize(MAX_CACHED_BODY_SIZE);
+                                }))
+                                // Every GET request to the game server is a read, so can safely be sent twice. A hedged
+                                // request is sent once the 95th percentile of recent response times has passed, and
+                                // hedges are capped at 5% of the route's requests.
+                                .filter(hedgingGatewayFilterFactory.apply(c -> {
+                                    c.setEnabled(gameHedgingEnabled);
+                                    c.setPercentile(0.95);
+                                    c.setMinDelay(Duration.ofMillis(50L));
+                                    c.setMaxDelay(Duration.ofSeconds(1L));
+                                    c.setBudgetRatio(0.05);
+                                }))
                                 .rewritePath("/games(?<segment>/?.*)", SEGMENT_REPLACE))
                         .uri("lb://trak-game-server"))
                 .route("trak-image-server", r -> r
-                        .path("/games/**")
+                        .path("/images/**")
                         .filters(f -> f
                                 .tokenRelay()
+                                .filter(rateLimiterGatewayFilterFactory.apply(c -> {
+                                    c.setIpCapacity(500.0);
+                                    c.setIpRefillPerSecond(100.0);
+                                }))
                                 .removeRequestHeader(COOKIE)
                                 .removeRequestHeader(SET_COOKIE)
+                                .filter(responseCacheGatewayFilterFactory.apply(c -> c.setMaxBodySize(MAX_CACHED_BODY_SIZE)))
+                                .filter(requestCoalescingGatewayFilterFactory.apply(c -> {
+                                    c.setSharedPaths(SHARED_IMAGE_PATHS);
+                                    c.setMaxBodySize(MAX_CACHED_BODY_SIZE);
+                                }))
                                 .rewritePath("/images(?<segment>/?.*)", SEGMENT_REPLACE))
                         .uri("lb://trak-image-server"))
                 .route("trak-notification-server", r -> r
                         .path("/notifications/**")
                         .filters(f -> f
                                 .tokenRelay()
+                                .filter(rateLimiterGatewayFilterFactory.apply(new RateLimiterGatewayFilterFactory.Config()))
                                 .removeRequestHeader(COOKIE)
                                 .removeRequestHeader(SET_COOKIE)
                                 .rewritePath("/notifications(?<segment>/?.*)", SEGMENT_REPLACE))
@@ -3,6 +3,7 @@ package com.sparkystudios.traklibrary.gateway.server.config;
 import com.sparkystudios.traklibrary.gateway.server.filter.AuthenticationManager;
 import com.sparkystudios.traklibrary.gateway.server.filter.SecurityContextRepository;
 import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenDenylist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -28,12 +29,13 @@ import reactor.core.publisher.Mono;
 public class SecurityConfig {
 
     private final SecurityTokenService securityTokenService;
+    private final TokenDenylist tokenDenylist;
 
     @Order(1)
     @Bean
     SecurityWebFilterChain jwtSecurityWebFilterChain(ServerHttpSecurity http) {
 
-        var authenticationManager = new AuthenticationManager(securityTokenService);
+        var authenticationManager = new AuthenticationManager(securityTokenService, tokenDenylist);
         var securityContextRepository = new SecurityContextRepository(authenticationManager);
 
         http
@@ -4,6 +4,7 @@ import com.google.common.base.Strings;
 import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
 import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
 import com.sparkystudios.traklibrary.security.token.data.UserData;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenDenylist;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
@@ -21,6 +22,7 @@ import java.util.Collection;
 public class AuthenticationManager implements ReactiveAuthenticationManager {
 
     private final SecurityTokenService securityTokenService;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
@@ -34,7 +36,8 @@ public class AuthenticationManager implements ReactiveAuthenticationManager {
 
             String username = securityToken.getUsername();
 
-            if (!Strings.isNullOrEmpty(username)) {
+            // Revoked tokens are treated the same as invalid ones.
+            if (!Strings.isNullOrEmpty(username) && !tokenDenylist.isRevoked(securityToken.getId())) {
                 Collection<GrantedAuthority> authorities = new ArrayList<>();
                 authorities.add(securityToken.getRole());
                 authorities.addAll(securityToken.getAuthorities());
@@ -0,0 +1,40 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+
+/**
+ * The {@link GatewayFilterOrder} contains the order of each custom route filter within the gateway. All of the filters
+ * that decorate the response need to be executed before the {@link NettyWriteResponseFilter}, so that they receive the
+ * proxied response body, and as such are ordered relative to it. Filters that send requests themselves are ordered
+ * relative to the load balancer instead.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public final class GatewayFilterOrder {
+
+    /**
+     * Requests that exceed a rate limit should be rejected before any other work is done.
+     */
+    public static final int RATE_LIMITER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 20;
+
+    /**
+     * Requests that can be served from the response cache don't need to be forwarded at all.
+     */
+    public static final int RESPONSE_CACHE = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 10;
+
+    /**
+     * Only requests that missed the response cache need to be coalesced into a single upstream request.
+     */
+    public static final int REQUEST_COALESCING = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 5;
+
+    /**
+     * Hedged requests are sent through the rest of the chain with their own copy of the exchange, so the filter has to
+     * run once the load balancer has chosen an instance, but before the routing filter.
+     */
+    public static final int HEDGING = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    private GatewayFilterOrder() {
+    }
+}
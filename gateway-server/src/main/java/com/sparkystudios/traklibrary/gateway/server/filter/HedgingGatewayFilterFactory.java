@@ -0,0 +1,387 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import com.sparkystudios.traklibrary.gateway.server.hedging.HedgeBudget;
+import com.sparkystudios.traklibrary.loadbalancer.LoadBalancerStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Data;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.Connection;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link HedgingGatewayFilterFactory} creates route filters that reduce the tail latency of idempotent GET requests.
+ * The request is sent to the instance chosen by the load balancer as normal, but if it hasn't responded within the
+ * configured percentile of recent response times, a second, hedged request is sent to a different instance. Whichever
+ * request responds first is used and the other is cancelled. If the first request fails outright, the hedged request
+ * also acts as a retry.
+ *
+ * Hedging is disabled unless it's explicitly enabled in the {@link Config} of the route, as it should only be applied to
+ * routes whose GET requests are safe to send twice. To stop hedging from doubling the load on a backing service that is
+ * slow across the board, the number of hedged requests is capped by a {@link HedgeBudget} for each route.
+ *
+ * Both requests are sent through the rest of the filter chain, i.e. the gateway's routing filter, each with its own copy
+ * of the exchange's attributes and response headers. Once a request has received its response headers, they're copied
+ * to the exchange along with the connection, so the response body is written by the gateway's write response filter
+ * through any response decorators, as it would be for a request that wasn't hedged.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class HedgingGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgingGatewayFilterFactory.Config> {
+
+    private static final String METRIC_PREFIX = "trak.gateway.hedging";
+
+    private final Map<String, RouteState> routeStates = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final LoadBalancerClientFactory loadBalancerClientFactory;
+    private final LoadBalancerStatistics loadBalancerStatistics;
+    private final MeterRegistry meterRegistry;
+
+    public HedgingGatewayFilterFactory(LoadBalancerClientFactory loadBalancerClientFactory,
+                                       LoadBalancerStatistics loadBalancerStatistics,
+                                       MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.loadBalancerClientFactory = loadBalancerClientFactory;
+        this.loadBalancerStatistics = loadBalancerStatistics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), GatewayFilterOrder.HEDGING);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+
+        // Only idempotent requests on load-balanced routes can be hedged.
+        if (!config.isEnabled() || exchange.getRequest().getMethod() != HttpMethod.GET || route == null || requestUrl == null
+                || !"lb".equals(route.getUri().getScheme()) || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = route.getId();
+        RouteState routeState = routeStates.computeIfAbsent(routeId, id -> new RouteState(id, config));
+        routeState.budget.deposit();
+
+        Queue<Attempt> attempts = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+
+        // Only the primary request's latency is recorded, as the hedge delay is derived from it. If it's cancelled because
+        // the hedged request won, the time until then is recorded as a lower bound so that slow requests still count.
+        Mono<Attempt> primary = send(new Attempt(exchange, requestUrl, false), chain, attempts)
+                .doFinally(signalType -> {
+                    if (signalType != SignalType.ON_ERROR) {
+                        routeState.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                });
+
+        Mono<Attempt> hedge = Mono.delay(routeState.getDelay(config))
+                .filter(tick -> {
+                    if (routeState.budget.tryWithdraw()) {
+                        return true;
+                    }
+
+                    getCounter(routeId, "rejected").increment();
+                    return false;
+                })
+                .flatMap(tick -> chooseHedgeInstance(route.getUri().getHost(), requestUrl))
+                .flatMap(serviceInstance -> sendHedge(exchange, chain, attempts, routeId, serviceInstance, requestUrl));
+
+        // Whichever request responds first is used, subscribing to the first value cancels the other request.
+        return Mono.firstWithValue(primary, hedge)
+                .onErrorMap(NoSuchElementException.class, e -> e.getSuppressed().length > 0 ? e.getSuppressed()[0] : e)
+                .doOnNext(winner -> {
+                    // Both requests can receive their response at the same time, so the loser may not have been cancelled.
+                    attempts.stream()
+                            .filter(attempt -> attempt != winner)
+                            .forEach(Attempt::dispose);
+
+                    if (winner.hedged) {
+                        getCounter(routeId, "won").increment();
+                    }
+
+                    winner.commit();
+                })
+                .then();
+    }
+
+    private Mono<ServiceInstance> chooseHedgeInstance(String serviceId, URI requestUrl) {
+        ServiceInstanceListSupplier supplier = loadBalancerClientFactory.getInstance(serviceId, ServiceInstanceListSupplier.class);
+        if (supplier == null) {
+            return Mono.empty();
+        }
+
+        // The hedged request must go to a different instance, otherwise it's likely to be just as slow.
+        return supplier.get()
+                .next()
+                .flatMap(serviceInstances -> Mono.justOrEmpty(loadBalancerStatistics.choose(serviceInstances.stream()
+                        .filter(serviceInstance -> !serviceInstance.getHost().equals(requestUrl.getHost())
+                                || serviceInstance.getPort() != requestUrl.getPort())
+                        .collect(Collectors.toList()))));
+    }
+
+    private Mono<Attempt> sendHedge(ServerWebExchange exchange, GatewayFilterChain chain, Queue<Attempt> attempts,
+                                    String routeId, ServiceInstance serviceInstance, URI requestUrl) {
+        URI uri = UriComponentsBuilder.fromUri(requestUrl)
+                .host(serviceInstance.getHost())
+                .port(serviceInstance.getPort())
+                .build(true)
+                .toUri();
+
+        getCounter(routeId, "fired").increment();
+
+        // The hedged request bypasses the load balancer, so its outcome has to be recorded against the instance here.
+        long start = System.nanoTime();
+        var failed = new AtomicBoolean();
+        loadBalancerStatistics.get(serviceInstance).start();
+
+        return send(new Attempt(exchange, uri, true), chain, attempts)
+                .filter(attempt -> {
+                    // A hedged request should never make the response worse, so server errors are discarded.
+                    Integer statusCode = attempt.response.getRawStatusCode();
+                    if (statusCode != null && statusCode >= 500) {
+                        failed.set(true);
+                        attempt.dispose();
+                        return false;
+                    }
+
+                    return true;
+                })
+                .doFinally(signalType -> loadBalancerStatistics.complete(serviceInstance, System.nanoTime() - start,
+                        signalType != SignalType.ON_ERROR && !failed.get()));
+    }
+
+    private static Mono<Attempt> send(Attempt attempt, GatewayFilterChain chain, Queue<Attempt> attempts) {
+        attempts.add(attempt);
+
+        // The routing filter completes once the response headers have been received, leaving the body to be written.
+        return chain.filter(attempt)
+                .thenReturn(attempt)
+                .doOnCancel(attempt::dispose);
+    }
+
+    private Counter getCounter(String routeId, String result) {
+        return counters.computeIfAbsent(routeId + "|" + result, k -> Counter.builder(METRIC_PREFIX + ".requests")
+                .description("The number of hedged requests that were fired, won or rejected by the hedge budget.")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * A single request to an instance. It has its own attributes and response headers, so that the routing filter can
+     * send it without affecting the exchange, until it has won and is committed to it.
+     */
+    private static class Attempt extends ServerWebExchangeDecorator {
+
+        private final Map<String, Object> attributes;
+        private final AttemptResponse response;
+        private final boolean hedged;
+
+        Attempt(ServerWebExchange exchange, URI requestUrl, boolean hedged) {
+            super(exchange);
+            this.attributes = new ConcurrentHashMap<>(exchange.getAttributes());
+            this.attributes.put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, requestUrl);
+            this.response = new AttemptResponse(exchange.getResponse());
+            this.hedged = hedged;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        void commit() {
+            ServerHttpResponse exchangeResponse = getDelegate().getResponse();
+            if (response.getRawStatusCode() != null) {
+                exchangeResponse.setRawStatusCode(response.getRawStatusCode());
+            }
+
+            // The attempt's headers started as a copy of the exchange's, so they can replace them outright.
+            exchangeResponse.getHeaders().clear();
+            exchangeResponse.getHeaders().putAll(response.getHeaders());
+
+            // Includes the connection and the routed flag, so the response body is written from this attempt.
+            getDelegate().getAttributes().putAll(attributes);
+        }
+
+        void dispose() {
+            Connection connection = (Connection) attributes.get(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+            if (connection != null) {
+                connection.dispose();
+            }
+        }
+    }
+
+    /**
+     * Holds the status and headers of an {@link Attempt} until it's committed to the exchange.
+     */
+    private static class AttemptResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders headers;
+        private volatile Integer statusCode;
+
+        AttemptResponse(ServerHttpResponse response) {
+            super(response);
+            this.headers = new HttpHeaders();
+            this.headers.addAll(response.getHeaders());
+            this.statusCode = response.getRawStatusCode();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatus status) {
+            statusCode = status == null ? null : status.value();
+            return true;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return statusCode == null ? null : HttpStatus.resolve(statusCode);
+        }
+
+        @Override
+        public boolean setRawStatusCode(Integer value) {
+            statusCode = value;
+            return true;
+        }
+
+        @Override
+        public Integer getRawStatusCode() {
+            return statusCode;
+        }
+    }
+
+    /**
+     * The budget and latency distribution of a single route. Calculating the percentile is relatively expensive, so the
+     * hedge delay is only re-calculated once a second.
+     */
+    private class RouteState {
+
+        private final HedgeBudget budget;
+        private final Timer timer;
+        private volatile long delayNanos;
+        private volatile long delayCalculatedAt;
+
+        RouteState(String routeId, Config config) {
+            this.budget = new HedgeBudget(config.getBudgetRatio(), config.getBudgetBurst());
+            this.timer = Timer.builder(METRIC_PREFIX + ".latency")
+                    .description("The time taken for the primary request of a hedged route to be responded to.")
+                    .tag("route", routeId)
+                    .publishPercentiles(config.getPercentile())
+                    .distributionStatisticExpiry(Duration.ofMinutes(1L))
+                    .register(meterRegistry);
+
+            this.delayNanos = config.getMaxDelay().toNanos();
+            this.delayCalculatedAt = System.nanoTime();
+        }
+
+        Duration getDelay(Config config) {
+            long now = System.nanoTime();
+            if (now - delayCalculatedAt > TimeUnit.SECONDS.toNanos(1L)) {
+                delayCalculatedAt = now;
+                delayNanos = calculateDelay(config);
+            }
+
+            return Duration.ofNanos(delayNanos);
+        }
+
+        private long calculateDelay(Config config) {
+            ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+
+            // Until there are enough samples the percentile isn't meaningful, so hedge conservatively.
+            if (timer.count() < config.getMinSamples() || percentiles.length == 0) {
+                return config.getMaxDelay().toNanos();
+            }
+
+            long percentile = (long) percentiles[0].value(TimeUnit.NANOSECONDS);
+            return Math.max(config.getMinDelay().toNanos(), Math.min(config.getMaxDelay().toNanos(), percentile));
+        }
+    }
+
+    /**
+     * Per-route configuration of the {@link HedgingGatewayFilterFactory}.
+     */
+    @Data
+    public static class Config {
+
+        /**
+         * Whether requests are hedged, it should only be enabled for routes whose GET requests are idempotent.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The percentile of recent response times after which a hedged request is sent.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * The shortest time to wait before sending a hedged request.
+         */
+        private Duration minDelay = Duration.ofMillis(10L);
+
+        /**
+         * The longest time to wait before sending a hedged request, also used until there are enough samples.
+         */
+        private Duration maxDelay = Duration.ofSeconds(1L);
+
+        /**
+         * The number of responses that need to be recorded before the percentile is used as the delay.
+         */
+        private long minSamples = 100L;
+
+        /**
+         * The maximum number of hedged requests per request, i.e. 0.1 allows for 10% extra load.
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * The number of hedged requests that can be made in excess of the budget ratio.
+         */
+        private int budgetBurst = 10;
+    }
+}
@@ -0,0 +1,175 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import com.sparkystudios.traklibrary.gateway.server.ratelimit.RateLimiter;
+import com.sparkystudios.traklibrary.security.token.data.UserData;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The {@link RateLimiterGatewayFilterFactory} creates route filters that protect the backing services from clients that
+ * send an excessive number of requests. Each request takes a token from a bucket that belongs to the IP address of the
+ * client and, if the request has been authenticated, a second bucket that belongs to the user ID within their token. If
+ * either bucket is empty, the request is rejected with a 429 (Too Many Requests) response and a Retry-After header. A
+ * request that's rejected by the user bucket has its token returned to the IP bucket, so that a limited user doesn't
+ * also drain the allowance of everyone else sharing their IP address.
+ *
+ * The filter also sheds load once the number of in-flight requests for the route exceeds the configured limit,
+ * rejecting any additional requests with a 503 (Service Unavailable) response.
+ *
+ * By default the IP address is the remote address of the connection, as the X-Forwarded-For header can be set to
+ * anything by a client that reaches the gateway directly. When the gateway is deployed behind proxies or a load
+ * balancer, <code>trak.gateway.rate-limit.trusted-proxies</code> must be set to the number of them that append to the
+ * X-Forwarded-For header, so that the address the outermost one received the request from is used instead. It must
+ * never be set higher than the number of proxies, otherwise a client can choose its own address.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class RateLimiterGatewayFilterFactory extends AbstractGatewayFilterFactory<RateLimiterGatewayFilterFactory.Config> {
+
+    private final RateLimiter rateLimiter;
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    public RateLimiterGatewayFilterFactory(RateLimiter rateLimiter,
+                                           @Value("${trak.gateway.rate-limit.trusted-proxies:0}") int trustedProxies) {
+        super(Config.class);
+
+        if (trustedProxies < 0) {
+            throw new IllegalArgumentException("The number of trusted proxies can't be negative.");
+        }
+
+        this.rateLimiter = rateLimiter;
+        // Without any trusted proxies the X-Forwarded-For header is ignored, and the connection address is used.
+        this.remoteAddressResolver = trustedProxies == 0 ?
+                new RemoteAddressResolver() {} : XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), GatewayFilterOrder.RATE_LIMITER);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        String routeId = getRouteId(exchange);
+
+        return getUserId(exchange)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(userId -> {
+                    // Every client is limited by IP address, authenticated users are also limited by their user ID.
+                    Duration retryAfter = Duration.ZERO;
+
+                    String ipAddress = getIpAddress(exchange);
+                    if (ipAddress != null) {
+                        retryAfter = rateLimiter.tryAcquire(routeId, RateLimiter.KeyType.IP, ipAddress,
+                                config.getIpCapacity(), config.getIpRefillPerSecond());
+                    }
+
+                    if (retryAfter.isZero() && userId.isPresent()) {
+                        retryAfter = rateLimiter.tryAcquire(routeId, RateLimiter.KeyType.USER, userId.get().toString(),
+                                config.getUserCapacity(), config.getUserRefillPerSecond());
+
+                        if (!retryAfter.isZero() && ipAddress != null) {
+                            rateLimiter.release(routeId, RateLimiter.KeyType.IP, ipAddress);
+                        }
+                    }
+
+                    if (!retryAfter.isZero()) {
+                        return reject(exchange, HttpStatus.TOO_MANY_REQUESTS, retryAfter);
+                    }
+
+                    // The client is within its limits, but the route itself may be saturated.
+                    if (!rateLimiter.tryEnter(routeId, config.getMaxConcurrentRequests())) {
+                        return reject(exchange, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1L));
+                    }
+
+                    return chain.filter(exchange)
+                            .doFinally(signalType -> rateLimiter.exit(routeId));
+                });
+    }
+
+    private Mono<Long> getUserId(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .filter(Authentication.class::isInstance)
+                .map(Authentication.class::cast)
+                .filter(authentication -> authentication.getDetails() instanceof UserData)
+                .map(authentication -> ((UserData) authentication.getDetails()).getUserId());
+    }
+
+    String getIpAddress(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        if (remoteAddress == null) {
+            return null;
+        }
+
+        // Forwarded addresses are resolved as unresolved addresses, which only have the host they were given.
+        return remoteAddress.getAddress() == null ? remoteAddress.getHostString() : remoteAddress.getAddress().getHostAddress();
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, HttpStatus status, Duration retryAfter) {
+        // Retry-After is specified in whole seconds, so always round up to avoid clients retrying too early.
+        long seconds = Math.max(1L, (retryAfter.toMillis() + 999L) / 1000L);
+
+        var response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+
+        return response.setComplete();
+    }
+
+    private static String getRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    /**
+     * Per-route configuration of the {@link RateLimiterGatewayFilterFactory}.
+     */
+    @Data
+    public static class Config {
+
+        /**
+         * The number of requests an authenticated user can burst to.
+         */
+        private double userCapacity = 100.0;
+
+        /**
+         * The sustained number of requests per second an authenticated user can make.
+         */
+        private double userRefillPerSecond = 20.0;
+
+        /**
+         * The number of requests a single IP address can burst to.
+         */
+        private double ipCapacity = 200.0;
+
+        /**
+         * The sustained number of requests per second a single IP address can make.
+         */
+        private double ipRefillPerSecond = 50.0;
+
+        /**
+         * The maximum number of requests that can be in-flight for the route before requests are shed.
+         */
+        private int maxConcurrentRequests = 1000;
+    }
+}
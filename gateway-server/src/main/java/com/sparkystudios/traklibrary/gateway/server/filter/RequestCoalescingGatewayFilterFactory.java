@@ -0,0 +1,287 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import com.sparkystudios.traklibrary.gateway.server.cache.CacheControlDirectives;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link RequestCoalescingGatewayFilterFactory} creates route filters that collapse concurrent, identical GET
+ * requests into a single upstream request. The first request for a given key is forwarded to the backing service as
+ * normal, any identical requests that arrive while it's in-flight wait for its response, which is then replayed to each
+ * of them. Two requests are considered identical if they share the same path, query and values for each of the
+ * configured headers.
+ *
+ * By default the Authorization header is part of the key, so only requests from the same user are collapsed. Paths
+ * that are known to return the same response for every user can be configured as shared, in which case requests from
+ * different users are also collapsed, although the response is still only replayed to them if the backing service
+ * marked it as shareable, in the same way as the {@link ResponseCacheGatewayFilterFactory}.
+ *
+ * Only successful responses are replayed, so a transient error from the backing service only fails the request that
+ * received it. If the response is an error, the number of waiting requests reaches the configured limit, or the
+ * upstream response body is larger than the configured size, the waiting requests are forwarded to the backing service
+ * individually instead.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class RequestCoalescingGatewayFilterFactory extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    private static final String METRIC_PREFIX = "trak.gateway.coalescing";
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.CONNECTION, HttpHeaders.CONTENT_LENGTH, HttpHeaders.SET_COOKIE, HttpHeaders.TRANSFER_ENCODING);
+
+    private final Map<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_PREFIX + ".in-flight", inFlightRequests, Map::size)
+                .description("The number of distinct upstream requests that currently have requests waiting on them.")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), GatewayFilterOrder.REQUEST_COALESCING);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = getRouteId(exchange);
+        boolean shared = isSharedPath(request, config);
+        String key = getKey(request, config, shared);
+
+        var candidate = new InFlightRequest(key, shared);
+        InFlightRequest inFlightRequest = inFlightRequests.putIfAbsent(key, candidate);
+
+        // No identical request is in-flight, so this request will be forwarded and its response shared.
+        if (inFlightRequest == null) {
+            getCounter(routeId, "leader").increment();
+
+            return chain.filter(exchange.mutate()
+                    .response(new CoalescingServerHttpResponseDecorator(exchange.getResponse(), candidate, config))
+                    .build())
+                    .doFinally(signalType -> complete(candidate, null));
+        }
+
+        // Too many requests are already waiting, forward this one individually rather than growing the queue.
+        if (inFlightRequest.waiters.incrementAndGet() > config.getMaxWaiters()) {
+            inFlightRequest.waiters.decrementAndGet();
+            getCounter(routeId, "overflow").increment();
+
+            return chain.filter(exchange);
+        }
+
+        getCounter(routeId, "collapsed").increment();
+
+        return inFlightRequest.response.asMono()
+                .flatMap(response -> {
+                    if (response.isPresent()) {
+                        return writeCoalescedResponse(exchange.getResponse(), response.get());
+                    }
+
+                    // The shared response couldn't be used, so the request has to be forwarded after all.
+                    getCounter(routeId, "fallback").increment();
+                    return chain.filter(exchange);
+                });
+    }
+
+    private void complete(InFlightRequest inFlightRequest, CoalescedResponse response) {
+        // Remove the request first, so that any new requests aren't given a response that has already been sent.
+        inFlightRequests.remove(inFlightRequest.key, inFlightRequest);
+        inFlightRequest.response.tryEmitValue(Optional.ofNullable(response));
+    }
+
+    private static Mono<Void> writeCoalescedResponse(ServerHttpResponse response, CoalescedResponse coalescedResponse) {
+        response.setStatusCode(coalescedResponse.status);
+        response.getHeaders().putAll(coalescedResponse.headers);
+        response.getHeaders().setContentLength(coalescedResponse.body.length);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(coalescedResponse.body)));
+    }
+
+    private boolean isSharedPath(ServerHttpRequest request, Config config) {
+        String path = request.getURI().getRawPath();
+        return config.getSharedPaths().stream()
+                .anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+
+    private static String getKey(ServerHttpRequest request, Config config, boolean shared) {
+        String path = request.getURI().getRawPath();
+
+        var key = new StringBuilder(request.getMethodValue())
+                .append(' ')
+                .append(path)
+                .append('?')
+                .append(request.getURI().getRawQuery() == null ? "" : request.getURI().getRawQuery());
+
+        for (String header : config.getHeaders()) {
+            if (!shared || !HttpHeaders.AUTHORIZATION.equalsIgnoreCase(header)) {
+                key.append('#').append(header.toLowerCase()).append('=')
+                        .append(String.join(",", request.getHeaders().getOrEmpty(header)));
+            }
+        }
+
+        return key.toString();
+    }
+
+    private Counter getCounter(String routeId, String result) {
+        return counters.computeIfAbsent(routeId + "|" + result, k -> Counter.builder(METRIC_PREFIX + ".requests")
+                .description("The number of GET requests that were handled by the request coalescing filter.")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private static String getRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    @RequiredArgsConstructor
+    private static class InFlightRequest {
+        private final String key;
+        private final boolean shared;
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final Sinks.One<Optional<CoalescedResponse>> response = Sinks.one();
+    }
+
+    @RequiredArgsConstructor
+    private static class CoalescedResponse {
+        private final HttpStatus status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+    }
+
+    /**
+     * {@link ServerHttpResponseDecorator} that captures the body of the upstream response for the leading request, so
+     * that it can be replayed to each request that has been waiting on it.
+     */
+    private class CoalescingServerHttpResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final InFlightRequest inFlightRequest;
+        private final Config config;
+
+        CoalescingServerHttpResponseDecorator(ServerHttpResponse delegate, InFlightRequest inFlightRequest, Config config) {
+            super(delegate);
+            this.inFlightRequest = inFlightRequest;
+            this.config = config;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            // If the response is known to be too large, release the waiting requests immediately.
+            if (getHeaders().getContentLength() > config.getMaxBodySize()) {
+                complete(inFlightRequest, null);
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                    .flatMap(dataBuffer -> {
+                        var bytes = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(bytes);
+                        DataBufferUtils.release(dataBuffer);
+
+                        complete(inFlightRequest, isReplayable(bytes)
+                                ? new CoalescedResponse(getStatusCode(), copyHeaders(getHeaders()), bytes)
+                                : null);
+
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(publisher -> publisher));
+        }
+
+        private boolean isReplayable(byte[] body) {
+            if (body.length > config.getMaxBodySize() || getStatusCode() == null || !getStatusCode().is2xxSuccessful()) {
+                return false;
+            }
+
+            // When the key doesn't include the Authorization header, the waiting requests may belong to other users.
+            return !inFlightRequest.shared || CacheControlDirectives.parse(getHeaders().getCacheControl()).isShared();
+        }
+
+        private HttpHeaders copyHeaders(HttpHeaders headers) {
+            var copy = new HttpHeaders();
+            headers.forEach((name, values) -> {
+                if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    copy.put(name, new ArrayList<>(values));
+                }
+            });
+
+            return copy;
+        }
+    }
+
+    /**
+     * Per-route configuration of the {@link RequestCoalescingGatewayFilterFactory}.
+     */
+    @Data
+    public static class Config {
+
+        /**
+         * The request headers whose values must match for two requests to be collapsed.
+         */
+        private List<String> headers = List.of(
+                HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.AUTHORIZATION);
+
+        /**
+         * Ant style path patterns of requests whose responses are the same for every user.
+         */
+        private List<String> sharedPaths = new ArrayList<>();
+
+        /**
+         * The maximum number of requests that can wait on a single upstream request.
+         */
+        private int maxWaiters = 500;
+
+        /**
+         * The largest response body, in bytes, that will be shared with the waiting requests.
+         */
+        private int maxBodySize = 1024 * 1024;
+    }
+}
@@ -0,0 +1,215 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import com.google.common.base.Strings;
+import com.sparkystudios.traklibrary.gateway.server.cache.CacheControlDirectives;
+import com.sparkystudios.traklibrary.gateway.server.cache.CachedResponse;
+import com.sparkystudios.traklibrary.gateway.server.cache.ResponseCache;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * The {@link ResponseCacheGatewayFilterFactory} creates route filters that serve GET requests from the shared
+ * {@link ResponseCache} where possible, rather than forwarding every request to the backing service. Responses are only
+ * stored when the backing service permits a shared cache to do so via its Cache-Control, Expires and Vary headers, and
+ * stale responses are revalidated with a conditional request using their ETag or Last-Modified values.
+ *
+ * Responses to requests that contain an Authorization header are only stored and served if the response was marked
+ * as public by the backing service, so that no user specific data can leak between users.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // The filter needs to decorate the response before the netty write filter writes the proxied response body.
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), GatewayFilterOrder.RESPONSE_CACHE);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        String routeId = getRouteId(exchange);
+
+        // Only GET requests that haven't explicitly asked not to be stored are eligible for caching.
+        var requestDirectives = CacheControlDirectives.parse(request.getHeaders().getCacheControl());
+        if (request.getMethod() != HttpMethod.GET || requestDirectives.isNoStore()) {
+            responseCache.record(routeId, ResponseCache.LookupResult.BYPASS);
+            return chain.filter(exchange);
+        }
+
+        boolean authorized = request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+        CachedResponse cachedResponse = responseCache.get(request);
+
+        // Responses that aren't marked as shared can't be used to satisfy a request from an authorized user.
+        if (cachedResponse != null && (!authorized || cachedResponse.isShared())) {
+            if (cachedResponse.isFresh(Instant.now()) && !requestDirectives.isNoCache()) {
+                responseCache.record(routeId, ResponseCache.LookupResult.HIT);
+                return writeCachedResponse(exchange.getRequest(), exchange.getResponse(), cachedResponse);
+            }
+
+            // The response is stale, ask the backing service if it's still valid before fetching it again.
+            if (cachedResponse.hasValidators()) {
+                ServerHttpRequest conditionalRequest = request.mutate()
+                        .headers(headers -> {
+                            headers.remove(HttpHeaders.IF_NONE_MATCH);
+                            headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+
+                            if (!Strings.isNullOrEmpty(cachedResponse.getHeaders().getETag())) {
+                                headers.setIfNoneMatch(cachedResponse.getHeaders().getETag());
+                            }
+                            if (cachedResponse.getHeaders().getLastModified() >= 0) {
+                                headers.setIfModifiedSince(cachedResponse.getHeaders().getLastModified());
+                            }
+                        })
+                        .build();
+
+                return chain.filter(exchange.mutate()
+                        .request(conditionalRequest)
+                        .response(new CachingServerHttpResponseDecorator(exchange, config, routeId, authorized, cachedResponse))
+                        .build());
+            }
+        }
+
+        responseCache.record(routeId, ResponseCache.LookupResult.MISS);
+        return chain.filter(exchange.mutate()
+                .response(new CachingServerHttpResponseDecorator(exchange, config, routeId, authorized, null))
+                .build());
+    }
+
+    private static Mono<Void> writeCachedResponse(ServerHttpRequest request, ServerHttpResponse response, CachedResponse cachedResponse) {
+        response.getHeaders().putAll(cachedResponse.getHeaders());
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(cachedResponse.getAge(Instant.now())));
+
+        // If the client already has the same representation, there's no need to send the body back.
+        String etag = cachedResponse.getHeaders().getETag();
+        if (!Strings.isNullOrEmpty(etag) && request.getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentLength(cachedResponse.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cachedResponse.getBody())));
+    }
+
+    private static String getRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    /**
+     * {@link ServerHttpResponseDecorator} that intercepts the body of the proxied response, so that it can be stored
+     * in the {@link ResponseCache}, and replaces 304 (Not Modified) responses to revalidation requests with the response
+     * that has already been stored.
+     */
+    private class CachingServerHttpResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+        private final Config config;
+        private final String routeId;
+        private final boolean authorized;
+        private final CachedResponse revalidatedResponse;
+
+        CachingServerHttpResponseDecorator(ServerWebExchange exchange, Config config, String routeId,
+                                           boolean authorized, CachedResponse revalidatedResponse) {
+            super(exchange.getResponse());
+            this.request = exchange.getRequest();
+            this.config = config;
+            this.routeId = routeId;
+            this.authorized = authorized;
+            this.revalidatedResponse = revalidatedResponse;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (revalidatedResponse != null) {
+                if (getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                    var refreshedResponse = revalidatedResponse.refresh(getHeaders(), config.getDefaultTtl(), Instant.now());
+                    responseCache.put(request, refreshedResponse);
+                    responseCache.record(routeId, ResponseCache.LookupResult.REVALIDATED);
+
+                    getHeaders().clear();
+                    return Flux.from(body)
+                            .doOnNext(DataBufferUtils::release)
+                            .then(writeCachedResponse(request, getDelegate(), refreshedResponse));
+                }
+
+                // The stored response is no longer valid and the backing service has provided a replacement.
+                responseCache.record(routeId, ResponseCache.LookupResult.MISS);
+            }
+
+            long contentLength = getHeaders().getContentLength();
+            if (getStatusCode() != HttpStatus.OK || contentLength > config.getMaxBodySize()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                    .flatMap(dataBuffer -> {
+                        var bytes = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(bytes);
+                        DataBufferUtils.release(dataBuffer);
+
+                        if (bytes.length <= config.getMaxBodySize()) {
+                            CachedResponse.of(getHeaders(), bytes, config.getDefaultTtl(), Instant.now())
+                                    .filter(cachedResponse -> !authorized || cachedResponse.isShared())
+                                    .ifPresent(cachedResponse -> responseCache.put(request, cachedResponse));
+                        }
+
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(publisher -> publisher));
+        }
+    }
+
+    /**
+     * Per-route configuration of the {@link ResponseCacheGatewayFilterFactory}.
+     */
+    @Data
+    public static class Config {
+
+        /**
+         * How long a response is considered fresh for when the backing service didn't specify a lifetime.
+         */
+        private Duration defaultTtl = Duration.ZERO;
+
+        /**
+         * The largest response body, in bytes, that will be stored.
+         */
+        private int maxBodySize = 1024 * 1024;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sparkystudios.traklibrary.gateway.server.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link HedgeBudget} caps the extra load that hedged requests can place on the backing services. Every request
+ * deposits a fraction of a token into the budget and every hedged request withdraws a whole token, so the number of
+ * hedges can never exceed the given ratio of requests, plus a small burst. This ensures that when a backing service is
+ * slow across the board, hedging doesn't double the load on it and make the problem worse.
+ *
+ * Balances are held as thousandths of a token, so they can be updated atomically without a lock.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class HedgeBudget {
+
+    private static final long TOKEN = 1000L;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a new, full {@link HedgeBudget}.
+     *
+     * @param ratio The maximum number of hedged requests per request, i.e. 0.1 for 10%.
+     * @param burst The number of hedged requests that can be made in excess of the ratio.
+     */
+    public HedgeBudget(double ratio, int burst) {
+        if (ratio <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Hedge budget ratio and burst must be positive.");
+        }
+
+        this.deposit = Math.max(1L, Math.round(ratio * TOKEN));
+        this.maxBalance = burst * TOKEN;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Deposits the budget of a single request.
+     */
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    /**
+     * Attempts to withdraw the budget for a single hedged request.
+     *
+     * @return <code>true</code> if the hedged request can be made, <code>false</code> if the budget is exhausted.
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.sparkystudios.traklibrary.gateway.server.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link RateLimiter} is an in-process alternative to the Redis backed rate limiter that is provided by Spring
+ * Cloud Gateway. It holds a {@link TokenBucket} for each route and client pair, stored within a bounded Caffeine cache
+ * so that memory usage is capped and buckets for idle clients are evicted. As an evicted bucket is re-created full,
+ * the idle expiry should be longer than the time it takes for a bucket to refill.
+ *
+ * Along with rate limiting, the {@link RateLimiter} also tracks the number of in-flight requests for each route so that
+ * requests can be shed once a route is saturated, rather than queueing up behind slow backing services.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class RateLimiter {
+
+    private static final String METRIC_PREFIX = "trak.gateway.rate-limit";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, AtomicInteger> inFlightRequests = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${trak.gateway.rate-limit.maximum-keys:100000}") long maximumKeys,
+                       @Value("${trak.gateway.rate-limit.expire-after-access:PT10M}") Duration expireAfterAccess) {
+        this.meterRegistry = meterRegistry;
+
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+
+        Gauge.builder(METRIC_PREFIX + ".buckets", buckets, Cache::estimatedSize)
+                .description("The number of token buckets currently held by the gateway rate limiter.")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Attempts to take a token from the bucket that belongs to the given route and client. If the bucket doesn't exist,
+     * a new full bucket with the given capacity and refill rate is created.
+     *
+     * @param routeId The ID of the route that the request is for.
+     * @param keyType The type of the client key, i.e. whether it's a user ID or an IP address.
+     * @param key The key that identifies the client.
+     * @param capacity The maximum number of tokens in the bucket.
+     * @param refillPerSecond The number of tokens that are added to the bucket each second.
+     *
+     * @return {@link Duration#ZERO} if the request is permitted, otherwise how long until it would be permitted.
+     */
+    public Duration tryAcquire(String routeId, KeyType keyType, String key, double capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.get(getBucketKey(routeId, keyType, key),
+                k -> new TokenBucket(capacity, refillPerSecond, now));
+
+        Duration retryAfter = bucket.tryConsume(now);
+        if (!retryAfter.isZero()) {
+            getRejectionCounter(routeId, keyType.name()).increment();
+        }
+
+        return retryAfter;
+    }
+
+    /**
+     * Returns a token that was taken by {@link #tryAcquire(String, KeyType, String, double, double)} to the bucket that
+     * belongs to the given route and client, as the request it was taken for was rejected by another bucket.
+     *
+     * @param routeId The ID of the route that the request was for.
+     * @param keyType The type of the client key, i.e. whether it's a user ID or an IP address.
+     * @param key The key that identifies the client.
+     */
+    public void release(String routeId, KeyType keyType, String key) {
+        TokenBucket bucket = buckets.getIfPresent(getBucketKey(routeId, keyType, key));
+        if (bucket != null) {
+            bucket.refund(System.nanoTime());
+        }
+    }
+
+    /**
+     * Attempts to register a new in-flight request against the given route. If the route already has the maximum number
+     * of in-flight requests, the request should be shed and <code>false</code> is returned. Each successful call must be
+     * followed by a call to {@link #exit(String)} once the request has completed.
+     *
+     * @param routeId The ID of the route the request is for.
+     * @param maxConcurrentRequests The maximum number of in-flight requests for the route.
+     *
+     * @return <code>true</code> if the request can proceed, <code>false</code> if it should be shed.
+     */
+    public boolean tryEnter(String routeId, int maxConcurrentRequests) {
+        AtomicInteger inFlight = inFlightRequests.computeIfAbsent(routeId, this::createInFlightGauge);
+
+        if (inFlight.incrementAndGet() > maxConcurrentRequests) {
+            inFlight.decrementAndGet();
+            getRejectionCounter(routeId, "SHED").increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Marks an in-flight request that was previously registered with {@link #tryEnter(String, int)} as complete.
+     *
+     * @param routeId The ID of the route the request was for.
+     */
+    public void exit(String routeId) {
+        AtomicInteger inFlight = inFlightRequests.get(routeId);
+        if (inFlight != null) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static String getBucketKey(String routeId, KeyType keyType, String key) {
+        return routeId + "|" + keyType + "|" + key;
+    }
+
+    private AtomicInteger createInFlightGauge(String routeId) {
+        var inFlight = new AtomicInteger();
+
+        Gauge.builder(METRIC_PREFIX + ".in-flight", inFlight, AtomicInteger::get)
+                .description("The number of requests currently being processed for the route.")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        return inFlight;
+    }
+
+    private Counter getRejectionCounter(String routeId, String reason) {
+        return rejectionCounters.computeIfAbsent(routeId + "|" + reason, k -> Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("The number of requests that were rejected by the gateway rate limiter.")
+                .tag("route", routeId)
+                .tag("reason", reason.toLowerCase())
+                .register(meterRegistry));
+    }
+
+    /**
+     * The type of key that a {@link TokenBucket} is held against.
+     */
+    public enum KeyType {
+        /**
+         * The bucket is held against the ID of an authenticated user.
+         */
+        USER,
+        /**
+         * The bucket is held against the IP address of the client.
+         */
+        IP
+    }
+}
@@ -0,0 +1,104 @@
+package com.sparkystudios.traklibrary.gateway.server.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@link TokenBucket} is a lock-free implementation of the token bucket algorithm. The bucket starts full and is
+ * lazily refilled at a constant rate whenever a token is requested, so no background thread is required. The state of
+ * the bucket is held in a single immutable snapshot that is swapped atomically, which means concurrent requests for the
+ * same bucket never block each other.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    /**
+     * Creates a new, full {@link TokenBucket}.
+     *
+     * @param capacity The maximum number of tokens the bucket can hold, i.e. the allowed burst.
+     * @param refillPerSecond The number of tokens that are added to the bucket every second.
+     * @param nanoTime The current time in nanoseconds.
+     */
+    public TokenBucket(double capacity, double refillPerSecond, long nanoTime) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill rate must be positive.");
+        }
+
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / Duration.ofSeconds(1L).toNanos();
+        this.state = new AtomicReference<>(new State(capacity, nanoTime));
+    }
+
+    /**
+     * Attempts to take a single token from the bucket. If there are no tokens available, the returned {@link Duration}
+     * indicates how long the caller would need to wait until one becomes available, otherwise {@link Duration#ZERO} is
+     * returned to indicate that the token was taken.
+     *
+     * @param nanoTime The current time in nanoseconds.
+     *
+     * @return {@link Duration#ZERO} if a token was taken, otherwise the time until one will be available.
+     */
+    public Duration tryConsume(long nanoTime) {
+        while (true) {
+            State current = state.get();
+
+            long elapsed = Math.max(0L, nanoTime - current.timestamp);
+            double tokens = Math.min(capacity, current.tokens + elapsed * tokensPerNano);
+
+            if (tokens < 1.0) {
+                return Duration.ofNanos((long) Math.ceil((1.0 - tokens) / tokensPerNano));
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1.0, Math.max(nanoTime, current.timestamp)))) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    /**
+     * Returns a single token that was previously taken back to the bucket, i.e. because the request it was taken for
+     * was rejected for another reason. The bucket is never refilled beyond its capacity.
+     *
+     * @param nanoTime The current time in nanoseconds.
+     */
+    public void refund(long nanoTime) {
+        while (true) {
+            State current = state.get();
+
+            long elapsed = Math.max(0L, nanoTime - current.timestamp);
+            double tokens = Math.min(capacity, current.tokens + elapsed * tokensPerNano + 1.0);
+
+            if (state.compareAndSet(current, new State(tokens, Math.max(nanoTime, current.timestamp)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of whole tokens that would be available at the given time.
+     *
+     * @param nanoTime The current time in nanoseconds.
+     *
+     * @return The number of available tokens.
+     */
+    public long getAvailableTokens(long nanoTime) {
+        State current = state.get();
+        long elapsed = Math.max(0L, nanoTime - current.timestamp);
+
+        return (long) Math.min(capacity, current.tokens + elapsed * tokensPerNano);
+    }
+
+    @RequiredArgsConstructor
+    private static class State {
+        private final double tokens;
+        private final long timestamp;
+    }
+}
@@ -0,0 +1,134 @@
+package com.sparkystudios.traklibrary.gateway.server.cache;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+class CachedResponseTest {
+
+    @Test
+    void of_withNoStore_returnsEmptyOptional() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("no-store");
+        headers.setETag("\"etag\"");
+
+        // Act
+        var result = CachedResponse.of(headers, new byte[0], Duration.ofMinutes(1L), Instant.now());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEmpty();
+    }
+
+    @Test
+    void of_withPrivate_returnsEmptyOptional() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("private, max-age=60");
+
+        // Act
+        var result = CachedResponse.of(headers, new byte[0], Duration.ZERO, Instant.now());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEmpty();
+    }
+
+    @Test
+    void of_withVaryAll_returnsEmptyOptional() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("public, max-age=60");
+        headers.add(HttpHeaders.VARY, "*");
+
+        // Act
+        var result = CachedResponse.of(headers, new byte[0], Duration.ZERO, Instant.now());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEmpty();
+    }
+
+    @Test
+    void of_withNoFreshnessAndNoValidators_returnsEmptyOptional() {
+        // Act
+        var result = CachedResponse.of(new HttpHeaders(), new byte[0], Duration.ZERO, Instant.now());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEmpty();
+    }
+
+    @Test
+    void of_withSharedMaxAge_prefersSharedMaxAge() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=10, s-maxage=120");
+
+        // Act
+        var result = CachedResponse.of(headers, new byte[0], Duration.ZERO, Instant.now());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isPresent();
+        Assertions.assertThat(result.get().getFreshnessLifetime())
+                .isEqualTo(Duration.ofSeconds(120L));
+        Assertions.assertThat(result.get().isShared())
+                .isTrue();
+    }
+
+    @Test
+    void of_withNoCacheAndETag_isStoredButNotFresh() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("no-cache");
+        headers.setETag("\"etag\"");
+
+        // Act
+        var result = CachedResponse.of(headers, new byte[0], Duration.ofMinutes(1L), Instant.now());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isPresent();
+        Assertions.assertThat(result.get().isFresh(Instant.now()))
+                .isFalse();
+        Assertions.assertThat(result.get().hasValidators())
+                .isTrue();
+    }
+
+    @Test
+    void refresh_withNewMaxAge_isFreshAgain() {
+        // Arrange
+        Instant storedAt = Instant.now().minusSeconds(120L);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("public, max-age=60");
+        headers.setETag("\"etag\"");
+        headers.setContentLength(2L);
+
+        CachedResponse cachedResponse = CachedResponse.of(headers, new byte[] { 'a', 'b' }, Duration.ZERO, storedAt)
+                .orElseThrow();
+
+        HttpHeaders notModifiedHeaders = new HttpHeaders();
+        notModifiedHeaders.setCacheControl("public, max-age=300");
+
+        // Act
+        var result = cachedResponse.refresh(notModifiedHeaders, Duration.ZERO, Instant.now());
+
+        // Assert
+        Assertions.assertThat(cachedResponse.isFresh(Instant.now()))
+                .isFalse();
+        Assertions.assertThat(result.isFresh(Instant.now()))
+                .isTrue();
+        Assertions.assertThat(result.getHeaders().getETag())
+                .isEqualTo("\"etag\"");
+        Assertions.assertThat(result.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH))
+                .isFalse();
+        Assertions.assertThat(result.getBody())
+                .isEqualTo(new byte[] { 'a', 'b' });
+    }
+}
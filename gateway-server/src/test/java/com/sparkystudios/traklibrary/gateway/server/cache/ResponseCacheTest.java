@@ -0,0 +1,100 @@
+package com.sparkystudios.traklibrary.gateway.server.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+class ResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ResponseCache responseCache;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(meterRegistry, 1024L * 1024L, Duration.ofHours(1L));
+    }
+
+    @Test
+    void get_withNoStoredResponse_returnsNull() {
+        // Act
+        var result = responseCache.get(MockServerHttpRequest.get("/games/1/image").build());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isNull();
+    }
+
+    @Test
+    void get_withStoredResponseForDifferentQuery_returnsNull() {
+        // Arrange
+        responseCache.put(MockServerHttpRequest.get("/games/1/image?image-size=SMALL").build(), createCachedResponse(new HttpHeaders()));
+
+        // Act
+        var result = responseCache.get(MockServerHttpRequest.get("/games/1/image?image-size=LARGE").build());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isNull();
+    }
+
+    @Test
+    void get_withStoredResponse_returnsStoredResponse() {
+        // Arrange
+        var cachedResponse = createCachedResponse(new HttpHeaders());
+        responseCache.put(MockServerHttpRequest.get("/games/1/image").build(), cachedResponse);
+
+        // Act
+        var result = responseCache.get(MockServerHttpRequest.get("/games/1/image").build());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isSameAs(cachedResponse);
+    }
+
+    @Test
+    void get_withVaryHeaderMismatch_returnsNull() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+
+        responseCache.put(MockServerHttpRequest.get("/games/filters").header(HttpHeaders.ACCEPT_LANGUAGE, "en").build(),
+                createCachedResponse(headers));
+
+        // Act
+        var result = responseCache.get(MockServerHttpRequest.get("/games/filters").header(HttpHeaders.ACCEPT_LANGUAGE, "fr").build());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isNull();
+    }
+
+    @Test
+    void record_withHitsAndMisses_calculatesHitRatio() {
+        // Act
+        responseCache.record("trak-game-server", ResponseCache.LookupResult.HIT);
+        responseCache.record("trak-game-server", ResponseCache.LookupResult.REVALIDATED);
+        responseCache.record("trak-game-server", ResponseCache.LookupResult.MISS);
+        responseCache.record("trak-game-server", ResponseCache.LookupResult.MISS);
+        responseCache.record("trak-game-server", ResponseCache.LookupResult.BYPASS);
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get("trak.gateway.cache.hit.ratio").tag("route", "trak-game-server").gauge().value())
+                .isEqualTo(0.5);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    private CachedResponse createCachedResponse(HttpHeaders headers) {
+        headers.setCacheControl("public, max-age=60");
+        return CachedResponse.of(headers, new byte[] { 'a' }, Duration.ZERO, Instant.now())
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,138 @@
+package com.sparkystudios.traklibrary.gateway.server.config;
+
+import com.sparkystudios.traklibrary.gateway.server.cache.ResponseCache;
+import com.sparkystudios.traklibrary.gateway.server.filter.GatewayFilterOrder;
+import com.sparkystudios.traklibrary.gateway.server.filter.HedgingGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.filter.RateLimiterGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.filter.RequestCoalescingGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.filter.ResponseCacheGatewayFilterFactory;
+import com.sparkystudios.traklibrary.gateway.server.ratelimit.RateLimiter;
+import com.sparkystudios.traklibrary.loadbalancer.LoadBalancerStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.cloud.gateway.config.GatewayAutoConfiguration;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class RouteConfigTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+                    GatewayAutoConfiguration.class))
+            .withUserConfiguration(RouteTestConfiguration.class, RouteConfig.class);
+
+    private List<Route> routes;
+
+    @BeforeEach
+    void beforeEach() {
+        contextRunner.run(context -> routes = context.getBean("routes", RouteLocator.class)
+                .getRoutes()
+                .collectList()
+                .block());
+    }
+
+    @Test
+    void routes_withImageRequest_matchesImageRouteWithCacheAndCoalescingFilters() {
+        // Act
+        Route result = findRoute("/images/games/cover.png");
+
+        // Assert
+        Assertions.assertThat(result.getId())
+                .isEqualTo("trak-image-server");
+        Assertions.assertThat(getFilterOrders(result))
+                .contains(GatewayFilterOrder.RESPONSE_CACHE, GatewayFilterOrder.REQUEST_COALESCING);
+    }
+
+    @Test
+    void routes_withGameRequest_matchesGameRouteWithCacheAndCoalescingFilters() {
+        // Act
+        Route result = findRoute("/games/1/details");
+
+        // Assert
+        Assertions.assertThat(result.getId())
+                .isEqualTo("trak-game-server");
+        Assertions.assertThat(getFilterOrders(result))
+                .contains(GatewayFilterOrder.RESPONSE_CACHE, GatewayFilterOrder.REQUEST_COALESCING);
+    }
+
+    @Test
+    void routes_withAuthRequest_matchesAuthRouteWithoutCacheOrCoalescingFilters() {
+        // Act
+        Route result = findRoute("/auth/users/1");
+
+        // Assert
+        Assertions.assertThat(result.getId())
+                .isEqualTo("trak-auth-server");
+        Assertions.assertThat(getFilterOrders(result))
+                .doesNotContain(GatewayFilterOrder.RESPONSE_CACHE, GatewayFilterOrder.REQUEST_COALESCING);
+    }
+
+    // Routes are matched in order, so the first route whose predicate accepts the request is the one it's sent to.
+    private Route findRoute(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+
+        return Flux.fromIterable(routes)
+                .concatMap(route -> Mono.from(route.getPredicate().apply(exchange))
+                        .filter(Boolean::booleanValue)
+                        .map(matched -> route))
+                .next()
+                .block();
+    }
+
+    private static List<Integer> getFilterOrders(Route route) {
+        return route.getFilters().stream()
+                .filter(Ordered.class::isInstance)
+                .map(filter -> ((Ordered) filter).getOrder())
+                .collect(Collectors.toList());
+    }
+
+    @Configuration
+    static class RouteTestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        HedgingGatewayFilterFactory hedgingGatewayFilterFactory(MeterRegistry meterRegistry) {
+            return new HedgingGatewayFilterFactory(Mockito.mock(LoadBalancerClientFactory.class),
+                    Mockito.mock(LoadBalancerStatistics.class), meterRegistry);
+        }
+
+        @Bean
+        RateLimiterGatewayFilterFactory rateLimiterGatewayFilterFactory(MeterRegistry meterRegistry) {
+            return new RateLimiterGatewayFilterFactory(new RateLimiter(meterRegistry, 100L, Duration.ofMinutes(10L)), 0);
+        }
+
+        @Bean
+        RequestCoalescingGatewayFilterFactory requestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+            return new RequestCoalescingGatewayFilterFactory(meterRegistry);
+        }
+
+        @Bean
+        ResponseCacheGatewayFilterFactory responseCacheGatewayFilterFactory(MeterRegistry meterRegistry) {
+            return new ResponseCacheGatewayFilterFactory(new ResponseCache(meterRegistry, 1024L, Duration.ofHours(1L)));
+        }
+    }
+}
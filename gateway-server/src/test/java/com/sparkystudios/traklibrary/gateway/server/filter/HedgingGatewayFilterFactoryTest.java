@@ -0,0 +1,244 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import com.sparkystudios.traklibrary.loadbalancer.LoadBalancerStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class HedgingGatewayFilterFactoryTest {
+
+    private static final String SERVICE_ID = "trak-game-server";
+    private static final String PRIMARY_HOST = "10.0.0.1";
+    private static final String HEDGE_HOST = "10.0.0.2";
+    private static final String INSTANCE_HEADER = "X-Instance";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private HedgingGatewayFilterFactory hedgingGatewayFilterFactory;
+
+    private List<String> routedHosts;
+    private AtomicBoolean primaryCancelled;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        List<ServiceInstance> serviceInstances = List.of(
+                new DefaultServiceInstance("game-server-1", SERVICE_ID, PRIMARY_HOST, 8080, false),
+                new DefaultServiceInstance("game-server-2", SERVICE_ID, HEDGE_HOST, 8080, false));
+
+        ServiceInstanceListSupplier serviceInstanceListSupplier = Mockito.mock(ServiceInstanceListSupplier.class);
+        Mockito.when(serviceInstanceListSupplier.get())
+                .thenReturn(Flux.just(serviceInstances));
+
+        LoadBalancerClientFactory loadBalancerClientFactory = Mockito.mock(LoadBalancerClientFactory.class);
+        Mockito.when(loadBalancerClientFactory.getInstance(SERVICE_ID, ServiceInstanceListSupplier.class))
+                .thenReturn(serviceInstanceListSupplier);
+
+        LoadBalancerStatistics loadBalancerStatistics = new LoadBalancerStatistics(meterRegistry,
+                Duration.ofMillis(100L), Duration.ofSeconds(10L), Duration.ofSeconds(1L), Duration.ofHours(1L));
+
+        hedgingGatewayFilterFactory = new HedgingGatewayFilterFactory(loadBalancerClientFactory, loadBalancerStatistics, meterRegistry);
+
+        routedHosts = new CopyOnWriteArrayList<>();
+        primaryCancelled = new AtomicBoolean();
+    }
+
+    @Test
+    void filter_withHedgingDisabled_routesExchangeAsNormal() {
+        // Arrange
+        GatewayFilter filter = hedgingGatewayFilterFactory.apply(new HedgingGatewayFilterFactory.Config());
+        MockServerWebExchange exchange = createExchange();
+
+        var routedExchange = new ServerWebExchange[1];
+        GatewayFilterChain chain = e -> {
+            routedExchange[0] = e;
+            return Mono.empty();
+        };
+
+        // Act
+        filter.filter(exchange, chain).block(TIMEOUT);
+
+        // Assert
+        Assertions.assertThat(routedExchange[0])
+                .isSameAs(exchange);
+    }
+
+    @Test
+    void filter_withPrimaryRespondingBeforeDelay_doesntSendHedge() {
+        // Arrange
+        GatewayFilter filter = hedgingGatewayFilterFactory.apply(createConfig(Duration.ofSeconds(1L), 10));
+        MockServerWebExchange exchange = createExchange();
+
+        GatewayFilterChain chain = createChain(Duration.ofMillis(10L), HttpStatus.OK);
+
+        // Act
+        filter.filter(exchange, chain).block(TIMEOUT);
+
+        // Assert
+        Assertions.assertThat(routedHosts)
+                .containsExactly(PRIMARY_HOST);
+        Assertions.assertThat(exchange.getResponse().getHeaders().getFirst(INSTANCE_HEADER))
+                .isEqualTo(PRIMARY_HOST);
+        Assertions.assertThat(meterRegistry.find("trak.gateway.hedging.requests").tag("result", "fired").counter())
+                .isNull();
+    }
+
+    @Test
+    void filter_withSlowPrimary_usesHedgeAndCancelsPrimary() {
+        // Arrange
+        GatewayFilter filter = hedgingGatewayFilterFactory.apply(createConfig(Duration.ofMillis(20L), 10));
+        MockServerWebExchange exchange = createExchange();
+
+        GatewayFilterChain chain = createChain(null, HttpStatus.OK);
+
+        // Act
+        filter.filter(exchange, chain).block(TIMEOUT);
+
+        // Assert
+        Assertions.assertThat(routedHosts)
+                .containsExactly(PRIMARY_HOST, HEDGE_HOST);
+        Assertions.assertThat(primaryCancelled)
+                .isTrue();
+        Assertions.assertThat(exchange.getResponse().getHeaders().getFirst(INSTANCE_HEADER))
+                .isEqualTo(HEDGE_HOST);
+        Assertions.assertThat(exchange.<URI>getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR).getHost())
+                .isEqualTo(HEDGE_HOST);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.hedging.requests").tag("result", "won").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void filter_withSlowPrimary_recordsOnlyPrimaryLatency() {
+        // Arrange
+        GatewayFilter filter = hedgingGatewayFilterFactory.apply(createConfig(Duration.ofMillis(20L), 10));
+        GatewayFilterChain chain = createChain(null, HttpStatus.OK);
+
+        // Act
+        filter.filter(createExchange(), chain).block(TIMEOUT);
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get("trak.gateway.hedging.latency").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void filter_withHedgeServerError_usesPrimary() {
+        // Arrange
+        GatewayFilter filter = hedgingGatewayFilterFactory.apply(createConfig(Duration.ofMillis(20L), 10));
+        MockServerWebExchange exchange = createExchange();
+
+        GatewayFilterChain chain = createChain(Duration.ofMillis(200L), HttpStatus.SERVICE_UNAVAILABLE);
+
+        // Act
+        filter.filter(exchange, chain).block(TIMEOUT);
+
+        // Assert
+        Assertions.assertThat(exchange.getResponse().getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(exchange.getResponse().getHeaders().getFirst(INSTANCE_HEADER))
+                .isEqualTo(PRIMARY_HOST);
+    }
+
+    @Test
+    void filter_withExhaustedBudget_doesntSendHedge() {
+        // Arrange
+        var config = createConfig(Duration.ofMillis(20L), 1);
+        config.setBudgetRatio(0.001);
+
+        GatewayFilter filter = hedgingGatewayFilterFactory.apply(config);
+        GatewayFilterChain chain = createChain(Duration.ofMillis(200L), HttpStatus.OK);
+
+        // Act
+        filter.filter(createExchange(), chain).block(TIMEOUT);
+
+        MockServerWebExchange exchange = createExchange();
+        filter.filter(exchange, chain).block(TIMEOUT);
+
+        // Assert
+        Assertions.assertThat(routedHosts)
+                .containsExactly(PRIMARY_HOST, HEDGE_HOST, PRIMARY_HOST);
+        Assertions.assertThat(exchange.getResponse().getHeaders().getFirst(INSTANCE_HEADER))
+                .isEqualTo(PRIMARY_HOST);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.hedging.requests").tag("result", "rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static HedgingGatewayFilterFactory.Config createConfig(Duration delay, int budgetBurst) {
+        var config = new HedgingGatewayFilterFactory.Config();
+        config.setEnabled(true);
+        config.setMinDelay(delay);
+        config.setMaxDelay(delay);
+        config.setBudgetBurst(budgetBurst);
+
+        return config;
+    }
+
+    /**
+     * Creates a chain that stands in for the routing filter, the primary instance responds after the given latency, or
+     * never if it's <code>null</code>, and the hedge instance responds immediately with the given status.
+     */
+    private GatewayFilterChain createChain(Duration primaryLatency, HttpStatus hedgeStatus) {
+        return exchange -> {
+            URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            String host = requestUrl.getHost();
+            routedHosts.add(host);
+
+            if (PRIMARY_HOST.equals(host)) {
+                Mono<Long> latency = primaryLatency == null ? Mono.never() : Mono.delay(primaryLatency);
+                return latency
+                        .doOnCancel(() -> primaryCancelled.set(true))
+                        .then(respond(exchange, host, HttpStatus.OK));
+            }
+
+            return respond(exchange, host, hedgeStatus);
+        };
+    }
+
+    private static Mono<Void> respond(ServerWebExchange exchange, String host, HttpStatus status) {
+        return Mono.fromRunnable(() -> {
+            ServerWebExchangeUtils.setAlreadyRouted(exchange);
+            exchange.getResponse().setStatusCode(status);
+            exchange.getResponse().getHeaders().set(INSTANCE_HEADER, host);
+        });
+    }
+
+    private static MockServerWebExchange createExchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/games/1"));
+
+        Route route = Route.async()
+                .id(SERVICE_ID)
+                .uri(URI.create("lb://" + SERVICE_ID))
+                .predicate(e -> true)
+                .build();
+
+        Map<String, Object> attributes = exchange.getAttributes();
+        attributes.put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        attributes.put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, URI.create("http://" + PRIMARY_HOST + ":8080/1"));
+
+        return exchange;
+    }
+}
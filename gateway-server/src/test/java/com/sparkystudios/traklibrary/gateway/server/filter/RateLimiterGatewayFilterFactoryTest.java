@@ -0,0 +1,112 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import com.sparkystudios.traklibrary.gateway.server.ratelimit.RateLimiter;
+import com.sparkystudios.traklibrary.security.token.data.UserData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+class RateLimiterGatewayFilterFactoryTest {
+
+    private final RateLimiter rateLimiter = new RateLimiter(new SimpleMeterRegistry(), 100L, Duration.ofMinutes(10L));
+
+    @Test
+    void constructor_withNegativeTrustedProxies_throwsIllegalArgumentException() {
+        // Act
+        Throwable result = Assertions.catchThrowable(() -> new RateLimiterGatewayFilterFactory(rateLimiter, -1));
+
+        // Assert
+        Assertions.assertThat(result)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getIpAddress_withNoTrustedProxies_ignoresForwardedHeader() {
+        // Arrange
+        var rateLimiterGatewayFilterFactory = new RateLimiterGatewayFilterFactory(rateLimiter, 0);
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/games")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 12345))
+                .header("X-Forwarded-For", "1.2.3.4"));
+
+        // Act
+        String result = rateLimiterGatewayFilterFactory.getIpAddress(exchange);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void getIpAddress_withOneTrustedProxy_usesLastForwardedAddress() {
+        // Arrange
+        var rateLimiterGatewayFilterFactory = new RateLimiterGatewayFilterFactory(rateLimiter, 1);
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/games")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 12345))
+                .header("X-Forwarded-For", "1.2.3.4, 5.6.7.8"));
+
+        // Act
+        String result = rateLimiterGatewayFilterFactory.getIpAddress(exchange);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo("5.6.7.8");
+    }
+
+    @Test
+    void apply_withUserRejected_returnsTokenToIpBucket() {
+        // Arrange
+        var rateLimiterGatewayFilterFactory = new RateLimiterGatewayFilterFactory(rateLimiter, 0);
+
+        var config = new RateLimiterGatewayFilterFactory.Config();
+        config.setUserCapacity(1.0);
+        config.setUserRefillPerSecond(0.001);
+        config.setIpCapacity(2.0);
+        config.setIpRefillPerSecond(0.001);
+
+        GatewayFilter filter = rateLimiterGatewayFilterFactory.apply(config);
+
+        var userData = new UserData();
+        userData.setUserId(1L);
+        var authentication = new TestingAuthenticationToken("username", null);
+        authentication.setDetails(userData);
+
+        // Act
+        ServerWebExchange first = createExchange(authentication);
+        ServerWebExchange second = createExchange(authentication);
+        ServerWebExchange third = createExchange(null);
+
+        filter.filter(first, exchange -> Mono.empty()).block();
+        filter.filter(second, exchange -> Mono.empty()).block();
+        filter.filter(third, exchange -> Mono.empty()).block();
+
+        // Assert
+        Assertions.assertThat(first.getResponse().getStatusCode())
+                .isNull();
+        Assertions.assertThat(second.getResponse().getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        Assertions.assertThat(third.getResponse().getStatusCode())
+                .isNull();
+    }
+
+    private static ServerWebExchange createExchange(Authentication authentication) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/games")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 12345)));
+
+        return authentication == null ? exchange : exchange.mutate()
+                .principal(Mono.just(authentication))
+                .build();
+    }
+}
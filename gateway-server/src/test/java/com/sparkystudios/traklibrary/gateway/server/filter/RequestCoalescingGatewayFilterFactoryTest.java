@@ -0,0 +1,233 @@
+package com.sparkystudios.traklibrary.gateway.server.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private static final String PATH = "/games/1/details";
+    private static final String BODY = "test-body";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescingGatewayFilterFactory requestCoalescingGatewayFilterFactory;
+
+    private Sinks.Empty<Void> upstreamLatch;
+    private AtomicInteger upstreamRequests;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescingGatewayFilterFactory = new RequestCoalescingGatewayFilterFactory(meterRegistry);
+
+        upstreamLatch = Sinks.empty();
+        upstreamRequests = new AtomicInteger();
+    }
+
+    @Test
+    void filter_withIdenticalConcurrentRequests_replaysLeaderResponseToWaiters() {
+        // Arrange
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+
+        MockServerWebExchange leader = createExchange(null);
+        MockServerWebExchange waiter1 = createExchange(null);
+        MockServerWebExchange waiter2 = createExchange(null);
+
+        // Act
+        filterAll(filter, chain, leader, waiter1, waiter2);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(1);
+        Assertions.assertThat(waiter1.getResponse().getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(waiter1.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+        Assertions.assertThat(waiter2.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.coalescing.requests").tag("result", "collapsed").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void filter_withErrorResponse_forwardsWaitersIndividually() {
+        // Arrange
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+        GatewayFilterChain chain = upstream(HttpStatus.SERVICE_UNAVAILABLE, null);
+
+        MockServerWebExchange leader = createExchange(null);
+        MockServerWebExchange waiter = createExchange(null);
+
+        // Act
+        filterAll(filter, chain, leader, waiter);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.coalescing.requests").tag("result", "fallback").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void filter_withMaxWaitersReached_forwardsOverflowIndividually() {
+        // Arrange
+        var config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setMaxWaiters(1);
+
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(config);
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+
+        MockServerWebExchange leader = createExchange(null);
+        MockServerWebExchange waiter = createExchange(null);
+        MockServerWebExchange overflow = createExchange(null);
+
+        // Act
+        filterAll(filter, chain, leader, waiter, overflow);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(2);
+        Assertions.assertThat(waiter.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+        Assertions.assertThat(overflow.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.coalescing.requests").tag("result", "overflow").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void filter_withOversizeBody_forwardsWaitersIndividually() {
+        // Arrange
+        var config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setMaxBodySize(BODY.length() - 1);
+
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(config);
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+
+        MockServerWebExchange leader = createExchange(null);
+        MockServerWebExchange waiter = createExchange(null);
+
+        // Act
+        filterAll(filter, chain, leader, waiter);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(2);
+        Assertions.assertThat(leader.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+        Assertions.assertThat(waiter.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+    }
+
+    @Test
+    void filter_withDifferentAuthorization_doesntCollapseRequests() {
+        // Arrange
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "public, max-age=60");
+
+        MockServerWebExchange user1 = createExchange("Bearer user-1");
+        MockServerWebExchange user2 = createExchange("Bearer user-2");
+
+        // Act
+        filterAll(filter, chain, user1, user2);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.coalescing.requests").tag("result", "leader").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void filter_withSharedPathAndPublicResponse_replaysResponseToOtherUsers() {
+        // Arrange
+        var config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setSharedPaths(List.of("/games/*/details"));
+
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(config);
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "public, max-age=60");
+
+        MockServerWebExchange user1 = createExchange("Bearer user-1");
+        MockServerWebExchange user2 = createExchange("Bearer user-2");
+
+        // Act
+        filterAll(filter, chain, user1, user2);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(1);
+        Assertions.assertThat(user2.getResponse().getBodyAsString().block())
+                .isEqualTo(BODY);
+    }
+
+    @Test
+    void filter_withSharedPathAndPrivateResponse_forwardsOtherUsersIndividually() {
+        // Arrange
+        var config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setSharedPaths(List.of("/games/*/details"));
+
+        GatewayFilter filter = requestCoalescingGatewayFilterFactory.apply(config);
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "private, max-age=60");
+
+        MockServerWebExchange user1 = createExchange("Bearer user-1");
+        MockServerWebExchange user2 = createExchange("Bearer user-2");
+
+        // Act
+        filterAll(filter, chain, user1, user2);
+
+        // Assert
+        Assertions.assertThat(upstreamRequests.get())
+                .isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("trak.gateway.coalescing.requests").tag("result", "fallback").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private void filterAll(GatewayFilter filter, GatewayFilterChain chain, MockServerWebExchange... exchanges) {
+        // The upstream doesn't respond until every request has been filtered, so that they're all concurrent.
+        for (MockServerWebExchange exchange : exchanges) {
+            filter.filter(exchange, chain).subscribe();
+        }
+
+        upstreamLatch.tryEmitEmpty();
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status, String cacheControl) {
+        return exchange -> {
+            upstreamRequests.incrementAndGet();
+
+            return upstreamLatch.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(status);
+                if (cacheControl != null) {
+                    response.getHeaders().setCacheControl(cacheControl);
+                }
+
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+
+    private static MockServerWebExchange createExchange(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(PATH);
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+
+        return MockServerWebExchange.from(request);
+    }
+}
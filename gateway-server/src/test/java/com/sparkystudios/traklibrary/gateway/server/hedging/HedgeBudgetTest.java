@@ -0,0 +1,82 @@
+package com.sparkystudios.traklibrary.gateway.server.hedging;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HedgeBudgetTest {
+
+    @Test
+    void constructor_withNonPositiveRatio_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new HedgeBudget(0.0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryWithdraw_withinBurst_returnsTrue() {
+        // Arrange
+        HedgeBudget hedgeBudget = new HedgeBudget(0.1, 2);
+
+        // Act
+        boolean first = hedgeBudget.tryWithdraw();
+        boolean second = hedgeBudget.tryWithdraw();
+
+        // Assert
+        Assertions.assertThat(first)
+                .isTrue();
+        Assertions.assertThat(second)
+                .isTrue();
+    }
+
+    @Test
+    void tryWithdraw_withExhaustedBudget_returnsFalse() {
+        // Arrange
+        HedgeBudget hedgeBudget = new HedgeBudget(0.1, 1);
+        hedgeBudget.tryWithdraw();
+
+        // Act
+        boolean result = hedgeBudget.tryWithdraw();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void tryWithdraw_afterEnoughDeposits_returnsTrue() {
+        // Arrange
+        HedgeBudget hedgeBudget = new HedgeBudget(0.1, 1);
+        hedgeBudget.tryWithdraw();
+
+        for (int i = 0; i < 10; i++) {
+            hedgeBudget.deposit();
+        }
+
+        // Act
+        boolean result = hedgeBudget.tryWithdraw();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void deposit_beyondBurst_capsBalance() {
+        // Arrange
+        HedgeBudget hedgeBudget = new HedgeBudget(1.0, 1);
+
+        for (int i = 0; i < 10; i++) {
+            hedgeBudget.deposit();
+        }
+
+        // Act
+        boolean first = hedgeBudget.tryWithdraw();
+        boolean second = hedgeBudget.tryWithdraw();
+
+        // Assert
+        Assertions.assertThat(first)
+                .isTrue();
+        Assertions.assertThat(second)
+                .isFalse();
+    }
+}
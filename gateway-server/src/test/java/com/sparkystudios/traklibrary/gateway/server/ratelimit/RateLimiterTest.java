@@ -0,0 +1,89 @@
+package com.sparkystudios.traklibrary.gateway.server.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(meterRegistry, 100L, Duration.ofMinutes(10L));
+    }
+
+    @Test
+    void tryAcquire_withExhaustedBucket_rejectsAndRecordsMetric() {
+        // Arrange
+        rateLimiter.tryAcquire("route", RateLimiter.KeyType.IP, "127.0.0.1", 1.0, 0.1);
+
+        // Act
+        Duration result = rateLimiter.tryAcquire("route", RateLimiter.KeyType.IP, "127.0.0.1", 1.0, 0.1);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isPositive();
+        Assertions.assertThat(meterRegistry.get("trak.gateway.rate-limit.rejected").tag("reason", "ip").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void release_withExhaustedBucket_permitsNextRequest() {
+        // Arrange
+        rateLimiter.tryAcquire("route", RateLimiter.KeyType.IP, "127.0.0.1", 1.0, 0.1);
+
+        // Act
+        rateLimiter.release("route", RateLimiter.KeyType.IP, "127.0.0.1");
+
+        // Assert
+        Assertions.assertThat(rateLimiter.tryAcquire("route", RateLimiter.KeyType.IP, "127.0.0.1", 1.0, 0.1))
+                .isZero();
+    }
+
+    @Test
+    void tryAcquire_withDifferentKeys_usesSeparateBuckets() {
+        // Arrange
+        rateLimiter.tryAcquire("route", RateLimiter.KeyType.USER, "1", 1.0, 0.1);
+
+        // Act
+        Duration result = rateLimiter.tryAcquire("route", RateLimiter.KeyType.USER, "2", 1.0, 0.1);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void tryEnter_withSaturatedRoute_returnsFalse() {
+        // Arrange
+        rateLimiter.tryEnter("route", 1);
+
+        // Act
+        boolean result = rateLimiter.tryEnter("route", 1);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void tryEnter_afterExit_returnsTrue() {
+        // Arrange
+        rateLimiter.tryEnter("route", 1);
+        rateLimiter.exit("route");
+
+        // Act
+        boolean result = rateLimiter.tryEnter("route", 1);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isTrue();
+    }
+}
@@ -0,0 +1,100 @@
+package com.sparkystudios.traklibrary.gateway.server.ratelimit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class TokenBucketTest {
+
+    @Test
+    void constructor_withNonPositiveCapacity_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new TokenBucket(0.0, 1.0, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryConsume_withinCapacity_returnsZero() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(2.0, 1.0, 0L);
+
+        // Act
+        Duration first = tokenBucket.tryConsume(0L);
+        Duration second = tokenBucket.tryConsume(0L);
+
+        // Assert
+        Assertions.assertThat(first)
+                .isZero();
+        Assertions.assertThat(second)
+                .isZero();
+    }
+
+    @Test
+    void tryConsume_withEmptyBucket_returnsTimeUntilNextToken() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(1.0, 2.0, 0L);
+        tokenBucket.tryConsume(0L);
+
+        // Act
+        Duration result = tokenBucket.tryConsume(0L);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(Duration.ofMillis(500L));
+    }
+
+    @Test
+    void tryConsume_afterRefill_returnsZero() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(1.0, 1.0, 0L);
+        tokenBucket.tryConsume(0L);
+
+        // Act
+        Duration result = tokenBucket.tryConsume(Duration.ofSeconds(1L).toNanos());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void refund_afterConsume_returnsToken() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(1.0, 1.0, 0L);
+        tokenBucket.tryConsume(0L);
+
+        // Act
+        tokenBucket.refund(0L);
+
+        // Assert
+        Assertions.assertThat(tokenBucket.tryConsume(0L))
+                .isZero();
+    }
+
+    @Test
+    void refund_withFullBucket_doesNotExceedCapacity() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(2.0, 1.0, 0L);
+
+        // Act
+        tokenBucket.refund(0L);
+
+        // Assert
+        Assertions.assertThat(tokenBucket.getAvailableTokens(0L))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void getAvailableTokens_afterLongIdlePeriod_doesNotExceedCapacity() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(5.0, 1.0, 0L);
+
+        // Act
+        long result = tokenBucket.getAvailableTokens(Duration.ofHours(1L).toNanos());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(5L);
+    }
+}
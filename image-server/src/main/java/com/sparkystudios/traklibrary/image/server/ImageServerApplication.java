@@ -2,12 +2,14 @@ package com.sparkystudios.traklibrary.image.server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {
         "com.sparkystudios.traklibrary.image.service",
         "com.sparkystudios.traklibrary.image.server",
         "com.sparkystudios.traklibrary.security"
 })
+@EnableScheduling
 public class ImageServerApplication {
 
     public static void main(String... args) {
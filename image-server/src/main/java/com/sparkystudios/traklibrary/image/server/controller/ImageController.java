@@ -8,13 +8,16 @@ import com.sparkystudios.traklibrary.security.annotation.AllowedForModeratorWith
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@link ImageController} is a simple controller class that exposes a small number of end-points that are used to upload and
@@ -189,6 +192,10 @@ public class ImageController {
         return ResponseEntity
                 .ok()
                 .contentLength(imageData.length)
+                // Images are overwritten in place when re-uploaded, so they're only cached briefly before being
+                // revalidated against their ETag, which is answered with a 304 if the image hasn't changed.
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic().mustRevalidate())
+                .eTag(DigestUtils.md5DigestAsHex(imageData))
                 .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
                 .body(new ByteArrayResource(imageData));
     }
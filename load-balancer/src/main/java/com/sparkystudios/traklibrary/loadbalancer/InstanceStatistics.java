@@ -0,0 +1,105 @@
+package com.sparkystudios.traklibrary.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@link InstanceStatistics} holds the load of a single service instance, as seen by this client. It tracks the
+ * number of requests that are currently in-flight to the instance and an exponentially weighted moving average (EWMA)
+ * of its response times. The average is weighted by the time between samples rather than the number of samples, so
+ * that an instance which hasn't been used for a while quickly converges on its current latency. Samples that are slower
+ * than the current average replace it outright, so a stalled instance is penalised immediately and only regains its
+ * traffic gradually as faster responses decay the average back down.
+ *
+ * The statistics are updated lock-free, as they're shared between every request that is sent to the instance.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class InstanceStatistics {
+
+    private final double decayNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<Latency> latency;
+
+    /**
+     * Creates a new {@link InstanceStatistics} for an instance that hasn't been sent any requests yet.
+     *
+     * @param initialLatencyNanos The latency to assume for the instance until it has responded to a request.
+     * @param decayNanos The time, in nanoseconds, over which old samples lose most of their weight.
+     * @param nanoTime The current time in nanoseconds.
+     */
+    public InstanceStatistics(double initialLatencyNanos, long decayNanos, long nanoTime) {
+        if (decayNanos <= 0) {
+            throw new IllegalArgumentException("Instance statistics decay time must be positive.");
+        }
+
+        this.decayNanos = decayNanos;
+        this.latency = new AtomicReference<>(new Latency(initialLatencyNanos, nanoTime));
+    }
+
+    /**
+     * Marks a new request as in-flight to the instance.
+     */
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Marks a request that was previously started as complete and adds its response time to the moving average.
+     *
+     * @param latencyNanos The response time of the request in nanoseconds.
+     * @param nanoTime The current time in nanoseconds.
+     */
+    public void complete(long latencyNanos, long nanoTime) {
+        inFlight.decrementAndGet();
+
+        while (true) {
+            Latency current = latency.get();
+
+            long elapsed = Math.max(0L, nanoTime - current.timestamp);
+            double average = latencyNanos;
+            if (latencyNanos < current.average) {
+                double weight = Math.exp(-elapsed / decayNanos);
+                average = current.average * weight + latencyNanos * (1.0 - weight);
+            }
+
+            if (latency.compareAndSet(current, new Latency(average, Math.max(nanoTime, current.timestamp)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the cost of sending another request to the instance. The cost is the average latency multiplied by the
+     * number of requests that would be in-flight, so an instance that is either slow or busy is less likely to be
+     * chosen than one that is neither.
+     *
+     * @return The cost of sending a request to the instance, lower is better.
+     */
+    public double getCost() {
+        return latency.get().average * (inFlight.get() + 1);
+    }
+
+    /**
+     * @return The moving average of the response times of the instance in nanoseconds.
+     */
+    public double getAverageLatency() {
+        return latency.get().average;
+    }
+
+    /**
+     * @return The number of requests that are currently in-flight to the instance.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @RequiredArgsConstructor
+    private static class Latency {
+        private final double average;
+        private final long timestamp;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparkystudios.traklibrary.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link LatencyAwareLoadBalancer} is a replacement for the default round-robin load balancer that takes the load of
+ * each instance into account. Two instances are picked at random and the one with the lowest cost is chosen, where the
+ * cost is calculated from the moving average of its response times and the number of requests in-flight to it, see
+ * {@link LoadBalancerStatistics#choose(java.util.List)}.
+ *
+ * An instance that stalls, i.e. due to a long garbage collection, quickly accumulates in-flight requests and stops being
+ * chosen until it recovers.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@RequiredArgsConstructor
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final LoadBalancerStatistics loadBalancerStatistics;
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+
+        return supplier.get(request)
+                .next()
+                .map(serviceInstances -> loadBalancerStatistics.choose(serviceInstances)
+                        .<Response<ServiceInstance>>map(DefaultResponse::new)
+                        .orElseGet(EmptyResponse::new));
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparkystudios.traklibrary.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * The {@link LatencyAwareLoadBalancerLifecycle} feeds the outcome of each load-balanced request back into the
+ * {@link LoadBalancerStatistics}, which are then used by the {@link LatencyAwareLoadBalancer} to choose an instance.
+ * It's invoked by both the gateway's load balancer filter and the {@link org.springframework.web.client.RestTemplate}
+ * interceptor, so it works for any load-balanced client.
+ *
+ * Requests are tracked by identity until they complete. If a request is never completed, i.e. the client was torn down
+ * mid-request, it's treated as a failure once the configured timeout has passed so that the instance isn't left with a
+ * request permanently in-flight.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class LatencyAwareLoadBalancerLifecycle implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final LoadBalancerStatistics loadBalancerStatistics;
+    private final Cache<Object, InFlightRequest> inFlightRequests;
+
+    public LatencyAwareLoadBalancerLifecycle(LoadBalancerStatistics loadBalancerStatistics,
+                                             @Value("${trak.load-balancer.request-timeout:PT5M}") Duration requestTimeout) {
+        this.loadBalancerStatistics = loadBalancerStatistics;
+
+        // Weak keys are compared by identity, which is needed as two identical requests can be in-flight at once.
+        inFlightRequests = Caffeine.newBuilder()
+                .weakKeys()
+                .expireAfterWrite(requestTimeout)
+                .removalListener((Object key, InFlightRequest value, RemovalCause cause) -> {
+                    if (value != null && cause.wasEvicted()) {
+                        loadBalancerStatistics.complete(value.serviceInstance, System.nanoTime() - value.startNanos, false);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+        // The instance hasn't been chosen yet, so there's nothing to track.
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (request == null || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        ServiceInstance serviceInstance = lbResponse.getServer();
+        loadBalancerStatistics.get(serviceInstance).start();
+
+        inFlightRequests.put(request, new InFlightRequest(serviceInstance, System.nanoTime()));
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (request == null) {
+            return;
+        }
+
+        InFlightRequest inFlightRequest = inFlightRequests.asMap().remove(request);
+        if (inFlightRequest != null) {
+            loadBalancerStatistics.complete(inFlightRequest.serviceInstance, System.nanoTime() - inFlightRequest.startNanos,
+                    completionContext.status() == CompletionContext.Status.SUCCESS);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class InFlightRequest {
+        private final ServiceInstance serviceInstance;
+        private final long startNanos;
+    }
+}
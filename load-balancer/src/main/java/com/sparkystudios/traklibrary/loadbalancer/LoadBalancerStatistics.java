@@ -0,0 +1,164 @@
+package com.sparkystudios.traklibrary.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link LoadBalancerStatistics} holds the {@link InstanceStatistics} of every service instance that this client has
+ * sent requests to. The statistics are shared between every load-balanced client within the application, so that the
+ * gateway routes and any {@link org.springframework.cloud.client.loadbalancer.LoadBalanced} clients all see the same
+ * view of each instance. Instances that haven't been used for a while, i.e. those that have been removed from the
+ * registry, are evicted along with their metrics.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class LoadBalancerStatistics {
+
+    private static final String METRIC_PREFIX = "trak.load-balancer.instance";
+
+    private final Cache<String, InstanceStatistics> instances;
+    private final Cache<String, Counter> counters;
+    private final MeterRegistry meterRegistry;
+    private final long initialLatencyNanos;
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+
+    public LoadBalancerStatistics(MeterRegistry meterRegistry,
+                                  @Value("${trak.load-balancer.initial-latency:PT0.1S}") Duration initialLatency,
+                                  @Value("${trak.load-balancer.decay-time:PT10S}") Duration decayTime,
+                                  @Value("${trak.load-balancer.failure-penalty:PT1S}") Duration failurePenalty,
+                                  @Value("${trak.load-balancer.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.meterRegistry = meterRegistry;
+        this.initialLatencyNanos = initialLatency.toNanos();
+        this.decayNanos = decayTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+
+        instances = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .removalListener((String key, InstanceStatistics value, RemovalCause cause) -> removeMeters(key))
+                .build();
+
+        counters = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * Retrieves the {@link InstanceStatistics} of the given {@link ServiceInstance}, creating them if this is the first
+     * time the instance has been seen.
+     *
+     * @param serviceInstance The {@link ServiceInstance} to retrieve the statistics of.
+     *
+     * @return The {@link InstanceStatistics} of the instance.
+     */
+    public InstanceStatistics get(ServiceInstance serviceInstance) {
+        return instances.get(getKey(serviceInstance), key -> createStatistics(serviceInstance));
+    }
+
+    /**
+     * Chooses the least loaded of two randomly picked instances. Rather than comparing every instance, which would cause
+     * all clients to pile onto whichever instance currently looks best, two instances are picked at random and the one
+     * with the lowest {@link InstanceStatistics#getCost()} is chosen.
+     *
+     * @param serviceInstances The {@link ServiceInstance}'s to choose from.
+     *
+     * @return The chosen {@link ServiceInstance}, or an empty {@link Optional} if there are no instances to choose from.
+     */
+    public Optional<ServiceInstance> choose(List<ServiceInstance> serviceInstances) {
+        if (serviceInstances.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (serviceInstances.size() == 1) {
+            return Optional.of(serviceInstances.get(0));
+        }
+
+        // Pick two distinct instances at random and use whichever of the two is the least loaded.
+        var random = ThreadLocalRandom.current();
+        int first = random.nextInt(serviceInstances.size());
+        int second = random.nextInt(serviceInstances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance firstInstance = serviceInstances.get(first);
+        ServiceInstance secondInstance = serviceInstances.get(second);
+
+        return Optional.of(get(firstInstance).getCost() <= get(secondInstance).getCost() ? firstInstance : secondInstance);
+    }
+
+    /**
+     * Marks a request to the given {@link ServiceInstance} as complete. A failed request is recorded as taking at least
+     * as long as the configured failure penalty, so that instances which fail quickly aren't favoured over healthy ones.
+     *
+     * @param serviceInstance The {@link ServiceInstance} the request was sent to.
+     * @param latencyNanos The response time of the request in nanoseconds.
+     * @param success Whether the request completed successfully.
+     */
+    public void complete(ServiceInstance serviceInstance, long latencyNanos, boolean success) {
+        long sample = success ? latencyNanos : Math.max(latencyNanos, failurePenaltyNanos);
+        get(serviceInstance).complete(sample, System.nanoTime());
+
+        String outcome = success ? "success" : "failure";
+        counters.get(getKey(serviceInstance) + "|" + outcome, key -> Counter.builder(METRIC_PREFIX + ".requests")
+                .description("The number of load-balanced requests that have been sent to the instance.")
+                .tags(getTags(serviceInstance))
+                .tag("outcome", outcome)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    private InstanceStatistics createStatistics(ServiceInstance serviceInstance) {
+        var statistics = new InstanceStatistics(initialLatencyNanos, decayNanos, System.nanoTime());
+
+        Gauge.builder(METRIC_PREFIX + ".latency", statistics, s -> s.getAverageLatency() / TimeUnit.MILLISECONDS.toNanos(1L))
+                .description("The moving average of the response times of the instance.")
+                .baseUnit("milliseconds")
+                .tags(getTags(serviceInstance))
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".in-flight", statistics, InstanceStatistics::getInFlight)
+                .description("The number of load-balanced requests that are currently in-flight to the instance.")
+                .tags(getTags(serviceInstance))
+                .register(meterRegistry);
+
+        return statistics;
+    }
+
+    private void removeMeters(String key) {
+        String[] parts = key.split("\\|", 2);
+
+        meterRegistry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().startsWith(METRIC_PREFIX))
+                .filter(meter -> parts[0].equals(meter.getId().getTag("service")))
+                .filter(meter -> parts[1].equals(meter.getId().getTag("instance")))
+                .forEach(meterRegistry::remove);
+
+        counters.asMap().keySet().removeIf(counterKey -> counterKey.startsWith(key + "|"));
+    }
+
+    private static String getKey(ServiceInstance serviceInstance) {
+        return serviceInstance.getServiceId() + "|" + serviceInstance.getHost() + ":" + serviceInstance.getPort();
+    }
+
+    private static Tags getTags(ServiceInstance serviceInstance) {
+        return Tags.of("service", String.valueOf(serviceInstance.getServiceId()),
+                "instance", serviceInstance.getHost() + ":" + serviceInstance.getPort());
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparkystudios.traklibrary.loadbalancer.configuration;
+
+import com.sparkystudios.traklibrary.loadbalancer.LatencyAwareLoadBalancer;
+import com.sparkystudios.traklibrary.loadbalancer.LoadBalancerStatistics;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * The {@link LatencyAwareLoadBalancerConfiguration} is applied to the child context that Spring Cloud LoadBalancer
+ * creates for each service, replacing the default round-robin load balancer with the {@link LatencyAwareLoadBalancer}.
+ * It's deliberately not annotated with {@link org.springframework.context.annotation.Configuration}, as it must not be
+ * picked up by component scanning and registered in the parent context.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment environment,
+                                                                         LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                         LoadBalancerStatistics loadBalancerStatistics) {
+        String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), loadBalancerStatistics);
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparkystudios.traklibrary.loadbalancer.configuration;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link LatencyAwareLoadBalancerConfiguration} as the default configuration of every load-balanced
+ * client within the application.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,74 @@
+package com.sparkystudios.traklibrary.loadbalancer;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class InstanceStatisticsTest {
+
+    @Test
+    void constructor_withNonPositiveDecay_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new InstanceStatistics(100.0, 0L, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getCost_withInFlightRequests_multipliesLatencyByLoad() {
+        // Arrange
+        InstanceStatistics instanceStatistics = new InstanceStatistics(100.0, 1000L, 0L);
+        instanceStatistics.start();
+        instanceStatistics.start();
+
+        // Act
+        double result = instanceStatistics.getCost();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(300.0);
+    }
+
+    @Test
+    void complete_withSlowerSample_replacesAverage() {
+        // Arrange
+        InstanceStatistics instanceStatistics = new InstanceStatistics(100.0, 1000L, 0L);
+        instanceStatistics.start();
+
+        // Act
+        instanceStatistics.complete(500L, 0L);
+
+        // Assert
+        Assertions.assertThat(instanceStatistics.getAverageLatency())
+                .isEqualTo(500.0);
+        Assertions.assertThat(instanceStatistics.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    void complete_withFasterSample_decaysAverageByElapsedTime() {
+        // Arrange
+        InstanceStatistics instanceStatistics = new InstanceStatistics(100.0, 1000L, 0L);
+        instanceStatistics.start();
+
+        // Act
+        instanceStatistics.complete(0L, 1000L);
+
+        // Assert
+        Assertions.assertThat(instanceStatistics.getAverageLatency())
+                .isCloseTo(100.0 * Math.exp(-1.0), Offset.offset(0.0001));
+    }
+
+    @Test
+    void complete_withFasterSampleAtSameTime_keepsAverage() {
+        // Arrange
+        InstanceStatistics instanceStatistics = new InstanceStatistics(100.0, 1000L, 0L);
+        instanceStatistics.start();
+
+        // Act
+        instanceStatistics.complete(0L, 0L);
+
+        // Assert
+        Assertions.assertThat(instanceStatistics.getAverageLatency())
+                .isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sparkystudios.traklibrary.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+class LoadBalancerStatisticsTest {
+
+    private static final int ITERATIONS = 1000;
+
+    private LoadBalancerStatistics loadBalancerStatistics;
+
+    @BeforeEach
+    void beforeEach() {
+        loadBalancerStatistics = new LoadBalancerStatistics(new SimpleMeterRegistry(),
+                Duration.ofMillis(100L), Duration.ofSeconds(10L), Duration.ofSeconds(1L), Duration.ofHours(1L));
+    }
+
+    @Test
+    void choose_withNoInstances_returnsEmptyOptional() {
+        // Act
+        Optional<ServiceInstance> result = loadBalancerStatistics.choose(Collections.emptyList());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEmpty();
+    }
+
+    @Test
+    void choose_withSingleInstance_returnsInstance() {
+        // Arrange
+        ServiceInstance instance = createInstance(1);
+        complete(instance, Duration.ofSeconds(5L));
+
+        // Act
+        Optional<ServiceInstance> result = loadBalancerStatistics.choose(List.of(instance));
+
+        // Assert
+        Assertions.assertThat(result)
+                .contains(instance);
+    }
+
+    @Test
+    void choose_withTwoInstances_prefersLowerLatencyInstance() {
+        // Arrange
+        ServiceInstance fast = createInstance(1);
+        ServiceInstance slow = createInstance(2);
+        complete(slow, Duration.ofSeconds(1L));
+
+        // Act
+        Set<ServiceInstance> result = chooseRepeatedly(List.of(slow, fast));
+
+        // Assert
+        Assertions.assertThat(result)
+                .containsExactly(fast);
+    }
+
+    @Test
+    void choose_withTwoInstancesAndInFlightRequests_prefersLessLoadedInstance() {
+        // Arrange
+        ServiceInstance busy = createInstance(1);
+        ServiceInstance idle = createInstance(2);
+        loadBalancerStatistics.get(busy).start();
+
+        // Act
+        Set<ServiceInstance> result = chooseRepeatedly(List.of(busy, idle));
+
+        // Assert
+        Assertions.assertThat(result)
+                .containsExactly(idle);
+    }
+
+    @Test
+    void choose_withThreeInstances_neverChoosesSlowestInstance() {
+        // Arrange
+        ServiceInstance fast = createInstance(1);
+        ServiceInstance medium = createInstance(2);
+        ServiceInstance slow = createInstance(3);
+        complete(medium, Duration.ofMillis(500L));
+        complete(slow, Duration.ofSeconds(1L));
+
+        // Act
+        Set<ServiceInstance> result = chooseRepeatedly(List.of(fast, medium, slow));
+
+        // Assert
+        Assertions.assertThat(result)
+                .containsExactlyInAnyOrder(fast, medium);
+    }
+
+    @Test
+    void choose_withEqualInstances_spreadsRequestsAcrossInstances() {
+        // Arrange
+        List<ServiceInstance> instances = List.of(createInstance(1), createInstance(2), createInstance(3));
+
+        // Act
+        Set<ServiceInstance> result = chooseRepeatedly(instances);
+
+        // Assert
+        Assertions.assertThat(result)
+                .containsExactlyInAnyOrderElementsOf(instances);
+    }
+
+    private Set<ServiceInstance> chooseRepeatedly(List<ServiceInstance> instances) {
+        Set<ServiceInstance> chosen = new HashSet<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            loadBalancerStatistics.choose(instances).ifPresent(chosen::add);
+        }
+
+        return chosen;
+    }
+
+    private void complete(ServiceInstance instance, Duration latency) {
+        loadBalancerStatistics.get(instance).start();
+        loadBalancerStatistics.complete(instance, latency.toNanos(), true);
+    }
+
+    private static ServiceInstance createInstance(int index) {
+        return new DefaultServiceInstance("game-server-" + index, "game-server", "10.0.0." + index, 8080, false);
+    }
+}
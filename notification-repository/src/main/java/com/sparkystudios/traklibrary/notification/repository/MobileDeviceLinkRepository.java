@@ -1,9 +1,11 @@
 package com.sparkystudios.traklibrary.notification.repository;
 
 import com.sparkystudios.traklibrary.notification.domain.MobileDeviceLink;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MobileDeviceLinkRepository extends CrudRepository<MobileDeviceLink, Long> {
@@ -13,4 +15,6 @@ public interface MobileDeviceLinkRepository extends CrudRepository<MobileDeviceL
     Optional<MobileDeviceLink> findByDeviceGuid(String deviceGuid);
 
     Optional<MobileDeviceLink> findByUserIdAndDeviceGuid(long userId, String deviceGuid);
+
+    List<MobileDeviceLink> findByUserIdInAndIdGreaterThanOrderByIdAsc(Collection<Long> userIds, long id, Pageable pageable);
 }
@@ -7,9 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -116,4 +118,36 @@ class MobileDeviceLinkRepositoryTest {
         Assertions.assertThat(result).isPresent()
                 .isEqualTo(Optional.of(mobileDeviceLink));
     }
+
+    @Test
+    void findByUserIdInAndIdGreaterThanOrderByIdAsc_withMobileDeviceLinks_returnsKeyedChunk() {
+        // Arrange
+        MobileDeviceLink mobileDeviceLink1 = saveMobileDeviceLink(1L, "device-guid-1");
+        MobileDeviceLink mobileDeviceLink2 = saveMobileDeviceLink(2L, "device-guid-2");
+        saveMobileDeviceLink(3L, "device-guid-3");
+        MobileDeviceLink mobileDeviceLink4 = saveMobileDeviceLink(1L, "device-guid-4");
+
+        // Act
+        List<MobileDeviceLink> result1 = mobileDeviceLinkRepository
+                .findByUserIdInAndIdGreaterThanOrderByIdAsc(List.of(1L, 2L), 0L, PageRequest.of(0, 2));
+        List<MobileDeviceLink> result2 = mobileDeviceLinkRepository
+                .findByUserIdInAndIdGreaterThanOrderByIdAsc(List.of(1L, 2L), mobileDeviceLink2.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        Assertions.assertThat(result1)
+                .containsExactly(mobileDeviceLink1, mobileDeviceLink2);
+        Assertions.assertThat(result2)
+                .containsExactly(mobileDeviceLink4);
+    }
+
+    private MobileDeviceLink saveMobileDeviceLink(long userId, String deviceGuid) {
+        MobileDeviceLink mobileDeviceLink = new MobileDeviceLink();
+        mobileDeviceLink.setUserId(userId);
+        mobileDeviceLink.setDeviceGuid(deviceGuid);
+        mobileDeviceLink.setLinkedDate(LocalDateTime.now());
+        mobileDeviceLink.setToken("token-" + deviceGuid);
+        mobileDeviceLink.setEndpointArn("endpoint-arn-" + deviceGuid);
+
+        return mobileDeviceLinkRepository.save(mobileDeviceLink);
+    }
 }
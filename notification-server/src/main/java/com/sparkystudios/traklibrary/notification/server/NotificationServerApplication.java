@@ -6,6 +6,7 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableEurekaClient
 @SpringBootApplication(scanBasePackages = {
@@ -16,6 +17,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EntityScan("com.sparkystudios.traklibrary.notification.domain")
 @EnableJpaRepositories("com.sparkystudios.traklibrary.notification.repository")
 @EnableJpaAuditing
+@EnableScheduling
 public class NotificationServerApplication {
 
     public static void main(String... args) {
@@ -1,6 +1,10 @@
 package com.sparkystudios.traklibrary.notification.service;
 
+import java.util.Collection;
+
 public interface  NotificationService {
 
     void send(long userId, String title, String message);
+
+    void broadcast(String broadcastId, Collection<Long> userIds, String title, String message);
 }
@@ -0,0 +1,101 @@
+package com.sparkystudios.traklibrary.notification.service.broadcast;
+
+import com.sparkystudios.traklibrary.notification.service.fanout.PublishOutcome;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The progress of a single broadcast, i.e. the number of its chunks that have been published and the outcome of
+ * publishing to each device. The chunks of a broadcast can be consumed concurrently and out of order, so the broadcast
+ * is only complete once the last chunk has been seen and every chunk before it has been published too.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class BroadcastProgress {
+
+    private final long startTime = System.nanoTime();
+    private final Map<PublishOutcome, LongAdder> devices = new EnumMap<>(PublishOutcome.class);
+
+    private int chunksCompleted;
+    private int totalChunks = -1;
+
+    BroadcastProgress() {
+        for (PublishOutcome publishOutcome : PublishOutcome.values()) {
+            devices.put(publishOutcome, new LongAdder());
+        }
+    }
+
+    /**
+     * Gets the number of devices that have been published to, regardless of the outcome.
+     *
+     * @return The number of devices published to.
+     */
+    public long getDevices() {
+        return devices.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * Gets the number of devices that have been published to with the given outcome.
+     *
+     * @param publishOutcome The {@link PublishOutcome} to count.
+     *
+     * @return The number of devices published to with the given outcome.
+     */
+    public long getDevices(PublishOutcome publishOutcome) {
+        return devices.get(publishOutcome).sum();
+    }
+
+    /**
+     * Gets the number of chunks that have been published.
+     *
+     * @return The number of chunks published.
+     */
+    public synchronized int getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    /**
+     * Gets the total number of chunks in the broadcast, which is only known once the last chunk has been published.
+     *
+     * @return The total number of chunks, or -1 if it isn't known yet.
+     */
+    public synchronized int getTotalChunks() {
+        return totalChunks;
+    }
+
+    /**
+     * Determines whether every chunk of the broadcast has been published.
+     *
+     * @return <code>true</code> if the broadcast is complete, <code>false</code> otherwise.
+     */
+    public synchronized boolean isComplete() {
+        return chunksCompleted == totalChunks;
+    }
+
+    /**
+     * Gets the time since the first chunk of the broadcast was received.
+     *
+     * @return The elapsed time of the broadcast.
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
+
+    void recordDevice(PublishOutcome publishOutcome) {
+        devices.get(publishOutcome).increment();
+    }
+
+    synchronized boolean completeChunk(int chunk, boolean last) {
+        if (last) {
+            totalChunks = chunk + 1;
+        }
+
+        return ++chunksCompleted == totalChunks;
+    }
+}
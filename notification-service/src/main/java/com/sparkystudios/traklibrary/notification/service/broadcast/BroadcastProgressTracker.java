@@ -0,0 +1,118 @@
+package com.sparkystudios.traklibrary.notification.service.broadcast;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sparkystudios.traklibrary.notification.service.fanout.PublishOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The {@link BroadcastProgressTracker} keeps track of the progress of each broadcast consumed by this instance, and
+ * records the throughput of broadcasts as metrics. Progress is held in memory and forgotten once a broadcast hasn't been
+ * updated for a while, so if chunks of the same broadcast are consumed by several instances, each only knows about the
+ * chunks it consumed itself. The metrics, on the other hand, are aggregated across every instance.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class BroadcastProgressTracker {
+
+    private static final String METRIC_PREFIX = "trak.notification.broadcast";
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, BroadcastProgress> broadcasts;
+
+    /**
+     * Creates a new {@link BroadcastProgressTracker}.
+     *
+     * @param meterRegistry The {@link MeterRegistry} to record the broadcast metrics to.
+     * @param expireAfterAccess How long to keep the progress of a broadcast after it was last updated.
+     */
+    public BroadcastProgressTracker(MeterRegistry meterRegistry,
+                                    @Value("${trak.notification.broadcast.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.meterRegistry = meterRegistry;
+        this.broadcasts = CacheBuilder.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+
+        Gauge.builder(METRIC_PREFIX + ".active", broadcasts, cache -> cache.asMap().values().stream()
+                        .filter(broadcastProgress -> !broadcastProgress.isComplete())
+                        .count())
+                .description("The number of broadcasts still being published.")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the progress of the given broadcast.
+     *
+     * @param broadcastId The ID of the broadcast.
+     *
+     * @return The {@link BroadcastProgress} of the broadcast, or empty if it's unknown to this instance.
+     */
+    public Optional<BroadcastProgress> getProgress(String broadcastId) {
+        return Optional.ofNullable(broadcasts.getIfPresent(broadcastId));
+    }
+
+    /**
+     * Records the outcome of publishing the broadcast to a number of devices.
+     *
+     * @param broadcastId The ID of the broadcast.
+     * @param outcomes The {@link PublishOutcome} of each device published to.
+     */
+    public void recordDevices(String broadcastId, Collection<PublishOutcome> outcomes) {
+        BroadcastProgress broadcastProgress = getOrCreate(broadcastId);
+
+        for (PublishOutcome outcome : outcomes) {
+            broadcastProgress.recordDevice(outcome);
+
+            Counter.builder(METRIC_PREFIX + ".devices")
+                    .description("The number of devices a broadcast has been published to, by outcome.")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Records that a chunk of the broadcast has been published to all of its devices. Once every chunk of the broadcast
+     * has been published, its totals are logged.
+     *
+     * @param broadcastId The ID of the broadcast.
+     * @param chunk The index of the chunk within the broadcast.
+     * @param last Whether the chunk is the last of the broadcast.
+     * @param elapsed The time taken to publish the chunk.
+     */
+    public void recordChunk(String broadcastId, int chunk, boolean last, Duration elapsed) {
+        Timer.builder(METRIC_PREFIX + ".chunk.time")
+                .description("The time taken to publish a chunk of a broadcast to all of its devices.")
+                .register(meterRegistry)
+                .record(elapsed);
+
+        BroadcastProgress broadcastProgress = getOrCreate(broadcastId);
+        if (broadcastProgress.completeChunk(chunk, last)) {
+            Duration broadcastElapsed = broadcastProgress.getElapsed();
+            long devices = broadcastProgress.getDevices();
+
+            log.info("Completed broadcast {} in {} chunk(s), published to {} device(s) ({} delivered, {} failed) in {}ms, {} device(s) per second.",
+                    broadcastId, broadcastProgress.getTotalChunks(), devices,
+                    broadcastProgress.getDevices(PublishOutcome.DELIVERED), broadcastProgress.getDevices(PublishOutcome.FAILED),
+                    broadcastElapsed.toMillis(), devices * 1000 / Math.max(broadcastElapsed.toMillis(), 1));
+        }
+    }
+
+    private BroadcastProgress getOrCreate(String broadcastId) {
+        return broadcasts.asMap().computeIfAbsent(broadcastId, key -> new BroadcastProgress());
+    }
+}
@@ -1,30 +1,67 @@
 package com.sparkystudios.traklibrary.notification.service.consumer;
 
 import com.sparkystudios.traklibrary.notification.service.NotificationService;
+import com.sparkystudios.traklibrary.notification.service.broadcast.BroadcastProgressTracker;
+import com.sparkystudios.traklibrary.notification.service.event.BroadcastNotificationEvent;
 import com.sparkystudios.traklibrary.notification.service.event.NotificationEvent;
+import com.sparkystudios.traklibrary.stream.consumer.BatchEventProcessor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Component
 public class NotificationConsumer {
 
+    private static final String NOTIFICATION_BINDING = "sendNotifications-in-0";
+
     private final NotificationService notificationService;
+    private final BatchEventProcessor batchEventProcessor;
+    private final BroadcastProgressTracker broadcastProgressTracker;
+
+    /**
+     * {@link Consumer} registered with Spring Cloud Stream that receives the published "trak-notification-send" events
+     * in batches, as configured on the "sendNotifications-in-0" binding. The values of each {@link NotificationEvent}
+     * are passed on to the {@link NotificationService}. Each event is processed individually by the
+     * {@link BatchEventProcessor}, so that one failing event doesn't cause the whole batch to be redelivered.
+     *
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream events.
+     */
+    @Bean
+    public Consumer<Message<List<NotificationEvent>>> sendNotifications() {
+        batchEventProcessor.registerLag(NOTIFICATION_BINDING);
+        return notificationEvents -> batchEventProcessor.process(NOTIFICATION_BINDING, notificationEvents, this::handleNotificationEvent);
+    }
 
     /**
      * {@link Consumer} registered with Spring Cloud Stream that responds to any published
-     * "trak-notification-send" events. Its' purpose is to merely retrieve the values from the
-     * {@link NotificationEvent} sent from the publisher, and pass on the data to the
-     * {@link NotificationService}.
+     * "trak-notification-broadcast" events. Each event is a single chunk of the users within a broadcast's segment,
+     * which are passed on to the {@link NotificationService} to publish to all of their devices, after which the
+     * chunk is recorded against the progress of the broadcast.
      *
      * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
      */
     @Bean
-    public Consumer<NotificationEvent> sendNotification() {
-        return notificationEvent ->
-                notificationService.send(notificationEvent.getUserId(), notificationEvent.getTitle(), notificationEvent.getContent());
+    public Consumer<BroadcastNotificationEvent> broadcastNotification() {
+        return this::handleBroadcastNotificationEvent;
+    }
+
+    private void handleNotificationEvent(NotificationEvent notificationEvent) {
+        notificationService.send(notificationEvent.getUserId(), notificationEvent.getTitle(), notificationEvent.getContent());
+    }
+
+    private void handleBroadcastNotificationEvent(BroadcastNotificationEvent broadcastNotificationEvent) {
+        long start = System.nanoTime();
+
+        notificationService.broadcast(broadcastNotificationEvent.getBroadcastId(), broadcastNotificationEvent.getUserIds(),
+                broadcastNotificationEvent.getTitle(), broadcastNotificationEvent.getContent());
+
+        broadcastProgressTracker.recordChunk(broadcastNotificationEvent.getBroadcastId(), broadcastNotificationEvent.getChunk(),
+                broadcastNotificationEvent.isLast(), Duration.ofNanos(System.nanoTime() - start));
     }
 }
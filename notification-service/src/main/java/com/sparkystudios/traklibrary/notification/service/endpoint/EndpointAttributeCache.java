@@ -0,0 +1,232 @@
+package com.sparkystudios.traklibrary.notification.service.endpoint;
+
+import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.GetEndpointAttributesRequest;
+import com.amazonaws.services.sns.model.NotFoundException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link EndpointAttributeCache} is a local record of the token and enabled state of the AWS endpoints that devices
+ * have registered against. Devices register every time the app is launched, and almost always with the same token, so
+ * when the cache already knows the endpoint to be enabled with that token, registration can skip asking AWS entirely.
+ *
+ * The state of an endpoint can change in AWS without the cache knowing, i.e. when the platform reports a token as
+ * invalid, so cached endpoints are reconciled against AWS in the background. Each run reconciles a bounded batch of the
+ * endpoints that were verified longest ago, which keeps the load on AWS even, and entries expire outright after a while,
+ * which bounds how stale the cache can ever be.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class EndpointAttributeCache implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "trak.notification.endpoint";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final AmazonSNS amazonSNS;
+    private final MeterRegistry meterRegistry;
+    private final Duration reconcileAfter;
+    private final int reconcileBatchSize;
+    private final Cache<String, EndpointState> endpoints;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new {@link EndpointAttributeCache} and schedules the background reconciliation.
+     *
+     * @param amazonSNS The {@link AmazonSNS} client used to reconcile the endpoints.
+     * @param meterRegistry The {@link MeterRegistry} to record the cache metrics to.
+     * @param maximumSize The maximum number of endpoints to cache.
+     * @param expireAfterWrite How long an endpoint is cached for after it was last verified.
+     * @param reconcileInterval How often to reconcile a batch of endpoints.
+     * @param reconcileAfter How long after an endpoint was verified that it's due to be reconciled.
+     * @param reconcileBatchSize The maximum number of endpoints to reconcile in each run.
+     */
+    public EndpointAttributeCache(AmazonSNS amazonSNS,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${trak.notification.endpoint-cache.maximum-size:100000}") long maximumSize,
+                                  @Value("${trak.notification.endpoint-cache.expire-after-write:P1D}") Duration expireAfterWrite,
+                                  @Value("${trak.notification.endpoint-cache.reconcile-interval:PT5M}") Duration reconcileInterval,
+                                  @Value("${trak.notification.endpoint-cache.reconcile-after:PT1H}") Duration reconcileAfter,
+                                  @Value("${trak.notification.endpoint-cache.reconcile-batch-size:500}") int reconcileBatchSize) {
+        if (reconcileInterval.isNegative() || reconcileInterval.isZero() || reconcileBatchSize < 1) {
+            throw new IllegalArgumentException("Endpoint reconcile interval and batch size must be positive.");
+        }
+
+        this.amazonSNS = amazonSNS;
+        this.meterRegistry = meterRegistry;
+        this.reconcileAfter = reconcileAfter;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.endpoints = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+
+        Gauge.builder(METRIC_PREFIX + ".cache.size", endpoints, Cache::size)
+                .description("The number of endpoints whose attributes are cached.")
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("endpoint-reconciliation-%d")
+                .setDaemon(true)
+                .build());
+
+        executor.scheduleWithFixedDelay(this::reconcile, reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Determines whether the given endpoint is known to be enabled with the given token, in which case there's no
+     * need to verify or update the endpoint in AWS. Each time it is, the remote call that was avoided is recorded.
+     *
+     * @param endpointArn The ARN of the endpoint.
+     * @param token The token the device is registering with.
+     *
+     * @return <code>true</code> if the endpoint is cached as enabled with the same token, <code>false</code> otherwise.
+     */
+    public boolean isCurrent(String endpointArn, String token) {
+        EndpointState endpointState = endpoints.getIfPresent(endpointArn);
+
+        if (endpointState == null || !endpointState.enabled || !Objects.equals(endpointState.token, token)) {
+            return false;
+        }
+
+        getRemoteCallCounter("avoided").increment();
+        return true;
+    }
+
+    /**
+     * Records the state of the given endpoint, as it's just been verified or updated in AWS.
+     *
+     * @param endpointArn The ARN of the endpoint.
+     * @param token The token of the endpoint.
+     * @param enabled Whether the endpoint is enabled.
+     */
+    public void put(String endpointArn, String token, boolean enabled) {
+        endpoints.put(endpointArn, new EndpointState(token, enabled, System.nanoTime()));
+    }
+
+    /**
+     * Removes the given endpoint from the cache, i.e. because it's been deleted.
+     *
+     * @param endpointArn The ARN of the endpoint.
+     */
+    public void evict(String endpointArn) {
+        endpoints.invalidate(endpointArn);
+    }
+
+    /**
+     * Records the number of remote calls that were made to AWS whilst registering a device, which along with the calls
+     * avoided, shows how effective the cache is.
+     *
+     * @param count The number of remote calls made.
+     */
+    public void recordRemoteCalls(int count) {
+        getRemoteCallCounter("made").increment(count);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reconciles the batch of endpoints that are due, verified longest ago first, against their attributes in AWS.
+     * Endpoints that no longer exist are removed and any others that have changed are updated, so that the next
+     * registration for them goes to AWS. An endpoint that was evicted or updated while it was being reconciled is
+     * left as it is, as its state is more recent than what AWS reported.
+     */
+    void reconcile() {
+        long now = System.nanoTime();
+        long reconcileAfterNanos = reconcileAfter.toNanos();
+
+        List<Map.Entry<String, EndpointState>> due = endpoints.asMap().entrySet().stream()
+                .filter(entry -> now - entry.getValue().verifiedAt >= reconcileAfterNanos)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().verifiedAt))
+                .limit(reconcileBatchSize)
+                .collect(Collectors.toList());
+
+        for (Map.Entry<String, EndpointState> entry : due) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            getRemoteCallCounter("made").increment();
+            getReconciledCounter(reconcile(entry.getKey(), entry.getValue())).increment();
+        }
+
+        if (!due.isEmpty()) {
+            log.debug("Reconciled {} endpoint(s) against AWS.", due.size());
+        }
+    }
+
+    private String reconcile(String endpointArn, EndpointState endpointState) {
+        try {
+            Map<String, String> attributes = amazonSNS.getEndpointAttributes(new GetEndpointAttributesRequest()
+                    .withEndpointArn(endpointArn))
+                    .getAttributes();
+
+            String token = attributes.get("Token");
+            boolean enabled = "true".equalsIgnoreCase(attributes.get("Enabled"));
+
+            // Only replace the exact entry that was reconciled, so a concurrent evict or put isn't undone.
+            if (!endpoints.asMap().replace(endpointArn, endpointState, new EndpointState(token, enabled, System.nanoTime()))) {
+                return "superseded";
+            }
+
+            return enabled == endpointState.enabled && Objects.equals(token, endpointState.token) ? "unchanged" : "changed";
+        } catch (NotFoundException e) {
+            return endpoints.asMap().remove(endpointArn, endpointState) ? "removed" : "superseded";
+        } catch (RuntimeException e) {
+            // Leave the entry as it is, it'll be tried again on the next run or expire.
+            log.warn("Failed to reconcile AWS endpoint {}.", endpointArn, e);
+            return "failed";
+        }
+    }
+
+    private Counter getRemoteCallCounter(String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".remote-calls")
+                .description("The number of remote calls to AWS for endpoint attributes, made or avoided by the cache.")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter getReconciledCounter(String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".reconciled")
+                .description("The number of cached endpoints reconciled against AWS, by outcome.")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class EndpointState {
+
+        private final String token;
+        private final boolean enabled;
+        private final long verifiedAt;
+
+        private EndpointState(String token, boolean enabled, long verifiedAt) {
+            this.token = token;
+            this.enabled = enabled;
+            this.verifiedAt = verifiedAt;
+        }
+    }
+}
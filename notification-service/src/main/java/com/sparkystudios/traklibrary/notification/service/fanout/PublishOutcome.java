@@ -0,0 +1,39 @@
+package com.sparkystudios.traklibrary.notification.service.fanout;
+
+/**
+ * The outcome of publishing a push notification to a single device endpoint.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public enum PublishOutcome {
+
+    /**
+     * The notification was accepted for delivery to the endpoint.
+     */
+    DELIVERED,
+
+    /**
+     * The endpoint has been disabled, i.e. the platform reported the device token as invalid.
+     */
+    ENDPOINT_DISABLED,
+
+    /**
+     * The endpoint no longer exists.
+     */
+    ENDPOINT_NOT_FOUND,
+
+    /**
+     * The notification couldn't be published, but may succeed if tried again.
+     */
+    FAILED;
+
+    /**
+     * Determines whether the endpoint can never receive notifications again, so should no longer be linked.
+     *
+     * @return <code>true</code> if the endpoint is disabled or not found, <code>false</code> otherwise.
+     */
+    public boolean isStale() {
+        return this == ENDPOINT_DISABLED || this == ENDPOINT_NOT_FOUND;
+    }
+}
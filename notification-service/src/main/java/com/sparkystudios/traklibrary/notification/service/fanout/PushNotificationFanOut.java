@@ -0,0 +1,153 @@
+package com.sparkystudios.traklibrary.notification.service.fanout;
+
+import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.EndpointDisabledException;
+import com.amazonaws.services.sns.model.NotFoundException;
+import com.amazonaws.services.sns.model.PublishRequest;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The {@link PushNotificationFanOut} publishes a push notification to a number of device endpoints concurrently, on a
+ * dedicated, bounded pool of threads. Each endpoint is published to independently, so a slow or failing endpoint
+ * neither blocks nor fails delivery to any of the others, and the caller only waits for the slowest endpoint rather
+ * than the sum of them all.
+ *
+ * Once the queue is full, further publishes run on the calling thread, which slows the caller down rather than
+ * dropping notifications. Any publish that hasn't completed within the timeout is reported as
+ * {@link PublishOutcome#FAILED}.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class PushNotificationFanOut implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "trak.notification.publish";
+
+    private final AmazonSNS amazonSNS;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    /**
+     * Creates a new {@link PushNotificationFanOut}.
+     *
+     * @param amazonSNS The {@link AmazonSNS} client used to publish the notifications.
+     * @param meterRegistry The {@link MeterRegistry} to record the publish metrics to.
+     * @param threads The number of threads to publish on.
+     * @param queueCapacity The maximum number of publishes that can wait for a thread.
+     * @param timeout The longest to wait for all of the publishes of a single notification to complete.
+     */
+    public PushNotificationFanOut(AmazonSNS amazonSNS,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${trak.notification.fan-out.threads:16}") int threads,
+                                  @Value("${trak.notification.fan-out.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${trak.notification.fan-out.timeout:PT10S}") Duration timeout) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Notification fan-out threads and queue capacity must be positive.");
+        }
+
+        this.amazonSNS = amazonSNS;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("notification-fan-out-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Publishes the notification to each of the given endpoints concurrently and waits for them all to complete, or
+     * for the timeout to elapse.
+     *
+     * @param endpointArns The ARN's of the endpoints to publish to.
+     * @param title The title of the notification.
+     * @param message The content of the notification.
+     *
+     * @return The {@link PublishOutcome} of each endpoint, keyed by endpoint ARN, in the order they were given.
+     */
+    public Map<String, PublishOutcome> publish(Collection<String> endpointArns, String title, String message) {
+        Map<String, CompletableFuture<PublishOutcome>> futures = new LinkedHashMap<>();
+        for (String endpointArn : endpointArns) {
+            futures.put(endpointArn, CompletableFuture.supplyAsync(() -> publish(endpointArn, title, message), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out publishing notification to {} endpoint(s).", futures.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Can't happen, as every failure is turned into an outcome by the publish itself.
+            log.error("Unexpected failure publishing notification.", e);
+        }
+
+        Map<String, PublishOutcome> outcomes = new LinkedHashMap<>();
+        futures.forEach((endpointArn, future) -> {
+            PublishOutcome outcome = future.getNow(null);
+            if (outcome == null) {
+                future.cancel(true);
+                outcome = PublishOutcome.FAILED;
+            }
+
+            outcomes.put(endpointArn, outcome);
+        });
+
+        return outcomes;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private PublishOutcome publish(String endpointArn, String title, String message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PublishOutcome outcome;
+
+        try {
+            var publishRequest = new PublishRequest()
+                    .withSubject(title)
+                    .withMessage(message)
+                    .withTargetArn(endpointArn);
+
+            amazonSNS.publish(publishRequest);
+            outcome = PublishOutcome.DELIVERED;
+        } catch (EndpointDisabledException e) {
+            outcome = PublishOutcome.ENDPOINT_DISABLED;
+        } catch (NotFoundException e) {
+            outcome = PublishOutcome.ENDPOINT_NOT_FOUND;
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish notification to {}.", endpointArn, e);
+            outcome = PublishOutcome.FAILED;
+        }
+
+        sample.stop(Timer.builder(METRIC_PREFIX + ".time")
+                .description("The time taken to publish a notification to a single endpoint.")
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+
+        return outcome;
+    }
+}
@@ -7,6 +7,7 @@ import com.sparkystudios.traklibrary.notification.domain.MobileDeviceLink;
 import com.sparkystudios.traklibrary.notification.repository.MobileDeviceLinkRepository;
 import com.sparkystudios.traklibrary.notification.service.MobileDeviceLinkService;
 import com.sparkystudios.traklibrary.notification.service.dto.MobileDeviceLinkRegistrationRequestDto;
+import com.sparkystudios.traklibrary.notification.service.endpoint.EndpointAttributeCache;
 import com.sparkystudios.traklibrary.notification.service.event.MobileDeviceLinkDeletedEvent;
 import com.sparkystudios.traklibrary.notification.service.exception.NotificationException;
 import com.sparkystudios.traklibrary.security.AuthenticationService;
@@ -23,6 +24,7 @@ import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -39,6 +41,7 @@ public class MobileDeviceLinkServiceSnsImpl implements MobileDeviceLinkService {
     private final AmazonSNS amazonSNS;
     private final AuthenticationService authenticationService;
     private final MobileDeviceLinkRepository mobileDeviceLinkRepository;
+    private final EndpointAttributeCache endpointAttributeCache;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
 
@@ -54,10 +57,19 @@ public class MobileDeviceLinkServiceSnsImpl implements MobileDeviceLinkService {
 
         // See if we have any device links already registered for the given device.
         Optional<MobileDeviceLink> existingDeviceLink = mobileDeviceLinkRepository.findByDeviceGuid(mobileDeviceLinkRegistrationRequestDto.getDeviceGuid());
+
+        // Nearly every registration is the same device re-registering with the same token, in which case there's
+        // nothing to change, either in AWS or locally, as long as the endpoint is known to still be enabled.
+        if (existingDeviceLink.isPresent() && isUnchanged(existingDeviceLink.get(), mobileDeviceLinkRegistrationRequestDto)) {
+            return;
+        }
+
         String endpointArn = existingDeviceLink.isPresent() ? existingDeviceLink.get().getEndpointArn() : "";
+        int remoteCalls = 1;
 
         if (Strings.isNullOrEmpty(endpointArn)) {
             endpointArn = createEndpoint(mobileDeviceLinkRegistrationRequestDto);
+            remoteCalls++;
         }
 
         try {
@@ -70,6 +82,8 @@ public class MobileDeviceLinkServiceSnsImpl implements MobileDeviceLinkService {
                     !"true".equalsIgnoreCase(result.getAttributes().get("Enabled"));
 
             if (updateNeeded) {
+                remoteCalls++;
+
                 Map<String, String> attributes = new HashMap<>();
                 attributes.put("Token", mobileDeviceLinkRegistrationRequestDto.getToken());
                 attributes.put("Enabled", Boolean.TRUE.toString());
@@ -82,7 +96,9 @@ public class MobileDeviceLinkServiceSnsImpl implements MobileDeviceLinkService {
             }
         } catch (NotFoundException nfe) {
             log.info("Changes found. Creating new AWS endpoint.");
+            endpointAttributeCache.evict(endpointArn);
             endpointArn = createEndpoint(mobileDeviceLinkRegistrationRequestDto);
+            remoteCalls++;
         } catch (@SuppressWarnings({"squid:S2221"}) Exception e) {
             log.error("Failed to retrieve AWS endpoint attributes.", e);
 
@@ -102,6 +118,16 @@ public class MobileDeviceLinkServiceSnsImpl implements MobileDeviceLinkService {
         mobileDeviceLink.setLinkedDate(LocalDateTime.now());
 
         mobileDeviceLinkRepository.save(mobileDeviceLink);
+
+        // The endpoint is now enabled with the device's token, so the next registration can skip AWS.
+        endpointAttributeCache.put(endpointArn, mobileDeviceLinkRegistrationRequestDto.getToken(), true);
+        endpointAttributeCache.recordRemoteCalls(remoteCalls);
+    }
+
+    private boolean isUnchanged(MobileDeviceLink mobileDeviceLink, MobileDeviceLinkRegistrationRequestDto mobileDeviceLinkRegistrationRequestDto) {
+        return mobileDeviceLink.getUserId() == mobileDeviceLinkRegistrationRequestDto.getUserId() &&
+                Objects.equals(mobileDeviceLink.getToken(), mobileDeviceLinkRegistrationRequestDto.getToken()) &&
+                endpointAttributeCache.isCurrent(mobileDeviceLink.getEndpointArn(), mobileDeviceLinkRegistrationRequestDto.getToken());
     }
 
     private String createEndpoint(MobileDeviceLinkRegistrationRequestDto mobileDeviceLinkRegistrationRequestDto) {
@@ -130,6 +156,7 @@ public class MobileDeviceLinkServiceSnsImpl implements MobileDeviceLinkService {
 
         // We'll want to delete the device link, regardless of whether it failed deleting in AWS.
         mobileDeviceLinkRepository.delete(mobileDeviceLink);
+        endpointAttributeCache.evict(mobileDeviceLink.getEndpointArn());
 
         // Publish the AWS endpoint deletion as an event, we don't want this called within a transaction.
         applicationEventPublisher
@@ -1,18 +1,30 @@
 package com.sparkystudios.traklibrary.notification.service.impl;
 
 import com.amazonaws.services.sns.AmazonSNS;
-import com.amazonaws.services.sns.model.PublishRequest;
+import com.amazonaws.services.sns.model.DeleteEndpointRequest;
 import com.sparkystudios.traklibrary.notification.domain.MobileDeviceLink;
 import com.sparkystudios.traklibrary.notification.repository.MobileDeviceLinkRepository;
 import com.sparkystudios.traklibrary.notification.service.NotificationService;
+import com.sparkystudios.traklibrary.notification.service.broadcast.BroadcastProgressTracker;
+import com.sparkystudios.traklibrary.notification.service.endpoint.EndpointAttributeCache;
 import com.sparkystudios.traklibrary.notification.service.exception.NotificationException;
+import com.sparkystudios.traklibrary.notification.service.fanout.PublishOutcome;
+import com.sparkystudios.traklibrary.notification.service.fanout.PushNotificationFanOut;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class NotificationServiceSnsImpl implements NotificationService {
@@ -21,30 +33,97 @@ public class NotificationServiceSnsImpl implements NotificationService {
 
     private final MobileDeviceLinkRepository mobileDeviceLinkRepository;
     private final AmazonSNS amazonSNS;
+    private final PushNotificationFanOut pushNotificationFanOut;
+    private final BroadcastProgressTracker broadcastProgressTracker;
+    private final EndpointAttributeCache endpointAttributeCache;
     private final MessageSource messageSource;
 
+    @Value("${trak.notification.broadcast.page-size:500}")
+    private int broadcastPageSize;
+
     @Override
     public void send(long userId, String title, String message) {
         // Retrieve all of the linked devices for the specified user.
         Collection<MobileDeviceLink> mobileDeviceLinks = mobileDeviceLinkRepository
                 .findAllByUserId(userId);
 
-        for (MobileDeviceLink mobileDeviceLink : mobileDeviceLinks) {
-            // Create the push notification.
-            var publishRequest = new PublishRequest()
-                    .withSubject(title)
-                    .withMessage(message)
-                    .withTargetArn(mobileDeviceLink.getEndpointArn());
-
-            // Publish the request through AWS.
-            try {
-                amazonSNS.publish(publishRequest);
-            } catch (Exception e) {
-                String errorMessage =
-                        messageSource.getMessage(PUBLISH_FAILED_MESSAGE, new Object[] {mobileDeviceLink.getToken()}, LocaleContextHolder.getLocale());
-
-                throw new NotificationException(errorMessage, e);
+        if (mobileDeviceLinks.isEmpty()) {
+            return;
+        }
+
+        Map<String, PublishOutcome> outcomes = publish(mobileDeviceLinks, title, message);
+
+        // Only fail if nothing was delivered, as retrying after a partial delivery would send duplicates.
+        Optional<MobileDeviceLink> failedDeviceLink = mobileDeviceLinks.stream()
+                .filter(mobileDeviceLink -> outcomes.get(mobileDeviceLink.getEndpointArn()) == PublishOutcome.FAILED)
+                .findFirst();
+
+        if (failedDeviceLink.isPresent() && !outcomes.containsValue(PublishOutcome.DELIVERED)) {
+            String errorMessage =
+                    messageSource.getMessage(PUBLISH_FAILED_MESSAGE, new Object[] {failedDeviceLink.get().getToken()}, LocaleContextHolder.getLocale());
+
+            throw new NotificationException(errorMessage);
+        }
+    }
+
+    @Override
+    public void broadcast(String broadcastId, Collection<Long> userIds, String title, String message) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // Stream the linked devices of the users in keyed pages, rather than a query per user, publishing each page
+        // before retrieving the next, so only a page of devices is ever held in memory.
+        long lastId = 0L;
+        List<MobileDeviceLink> mobileDeviceLinks;
+
+        do {
+            mobileDeviceLinks = mobileDeviceLinkRepository
+                    .findByUserIdInAndIdGreaterThanOrderByIdAsc(userIds, lastId, PageRequest.of(0, broadcastPageSize));
+
+            if (mobileDeviceLinks.isEmpty()) {
+                return;
             }
+
+            // Failures aren't thrown, as the rest of the broadcast has to carry on and retrying would send duplicates.
+            broadcastProgressTracker.recordDevices(broadcastId, publish(mobileDeviceLinks, title, message).values());
+            lastId = mobileDeviceLinks.get(mobileDeviceLinks.size() - 1).getId();
+        } while (mobileDeviceLinks.size() == broadcastPageSize);
+    }
+
+    private Map<String, PublishOutcome> publish(Collection<MobileDeviceLink> mobileDeviceLinks, String title, String message) {
+        // Publish to every device at once, a failure for one device doesn't affect delivery to the others.
+        Map<String, PublishOutcome> outcomes = pushNotificationFanOut.publish(mobileDeviceLinks.stream()
+                .map(MobileDeviceLink::getEndpointArn)
+                .collect(Collectors.toList()), title, message);
+
+        // Devices that can never receive notifications again are unlinked, so they aren't published to in future.
+        List<MobileDeviceLink> staleDeviceLinks = mobileDeviceLinks.stream()
+                .filter(mobileDeviceLink -> outcomes.get(mobileDeviceLink.getEndpointArn()).isStale())
+                .collect(Collectors.toList());
+
+        if (!staleDeviceLinks.isEmpty()) {
+            prune(staleDeviceLinks, outcomes);
         }
+
+        return outcomes;
+    }
+
+    private void prune(List<MobileDeviceLink> staleDeviceLinks, Map<String, PublishOutcome> outcomes) {
+        log.info("Unlinking {} device(s) with disabled or missing endpoints.", staleDeviceLinks.size());
+        mobileDeviceLinkRepository.deleteAll(staleDeviceLinks);
+        staleDeviceLinks.forEach(mobileDeviceLink -> endpointAttributeCache.evict(mobileDeviceLink.getEndpointArn()));
+
+        // Disabled endpoints still exist in AWS, so are deleted too. It doesn't matter if it fails, as they're unlinked.
+        staleDeviceLinks.stream()
+                .map(MobileDeviceLink::getEndpointArn)
+                .filter(endpointArn -> outcomes.get(endpointArn) == PublishOutcome.ENDPOINT_DISABLED)
+                .forEach(endpointArn -> {
+                    try {
+                        amazonSNS.deleteEndpoint(new DeleteEndpointRequest().withEndpointArn(endpointArn));
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to delete disabled AWS endpoint {}.", endpointArn, e);
+                    }
+                });
     }
 }
@@ -0,0 +1,75 @@
+package com.sparkystudios.traklibrary.notification.service.broadcast;
+
+import com.sparkystudios.traklibrary.notification.service.fanout.PublishOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+class BroadcastProgressTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BroadcastProgressTracker broadcastProgressTracker;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcastProgressTracker = new BroadcastProgressTracker(meterRegistry, Duration.ofHours(1));
+    }
+
+    @Test
+    void getProgress_withUnknownBroadcast_returnsEmpty() {
+        // Assert
+        Assertions.assertThat(broadcastProgressTracker.getProgress("broadcast-id"))
+                .isEmpty();
+    }
+
+    @Test
+    void recordDevices_withOutcomes_countsDevicesByOutcome() {
+        // Act
+        broadcastProgressTracker.recordDevices("broadcast-id", List.of(PublishOutcome.DELIVERED, PublishOutcome.DELIVERED, PublishOutcome.FAILED));
+        broadcastProgressTracker.recordDevices("broadcast-id", List.of(PublishOutcome.ENDPOINT_DISABLED));
+
+        // Assert
+        BroadcastProgress broadcastProgress = broadcastProgressTracker.getProgress("broadcast-id")
+                .orElseThrow();
+
+        Assertions.assertThat(broadcastProgress.getDevices())
+                .isEqualTo(4L);
+        Assertions.assertThat(broadcastProgress.getDevices(PublishOutcome.DELIVERED))
+                .isEqualTo(2L);
+        Assertions.assertThat(meterRegistry.get("trak.notification.broadcast.devices").tag("outcome", "delivered").counter().count())
+                .isEqualTo(2.0);
+        Assertions.assertThat(meterRegistry.get("trak.notification.broadcast.devices").tag("outcome", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void recordChunk_withChunksOutOfOrder_completesOnceEveryChunkIsRecorded() {
+        // Act
+        broadcastProgressTracker.recordChunk("broadcast-id", 2, true, Duration.ofMillis(10));
+        broadcastProgressTracker.recordChunk("broadcast-id", 0, false, Duration.ofMillis(10));
+
+        BroadcastProgress broadcastProgress = broadcastProgressTracker.getProgress("broadcast-id")
+                .orElseThrow();
+        boolean completeBefore = broadcastProgress.isComplete();
+
+        broadcastProgressTracker.recordChunk("broadcast-id", 1, false, Duration.ofMillis(10));
+
+        // Assert
+        Assertions.assertThat(completeBefore)
+                .isFalse();
+        Assertions.assertThat(broadcastProgress.isComplete())
+                .isTrue();
+        Assertions.assertThat(broadcastProgress.getTotalChunks())
+                .isEqualTo(3);
+        Assertions.assertThat(meterRegistry.get("trak.notification.broadcast.chunk.time").timer().count())
+                .isEqualTo(3L);
+        Assertions.assertThat(meterRegistry.get("trak.notification.broadcast.active").gauge().value())
+                .isZero();
+    }
+}
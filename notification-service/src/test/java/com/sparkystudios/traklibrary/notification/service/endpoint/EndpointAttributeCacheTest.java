@@ -0,0 +1,178 @@
+package com.sparkystudios.traklibrary.notification.service.endpoint;
+
+import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.GetEndpointAttributesRequest;
+import com.amazonaws.services.sns.model.GetEndpointAttributesResult;
+import com.amazonaws.services.sns.model.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class EndpointAttributeCacheTest {
+
+    @Mock
+    private AmazonSNS amazonSNS;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EndpointAttributeCache endpointAttributeCache;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        endpointAttributeCache = new EndpointAttributeCache(amazonSNS, meterRegistry, 100L, Duration.ofDays(1), Duration.ofHours(1), Duration.ZERO, 2);
+    }
+
+    @AfterEach
+    void afterEach() {
+        endpointAttributeCache.destroy();
+    }
+
+    @Test
+    void constructor_withZeroBatchSize_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new EndpointAttributeCache(amazonSNS, meterRegistry, 100L, Duration.ofDays(1), Duration.ofHours(1), Duration.ZERO, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void isCurrent_withUnknownEndpoint_returnsFalse() {
+        // Assert
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn", "token"))
+                .isFalse();
+    }
+
+    @Test
+    void isCurrent_withEnabledEndpointAndSameToken_returnsTrueAndRecordsAvoidedCall() {
+        // Arrange
+        endpointAttributeCache.put("endpoint-arn", "token", true);
+
+        // Act
+        boolean result = endpointAttributeCache.isCurrent("endpoint-arn", "token");
+
+        // Assert
+        Assertions.assertThat(result)
+                .isTrue();
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.remote-calls").tag("outcome", "avoided").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void isCurrent_withDifferentTokenOrDisabledEndpoint_returnsFalse() {
+        // Arrange
+        endpointAttributeCache.put("endpoint-arn-1", "token", true);
+        endpointAttributeCache.put("endpoint-arn-2", "token", false);
+
+        // Assert
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn-1", "token-2"))
+                .isFalse();
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn-2", "token"))
+                .isFalse();
+    }
+
+    @Test
+    void reconcile_withChangedAndRemovedEndpoints_updatesCache() {
+        // Arrange
+        endpointAttributeCache.put("endpoint-arn-1", "token", true);
+        endpointAttributeCache.put("endpoint-arn-2", "token", true);
+
+        Mockito.when(amazonSNS.getEndpointAttributes(new GetEndpointAttributesRequest().withEndpointArn("endpoint-arn-1")))
+                .thenReturn(new GetEndpointAttributesResult().withAttributes(Map.of("Token", "token", "Enabled", "false")));
+        Mockito.when(amazonSNS.getEndpointAttributes(new GetEndpointAttributesRequest().withEndpointArn("endpoint-arn-2")))
+                .thenThrow(new NotFoundException(""));
+
+        // Act
+        endpointAttributeCache.reconcile();
+
+        // Assert
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn-1", "token"))
+                .isFalse();
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn-2", "token"))
+                .isFalse();
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.reconciled").tag("outcome", "changed").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.reconciled").tag("outcome", "removed").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.cache.size").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void reconcile_withEndpointEvictedDuringReconcile_doesntRestoreEndpoint() {
+        // Arrange
+        endpointAttributeCache.put("endpoint-arn", "token", true);
+
+        Mockito.when(amazonSNS.getEndpointAttributes(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    endpointAttributeCache.evict("endpoint-arn");
+                    return new GetEndpointAttributesResult().withAttributes(Map.of("Token", "token", "Enabled", "true"));
+                });
+
+        // Act
+        endpointAttributeCache.reconcile();
+
+        // Assert
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn", "token"))
+                .isFalse();
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.cache.size").gauge().value())
+                .isZero();
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.reconciled").tag("outcome", "superseded").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void reconcile_withEndpointUpdatedDuringReconcile_keepsUpdatedEndpoint() {
+        // Arrange
+        endpointAttributeCache.put("endpoint-arn", "token", true);
+
+        Mockito.when(amazonSNS.getEndpointAttributes(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    endpointAttributeCache.put("endpoint-arn", "token-2", true);
+                    throw new NotFoundException("");
+                });
+
+        // Act
+        endpointAttributeCache.reconcile();
+
+        // Assert
+        Assertions.assertThat(endpointAttributeCache.isCurrent("endpoint-arn", "token-2"))
+                .isTrue();
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.reconciled").tag("outcome", "superseded").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void reconcile_withMoreEndpointsThanBatchSize_reconcilesOldestBatch() {
+        // Arrange
+        endpointAttributeCache.put("endpoint-arn-1", "token", true);
+        endpointAttributeCache.put("endpoint-arn-2", "token", true);
+        endpointAttributeCache.put("endpoint-arn-3", "token", true);
+
+        Mockito.when(amazonSNS.getEndpointAttributes(ArgumentMatchers.any()))
+                .thenReturn(new GetEndpointAttributesResult().withAttributes(Map.of("Token", "token", "Enabled", "true")));
+
+        // Act
+        endpointAttributeCache.reconcile();
+
+        // Assert
+        Mockito.verify(amazonSNS)
+                .getEndpointAttributes(new GetEndpointAttributesRequest().withEndpointArn("endpoint-arn-1"));
+        Mockito.verify(amazonSNS)
+                .getEndpointAttributes(new GetEndpointAttributesRequest().withEndpointArn("endpoint-arn-2"));
+        Mockito.verify(amazonSNS, Mockito.never())
+                .getEndpointAttributes(new GetEndpointAttributesRequest().withEndpointArn("endpoint-arn-3"));
+        Assertions.assertThat(meterRegistry.get("trak.notification.endpoint.reconciled").tag("outcome", "unchanged").counter().count())
+                .isEqualTo(2.0);
+    }
+}
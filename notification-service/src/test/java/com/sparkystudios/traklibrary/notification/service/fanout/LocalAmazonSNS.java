@@ -0,0 +1,85 @@
+package com.sparkystudios.traklibrary.notification.service.fanout;
+
+import com.amazonaws.services.sns.AbstractAmazonSNS;
+import com.amazonaws.services.sns.model.EndpointDisabledException;
+import com.amazonaws.services.sns.model.InternalErrorException;
+import com.amazonaws.services.sns.model.NotFoundException;
+import com.amazonaws.services.sns.model.PublishRequest;
+import com.amazonaws.services.sns.model.PublishResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local stand-in for SNS, which publishes to endpoints in memory. Each publish takes the configured latency, and
+ * endpoints can be marked as disabled, missing or failing to simulate the errors SNS reports for them.
+ */
+class LocalAmazonSNS extends AbstractAmazonSNS {
+
+    private final Duration latency;
+    private final Set<String> disabledEndpoints = ConcurrentHashMap.newKeySet();
+    private final Set<String> missingEndpoints = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingEndpoints = ConcurrentHashMap.newKeySet();
+    private final List<String> publishedEndpoints = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    LocalAmazonSNS(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public PublishResult publish(PublishRequest publishRequest) {
+        String endpointArn = publishRequest.getTargetArn();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        try {
+            Thread.sleep(latency.toMillis());
+
+            if (disabledEndpoints.contains(endpointArn)) {
+                throw new EndpointDisabledException("Endpoint is disabled");
+            }
+
+            if (missingEndpoints.contains(endpointArn)) {
+                throw new NotFoundException("Endpoint does not exist");
+            }
+
+            if (failingEndpoints.contains(endpointArn)) {
+                throw new InternalErrorException("Internal error");
+            }
+
+            publishedEndpoints.add(endpointArn);
+            return new PublishResult().withMessageId(UUID.randomUUID().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalErrorException("Interrupted");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    void disable(String endpointArn) {
+        disabledEndpoints.add(endpointArn);
+    }
+
+    void remove(String endpointArn) {
+        missingEndpoints.add(endpointArn);
+    }
+
+    void fail(String endpointArn) {
+        failingEndpoints.add(endpointArn);
+    }
+
+    List<String> getPublishedEndpoints() {
+        return publishedEndpoints;
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+}
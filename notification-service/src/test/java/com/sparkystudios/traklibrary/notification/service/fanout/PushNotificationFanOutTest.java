@@ -0,0 +1,101 @@
+package com.sparkystudios.traklibrary.notification.service.fanout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class PushNotificationFanOutTest {
+
+    @Test
+    void constructor_withZeroThreads_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new PushNotificationFanOut(new LocalAmazonSNS(Duration.ZERO), new SimpleMeterRegistry(), 0, 1, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void publish_withManyEndpoints_publishesConcurrently() {
+        // Arrange
+        LocalAmazonSNS amazonSNS = new LocalAmazonSNS(Duration.ofMillis(200));
+        PushNotificationFanOut pushNotificationFanOut = new PushNotificationFanOut(amazonSNS, new SimpleMeterRegistry(), 10, 10, Duration.ofSeconds(5));
+
+        List<String> endpointArns = IntStream.range(0, 10)
+                .mapToObj(i -> "endpoint-arn-" + i)
+                .collect(Collectors.toList());
+
+        // Act
+        long start = System.nanoTime();
+        Map<String, PublishOutcome> outcomes = pushNotificationFanOut.publish(endpointArns, "title", "message");
+        long elapsed = System.nanoTime() - start;
+
+        // Assert
+        Assertions.assertThat(outcomes)
+                .hasSize(10)
+                .containsOnlyKeys(endpointArns);
+        Assertions.assertThat(outcomes.values())
+                .containsOnly(PublishOutcome.DELIVERED);
+        Assertions.assertThat(amazonSNS.getMaxInFlight())
+                .isGreaterThan(1);
+
+        // Sequentially, ten publishes would take at least two seconds.
+        Assertions.assertThat(Duration.ofNanos(elapsed))
+                .isLessThan(Duration.ofSeconds(2));
+
+        pushNotificationFanOut.destroy();
+    }
+
+    @Test
+    void publish_withFailingEndpoints_isolatesFailures() {
+        // Arrange
+        LocalAmazonSNS amazonSNS = new LocalAmazonSNS(Duration.ZERO);
+        amazonSNS.disable("endpoint-arn-disabled");
+        amazonSNS.remove("endpoint-arn-missing");
+        amazonSNS.fail("endpoint-arn-failing");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PushNotificationFanOut pushNotificationFanOut = new PushNotificationFanOut(amazonSNS, meterRegistry, 4, 10, Duration.ofSeconds(5));
+
+        // Act
+        Map<String, PublishOutcome> outcomes = pushNotificationFanOut.publish(
+                List.of("endpoint-arn-disabled", "endpoint-arn-1", "endpoint-arn-missing", "endpoint-arn-failing", "endpoint-arn-2"), "title", "message");
+
+        // Assert
+        Assertions.assertThat(outcomes)
+                .containsExactly(
+                        Map.entry("endpoint-arn-disabled", PublishOutcome.ENDPOINT_DISABLED),
+                        Map.entry("endpoint-arn-1", PublishOutcome.DELIVERED),
+                        Map.entry("endpoint-arn-missing", PublishOutcome.ENDPOINT_NOT_FOUND),
+                        Map.entry("endpoint-arn-failing", PublishOutcome.FAILED),
+                        Map.entry("endpoint-arn-2", PublishOutcome.DELIVERED));
+        Assertions.assertThat(amazonSNS.getPublishedEndpoints())
+                .containsExactlyInAnyOrder("endpoint-arn-1", "endpoint-arn-2");
+        Assertions.assertThat(meterRegistry.get("trak.notification.publish.time").tag("outcome", "delivered").timer().count())
+                .isEqualTo(2L);
+        Assertions.assertThat(meterRegistry.get("trak.notification.publish.time").tag("outcome", "failed").timer().count())
+                .isEqualTo(1L);
+
+        pushNotificationFanOut.destroy();
+    }
+
+    @Test
+    void publish_withSlowEndpoint_reportsFailedAfterTimeout() {
+        // Arrange
+        LocalAmazonSNS amazonSNS = new LocalAmazonSNS(Duration.ofSeconds(2));
+        PushNotificationFanOut pushNotificationFanOut = new PushNotificationFanOut(amazonSNS, new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(100));
+
+        // Act
+        Map<String, PublishOutcome> outcomes = pushNotificationFanOut.publish(List.of("endpoint-arn"), "title", "message");
+
+        // Assert
+        Assertions.assertThat(outcomes)
+                .containsEntry("endpoint-arn", PublishOutcome.FAILED);
+
+        pushNotificationFanOut.destroy();
+    }
+}
@@ -7,6 +7,7 @@ import com.amazonaws.services.sns.model.NotFoundException;
 import com.sparkystudios.traklibrary.notification.domain.MobileDeviceLink;
 import com.sparkystudios.traklibrary.notification.repository.MobileDeviceLinkRepository;
 import com.sparkystudios.traklibrary.notification.service.dto.MobileDeviceLinkRegistrationRequestDto;
+import com.sparkystudios.traklibrary.notification.service.endpoint.EndpointAttributeCache;
 import com.sparkystudios.traklibrary.notification.service.event.MobileDeviceLinkDeletedEvent;
 import com.sparkystudios.traklibrary.notification.service.exception.NotificationException;
 import com.sparkystudios.traklibrary.security.AuthenticationService;
@@ -40,6 +41,9 @@ class MobileDeviceLinkServiceSnsImplTest {
     @Mock
     private AmazonSNS amazonSNS;
 
+    @Mock
+    private EndpointAttributeCache endpointAttributeCache;
+
     @Mock
     private MessageSource messageSource;
 
@@ -223,6 +227,84 @@ class MobileDeviceLinkServiceSnsImplTest {
                 () -> mobileDeviceLinkService.register(mobileDeviceLinkRegistrationRequestDto));
     }
 
+    @Test
+    void register_withUnchangedTokenAndCachedEndpoint_skipsAwsAndSave() {
+        // Arrange
+        MobileDeviceLinkRegistrationRequestDto mobileDeviceLinkRegistrationRequestDto = new MobileDeviceLinkRegistrationRequestDto();
+        mobileDeviceLinkRegistrationRequestDto.setUserId(1L);
+        mobileDeviceLinkRegistrationRequestDto.setToken("token");
+        mobileDeviceLinkRegistrationRequestDto.setDeviceGuid("device-guid");
+
+        MobileDeviceLink mobileDeviceLink = new MobileDeviceLink();
+        mobileDeviceLink.setUserId(1L);
+        mobileDeviceLink.setToken("token");
+        mobileDeviceLink.setEndpointArn("endpoint-arn");
+
+        Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
+                .thenReturn(true);
+
+        Mockito.when(mobileDeviceLinkRepository.findByDeviceGuid("device-guid"))
+                .thenReturn(Optional.of(mobileDeviceLink));
+
+        Mockito.when(endpointAttributeCache.isCurrent("endpoint-arn", "token"))
+                .thenReturn(true);
+
+        // Act
+        mobileDeviceLinkService.register(mobileDeviceLinkRegistrationRequestDto);
+
+        // Assert
+        Mockito.verifyNoInteractions(amazonSNS);
+
+        Mockito.verify(mobileDeviceLinkRepository, Mockito.never())
+                .save(ArgumentMatchers.any());
+    }
+
+    @Test
+    void register_withChangedToken_verifiesEndpointAndCachesIt() {
+        // Arrange
+        MobileDeviceLinkRegistrationRequestDto mobileDeviceLinkRegistrationRequestDto = new MobileDeviceLinkRegistrationRequestDto();
+        mobileDeviceLinkRegistrationRequestDto.setUserId(1L);
+        mobileDeviceLinkRegistrationRequestDto.setToken("token-2");
+        mobileDeviceLinkRegistrationRequestDto.setDeviceGuid("device-guid");
+
+        MobileDeviceLink mobileDeviceLink = new MobileDeviceLink();
+        mobileDeviceLink.setUserId(1L);
+        mobileDeviceLink.setToken("token-1");
+        mobileDeviceLink.setEndpointArn("endpoint-arn");
+
+        Mockito.when(authenticationService.isCurrentAuthenticatedUser(ArgumentMatchers.anyLong()))
+                .thenReturn(true);
+
+        Mockito.when(mobileDeviceLinkRepository.findByDeviceGuid("device-guid"))
+                .thenReturn(Optional.of(mobileDeviceLink));
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("Token", "token-1");
+        attributes.put("Enabled", Boolean.TRUE.toString());
+
+        Mockito.when(amazonSNS.getEndpointAttributes(ArgumentMatchers.any()))
+                .thenReturn(new GetEndpointAttributesResult().withAttributes(attributes));
+
+        // Act
+        mobileDeviceLinkService.register(mobileDeviceLinkRegistrationRequestDto);
+
+        // Assert
+        Mockito.verify(endpointAttributeCache, Mockito.never())
+                .isCurrent(ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+
+        Mockito.verify(amazonSNS)
+                .setEndpointAttributes(ArgumentMatchers.any());
+
+        Mockito.verify(mobileDeviceLinkRepository)
+                .save(mobileDeviceLink);
+
+        Mockito.verify(endpointAttributeCache)
+                .put("endpoint-arn", "token-2", true);
+
+        Mockito.verify(endpointAttributeCache)
+                .recordRemoteCalls(2);
+    }
+
     @Test
     void unregister_withIncorrectUser_throwsInvalidUserException() {
         // Arrange
@@ -1,9 +1,14 @@
 package com.sparkystudios.traklibrary.notification.service.impl;
 
 import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.DeleteEndpointRequest;
 import com.sparkystudios.traklibrary.notification.domain.MobileDeviceLink;
 import com.sparkystudios.traklibrary.notification.repository.MobileDeviceLinkRepository;
+import com.sparkystudios.traklibrary.notification.service.broadcast.BroadcastProgressTracker;
+import com.sparkystudios.traklibrary.notification.service.endpoint.EndpointAttributeCache;
 import com.sparkystudios.traklibrary.notification.service.exception.NotificationException;
+import com.sparkystudios.traklibrary.notification.service.fanout.PublishOutcome;
+import com.sparkystudios.traklibrary.notification.service.fanout.PushNotificationFanOut;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +18,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceSnsImplTest {
@@ -27,6 +36,15 @@ class NotificationServiceSnsImplTest {
     @Mock
     private AmazonSNS amazonSNS;
 
+    @Mock
+    private PushNotificationFanOut pushNotificationFanOut;
+
+    @Mock
+    private BroadcastProgressTracker broadcastProgressTracker;
+
+    @Mock
+    private EndpointAttributeCache endpointAttributeCache;
+
     @Mock
     private MessageSource messageSource;
 
@@ -56,8 +74,8 @@ class NotificationServiceSnsImplTest {
         Mockito.when(mobileDeviceLinkRepository.findAllByUserId(ArgumentMatchers.anyLong()))
                 .thenReturn(Collections.singletonList(mobileDeviceLink));
 
-        Mockito.when(amazonSNS.publish(ArgumentMatchers.any()))
-                .thenThrow(new RuntimeException());
+        Mockito.when(pushNotificationFanOut.publish(ArgumentMatchers.anyCollection(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Map.of("endpoint-arn", PublishOutcome.FAILED));
 
         Mockito.when(messageSource.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class)))
                 .thenReturn("");
@@ -79,14 +97,124 @@ class NotificationServiceSnsImplTest {
         Mockito.when(mobileDeviceLinkRepository.findAllByUserId(ArgumentMatchers.anyLong()))
                 .thenReturn(Arrays.asList(mobileDeviceLink1, mobileDeviceLink2));
 
-        Mockito.when(amazonSNS.publish(ArgumentMatchers.any()))
-            .thenReturn(null);
+        Mockito.when(pushNotificationFanOut.publish(ArgumentMatchers.anyCollection(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Map.of("endpoint-arn-1", PublishOutcome.DELIVERED, "endpoint-arn-2", PublishOutcome.DELIVERED));
+
+        // Act
+        notificationService.send(0L, "test-title", "test-message");
+
+        // Assert
+        Mockito.verify(pushNotificationFanOut)
+                .publish(List.of("endpoint-arn-1", "endpoint-arn-2"), "test-title", "test-message");
+        Mockito.verify(mobileDeviceLinkRepository, Mockito.never())
+                .deleteAll(ArgumentMatchers.any());
+    }
+
+    @Test
+    void send_withPartialFailure_doesntThrowNotificationException() {
+        // Arrange
+        MobileDeviceLink mobileDeviceLink1 = new MobileDeviceLink();
+        mobileDeviceLink1.setEndpointArn("endpoint-arn-1");
+
+        MobileDeviceLink mobileDeviceLink2 = new MobileDeviceLink();
+        mobileDeviceLink2.setEndpointArn("endpoint-arn-2");
+
+        Mockito.when(mobileDeviceLinkRepository.findAllByUserId(ArgumentMatchers.anyLong()))
+                .thenReturn(Arrays.asList(mobileDeviceLink1, mobileDeviceLink2));
+
+        Mockito.when(pushNotificationFanOut.publish(ArgumentMatchers.anyCollection(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Map.of("endpoint-arn-1", PublishOutcome.FAILED, "endpoint-arn-2", PublishOutcome.DELIVERED));
+
+        // Assert
+        Assertions.assertDoesNotThrow(() -> notificationService.send(0L, "test-title", "test-message"));
+    }
+
+    @Test
+    void send_withStaleEndpoints_unlinksDevicesAndDeletesDisabledEndpoints() {
+        // Arrange
+        MobileDeviceLink mobileDeviceLink1 = new MobileDeviceLink();
+        mobileDeviceLink1.setEndpointArn("endpoint-arn-1");
+
+        MobileDeviceLink mobileDeviceLink2 = new MobileDeviceLink();
+        mobileDeviceLink2.setEndpointArn("endpoint-arn-2");
+
+        MobileDeviceLink mobileDeviceLink3 = new MobileDeviceLink();
+        mobileDeviceLink3.setEndpointArn("endpoint-arn-3");
+
+        Mockito.when(mobileDeviceLinkRepository.findAllByUserId(ArgumentMatchers.anyLong()))
+                .thenReturn(Arrays.asList(mobileDeviceLink1, mobileDeviceLink2, mobileDeviceLink3));
+
+        Mockito.when(pushNotificationFanOut.publish(ArgumentMatchers.anyCollection(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Map.of(
+                        "endpoint-arn-1", PublishOutcome.DELIVERED,
+                        "endpoint-arn-2", PublishOutcome.ENDPOINT_DISABLED,
+                        "endpoint-arn-3", PublishOutcome.ENDPOINT_NOT_FOUND));
 
         // Act
         notificationService.send(0L, "test-title", "test-message");
 
         // Assert
-        Mockito.verify(amazonSNS, Mockito.atMost(2))
-                .publish(ArgumentMatchers.any());
+        Mockito.verify(mobileDeviceLinkRepository)
+                .deleteAll(List.of(mobileDeviceLink2, mobileDeviceLink3));
+        Mockito.verify(amazonSNS)
+                .deleteEndpoint(new DeleteEndpointRequest().withEndpointArn("endpoint-arn-2"));
+        Mockito.verify(amazonSNS, Mockito.never())
+                .deleteEndpoint(new DeleteEndpointRequest().withEndpointArn("endpoint-arn-3"));
+        Mockito.verify(endpointAttributeCache)
+                .evict("endpoint-arn-2");
+        Mockito.verify(endpointAttributeCache)
+                .evict("endpoint-arn-3");
+    }
+
+    @Test
+    void broadcast_withEmptyUserIds_doesntQueryMobileDeviceLinks() {
+        // Act
+        notificationService.broadcast("broadcast-id", Collections.emptyList(), "test-title", "test-message");
+
+        // Assert
+        Mockito.verifyNoInteractions(mobileDeviceLinkRepository, pushNotificationFanOut, broadcastProgressTracker);
+    }
+
+    @Test
+    void broadcast_withMobileDeviceLinks_publishesEachKeyedPage() {
+        // Arrange
+        ReflectionTestUtils.setField(notificationService, "broadcastPageSize", 2);
+
+        MobileDeviceLink mobileDeviceLink1 = new MobileDeviceLink();
+        mobileDeviceLink1.setId(1L);
+        mobileDeviceLink1.setEndpointArn("endpoint-arn-1");
+
+        MobileDeviceLink mobileDeviceLink2 = new MobileDeviceLink();
+        mobileDeviceLink2.setId(2L);
+        mobileDeviceLink2.setEndpointArn("endpoint-arn-2");
+
+        MobileDeviceLink mobileDeviceLink3 = new MobileDeviceLink();
+        mobileDeviceLink3.setId(5L);
+        mobileDeviceLink3.setEndpointArn("endpoint-arn-3");
+
+        List<Long> userIds = List.of(1L, 2L);
+
+        Mockito.when(mobileDeviceLinkRepository.findByUserIdInAndIdGreaterThanOrderByIdAsc(userIds, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(mobileDeviceLink1, mobileDeviceLink2));
+        Mockito.when(mobileDeviceLinkRepository.findByUserIdInAndIdGreaterThanOrderByIdAsc(userIds, 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(mobileDeviceLink3));
+
+        Mockito.when(pushNotificationFanOut.publish(List.of("endpoint-arn-1", "endpoint-arn-2"), "test-title", "test-message"))
+                .thenReturn(Map.of("endpoint-arn-1", PublishOutcome.DELIVERED, "endpoint-arn-2", PublishOutcome.FAILED));
+        Mockito.when(pushNotificationFanOut.publish(List.of("endpoint-arn-3"), "test-title", "test-message"))
+                .thenReturn(Map.of("endpoint-arn-3", PublishOutcome.ENDPOINT_NOT_FOUND));
+
+        // Act
+        notificationService.broadcast("broadcast-id", userIds, "test-title", "test-message");
+
+        // Assert
+        Mockito.verify(broadcastProgressTracker, Mockito.times(2))
+                .recordDevices(ArgumentMatchers.eq("broadcast-id"), ArgumentMatchers.anyCollection());
+        Mockito.verify(mobileDeviceLinkRepository)
+                .deleteAll(List.of(mobileDeviceLink3));
+        Mockito.verify(mobileDeviceLinkRepository, Mockito.never())
+                .findByUserIdInAndIdGreaterThanOrderByIdAsc(userIds, 5L, PageRequest.of(0, 2));
+        Mockito.verify(messageSource, Mockito.never())
+                .getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object[].class), ArgumentMatchers.any(Locale.class));
     }
 }
@@ -0,0 +1,56 @@
+package com.sparkystudios.traklibrary.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The {@link OutboxPublisher} is used in place of {@link StreamBridge} to publish events from within a transaction.
+ * Rather than publishing the event to the broker there and then, it's serialized and inserted into the outbox table,
+ * as part of the caller's transaction. The event is therefore only ever published if the transaction commits, and
+ * the caller only pays for a single local insert, rather than a round trip to the broker. The {@link OutboxRelay}
+ * publishes the event to its destination shortly after.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxPublisher {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_event (destination, payload, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Adds the given event to the outbox, to be published to the given destination once the current transaction has
+     * committed. If there's no current transaction, the event is added to the outbox straight away.
+     *
+     * @param destination The destination to publish the event to, i.e. "trak-email-verification".
+     * @param event The event to publish, which is serialized as JSON.
+     *
+     * @throws IllegalArgumentException Thrown if the event can't be serialized.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void publish(String destination, Object event) {
+        String payload;
+
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox event for " + destination + ".", e);
+        }
+
+        jdbcTemplate.update(INSERT_SQL, destination, payload, Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC)));
+    }
+}
@@ -0,0 +1,317 @@
+package com.sparkystudios.traklibrary.outbox;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link OutboxRelay} publishes the events added to the outbox by the {@link OutboxPublisher} to their destinations.
+ * It polls the outbox on a dedicated thread, claims a batch of unsent events, publishes them in the order they were
+ * added and marks them as sent. The batch is selected with <code>FOR UPDATE SKIP LOCKED</code> and claimed for the
+ * claim timeout in a short transaction of its own, so any number of instances can relay the same outbox at once, each
+ * claiming different events, without any row locks being held while the events are sent to the broker. It keeps
+ * relaying batches until the outbox is empty before waiting for the next poll.
+ *
+ * If an event can't be published, or the claim is about to expire, the batch stops there. The events before it are
+ * marked as sent and the claim on the rest is released, so they're retried, in order, on the next poll. Events are
+ * delivered at least once, as the batch of an instance that dies after publishing but before marking them as sent can
+ * be claimed again once its claim has expired.
+ *
+ * Events that were sent longer ago than the retention period are purged on a much slower schedule than the outbox is
+ * polled, so that the relay's hot path only ever touches the unsent events.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "trak.outbox.relay";
+
+    private static final String SELECT_SQL =
+            "SELECT id, destination, payload FROM outbox_event " +
+                    "WHERE sent_at IS NULL AND (claimed_until IS NULL OR claimed_until < ?) ORDER BY id LIMIT ? FOR UPDATE";
+    private static final String SKIP_LOCKED = " SKIP LOCKED";
+    private static final String CLAIM_SQL = "UPDATE outbox_event SET claimed_until = ? WHERE id = ?";
+    private static final String MARK_SENT_SQL = "UPDATE outbox_event SET sent_at = ?, claimed_until = NULL WHERE id = ?";
+    private static final String RELEASE_SQL = "UPDATE outbox_event SET claimed_until = NULL WHERE id = ?";
+    private static final String OLDEST_UNSENT_SQL = "SELECT MIN(created_at) FROM outbox_event WHERE sent_at IS NULL";
+    private static final String PURGE_SQL = "DELETE FROM outbox_event WHERE sent_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StreamBridge streamBridge;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration claimTimeout;
+    private final Duration retention;
+    private final ScheduledExecutorService executor;
+    private final AtomicLong lag = new AtomicLong();
+
+    private volatile String selectSql;
+
+    /**
+     * Creates a new {@link OutboxRelay}, which starts polling the outbox once it's been initialized.
+     *
+     * @param jdbcTemplate The {@link JdbcTemplate} used to query and update the outbox.
+     * @param transactionManager The {@link PlatformTransactionManager} each batch is relayed within.
+     * @param streamBridge The {@link StreamBridge} used to publish the events.
+     * @param meterRegistry The {@link MeterRegistry} to record the relay metrics to.
+     * @param batchSize The maximum number of events to claim and publish in each batch.
+     * @param pollInterval How long to wait between polls once the outbox is empty.
+     * @param claimTimeout How long a batch is claimed for, after which another instance can claim it again.
+     * @param retention How long to keep events once they've been sent.
+     */
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       StreamBridge streamBridge,
+                       MeterRegistry meterRegistry,
+                       @Value("${trak.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${trak.outbox.relay.poll-interval:PT0.5S}") Duration pollInterval,
+                       @Value("${trak.outbox.relay.claim-timeout:PT1M}") Duration claimTimeout,
+                       @Value("${trak.outbox.relay.retention:P1D}") Duration retention) {
+        if (batchSize < 1 || pollInterval.isNegative() || pollInterval.isZero()
+                || claimTimeout.isNegative() || claimTimeout.isZero()) {
+            throw new IllegalArgumentException("Outbox relay batch size, poll interval and claim timeout must be positive.");
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.streamBridge = streamBridge;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+
+        Gauge.builder(METRIC_PREFIX + ".lag", lag, AtomicLong::get)
+                .description("The age of the oldest event waiting to be published, in milliseconds.")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("outbox-relay-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Schedules the relay to poll the outbox, once the bean has been fully initialized rather than while it's still
+     * being constructed.
+     */
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Relays batches of events until the outbox is empty, or an event fails to publish.
+     */
+    void poll() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize && !Thread.currentThread().isInterrupted());
+
+            updateLag();
+        } catch (RuntimeException e) {
+            // Don't let the failure stop the schedule, the events are still in the outbox for the next poll.
+            log.error("Failed to relay outbox events.", e);
+        }
+    }
+
+    /**
+     * Scheduled task that deletes the events that were sent longer ago than the retention period. The retention is
+     * measured in days, so there's no need to purge on every poll, every few minutes keeps the outbox small.
+     *
+     * @return The number of events that were purged.
+     */
+    @Scheduled(fixedDelayString = "${trak.outbox.relay.purge-interval:PT5M}",
+            initialDelayString = "${trak.outbox.relay.purge-interval:PT5M}")
+    public int purge() {
+        try {
+            int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(now().minus(retention)));
+            log.debug("Purged {} sent outbox event(s).", purged);
+
+            return purged;
+        } catch (RuntimeException e) {
+            // The sent events will still be there on the next purge, so there's nothing lost.
+            log.error("Failed to purge sent outbox events.", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Claims a single batch of unsent events, publishes them and marks them as sent. Only the claim is made while the
+     * events are locked, they're published once the claim has been committed.
+     *
+     * @return The number of events that were published, which is less than the batch size if the outbox has been
+     * emptied, an event failed to publish or the claim expired before the batch was published.
+     */
+    int relayBatch() {
+        LocalDateTime claimedUntil = now().plus(claimTimeout);
+        List<OutboxEvent> outboxEvents = claimBatch(claimedUntil);
+
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Object[]> sent = new ArrayList<>(outboxEvents.size());
+        Timestamp sentAt = Timestamp.valueOf(now());
+
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            // Once the claim has expired another instance may be publishing the same events, so leave the rest to it.
+            if (!now().isBefore(claimedUntil) || !send(outboxEvent)) {
+                break;
+            }
+
+            sent.add(new Object[] {sentAt, outboxEvent.id});
+        }
+
+        List<Object[]> unsent = new ArrayList<>(outboxEvents.size() - sent.size());
+        for (OutboxEvent outboxEvent : outboxEvents.subList(sent.size(), outboxEvents.size())) {
+            unsent.add(new Object[] {outboxEvent.id});
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_SENT_SQL, sent);
+            }
+
+            // Release the events that weren't published, so they're retried in order on the next poll.
+            if (!unsent.isEmpty()) {
+                jdbcTemplate.batchUpdate(RELEASE_SQL, unsent);
+            }
+        });
+
+        sample.stop(Timer.builder(METRIC_PREFIX + ".batch.time")
+                .description("The time taken to publish a batch of events and mark them as sent.")
+                .register(meterRegistry));
+
+        DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("The number of events claimed in each batch.")
+                .register(meterRegistry)
+                .record(outboxEvents.size());
+
+        return sent.size();
+    }
+
+    private List<OutboxEvent> claimBatch(LocalDateTime claimedUntil) {
+        List<OutboxEvent> outboxEvents = transactionTemplate.execute(status -> {
+            List<OutboxEvent> claimed = jdbcTemplate.query(getSelectSql(), (resultSet, row) ->
+                    new OutboxEvent(resultSet.getLong("id"), resultSet.getString("destination"), resultSet.getString("payload")),
+                    Timestamp.valueOf(now()), batchSize);
+
+            List<Object[]> claims = new ArrayList<>(claimed.size());
+            for (OutboxEvent outboxEvent : claimed) {
+                claims.add(new Object[] {Timestamp.valueOf(claimedUntil), outboxEvent.id});
+            }
+
+            if (!claims.isEmpty()) {
+                jdbcTemplate.batchUpdate(CLAIM_SQL, claims);
+            }
+
+            return claimed;
+        });
+
+        return outboxEvents == null ? List.of() : outboxEvents;
+    }
+
+    private boolean send(OutboxEvent outboxEvent) {
+        boolean sent;
+
+        try {
+            // The payload is already JSON, so it's sent as is rather than being converted again.
+            Message<byte[]> message = MessageBuilder.withPayload(outboxEvent.payload.getBytes(StandardCharsets.UTF_8))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                    .build();
+
+            sent = streamBridge.send(outboxEvent.destination, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish outbox event {} to {}.", outboxEvent.id, outboxEvent.destination, e);
+            sent = false;
+        }
+
+        Counter.builder(METRIC_PREFIX + ".events")
+                .description("The number of events relayed from the outbox, by outcome.")
+                .tag("destination", outboxEvent.destination)
+                .tag("outcome", sent ? "published" : "failed")
+                .register(meterRegistry)
+                .increment();
+
+        return sent;
+    }
+
+    private void updateLag() {
+        Timestamp oldestUnsent = jdbcTemplate.queryForObject(OLDEST_UNSENT_SQL, Timestamp.class);
+        lag.set(oldestUnsent == null ? 0L : Math.max(Duration.between(oldestUnsent.toLocalDateTime(), now()).toMillis(), 0L));
+    }
+
+    private String getSelectSql() {
+        // Only PostgreSQL needs to be able to skip locked rows, the in-memory databases used for testing can't.
+        if (selectSql == null) {
+            String databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+
+            selectSql = "PostgreSQL".equalsIgnoreCase(databaseProductName) ? SELECT_SQL + SKIP_LOCKED : SELECT_SQL;
+        }
+
+        return selectSql;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static final class OutboxEvent {
+
+        private final long id;
+        private final String destination;
+        private final String payload;
+
+        private OutboxEvent(long id, String destination, String payload) {
+            this.id = id;
+            this.destination = destination;
+            this.payload = payload;
+        }
+    }
+}
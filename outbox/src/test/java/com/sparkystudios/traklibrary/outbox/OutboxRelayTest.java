@@ -0,0 +1,225 @@
+package com.sparkystudios.traklibrary.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+@SpringBootTest
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutputDestination outputDestination;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate.update("DELETE FROM outbox_event");
+    }
+
+    @Test
+    void publish_withCommittedTransaction_addsEventToOutbox() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxPublisher.publish("trak-email-verification", Map.of("emailAddress", "test@traklibrary.com")));
+
+        // Assert
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT payload FROM outbox_event WHERE sent_at IS NULL", String.class))
+                .isEqualTo("{\"emailAddress\":\"test@traklibrary.com\"}");
+    }
+
+    @Test
+    void publish_withRolledBackTransaction_doesntAddEventToOutbox() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxPublisher.publish("trak-email-verification", Map.of("emailAddress", "test@traklibrary.com"));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void relayBatch_withUnsentEvents_publishesEventsInOrderAndMarksThemSent() {
+        // Arrange
+        outboxPublisher.publish("trak-email-verification", Map.of("emailAddress", "first@traklibrary.com"));
+        outboxPublisher.publish("trak-email-verification", Map.of("emailAddress", "second@traklibrary.com"));
+
+        // Act
+        int result = outboxRelay.relayBatch();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(2);
+
+        Message<byte[]> first = outputDestination.receive(1000, "trak-email-verification");
+        Message<byte[]> second = outputDestination.receive(1000, "trak-email-verification");
+
+        Assertions.assertThat(new String(first.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"emailAddress\":\"first@traklibrary.com\"}");
+        Assertions.assertThat(new String(second.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"emailAddress\":\"second@traklibrary.com\"}");
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE sent_at IS NULL", Integer.class))
+                .isZero();
+        Assertions.assertThat(meterRegistry.get("trak.outbox.relay.events").tag("outcome", "published").counter().count())
+                .isGreaterThanOrEqualTo(2.0);
+    }
+
+    @Test
+    void relayBatch_withSentEvents_doesntPublishEventsAgain() {
+        // Arrange
+        outboxPublisher.publish("trak-email-recovery", Map.of("emailAddress", "test@traklibrary.com"));
+        outboxRelay.relayBatch();
+        outputDestination.receive(1000, "trak-email-recovery");
+
+        // Act
+        int result = outboxRelay.relayBatch();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isZero();
+        Assertions.assertThat(outputDestination.receive(100, "trak-email-recovery"))
+                .isNull();
+    }
+
+    @Test
+    void relayBatch_withEventClaimedByAnotherRelay_doesntPublishEvent() {
+        // Arrange
+        outboxPublisher.publish("trak-email-recovery", Map.of("emailAddress", "test@traklibrary.com"));
+        jdbcTemplate.update("UPDATE outbox_event SET claimed_until = ?",
+                Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(1L)));
+
+        // Act
+        int result = outboxRelay.relayBatch();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isZero();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE sent_at IS NULL", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void relayBatch_withExpiredClaim_publishesEventAndReleasesClaim() {
+        // Arrange
+        outboxPublisher.publish("trak-email-recovery", Map.of("emailAddress", "test@traklibrary.com"));
+        jdbcTemplate.update("UPDATE outbox_event SET claimed_until = ?",
+                Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1L)));
+
+        // Act
+        int result = outboxRelay.relayBatch();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(1);
+        Assertions.assertThat(outputDestination.receive(1000, "trak-email-recovery"))
+                .isNotNull();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE claimed_until IS NOT NULL", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void poll_withUnsentEvents_relaysEventsAndReportsNoLag() {
+        // Arrange
+        outboxPublisher.publish("trak-email-password-changed", Map.of("emailAddress", "test@traklibrary.com"));
+
+        // Act
+        outboxRelay.poll();
+
+        // Assert
+        Assertions.assertThat(outputDestination.receive(1000, "trak-email-password-changed"))
+                .isNotNull();
+        Assertions.assertThat(meterRegistry.get("trak.outbox.relay.lag").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void poll_withSentEventsPastRetention_doesntPurgeEvents() {
+        // Arrange
+        insertEvent("{}", LocalDateTime.now(ZoneOffset.UTC).minusDays(2L));
+
+        // Act
+        outboxRelay.poll();
+
+        // Assert
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void purge_withSentEvents_deletesOnlyEventsPastRetention() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        insertEvent("{\"expired\":true}", now.minusDays(2L));
+        insertEvent("{\"expired\":false}", now.minusHours(1L));
+        insertEvent("{\"sent\":false}", null);
+
+        // Act
+        int result = outboxRelay.purge();
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForList("SELECT payload FROM outbox_event ORDER BY id", String.class))
+                .containsExactly("{\"expired\":false}", "{\"sent\":false}");
+    }
+
+    private void insertEvent(String payload, LocalDateTime sentAt) {
+        jdbcTemplate.update("INSERT INTO outbox_event (destination, payload, created_at, sent_at) VALUES (?, ?, ?, ?)",
+                "trak-email-recovery", payload, Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC)),
+                sentAt == null ? null : Timestamp.valueOf(sentAt));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({TestChannelBinderConfiguration.class, OutboxPublisher.class, OutboxRelay.class})
+    static class OutboxTestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
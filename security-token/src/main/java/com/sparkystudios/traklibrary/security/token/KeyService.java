@@ -1,5 +1,7 @@
 package com.sparkystudios.traklibrary.security.token;
 
+import io.jsonwebtoken.SignatureAlgorithm;
+
 import java.security.Key;
 
 public interface KeyService {
@@ -7,4 +9,15 @@ public interface KeyService {
     Key readPublicKey(String publicKey);
 
     Key readPrivateKey(String privateKey);
+
+    /**
+     * Determines the {@link SignatureAlgorithm} that tokens should be signed and verified with for the given key,
+     * based on the type and size of the key. RSA keys use RS256 and EC keys use the ECDSA algorithm that matches the
+     * size of their curve, i.e. ES256 for P-256.
+     *
+     * @param key The public or private {@link Key} to determine the algorithm for.
+     *
+     * @return The {@link SignatureAlgorithm} to use with the key.
+     */
+    SignatureAlgorithm getSignatureAlgorithm(Key key);
 }
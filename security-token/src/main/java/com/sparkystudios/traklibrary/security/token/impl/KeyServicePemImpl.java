@@ -1,7 +1,10 @@
 package com.sparkystudios.traklibrary.security.token.impl;
 
 import com.sparkystudios.traklibrary.security.token.KeyService;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
@@ -10,10 +13,16 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.StringReader;
 import java.security.Key;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.RSAKey;
 
 @Service
 public class KeyServicePemImpl implements KeyService {
 
+    // The JDK's own key factories can't decode the traditional EC key format, so private keys are converted by Bouncy Castle.
+    private final JcaPEMKeyConverter privateKeyConverter = new JcaPEMKeyConverter()
+            .setProvider(new BouncyCastleProvider());
+
     @Override
     public Key readPublicKey(String publicKey) {
         try (var stringReader = new StringReader(publicKey)) {
@@ -30,13 +39,49 @@ public class KeyServicePemImpl implements KeyService {
     public Key readPrivateKey(String privateKey) {
         try (var stringReader = new StringReader(privateKey)) {
             var pemParser = new PEMParser(stringReader);
-            var pemKeyPair = (PEMKeyPair) pemParser.readObject();
+            var pemObject = pemParser.readObject();
+
+            // Traditional RSA and EC keys are read as key pairs, whereas PKCS#8 keys are read as just the private key.
+            if (pemObject instanceof PEMKeyPair) {
+                var pemKeyPair = (PEMKeyPair) pemObject;
+                // The public key is optional within a traditional EC key, so only the private half can be relied upon.
+                if (pemKeyPair.getPublicKeyInfo() == null) {
+                    return privateKeyConverter.getPrivateKey(pemKeyPair.getPrivateKeyInfo());
+                }
+
+                return privateKeyConverter.getKeyPair(pemKeyPair).getPrivate();
+            }
 
-            var privateKeyInfo = pemKeyPair.getPrivateKeyInfo();
+            if (pemObject instanceof PrivateKeyInfo) {
+                return privateKeyConverter.getPrivateKey((PrivateKeyInfo) pemObject);
+            }
 
-            return new JcaPEMKeyConverter().getPrivateKey(privateKeyInfo);
+            throw new IllegalStateException("Failed to read private key for JWT encryption, unsupported key format.");
         } catch (IOException e) {
             throw new IllegalStateException("Failed to read private key for JWT encryption.", e);
         }
     }
+
+    @Override
+    public SignatureAlgorithm getSignatureAlgorithm(Key key) {
+        if (key instanceof RSAKey) {
+            return SignatureAlgorithm.RS256;
+        }
+
+        if (key instanceof ECKey) {
+            int fieldSize = ((ECKey) key).getParams().getCurve().getField().getFieldSize();
+            switch (fieldSize) {
+                case 256:
+                    return SignatureAlgorithm.ES256;
+                case 384:
+                    return SignatureAlgorithm.ES384;
+                case 521:
+                    return SignatureAlgorithm.ES512;
+                default:
+                    throw new IllegalArgumentException("Unsupported EC curve size for JWT signing: " + fieldSize);
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported key type for JWT signing: " + key.getAlgorithm());
+    }
 }
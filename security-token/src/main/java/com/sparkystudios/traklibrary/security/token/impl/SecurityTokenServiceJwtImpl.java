@@ -6,8 +6,13 @@ import com.sparkystudios.traklibrary.security.token.adapter.JwtSecurityTokenAdap
 import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
 import com.sparkystudios.traklibrary.security.token.data.UserData;
 import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -19,14 +24,33 @@ import javax.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
-
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@link SecurityTokenServiceJwtImpl} creates and verifies JWT's. The algorithm tokens are signed with is
+ * determined by the configured private key, so either RSA (RS256) or EC (ES256, ES384 or ES512) keys can be used. EC
+ * keys are considerably cheaper to sign and verify with than RSA keys of equivalent strength.
+ *
+ * Each token is signed with the configured key ID as its "kid" header, which is used to choose the public key it's
+ * verified with. This allows a previous public key to be configured alongside the current one, so that tokens issued
+ * before a key rotation, even one between RSA and EC keys, remain valid until they expire. Tokens issued before key
+ * ID's were introduced have no "kid" header and are verified with the key with the ID of "default".
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
 @RequiredArgsConstructor
 @Service
 @Getter(AccessLevel.PACKAGE)
 @Setter(AccessLevel.PACKAGE)
 public class SecurityTokenServiceJwtImpl implements SecurityTokenService {
 
+    private static final String DEFAULT_KEY_ID = "default";
+
     @Value("${trak.security.jwt.expiry-time}")
     private long expiryTime;
 
@@ -42,22 +66,47 @@ public class SecurityTokenServiceJwtImpl implements SecurityTokenService {
     @Value("${trak.security.jwt.public-key}")
     private String publicKeyText;
 
+    @Value("${trak.security.jwt.key-id:" + DEFAULT_KEY_ID + "}")
+    private String keyId;
+
+    @Value("${trak.security.jwt.previous-key-id:}")
+    private String previousKeyId;
+
+    @Value("${trak.security.jwt.previous-public-key:}")
+    private String previousPublicKeyText;
+
     private final KeyService keyService;
 
     private Key privateKey;
-    private Key publicKey;
+    private SignatureAlgorithm signatureAlgorithm;
+    private Map<String, Key> publicKeys;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void postConstruct() {
         privateKey = keyService.readPrivateKey(privateKeyText);
-        publicKey = keyService.readPublicKey(publicKeyText);
+        signatureAlgorithm = keyService.getSignatureAlgorithm(privateKey);
+
+        publicKeys = new HashMap<>();
+        publicKeys.put(keyId, keyService.readPublicKey(publicKeyText));
+        if (previousKeyId != null && !previousKeyId.isBlank() && previousPublicKeyText != null && !previousPublicKeyText.isBlank()) {
+            publicKeys.put(previousKeyId, keyService.readPublicKey(previousPublicKeyText));
+        }
+
+        // The parser is immutable and thread-safe, so it only needs to be built once.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
     @Override
     public SecurityToken getToken(String token) {
-        var claims = Jwts.parserBuilder()
-                .setSigningKey(publicKey)
-                .build()
+        var claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
@@ -93,20 +142,35 @@ public class SecurityTokenServiceJwtImpl implements SecurityTokenService {
     SecurityToken createToken(String username, UserSecurityRole userSecurityRole, Iterable<String> scopes, long userId, boolean verified, long expiry) {
         long now = System.currentTimeMillis();
 
-        String token = Jwts.builder()
+        Claims claims = Jwts.claims()
                 .setId(UUID.randomUUID().toString())
                 .setIssuer("Trak Library")
                 .setSubject(username)
-                .claim("role", userSecurityRole.name())
-                .claim("scope", scopes)
-                .claim("userId", userId)
-                .claim("verified", verified)
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + expiry))
-                .setAudience("https://api.traklibrary.com")
-                .signWith(privateKey, SignatureAlgorithm.RS256)
+                .setAudience("https://api.traklibrary.com");
+
+        claims.put("role", userSecurityRole.name());
+        claims.put("scope", StreamSupport.stream(scopes.spliterator(), false).collect(Collectors.toList()));
+        claims.put("userId", userId);
+        claims.put("verified", verified);
+
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setClaims(claims)
+                .signWith(privateKey, signatureAlgorithm)
                 .compact();
 
-        return getToken(token);
+        // The claims have just been signed, so there's no need to parse and verify the token again.
+        return new JwtSecurityTokenAdapter(claims, token);
+    }
+
+    private Key getVerificationKey(String tokenKeyId) {
+        Key key = publicKeys.get(tokenKeyId == null ? DEFAULT_KEY_ID : tokenKeyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("Token was signed with an unknown key: " + tokenKeyId);
+        }
+
+        return key;
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.sparkystudios.traklibrary.security.token.revocation;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link TokenDenylist} is an in-memory record of the ID's of tokens that have been revoked before their expiry.
+ * Every authenticated request needs to be checked against it, so it's fronted by a {@link BloomFilter}, which means
+ * the common case of a token that hasn't been revoked costs a handful of hash probes. Only when the filter reports a
+ * possible match is the exact set of revoked ID's checked, so false positives never reject a valid token.
+ *
+ * A {@link BloomFilter} can't have entries removed, so revocations are only held until their token would have expired.
+ * Expired revocations are purged on a fixed schedule, independent of how often tokens are revoked, at which point the
+ * filter is rebuilt from the revocations that are still live. Revocations are rare, so they're synchronized with the
+ * rebuild, whereas checks are lock-free.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Component
+public class TokenDenylist {
+
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private final Map<String, LocalDateTime> revokedTokens = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter<String> bloomFilter;
+
+    /**
+     * Creates a new, empty {@link TokenDenylist}.
+     *
+     * @param expectedInsertions The number of live revocations the {@link BloomFilter} is sized for.
+     * @param falsePositiveProbability The desired false positive probability of the {@link BloomFilter}.
+     */
+    public TokenDenylist(@Value("${trak.security.revocation.expected-insertions:100000}") int expectedInsertions,
+                         @Value("${trak.security.revocation.false-positive-probability:0.001}") double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bloomFilter = createBloomFilter(expectedInsertions);
+    }
+
+    /**
+     * Adds the token with the given ID to the denylist until it expires. Revoking a token that has already expired,
+     * or has already been revoked, has no effect.
+     *
+     * @param tokenId The ID (jti) of the token to revoke.
+     * @param expiry When the token expires, as a UTC {@link LocalDateTime}.
+     */
+    public synchronized void revoke(String tokenId, LocalDateTime expiry) {
+        if (tokenId == null || expiry == null || !expiry.isAfter(now())) {
+            return;
+        }
+
+        // Add to the exact set first, so a check that passes the filter will always find the entry.
+        revokedTokens.put(tokenId, expiry);
+        bloomFilter.put(tokenId);
+    }
+
+    /**
+     * Determines whether the token with the given ID has been revoked.
+     *
+     * @param tokenId The ID (jti) of the token to check.
+     *
+     * @return <code>true</code> if the token has been revoked, <code>false</code> otherwise.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    /**
+     * Retrieves the number of revocations that are currently held.
+     *
+     * @return The number of revoked tokens.
+     */
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    /**
+     * Scheduled task that purges any revocations whose token has expired, so that the {@link BloomFilter} is rebuilt
+     * even on instances that haven't seen a revocation in a while.
+     */
+    @Scheduled(fixedDelayString = "${trak.security.revocation.purge-interval:PT5M}",
+            initialDelayString = "${trak.security.revocation.purge-interval:PT5M}")
+    public void purgeExpired() {
+        purgeExpired(now());
+    }
+
+    /**
+     * Removes any revocations whose token has expired by the given time and rebuilds the {@link BloomFilter}, so that
+     * it doesn't fill up with ID's that are no longer needed.
+     *
+     * @param now The current time, as a UTC {@link LocalDateTime}.
+     */
+    synchronized void purgeExpired(LocalDateTime now) {
+        revokedTokens.values().removeIf(expiry -> !expiry.isAfter(now));
+
+        // Grow the filter if there are more live revocations than it was sized for, to keep the false positive rate down.
+        BloomFilter<String> rebuilt = createBloomFilter(Math.max(expectedInsertions, revokedTokens.size() * 2));
+        revokedTokens.keySet().forEach(rebuilt::put);
+
+        bloomFilter = rebuilt;
+    }
+
+    private BloomFilter<String> createBloomFilter(int insertions) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), insertions, falsePositiveProbability);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparkystudios.traklibrary.security.token.revocation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class TokenRevocationConsumer {
+
+    private final TokenDenylist tokenDenylist;
+
+    /**
+     * {@link Consumer} registered with Spring Cloud Stream that responds to any published
+     * "trak-token-revocation" events. Its' purpose is to add the revoked token to the local
+     * {@link TokenDenylist}, so that every instance of every service rejects it. The binding
+     * must not be given a consumer group, so that each instance receives every revocation.
+     *
+     * @return The {@link Consumer} that consumes the Spring Cloud Stream event.
+     */
+    @Bean
+    public Consumer<TokenRevocationEvent> revokeToken() {
+        return tokenRevocationEvent -> {
+            log.debug("Running token revocation event for: " + tokenRevocationEvent.getTokenId());
+
+            tokenDenylist.revoke(tokenRevocationEvent.getTokenId(), tokenRevocationEvent.getExpiry());
+        };
+    }
+}
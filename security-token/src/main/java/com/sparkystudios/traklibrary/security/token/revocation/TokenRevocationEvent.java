@@ -0,0 +1,25 @@
+package com.sparkystudios.traklibrary.security.token.revocation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The {@link TokenRevocationEvent} is published whenever a token is revoked before its expiry, so that every service
+ * can add it to their {@link TokenDenylist}. The expiry is included so that the revocation can be forgotten once the
+ * token would no longer be accepted anyway.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationEvent {
+
+    private String tokenId;
+
+    private LocalDateTime expiry;
+}
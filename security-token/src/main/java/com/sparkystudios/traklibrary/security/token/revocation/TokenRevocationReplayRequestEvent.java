@@ -0,0 +1,21 @@
+package com.sparkystudios.traklibrary.security.token.revocation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@link TokenRevocationReplayRequestEvent} is published by each service instance as it starts, as its
+ * {@link TokenDenylist} is held in memory and would otherwise be empty. The authentication service responds by
+ * re-publishing a {@link TokenRevocationEvent} for every persisted revocation that hasn't yet expired.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationReplayRequestEvent {
+
+    private String requestedBy;
+}
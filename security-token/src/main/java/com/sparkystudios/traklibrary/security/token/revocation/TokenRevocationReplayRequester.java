@@ -0,0 +1,39 @@
+package com.sparkystudios.traklibrary.security.token.revocation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@link TokenRevocationReplayRequester} asks for every live revocation to be replayed once the application has
+ * started, so that a new or restarted instance doesn't accept revoked tokens until they expire. The request is sent to
+ * a durable queue, so it's still answered if no instance of the authentication service is running at the time.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenRevocationReplayRequester {
+
+    private final StreamBridge streamBridge;
+
+    @Value("${spring.application.name:}")
+    private String applicationName;
+
+    /**
+     * Publishes a {@link TokenRevocationReplayRequestEvent} once the application is ready to receive the replayed
+     * {@link TokenRevocationEvent}'s.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestReplay() {
+        log.debug("Requesting replay of token revocations for: " + applicationName);
+
+        streamBridge.send("trak-token-revocation-replay", new TokenRevocationReplayRequestEvent(applicationName));
+    }
+}
@@ -0,0 +1,190 @@
+package com.sparkystudios.traklibrary.security.token.impl;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.assertj.core.api.Assertions;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+class KeyServicePemImplTest {
+
+    private final KeyServicePemImpl keyService = new KeyServicePemImpl();
+
+    @Test
+    void readPrivateKey_withTraditionalRsaKey_returnsKey() throws GeneralSecurityException, IOException {
+        // Arrange
+        KeyPair keyPair = createRsaKeyPair();
+
+        // Act
+        Key result = keyService.readPrivateKey(toTraditionalPem(keyPair.getPrivate()));
+
+        // Assert
+        Assertions.assertThat(((RSAPrivateKey) result).getModulus())
+                .isEqualTo(((RSAPrivateKey) keyPair.getPrivate()).getModulus());
+    }
+
+    @Test
+    void readPrivateKey_withTraditionalEcKey_returnsKey() throws GeneralSecurityException, IOException {
+        // Arrange
+        KeyPair keyPair = createEcKeyPair("secp256r1");
+
+        // Act
+        Key result = keyService.readPrivateKey(toTraditionalEcPem(keyPair, true));
+
+        // Assert
+        Assertions.assertThat(((ECPrivateKey) result).getS())
+                .isEqualTo(((ECPrivateKey) keyPair.getPrivate()).getS());
+    }
+
+    @Test
+    void readPrivateKey_withTraditionalEcKeyWithoutPublicKey_returnsKey() throws GeneralSecurityException {
+        // Arrange
+        KeyPair keyPair = createEcKeyPair("secp256r1");
+
+        // Act
+        Key result = keyService.readPrivateKey(toTraditionalEcPem(keyPair, false));
+
+        // Assert
+        Assertions.assertThat(((ECPrivateKey) result).getS())
+                .isEqualTo(((ECPrivateKey) keyPair.getPrivate()).getS());
+    }
+
+    @Test
+    void readPrivateKey_withPkcs8EcKey_returnsKey() throws GeneralSecurityException {
+        // Arrange
+        KeyPair keyPair = createEcKeyPair("secp256r1");
+
+        // Act
+        Key result = keyService.readPrivateKey(toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+
+        // Assert
+        Assertions.assertThat(((ECPrivateKey) result).getS())
+                .isEqualTo(((ECPrivateKey) keyPair.getPrivate()).getS());
+    }
+
+    @Test
+    void readPrivateKey_withPublicKey_throwsIllegalStateException() throws GeneralSecurityException {
+        // Arrange
+        KeyPair keyPair = createEcKeyPair("secp256r1");
+        String publicKey = toPem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> keyService.readPrivateKey(publicKey))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void readPublicKey_withEcKey_returnsKey() throws GeneralSecurityException {
+        // Arrange
+        KeyPair keyPair = createEcKeyPair("secp256r1");
+
+        // Act
+        Key result = keyService.readPublicKey(toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+
+        // Assert
+        Assertions.assertThat(((ECPublicKey) result).getW())
+                .isEqualTo(((ECPublicKey) keyPair.getPublic()).getW());
+    }
+
+    @Test
+    void getSignatureAlgorithm_withRsaKey_returnsRs256() throws GeneralSecurityException {
+        // Act
+        SignatureAlgorithm result = keyService.getSignatureAlgorithm(createRsaKeyPair().getPrivate());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(SignatureAlgorithm.RS256);
+    }
+
+    @Test
+    void getSignatureAlgorithm_withP256Key_returnsEs256() throws GeneralSecurityException {
+        // Act
+        SignatureAlgorithm result = keyService.getSignatureAlgorithm(createEcKeyPair("secp256r1").getPublic());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(SignatureAlgorithm.ES256);
+    }
+
+    @Test
+    void getSignatureAlgorithm_withP384Key_returnsEs384() throws GeneralSecurityException {
+        // Act
+        SignatureAlgorithm result = keyService.getSignatureAlgorithm(createEcKeyPair("secp384r1").getPrivate());
+
+        // Assert
+        Assertions.assertThat(result)
+                .isEqualTo(SignatureAlgorithm.ES384);
+    }
+
+    @Test
+    void getSignatureAlgorithm_withSecretKey_throwsIllegalArgumentException() {
+        // Arrange
+        Key key = new SecretKeySpec(new byte[32], "HmacSHA256");
+
+        // Assert
+        Assertions.assertThatThrownBy(() -> keyService.getSignatureAlgorithm(key))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static KeyPair createRsaKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    static KeyPair createEcKeyPair(String curve) throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec(curve));
+
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    static String toPem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n" +
+                Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(encoded) +
+                "\n-----END " + type + "-----\n";
+    }
+
+    // Written the way OpenSSL writes an "EC PRIVATE KEY", with the named curve embedded in the key itself.
+    private static String toTraditionalEcPem(KeyPair keyPair, boolean includePublicKey) {
+        var privateKeyInfo = PrivateKeyInfo.getInstance(keyPair.getPrivate().getEncoded());
+        var parameters = privateKeyInfo.getPrivateKeyAlgorithm().getParameters();
+        var privateKey = (ECPrivateKey) keyPair.getPrivate();
+        int orderBitLength = privateKey.getParams().getOrder().bitLength();
+
+        org.bouncycastle.asn1.sec.ECPrivateKey traditionalKey = includePublicKey ?
+                new org.bouncycastle.asn1.sec.ECPrivateKey(orderBitLength, privateKey.getS(),
+                        SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded()).getPublicKeyData(), parameters) :
+                new org.bouncycastle.asn1.sec.ECPrivateKey(orderBitLength, privateKey.getS(), parameters);
+
+        try {
+            return toPem("EC PRIVATE KEY", traditionalKey.getEncoded());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toTraditionalPem(Key key) throws IOException {
+        var stringWriter = new StringWriter();
+        try (var pemWriter = new JcaPEMWriter(stringWriter)) {
+            pemWriter.writeObject(key);
+        }
+
+        return stringWriter.toString();
+    }
+}
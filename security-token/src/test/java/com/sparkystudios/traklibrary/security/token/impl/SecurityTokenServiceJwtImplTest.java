@@ -3,6 +3,9 @@ package com.sparkystudios.traklibrary.security.token.impl;
 import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
 import com.sparkystudios.traklibrary.security.token.data.UserData;
 import com.sparkystudios.traklibrary.security.token.data.UserSecurityRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +14,10 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -113,4 +120,109 @@ class SecurityTokenServiceJwtImplTest {
         // Assert
         Assertions.assertThat(result).isNotNull();
     }
+
+    @Test
+    void createToken_withEcKey_createsEs256TokenWithKeyId() throws GeneralSecurityException {
+        // Arrange
+        SecurityTokenServiceJwtImpl ecTokenService = createTokenService(KeyServicePemImplTest.createEcKeyPair("secp256r1"), "ec-1");
+
+        // Act
+        SecurityToken result = ecTokenService.createToken("username", UserSecurityRole.ROLE_USER, List.of("scope1"), 1L, true, 10000L);
+
+        // Assert
+        String header = new String(Base64.getUrlDecoder().decode(result.getToken().split("\\.")[0]), StandardCharsets.UTF_8);
+
+        Assertions.assertThat(header)
+                .contains("\"alg\":\"ES256\"")
+                .contains("\"kid\":\"ec-1\"");
+        Assertions.assertThat(result.getUserId())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void getToken_withEcSignedToken_returnsVerifiedToken() throws GeneralSecurityException {
+        // Arrange
+        SecurityTokenServiceJwtImpl ecTokenService = createTokenService(KeyServicePemImplTest.createEcKeyPair("secp256r1"), "ec-1");
+        String token = ecTokenService.createToken("username", UserSecurityRole.ROLE_USER, List.of("scope1"), 1L, true, 10000L).getToken();
+
+        // Act
+        SecurityToken result = ecTokenService.getToken(token);
+
+        // Assert
+        Assertions.assertThat(result.getUsername())
+                .isEqualTo("username");
+        Assertions.assertThat(result.getUserId())
+                .isEqualTo(1L);
+        Assertions.assertThat(result.isVerified())
+                .isTrue();
+        Assertions.assertThat(result.getAuthorities())
+                .containsExactly(new SimpleGrantedAuthority("scope1"));
+    }
+
+    @Test
+    void getToken_withTokenSignedByPreviousKey_returnsVerifiedToken() throws GeneralSecurityException {
+        // Arrange
+        KeyPair rsaKeyPair = KeyServicePemImplTest.createRsaKeyPair();
+        SecurityTokenServiceJwtImpl rsaTokenService = createTokenService(rsaKeyPair, "rsa-1");
+        String token = rsaTokenService.createToken("username", UserSecurityRole.ROLE_USER, List.of("scope1"), 1L, true, 10000L).getToken();
+
+        SecurityTokenServiceJwtImpl ecTokenService = new SecurityTokenServiceJwtImpl(new KeyServicePemImpl());
+        setKeys(ecTokenService, KeyServicePemImplTest.createEcKeyPair("secp256r1"), "ec-1");
+        ecTokenService.setPreviousKeyId("rsa-1");
+        ecTokenService.setPreviousPublicKeyText(KeyServicePemImplTest.toPem("PUBLIC KEY", rsaKeyPair.getPublic().getEncoded()));
+        ecTokenService.postConstruct();
+
+        // Act
+        SecurityToken result = ecTokenService.getToken(token);
+
+        // Assert
+        Assertions.assertThat(result.getUsername())
+                .isEqualTo("username");
+    }
+
+    @Test
+    void getToken_withTokenWithoutKeyId_verifiesWithDefaultKey() throws GeneralSecurityException {
+        // Arrange
+        KeyPair rsaKeyPair = KeyServicePemImplTest.createRsaKeyPair();
+        SecurityTokenServiceJwtImpl rsaTokenService = createTokenService(rsaKeyPair, "default");
+
+        String token = Jwts.builder()
+                .setSubject("username")
+                .signWith(rsaKeyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        // Act
+        SecurityToken result = rsaTokenService.getToken(token);
+
+        // Assert
+        Assertions.assertThat(result.getUsername())
+                .isEqualTo("username");
+    }
+
+    @Test
+    void getToken_withUnknownKeyId_throwsUnsupportedJwtException() throws GeneralSecurityException {
+        // Arrange
+        SecurityTokenServiceJwtImpl ecTokenService = createTokenService(KeyServicePemImplTest.createEcKeyPair("secp256r1"), "ec-1");
+        SecurityTokenServiceJwtImpl otherTokenService = createTokenService(KeyServicePemImplTest.createEcKeyPair("secp256r1"), "ec-2");
+
+        String token = otherTokenService.createToken("username", UserSecurityRole.ROLE_USER, List.of("scope1"), 1L, true, 10000L).getToken();
+
+        // Assert
+        Assertions.assertThatExceptionOfType(UnsupportedJwtException.class)
+                .isThrownBy(() -> ecTokenService.getToken(token));
+    }
+
+    private SecurityTokenServiceJwtImpl createTokenService(KeyPair keyPair, String keyId) {
+        SecurityTokenServiceJwtImpl tokenService = new SecurityTokenServiceJwtImpl(new KeyServicePemImpl());
+        setKeys(tokenService, keyPair, keyId);
+        tokenService.postConstruct();
+
+        return tokenService;
+    }
+
+    private void setKeys(SecurityTokenServiceJwtImpl tokenService, KeyPair keyPair, String keyId) {
+        tokenService.setPrivateKeyText(KeyServicePemImplTest.toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        tokenService.setPublicKeyText(KeyServicePemImplTest.toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        tokenService.setKeyId(keyId);
+    }
 }
@@ -0,0 +1,105 @@
+package com.sparkystudios.traklibrary.security.token.revocation;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+class TokenDenylistTest {
+
+    @Test
+    void isRevoked_withUnknownToken_returnsFalse() {
+        // Arrange
+        TokenDenylist tokenDenylist = new TokenDenylist(100, 0.01);
+        tokenDenylist.revoke("revoked", LocalDateTime.now(ZoneOffset.UTC).plusMinutes(15));
+
+        // Act
+        boolean result = tokenDenylist.isRevoked("not-revoked");
+
+        // Assert
+        Assertions.assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void isRevoked_withNullToken_returnsFalse() {
+        // Arrange
+        TokenDenylist tokenDenylist = new TokenDenylist(100, 0.01);
+
+        // Act
+        boolean result = tokenDenylist.isRevoked(null);
+
+        // Assert
+        Assertions.assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void isRevoked_withRevokedToken_returnsTrue() {
+        // Arrange
+        TokenDenylist tokenDenylist = new TokenDenylist(100, 0.01);
+        tokenDenylist.revoke("revoked", LocalDateTime.now(ZoneOffset.UTC).plusMinutes(15));
+
+        // Act
+        boolean result = tokenDenylist.isRevoked("revoked");
+
+        // Assert
+        Assertions.assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void revoke_withExpiredToken_doesNotRevokeToken() {
+        // Arrange
+        TokenDenylist tokenDenylist = new TokenDenylist(100, 0.01);
+
+        // Act
+        tokenDenylist.revoke("expired", LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+
+        // Assert
+        Assertions.assertThat(tokenDenylist.isRevoked("expired"))
+                .isFalse();
+        Assertions.assertThat(tokenDenylist.size())
+                .isZero();
+    }
+
+    @Test
+    void revoke_beyondExpectedInsertions_revokesEveryToken() {
+        // Arrange
+        TokenDenylist tokenDenylist = new TokenDenylist(10, 0.01);
+        LocalDateTime expiry = LocalDateTime.now(ZoneOffset.UTC).plusMinutes(15);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            tokenDenylist.revoke("token-" + i, expiry);
+        }
+
+        // Assert
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertThat(tokenDenylist.isRevoked("token-" + i))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void purgeExpired_withExpiredRevocations_removesOnlyExpiredRevocations() {
+        // Arrange
+        TokenDenylist tokenDenylist = new TokenDenylist(100, 0.01);
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        tokenDenylist.revoke("short-lived", now.plusMinutes(15));
+        tokenDenylist.revoke("long-lived", now.plusDays(7));
+
+        // Act
+        tokenDenylist.purgeExpired(now.plusHours(1));
+
+        // Assert
+        Assertions.assertThat(tokenDenylist.isRevoked("short-lived"))
+                .isFalse();
+        Assertions.assertThat(tokenDenylist.isRevoked("long-lived"))
+                .isTrue();
+        Assertions.assertThat(tokenDenylist.size())
+                .isEqualTo(1);
+    }
+}
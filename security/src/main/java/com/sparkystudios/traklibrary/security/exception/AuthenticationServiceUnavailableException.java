@@ -0,0 +1,21 @@
+package com.sparkystudios.traklibrary.security.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when an authentication request can't be processed because the service is saturated, i.e. there is no capacity
+ * left to hash passwords. Unlike other authentication failures, the client should retry the request later.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+public class AuthenticationServiceUnavailableException extends AuthenticationServiceException {
+
+    public AuthenticationServiceUnavailableException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+
+    public AuthenticationServiceUnavailableException(String msg) {
+        super(msg);
+    }
+}
@@ -3,7 +3,9 @@ package com.sparkystudios.traklibrary.security.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import com.sparkystudios.traklibrary.security.exception.AuthenticationMethodNotSupportedException;
+import com.sparkystudios.traklibrary.security.exception.AuthenticationServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -29,7 +31,8 @@ public class AuthenticationFailureHandlerImpl implements AuthenticationFailureHa
     /**
      * Invoked by the authentication process when an authentication request fails. When the request fails
      * an {@link ApiError} instance will be created with some additional error information and written to the response body
-     * of the request.
+     * of the request. If the request failed because the service is saturated, a 503 is returned instead of a 401 so
+     * that the client knows to retry.
      *
      * @param httpServletRequest The {@link HttpServletRequest} instance of the request.
      * @param httpServletResponse The {@link HttpServletResponse} instance of the request.
@@ -40,12 +43,17 @@ public class AuthenticationFailureHandlerImpl implements AuthenticationFailureHa
     @Override
     public void onAuthenticationFailure(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, AuthenticationException e) throws IOException {
 
-        httpServletResponse.setStatus(HttpStatus.UNAUTHORIZED.value());
+        var status = e instanceof AuthenticationServiceUnavailableException ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.UNAUTHORIZED;
+
+        httpServletResponse.setStatus(status.value());
         httpServletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
-        var apiError = new ApiError(HttpStatus.UNAUTHORIZED);
+        var apiError = new ApiError(status);
 
-        if (e instanceof BadCredentialsException) {
+        if (e instanceof AuthenticationServiceUnavailableException) {
+            httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            apiError.setError(e.getMessage());
+        } else if (e instanceof BadCredentialsException) {
             apiError.setError("Invalid credentials.");
         } else if (e instanceof AuthenticationMethodNotSupportedException) {
             apiError.setError(e.getMessage());
@@ -3,8 +3,10 @@ package com.sparkystudios.traklibrary.security.provider;
 import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
 import com.sparkystudios.traklibrary.security.token.authentication.JwtAuthenticationToken;
 import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenDenylist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -27,6 +29,7 @@ import java.util.Collection;
 public class JwtAuthenticationProvider implements AuthenticationProvider {
 
     private final SecurityTokenService securityTokenService;
+    private final TokenDenylist tokenDenylist;
 
     /**
      * Checks whether the credentials contained within the {@link Authentication} contains a valid JWT
@@ -37,6 +40,7 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
      * If the JWT is expired or malformed, a {@link io.jsonwebtoken.JwtException} exception will be bubbled up
      * the stack is thrown and if the authorities provided within the JWT contain TOKEN_REFRESH,a
      * {@link InsufficientAuthenticationException} exception is thrown and bubbled up the stack.
+     * If the JWT has been revoked, a {@link BadCredentialsException} is thrown.
      *
      * @param authentication The {@link JwtAuthenticationToken} to attempt authentication with.
      *
@@ -51,6 +55,11 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
         String accessToken = (String) authentication.getCredentials();
         SecurityToken securityToken = securityTokenService.getToken(accessToken);
 
+        // Reject any token that has been revoked before its expiry.
+        if (tokenDenylist.isRevoked(securityToken.getId())) {
+            throw new BadCredentialsException("The token has been revoked.");
+        }
+
         Collection<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(securityToken.getRole());
         authorities.addAll(securityToken.getAuthorities());
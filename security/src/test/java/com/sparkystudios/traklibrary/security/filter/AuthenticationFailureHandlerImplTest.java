@@ -2,6 +2,7 @@ package com.sparkystudios.traklibrary.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparkystudios.traklibrary.security.exception.AuthenticationMethodNotSupportedException;
+import com.sparkystudios.traklibrary.security.exception.AuthenticationServiceUnavailableException;
 import com.sparkystudios.traklibrary.security.exception.ApiError;
 import com.sparkystudios.traklibrary.security.filter.AuthenticationFailureHandlerImpl;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
@@ -83,4 +85,23 @@ class AuthenticationFailureHandlerImplTest {
         Mockito.verify(objectMapper, Mockito.atMostOnce())
                 .writeValue(ArgumentMatchers.any(PrintWriter.class), ArgumentMatchers.any(ApiError.class));
     }
+
+    @Test
+    void onAuthenticationFailure_withAuthenticationServiceUnavailableException_sets503AndRetryAfter() throws IOException {
+        // Arrange
+        AuthenticationException authenticationException = new AuthenticationServiceUnavailableException("");
+
+        HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
+        Mockito.when(httpServletResponse.getWriter())
+                .thenReturn(Mockito.mock(PrintWriter.class));
+
+        // Act
+        authenticationFailureHandler.onAuthenticationFailure(null, httpServletResponse, authenticationException);
+
+        // Assert
+        Mockito.verify(httpServletResponse)
+                .setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        Mockito.verify(httpServletResponse)
+                .setHeader(HttpHeaders.RETRY_AFTER, "1");
+    }
 }
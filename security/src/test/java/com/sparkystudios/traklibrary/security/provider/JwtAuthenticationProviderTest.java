@@ -3,6 +3,7 @@ package com.sparkystudios.traklibrary.security.provider;
 import com.sparkystudios.traklibrary.security.token.SecurityTokenService;
 import com.sparkystudios.traklibrary.security.token.authentication.JwtAuthenticationToken;
 import com.sparkystudios.traklibrary.security.token.data.SecurityToken;
+import com.sparkystudios.traklibrary.security.token.revocation.TokenDenylist;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -23,6 +25,9 @@ class JwtAuthenticationProviderTest {
     @Mock
     private SecurityTokenService securityTokenService;
 
+    @Mock
+    private TokenDenylist tokenDenylist;
+
     @InjectMocks
     private JwtAuthenticationProvider jwtAuthenticationProvider;
 
@@ -52,6 +57,28 @@ class JwtAuthenticationProviderTest {
                 .isEqualTo(List.of(new SimpleGrantedAuthority("role"), new SimpleGrantedAuthority("auth")));
     }
 
+    @Test
+    void authenticate_withRevokedToken_throwsBadCredentialsException() {
+        // Arrange
+        SecurityToken securityToken = Mockito.mock(SecurityToken.class);
+        Mockito.when(securityToken.getId())
+                .thenReturn("token-id");
+
+        Mockito.when(securityTokenService.getToken(ArgumentMatchers.anyString()))
+                .thenReturn(securityToken);
+
+        Mockito.when(tokenDenylist.isRevoked("token-id"))
+                .thenReturn(true);
+
+        Authentication authentication = Mockito.spy(Authentication.class);
+        Mockito.doReturn("access_token")
+                .when(authentication).getCredentials();
+
+        // Assert
+        Assertions.assertThatExceptionOfType(BadCredentialsException.class)
+                .isThrownBy(() -> jwtAuthenticationProvider.authenticate(authentication));
+    }
+
     @Test
     void supports_withNonJwtAuthenticationToken_returnsFalse() {
         // Arrange
@@ -0,0 +1,229 @@
+package com.sparkystudios.traklibrary.stream.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.cloud.stream.config.BindingProperties;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.integration.amqp.inbound.AmqpInboundChannelAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@link BatchEventProcessor} processes a batch of events received by a batch {@link Consumer} one event at a
+ * time, so that a single poison event can't fail the whole batch. The batch is only acknowledged once every event in it
+ * has either succeeded or been handed off, so an event is never lost because its work was still in progress.
+ *
+ * An event that fails is republished to the binding's retry destination, which is the binding's destination suffixed
+ * with "-retry". The retry destination's queue holds each event for a fixed delay before dead-lettering it back to the
+ * original destination, so retries never block the consumer thread. The attempt number travels with the event in a
+ * header and, once an event has run out of attempts, it's published to the binding's dead-letter destination instead.
+ *
+ * It also records throughput metrics for each binding, and the lag of each binding, i.e. the number of messages still
+ * waiting in its queue. Each service declares its own instance, so that the metrics are named after the service.
+ *
+ * @since 0.1.0
+ * @author Sparky Studios
+ */
+@Slf4j
+public class BatchEventProcessor {
+
+    /**
+     * The header that records which attempt at processing an event a message is.
+     */
+    public static final String ATTEMPT_HEADER = "x-trak-attempt";
+
+    private static final String BINDING_TAG = "binding";
+    private static final String RETRY_SUFFIX = "-retry";
+    private static final String DEAD_LETTER_SUFFIX = "-dlq";
+
+    private final String metricPrefix;
+    private final StreamBridge streamBridge;
+    private final MeterRegistry meterRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final BindingServiceProperties bindingServiceProperties;
+    private final int maxAttempts;
+
+    /**
+     * Creates a new {@link BatchEventProcessor}.
+     *
+     * @param metricPrefix The prefix of the names of the metrics that are recorded, i.e. "trak.email.consumer".
+     * @param streamBridge The {@link StreamBridge} used to publish failed events to their retry or dead-letter destination.
+     * @param meterRegistry The {@link MeterRegistry} to record the consumer metrics to.
+     * @param amqpAdmin The {@link AmqpAdmin} used to query the number of messages waiting in a binding's queue.
+     * @param bindingServiceProperties The {@link BindingServiceProperties} used to determine a binding's queue.
+     * @param maxAttempts The maximum number of attempts to process an event before it's dead-lettered.
+     */
+    public BatchEventProcessor(String metricPrefix,
+                               StreamBridge streamBridge,
+                               MeterRegistry meterRegistry,
+                               AmqpAdmin amqpAdmin,
+                               BindingServiceProperties bindingServiceProperties,
+                               int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Consumer max attempts must be positive.");
+        }
+
+        this.metricPrefix = metricPrefix;
+        this.streamBridge = streamBridge;
+        this.meterRegistry = meterRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.bindingServiceProperties = bindingServiceProperties;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Registers a gauge of the number of messages waiting in the queue of the given binding. Only bindings with a
+     * consumer group have a durable, named queue, so the gauge reports nothing for anonymous bindings.
+     *
+     * @param binding The name of the binding, i.e. "sendNotifications-in-0".
+     */
+    public void registerLag(String binding) {
+        Gauge.builder(metricPrefix + ".lag", () -> getQueueDepth(binding))
+                .description("The number of messages waiting to be consumed.")
+                .tag(BINDING_TAG, binding)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Processes each of the events in the batch with the given handler, which completes its work before returning.
+     * Events that fail are republished to be retried or, once they've run out of attempts, are dead-lettered.
+     *
+     * @param binding The name of the binding the batch was received on.
+     * @param batch The batch of events to process, along with the headers of each event.
+     * @param handler The {@link Consumer} that processes a single event.
+     * @param <T> The type of the events.
+     */
+    public <T> void process(String binding, Message<List<T>> batch, Consumer<T> handler) {
+        processAsync(binding, batch, event -> {
+            handler.accept(event);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Processes each of the events in the batch with the given handler, which returns a {@link CompletionStage} that
+     * completes once the event's work has finished. Every event in the batch is handed to the handler before any of
+     * them are waited on, so that their work can be done together, i.e. sending their emails in a single request.
+     * Events that fail are republished to be retried or, once they've run out of attempts, are dead-lettered.
+     *
+     * @param binding The name of the binding the batch was received on.
+     * @param batch The batch of events to process, along with the headers of each event.
+     * @param handler The {@link Function} that starts processing a single event.
+     * @param <T> The type of the events.
+     */
+    public <T> void processAsync(String binding, Message<List<T>> batch, Function<T, ? extends CompletionStage<?>> handler) {
+        List<T> events = batch.getPayload();
+        List<?> batchedHeaders = batch.getHeaders().get(AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS, List.class);
+
+        DistributionSummary.builder(metricPrefix + ".batch.size")
+                .description("The number of events received in each batch.")
+                .tag(BINDING_TAG, binding)
+                .register(meterRegistry)
+                .record(events.size());
+
+        Timer.builder(metricPrefix + ".batch.time")
+                .description("The time taken to process a batch of events.")
+                .tag(BINDING_TAG, binding)
+                .register(meterRegistry)
+                .record(() -> {
+                    List<CompletableFuture<?>> results = new ArrayList<>(events.size());
+                    events.forEach(event -> results.add(start(event, handler)));
+
+                    for (int i = 0; i < events.size(); i++) {
+                        complete(binding, events.get(i), getAttempt(batchedHeaders, i), results.get(i));
+                    }
+                });
+    }
+
+    private static <T> CompletableFuture<?> start(T event, Function<T, ? extends CompletionStage<?>> handler) {
+        try {
+            return handler.apply(event).toCompletableFuture();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> void complete(String binding, T event, int attempt, CompletableFuture<?> result) {
+        try {
+            result.join();
+            getCounter(binding, "processed").increment();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+
+            if (attempt >= maxAttempts) {
+                deadLetter(binding, event, attempt, cause);
+            } else {
+                retry(binding, event, attempt, cause);
+            }
+        }
+    }
+
+    private <T> void retry(String binding, T event, int attempt, Throwable cause) {
+        String destination = bindingServiceProperties.getBindingDestination(binding) + RETRY_SUFFIX;
+
+        log.warn("Failed to process event from {} on attempt {}, publishing to {}.", binding, attempt, destination, cause);
+        streamBridge.send(destination, MessageBuilder.withPayload(event)
+                .setHeader(ATTEMPT_HEADER, attempt + 1)
+                .build());
+        getCounter(binding, "retried").increment();
+    }
+
+    private <T> void deadLetter(String binding, T event, int attempt, Throwable cause) {
+        String destination = bindingServiceProperties.getBindingDestination(binding) + DEAD_LETTER_SUFFIX;
+
+        log.error("Failed to process event from {} after {} attempt(s), publishing to {}.", binding, attempt, destination, cause);
+        streamBridge.send(destination, event);
+        getCounter(binding, "dead-lettered").increment();
+    }
+
+    private static int getAttempt(List<?> batchedHeaders, int index) {
+        // Events that haven't been retried yet don't carry the header, so they're on their first attempt.
+        if (batchedHeaders == null || index >= batchedHeaders.size()) {
+            return 1;
+        }
+
+        Object attempt = ((Map<?, ?>) batchedHeaders.get(index)).get(ATTEMPT_HEADER);
+        return attempt instanceof Number ? ((Number) attempt).intValue() : 1;
+    }
+
+    private double getQueueDepth(String binding) {
+        BindingProperties bindingProperties = bindingServiceProperties.getBindingProperties(binding);
+        if (bindingProperties.getGroup() == null) {
+            return Double.NaN;
+        }
+
+        try {
+            // The binder names the queue of a grouped binding after its destination and group.
+            QueueInformation queueInformation = amqpAdmin.getQueueInfo(bindingProperties.getDestination() + "." + bindingProperties.getGroup());
+            return queueInformation == null ? Double.NaN : queueInformation.getMessageCount();
+        } catch (RuntimeException e) {
+            log.debug("Failed to retrieve the queue depth of {}.", binding, e);
+            return Double.NaN;
+        }
+    }
+
+    private Counter getCounter(String binding, String outcome) {
+        return Counter.builder(metricPrefix + ".events")
+                .description("The number of events consumed, by outcome.")
+                .tag(BINDING_TAG, binding)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.sparkystudios.traklibrary.stream.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.integration.amqp.inbound.AmqpInboundChannelAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@SpringBootTest(properties = "spring.cloud.stream.bindings.sendEvents-in-0.destination=trak-test-events")
+class BatchEventProcessorRoutingTest {
+
+    private static final String BINDING = "sendEvents-in-0";
+
+    @Autowired
+    private BatchEventProcessor batchEventProcessor;
+
+    @Autowired
+    private OutputDestination outputDestination;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry.clear();
+    }
+
+    @Test
+    void process_withFailedEvent_routesEventToRetryDestinationWithNextAttempt() {
+        // Arrange
+        Message<List<String>> batch = MessageBuilder.withPayload(List.of("event", "failed"))
+                .setHeader(AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS, List.of(Collections.emptyMap(), Collections.emptyMap()))
+                .build();
+
+        // Act
+        batchEventProcessor.process(BINDING, batch, BatchEventProcessorRoutingTest::failIfFailed);
+
+        // Assert
+        Message<byte[]> retried = outputDestination.receive(1000, "trak-test-events-retry");
+
+        Assertions.assertThat(new String(retried.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("failed");
+        Assertions.assertThat(retried.getHeaders().get(BatchEventProcessor.ATTEMPT_HEADER))
+                .isEqualTo(2);
+        Assertions.assertThat(meterRegistry.find("trak.test.consumer.events").tag("outcome", "dead-lettered").counter())
+                .isNull();
+    }
+
+    @Test
+    void process_withFailedEventOnLastAttempt_routesEventToDeadLetterDestination() {
+        // Arrange
+        Message<List<String>> batch = MessageBuilder.withPayload(List.of("failed"))
+                .setHeader(AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS, List.of(Map.of(BatchEventProcessor.ATTEMPT_HEADER, 3)))
+                .build();
+
+        // Act
+        batchEventProcessor.process(BINDING, batch, BatchEventProcessorRoutingTest::failIfFailed);
+
+        // Assert
+        Message<byte[]> deadLettered = outputDestination.receive(1000, "trak-test-events-dlq");
+
+        Assertions.assertThat(new String(deadLettered.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("failed");
+        Assertions.assertThat(meterRegistry.find("trak.test.consumer.events").tag("outcome", "retried").counter())
+                .isNull();
+    }
+
+    private static void failIfFailed(String event) {
+        if ("failed".equals(event)) {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(TestChannelBinderConfiguration.class)
+    static class RoutingTestConfiguration {
+
+        @MockBean
+        private AmqpAdmin amqpAdmin;
+
+        @Bean
+        public SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public BatchEventProcessor batchEventProcessor(StreamBridge streamBridge,
+                                                       MeterRegistry meterRegistry,
+                                                       AmqpAdmin amqpAdmin,
+                                                       BindingServiceProperties bindingServiceProperties) {
+            return new BatchEventProcessor("trak.test.consumer", streamBridge, meterRegistry, amqpAdmin, bindingServiceProperties, 3);
+        }
+    }
+}
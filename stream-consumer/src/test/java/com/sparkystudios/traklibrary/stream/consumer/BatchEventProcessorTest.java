@@ -0,0 +1,224 @@
+package com.sparkystudios.traklibrary.stream.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.cloud.stream.config.BindingProperties;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.integration.amqp.inbound.AmqpInboundChannelAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@ExtendWith(MockitoExtension.class)
+class BatchEventProcessorTest {
+
+    private static final String METRIC_PREFIX = "trak.test.consumer";
+    private static final String BINDING = "sendEvents-in-0";
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private BindingServiceProperties bindingServiceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BatchEventProcessor batchEventProcessor;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchEventProcessor = new BatchEventProcessor(METRIC_PREFIX, streamBridge, meterRegistry, amqpAdmin, bindingServiceProperties, 3);
+    }
+
+    @Test
+    void constructor_withZeroMaxAttempts_throwsIllegalArgumentException() {
+        // Assert
+        Assertions.assertThatThrownBy(() -> new BatchEventProcessor(METRIC_PREFIX, streamBridge, meterRegistry, amqpAdmin, bindingServiceProperties, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void process_withSuccessfulEvents_processesEachEvent() {
+        // Arrange
+        List<String> processed = new ArrayList<>();
+
+        // Act
+        batchEventProcessor.process(BINDING, createBatch(List.of("event-1", "event-2"), null), processed::add);
+
+        // Assert
+        Assertions.assertThat(processed)
+                .containsExactly("event-1", "event-2");
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "processed").counter().count())
+                .isEqualTo(2.0);
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".batch.size").summary().totalAmount())
+                .isEqualTo(2.0);
+
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void process_withFailedEvent_republishesEventForRetryAndProcessesRest() {
+        // Arrange
+        Mockito.when(bindingServiceProperties.getBindingDestination(BINDING))
+                .thenReturn("trak-test-events");
+
+        List<String> processed = new ArrayList<>();
+
+        // Act
+        batchEventProcessor.process(BINDING, createBatch(List.of("event-1", "failed", "event-2"), null), event -> {
+            if ("failed".equals(event)) {
+                throw new IllegalStateException("failed");
+            }
+
+            processed.add(event);
+        });
+
+        // Assert
+        Assertions.assertThat(processed)
+                .containsExactly("event-1", "event-2");
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "retried").counter().count())
+                .isEqualTo(1.0);
+
+        Mockito.verify(streamBridge)
+                .send(ArgumentMatchers.eq("trak-test-events-retry"), ArgumentMatchers.<Message<?>>argThat(message ->
+                        "failed".equals(message.getPayload()) && Integer.valueOf(2).equals(message.getHeaders().get(BatchEventProcessor.ATTEMPT_HEADER))));
+    }
+
+    @Test
+    void process_withFailedEventOnLastAttempt_deadLettersEvent() {
+        // Arrange
+        Mockito.when(bindingServiceProperties.getBindingDestination(BINDING))
+                .thenReturn("trak-test-events");
+
+        List<Map<String, Object>> batchedHeaders = List.of(Collections.emptyMap(), Map.of(BatchEventProcessor.ATTEMPT_HEADER, 3));
+        List<String> processed = new ArrayList<>();
+
+        // Act
+        batchEventProcessor.process(BINDING, createBatch(List.of("event", "poison"), batchedHeaders), event -> {
+            if ("poison".equals(event)) {
+                throw new IllegalStateException("failed");
+            }
+
+            processed.add(event);
+        });
+
+        // Assert
+        Assertions.assertThat(processed)
+                .containsExactly("event");
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "dead-lettered").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.find(METRIC_PREFIX + ".events").tag("outcome", "retried").counter())
+                .isNull();
+
+        Mockito.verify(streamBridge)
+                .send("trak-test-events-dlq", "poison");
+    }
+
+    @Test
+    @Timeout(5)
+    void processAsync_withPendingEvents_startsEveryEventBeforeWaiting() {
+        // Arrange
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        // Act
+        batchEventProcessor.processAsync(BINDING, createBatch(List.of("event-1", "event-2"), null), event -> {
+            var result = new CompletableFuture<Void>();
+            pending.add(result);
+
+            // Only complete the events once they've all been started, which never happens if the first is waited on.
+            if (pending.size() == 2) {
+                pending.forEach(future -> future.complete(null));
+            }
+
+            return result;
+        });
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "processed").counter().count())
+                .isEqualTo(2.0);
+
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void processAsync_withFailedFuture_republishesEventForRetry() {
+        // Arrange
+        Mockito.when(bindingServiceProperties.getBindingDestination(BINDING))
+                .thenReturn("trak-test-events");
+
+        // Act
+        batchEventProcessor.processAsync(BINDING, createBatch(List.of("event"), null),
+                event -> CompletableFuture.failedFuture(new IllegalStateException("failed")));
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "retried").counter().count())
+                .isEqualTo(1.0);
+
+        Mockito.verify(streamBridge)
+                .send(ArgumentMatchers.eq("trak-test-events-retry"), ArgumentMatchers.any(Message.class));
+    }
+
+    @Test
+    void registerLag_withGroupedBinding_reportsQueueDepth() {
+        // Arrange
+        BindingProperties bindingProperties = new BindingProperties();
+        bindingProperties.setDestination("trak-test-events");
+        bindingProperties.setGroup("trak-test-server");
+
+        Mockito.when(bindingServiceProperties.getBindingProperties(BINDING))
+                .thenReturn(bindingProperties);
+
+        Mockito.when(amqpAdmin.getQueueInfo("trak-test-events.trak-test-server"))
+                .thenReturn(new QueueInformation("trak-test-events.trak-test-server", 5, 1));
+
+        // Act
+        batchEventProcessor.registerLag(BINDING);
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".lag").tag("binding", BINDING).gauge().value())
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    void registerLag_withAnonymousBinding_reportsNaN() {
+        // Arrange
+        Mockito.when(bindingServiceProperties.getBindingProperties(BINDING))
+                .thenReturn(new BindingProperties());
+
+        // Act
+        batchEventProcessor.registerLag(BINDING);
+
+        // Assert
+        Assertions.assertThat(meterRegistry.get(METRIC_PREFIX + ".lag").tag("binding", BINDING).gauge().value())
+                .isNaN();
+
+        Mockito.verify(amqpAdmin, Mockito.never())
+                .getQueueInfo(ArgumentMatchers.anyString());
+    }
+
+    private static Message<List<String>> createBatch(List<String> events, List<Map<String, Object>> batchedHeaders) {
+        return MessageBuilder.withPayload(events)
+                .setHeader(AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS, batchedHeaders)
+                .build();
+    }
+}